@@ -0,0 +1,69 @@
+package banco_imobiliario_benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import banco_imobiliario_models.AlgoritmoAleatorio;
+import banco_imobiliario_models.ArenaPartidas;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Estacionar e retomar uma partida: registro na ArenaPartidas contra exportarEstado/importarEstado
+ * (SaveState no heap). O GameModel de destino é o mesmo nos dois casos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArenaBenchmark {
+
+    private GameModel partida;
+    private GameModel destino;
+    private ArenaPartidas arena;
+
+    @Setup
+    public void preparar() {
+        partida = new GameModel();
+        partida.novaPartida(4, 42L, AlgoritmoAleatorio.XOROSHIRO128PP);
+        partida.carregarTabuleiroOficialBR();
+        for (int i = 0; i < 40; i++) {
+            partida.lancarDados();
+            partida.deslocarPiaoEAplicarObrigatorios();
+            if (partida.isPartidaEncerrada()) {
+                break;
+            }
+            if (partida.canComprarPropriedadeNaCasaAtual()) {
+                partida.comprarPropriedade();
+            }
+            partida.encerrarVez();
+        }
+        destino = new GameModel();
+        arena = ArenaPartidas.emMemoria(1, 40);
+    }
+
+    @Benchmark
+    public GameModel arena() {
+        int registro = arena.estacionar(partida);
+        arena.retomar(registro, destino);
+        arena.liberar(registro);
+        return destino;
+    }
+
+    @Benchmark
+    public GameModel saveState() {
+        destino.importarEstado(partida.exportarEstado());
+        return destino;
+    }
+}
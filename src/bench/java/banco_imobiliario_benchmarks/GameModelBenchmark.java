@@ -0,0 +1,145 @@
+package banco_imobiliario_benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import banco_imobiliario_models.GameModel;
+import banco_imobiliario_models.Transacao;
+
+/**
+ * Caminho quente de um turno do GameModel. Operações que alteram o estado de forma irreversível
+ * restauram um snapshot em {@code Level.Invocation}, fora da medição.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameModelBenchmark {
+
+    private static final int POS_LEBLON = 1;
+    private static final int POS_IMPOSTO = 24;
+
+    static GameModel novaPartidaOficial(long seed) {
+        GameModel model = new GameModel();
+        model.novaPartida(4, seed);
+        model.carregarTabuleiroOficialBR();
+        return model;
+    }
+
+    @State(Scope.Thread)
+    public static class Partida {
+        GameModel model;
+        GameModel.SaveState snapshot;
+        int turnos;
+
+        @Setup(Level.Trial)
+        public void iniciar() {
+            model = novaPartidaOficial(42L);
+            model.debugForcarDonoECasasDaPropriedade(POS_LEBLON, 1, 2, false);
+            snapshot = model.exportarEstado();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DadosLancados extends Partida {
+        @Setup(Level.Invocation)
+        public void lancar() {
+            model.importarEstado(snapshot);
+            model.lancarDadosForcado(3, 4);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class NaPropriedadeAlheia extends Partida {
+        @Setup(Level.Invocation)
+        public void posicionar() {
+            model.importarEstado(snapshot);
+            model.debugForcarPosicaoJogador(0, POS_LEBLON);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class NoImposto extends Partida {
+        @Setup(Level.Invocation)
+        public void posicionar() {
+            model.importarEstado(snapshot);
+            model.debugForcarPosicaoJogador(0, POS_IMPOSTO);
+        }
+    }
+
+    @Benchmark
+    public GameModel.ResultadoDados lancarDados(Partida p) {
+        GameModel.ResultadoDados r = p.model.lancarDados();
+        p.model.encerrarVez();
+        return r;
+    }
+
+    @Benchmark
+    public Object deslocarPiao(DadosLancados p) {
+        return p.model.deslocarPiao();
+    }
+
+    @Benchmark
+    public Transacao pagarAluguelSeDevido(NaPropriedadeAlheia p) {
+        return p.model.pagarAluguelSeDevido();
+    }
+
+    @Benchmark
+    public Transacao aplicarEfeitosObrigatoriosPosMovimento(NoImposto p) {
+        return p.model.aplicarEfeitosObrigatoriosPosMovimento();
+    }
+
+    @Benchmark
+    public boolean declararFalenciaSeNecessario(Partida p) {
+        return p.model.declararFalenciaSeNecessario();
+    }
+
+    @Benchmark
+    public GameModel.SaveState exportarEstado(Partida p) {
+        return p.model.exportarEstado();
+    }
+
+    @Benchmark
+    public GameModel importarEstado(Partida p) {
+        p.model.importarEstado(p.snapshot);
+        return p.model;
+    }
+
+    @Benchmark
+    public GameModel carregarTabuleiroOficial(Partida p) {
+        p.model.carregarTabuleiroOficialBR();
+        return p.model;
+    }
+
+    @Benchmark
+    public GameModel fork(Partida p) {
+        return p.model.fork();
+    }
+
+    @Benchmark
+    public int turnoCompleto(Partida p) {
+        GameModel model = p.model;
+        if (model.isPartidaEncerrada() || ++p.turnos % 256 == 0) {
+            model.importarEstado(p.snapshot);
+        }
+        model.lancarDados();
+        model.deslocarPiaoEAplicarObrigatorios();
+        if (model.canComprarPropriedadeNaCasaAtual()) {
+            model.comprarPropriedade();
+        }
+        model.encerrarVez();
+        return model.getSaldoBanco();
+    }
+}
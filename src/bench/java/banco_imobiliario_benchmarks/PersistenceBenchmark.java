@@ -0,0 +1,84 @@
+package banco_imobiliario_benchmarks;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import banco_imobiliario_controller.GamePersistenceService;
+import banco_imobiliario_controller.PlayerProfile;
+import banco_imobiliario_models.GameModel;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistenceBenchmark {
+
+    /** Extensão do arquivo, que escolhe o formato gravado. */
+    @Param({ ".txt", ".bim", ".json" })
+    public String formato;
+
+    private final GamePersistenceService service = new GamePersistenceService();
+    private GameModel.SaveState estado;
+    private List<PlayerProfile> perfis;
+    private File arquivoSalvar;
+    private File arquivoCarregar;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        GameModel model = GameModelBenchmark.novaPartidaOficial(7L);
+        for (int i = 0; i < 200 && !model.isPartidaEncerrada(); i++) {
+            model.lancarDados();
+            model.deslocarPiaoEAplicarObrigatorios();
+            if (model.canComprarPropriedadeNaCasaAtual()) {
+                model.comprarPropriedade();
+            }
+            model.encerrarVez();
+        }
+        estado = model.exportarEstado();
+        perfis = new ArrayList<>();
+        Color[] cores = { Color.RED, Color.BLUE, Color.GREEN, Color.ORANGE };
+        for (int i = 0; i < 4; i++) {
+            perfis.add(new PlayerProfile(i, "J" + (i + 1), cores[i], i));
+        }
+        arquivoSalvar = File.createTempFile("bench-salvar", formato);
+        arquivoCarregar = File.createTempFile("bench-carregar", formato);
+        service.salvar(arquivoCarregar, estado, perfis);
+    }
+
+    @TearDown(Level.Trial)
+    public void limpar() {
+        arquivoSalvar.delete();
+        arquivoCarregar.delete();
+    }
+
+    @Benchmark
+    public File salvar() throws IOException {
+        service.salvar(arquivoSalvar, estado, perfis);
+        return arquivoSalvar;
+    }
+
+    @Benchmark
+    public GamePersistenceService.LoadedGame carregar() throws IOException {
+        return service.carregar(arquivoCarregar);
+    }
+}
@@ -0,0 +1,60 @@
+package banco_imobiliario_benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import banco_imobiliario_models.AlgoritmoAleatorio;
+import banco_imobiliario_models.FonteAleatoria;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomBenchmark {
+
+    @Param({ "LCG_JAVA_UTIL", "SPLITMIX64", "XOROSHIRO128PP", "PHILOX4X32" })
+    public String algoritmo;
+
+    private FonteAleatoria fonte;
+    private Random random;
+
+    @Setup
+    public void preparar() {
+        fonte = AlgoritmoAleatorio.valueOf(algoritmo).criar(42L);
+        random = new Random(42L);
+    }
+
+    @Benchmark
+    public int dado() {
+        return fonte.proximoInt(6) + 1;
+    }
+
+    @Benchmark
+    public long proximoLong() {
+        return fonte.proximoLong();
+    }
+
+    @Benchmark
+    public int dadoJavaUtilRandom() {
+        return random.nextInt(6) + 1;
+    }
+
+    @Benchmark
+    public FonteAleatoria dividir() {
+        return fonte.dividir();
+    }
+}
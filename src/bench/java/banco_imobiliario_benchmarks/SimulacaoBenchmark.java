@@ -0,0 +1,59 @@
+package banco_imobiliario_benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import banco_imobiliario_models.AlgoritmoAleatorio;
+import banco_imobiliario_models.DefinicaoTabuleiro;
+import banco_imobiliario_models.SimulacaoEmLote;
+import banco_imobiliario_models.SimulationEngine;
+
+/**
+ * Lote de partidas completas numa thread: SimulationEngine (um GameModel por partida) contra
+ * SimulacaoEmLote (estado em arrays, partidas avançando juntas). Mesmas seeds e mesmos resultados.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimulacaoBenchmark {
+
+    private static final int PARTIDAS = 1024;
+    private static final int MAX_TURNOS = 300;
+
+    @Param({ "4" })
+    public int jogadores;
+
+    private SimulationEngine engine;
+    private SimulacaoEmLote lote;
+
+    @Setup
+    public void preparar() {
+        engine = new SimulationEngine(jogadores, MAX_TURNOS, 1);
+        lote = new SimulacaoEmLote(jogadores, MAX_TURNOS, AlgoritmoAleatorio.LCG_JAVA_UTIL,
+                DefinicaoTabuleiro.oficial(), SimulacaoEmLote.TAMANHO_LOTE_PADRAO);
+    }
+
+    @Benchmark
+    public SimulationEngine.Relatorio gameModel() {
+        return engine.executar(PARTIDAS, 42L);
+    }
+
+    @Benchmark
+    public SimulationEngine.Relatorio emLote() {
+        return lote.executar(PARTIDAS, 42L);
+    }
+}
@@ -0,0 +1,88 @@
+package banco_imobiliario_benchmarks;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import banco_imobiliario_controller.GamePersistenceService;
+import banco_imobiliario_controller.PlayerProfile;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Leitura do formato .txt: o arquivo como o salvar grava (leitor de uma passada) contra o mesmo
+ * conteúdo com " = " como separador, que cai no caminho via Properties.
+ * Rodar com -prof gc para ver a alocação por operação.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TextoSaveBenchmark {
+
+    private final GamePersistenceService service = new GamePersistenceService();
+    private File canonico;
+    private File editado;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        GameModel model = GameModelBenchmark.novaPartidaOficial(7L);
+        for (int i = 0; i < 200 && !model.isPartidaEncerrada(); i++) {
+            model.lancarDados();
+            model.deslocarPiaoEAplicarObrigatorios();
+            if (model.canComprarPropriedadeNaCasaAtual()) {
+                model.comprarPropriedade();
+            }
+            model.encerrarVez();
+        }
+        List<PlayerProfile> perfis = new ArrayList<>();
+        Color[] cores = { Color.RED, Color.BLUE, Color.GREEN, Color.ORANGE };
+        for (int i = 0; i < 4; i++) {
+            perfis.add(new PlayerProfile(i, "J" + (i + 1), cores[i], i));
+        }
+        canonico = File.createTempFile("bench-texto", ".txt");
+        service.salvar(canonico, model.exportarEstado(), perfis);
+
+        List<String> linhas = new ArrayList<>();
+        for (String l : Files.readAllLines(canonico.toPath(), StandardCharsets.US_ASCII)) {
+            linhas.add(l.replaceFirst("=", " = "));
+        }
+        editado = File.createTempFile("bench-texto-editado", ".txt");
+        Files.write(editado.toPath(), linhas, StandardCharsets.US_ASCII);
+    }
+
+    @TearDown(Level.Trial)
+    public void limpar() {
+        canonico.delete();
+        editado.delete();
+    }
+
+    @Benchmark
+    public GamePersistenceService.LoadedGame umaPassada() throws IOException {
+        return service.carregar(canonico);
+    }
+
+    @Benchmark
+    public GamePersistenceService.LoadedGame viaProperties() throws IOException {
+        return service.carregar(editado);
+    }
+}
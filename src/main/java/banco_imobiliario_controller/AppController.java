@@ -1,6 +1,7 @@
 package banco_imobiliario_controller;
 
 import java.awt.Component;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -28,6 +29,7 @@ import javax.swing.filechooser.FileNameExtensionFilter;
 import banco_imobiliario_models.GameModel;
 import banco_imobiliario_ui.DefinicaoJogadoresDialog;
 import banco_imobiliario_ui.JanelaInicialFrame;
+import banco_imobiliario_ui.PreviaSavePanel;
 import banco_imobiliario_ui.TabuleiroFrame;
 
 public final class AppController implements GameModel.Observer {
@@ -36,6 +38,9 @@ public final class AppController implements GameModel.Observer {
 
     private final GameModel model = new GameModel();
     private final GamePersistenceService persistence = new GamePersistenceService();
+    private final AutoSaveService autosave = new AutoSaveService(
+            new File(System.getProperty("user.home"), ".banco_imobiliario/autosave"), 5);
+    private boolean salvamentoDisponivelAnterior = false;
     private JFrame janelaAtual;
     private List<PlayerProfile> playerProfiles = new ArrayList<>();
 
@@ -46,6 +51,9 @@ public final class AppController implements GameModel.Observer {
 
     private AppController() {
         model.addObserver(this);
+        autosave.setAoFalhar(ex -> exibirErro("Falha no salvamento automático em " + autosave.getPasta()
+                + ": " + ex.getMessage()));
+        Runtime.getRuntime().addShutdownHook(new Thread(autosave::close, "autosave-close"));
     }
 
     public static AppController getInstance() {
@@ -68,6 +76,7 @@ public final class AppController implements GameModel.Observer {
                 throw new IllegalArgumentException("Quantidade de jogadores deve estar entre 3 e 6.");
             }
             resumoFinalExibido = false;
+            salvamentoDisponivelAnterior = true;
             model.novaPartida(nJogadores, null);
             abrirDefinicaoJogadores(nJogadores);
         } catch (RuntimeException ex) {
@@ -91,6 +100,7 @@ public final class AppController implements GameModel.Observer {
         this.ordemJogadores = sr.ordem;
 
         model.definirOrdemJogadores(this.ordemJogadores);
+        retomarAutosave();
 
         garantirTabuleiroCarregado();
 
@@ -119,8 +129,11 @@ public final class AppController implements GameModel.Observer {
         if (destino == null) {
             return;
         }
-        if (!destino.getName().toLowerCase(Locale.ROOT).endsWith(".txt")) {
-            destino = new java.io.File(destino.getParentFile(), destino.getName() + ".txt");
+        String nomeDestino = destino.getName().toLowerCase(Locale.ROOT);
+        if (!nomeDestino.endsWith(GamePersistenceService.EXTENSAO_TEXTO)
+                && !nomeDestino.endsWith(GamePersistenceService.EXTENSAO_BINARIA)
+                && !nomeDestino.endsWith(GamePersistenceService.EXTENSAO_JSON)) {
+            destino = new java.io.File(destino.getParentFile(), destino.getName() + GamePersistenceService.EXTENSAO_TEXTO);
         }
 
         try {
@@ -171,6 +184,12 @@ public final class AppController implements GameModel.Observer {
         }
     }
 
+    /** Grava o último retrato pendente e sai da aplicação. */
+    public void encerrarAplicacao() {
+        autosave.close();
+        System.exit(0);
+    }
+
     public void solicitarEncerramentoViaBotao(Component parent) {
         if (!model.temPartidaConfigurada() || model.isPartidaEncerrada()) {
             return;
@@ -212,15 +231,18 @@ public final class AppController implements GameModel.Observer {
         JFileChooser chooser = new JFileChooser();
         chooser.setDialogTitle(titulo);
         chooser.setApproveButtonText(salvar ? "Salvar" : "Abrir");
-        chooser.setFileFilter(new FileNameExtensionFilter("Arquivos de texto (*.txt)", "txt"));
+        chooser.setFileFilter(new FileNameExtensionFilter("Partidas salvas (*.txt, *.bim, *.json)", "txt", "bim", "json"));
         chooser.setAcceptAllFileFilterUsed(false);
+        chooser.setAccessory(new PreviaSavePanel(chooser));
         return chooser;
     }
 
     private void aplicarEstadoCarregado(GamePersistenceService.LoadedGame loaded) {
         Objects.requireNonNull(loaded, "loaded");
+        salvamentoDisponivelAnterior = true;
         model.importarEstado(loaded.getState());
         this.playerProfiles = new ArrayList<>(loaded.getPerfis());
+        retomarAutosave();
         this.ordemJogadores = new ArrayList<>(loaded.getState().getOrdemTurno());
         this.resumoFinalExibido = false;
         abrirTabuleiroPrincipal();
@@ -798,6 +820,7 @@ public final class AppController implements GameModel.Observer {
         if (source == null) {
             return;
         }
+        agendarAutosaveNoInicioDaVez(source);
         if (source.isPartidaEncerrada()) {
             if (!resumoFinalExibido) {
                 resumoFinalExibido = true;
@@ -808,6 +831,33 @@ public final class AppController implements GameModel.Observer {
         }
     }
 
+    /** Retrato no início de cada vez; a gravação acontece fora da thread da interface. */
+    private void agendarAutosaveNoInicioDaVez(GameModel source) {
+        boolean disponivel = source.isSalvamentoDisponivel();
+        if (disponivel && !salvamentoDisponivelAnterior) {
+            try {
+                GameModel.SaveState estado = source.exportarEstado();
+                if (estado.getJogadores().size() == playerProfiles.size()) {
+                    autosave.agendar(estado, playerProfiles);
+                }
+            } catch (RuntimeException ex) {
+                // sem tabuleiro ou partida ainda; o próximo início de vez tenta de novo
+                disponivel = false;
+            }
+        }
+        salvamentoDisponivelAnterior = disponivel;
+    }
+
+    /** Depois de trocar partida e perfis juntos, grava o retrato inicial com os perfis novos. */
+    private void retomarAutosave() {
+        salvamentoDisponivelAnterior = false;
+        agendarAutosaveNoInicioDaVez(model);
+    }
+
+    public AutoSaveService getAutosave() {
+        return autosave;
+    }
+
     private void mostrarResumoFinal(GameModel.ResultadoPartida resultado) {
         if (resultado == null) {
             return;
@@ -854,6 +904,8 @@ public final class AppController implements GameModel.Observer {
                 return "Partida encerrada manualmente.";
             case ULTIMO_JOGADOR_RESTANTE:
                 return "Partida encerrada — restou apenas um jogador ativo.";
+            case LIMITE_DE_TURNOS:
+                return "Partida encerrada — limite de turnos atingido.";
             default:
                 return "Partida encerrada.";
         }
@@ -0,0 +1,245 @@
+package banco_imobiliario_controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Salvamento automático em segundo plano. {@link #agendar} só guarda o retrato e volta na hora;
+ * uma thread própria grava em arquivo temporário, faz fsync e troca pelo slot com rename atômico,
+ * então um slot nunca fica pela metade. Retratos que chegam enquanto outro é gravado são
+ * substituídos pelo mais novo. Ao abrir, continua pelo slot vago ou pelo mais antigo da pasta, para
+ * não sobrescrever o salvamento mais recente da sessão anterior.
+ */
+public final class AutoSaveService implements AutoCloseable {
+
+    private static final class Pendente {
+        final GameModel.SaveState estado;
+        final List<PlayerProfile> perfis;
+
+        Pendente(GameModel.SaveState estado, List<PlayerProfile> perfis) {
+            this.estado = estado;
+            this.perfis = perfis;
+        }
+    }
+
+    private final Path pasta;
+    private final int slots;
+    private final ExecutorService executor;
+    private final AtomicReference<Pendente> pendente = new AtomicReference<>();
+    private final AtomicBoolean agendado = new AtomicBoolean(false);
+    private final Object monitor = new Object();
+    /** Une o teste de {@code fechado} ao {@code execute}, para o executor não estar desligado entre os dois. */
+    private final Object ciclo = new Object();
+    private int proximoSlot;
+    private volatile File ultimoArquivo;
+    private boolean fechado;
+
+    private final AtomicLong gravacoes = new AtomicLong();
+    private final AtomicLong substituidos = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+    private final AtomicLong latenciaTotalNanos = new AtomicLong();
+    private volatile long ultimaLatenciaNanos;
+    private volatile long latenciaMaximaNanos;
+    private volatile Throwable ultimaFalha;
+    private volatile boolean falhando;
+    private volatile Consumer<Throwable> aoFalhar;
+
+    public AutoSaveService(File pasta, int slots) {
+        Objects.requireNonNull(pasta, "pasta");
+        if (slots < 1) {
+            throw new IllegalArgumentException("slots deve ser >= 1");
+        }
+        this.pasta = pasta.toPath();
+        this.slots = slots;
+        this.proximoSlot = slotMaisAntigo();
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "autosave");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Enfileira um retrato para gravação; não toca no disco na thread chamadora. Depois de
+     * {@link #close} (mesmo se os dois correrem juntos) o retrato é descartado.
+     */
+    public void agendar(GameModel.SaveState estado, List<PlayerProfile> perfis) {
+        Objects.requireNonNull(estado, "estado");
+        Objects.requireNonNull(perfis, "perfis");
+        synchronized (ciclo) {
+            if (fechado) {
+                return;
+            }
+            if (pendente.getAndSet(new Pendente(estado, new ArrayList<>(perfis))) != null) {
+                substituidos.incrementAndGet();
+            }
+            if (agendado.compareAndSet(false, true)) {
+                executor.execute(this::drenar);
+            }
+        }
+    }
+
+    private void drenar() {
+        do {
+            Pendente p;
+            while ((p = pendente.getAndSet(null)) != null) {
+                gravar(p);
+            }
+            agendado.set(false);
+        } while (pendente.get() != null && agendado.compareAndSet(false, true));
+        synchronized (monitor) {
+            monitor.notifyAll();
+        }
+    }
+
+    private Path slot(int i) {
+        return pasta.resolve("autosave-" + i + GamePersistenceService.EXTENSAO_BINARIA);
+    }
+
+    /** Primeiro slot que ainda não existe ou, com todos ocupados, o modificado há mais tempo. */
+    private int slotMaisAntigo() {
+        int maisAntigo = 0;
+        long menor = Long.MAX_VALUE;
+        for (int i = 0; i < slots; i++) {
+            File f = slot(i).toFile();
+            if (!f.isFile()) {
+                return i;
+            }
+            if (f.lastModified() < menor) {
+                menor = f.lastModified();
+                maisAntigo = i;
+            }
+        }
+        return maisAntigo;
+    }
+
+    /**
+     * Avisado na thread de gravação com a exceção da primeira falha de cada sequência; depois de
+     * uma gravação bem-sucedida, a próxima falha avisa de novo.
+     */
+    public void setAoFalhar(Consumer<Throwable> ouvinte) {
+        this.aoFalhar = ouvinte;
+    }
+
+    private void gravar(Pendente p) {
+        final long inicio = System.nanoTime();
+        try {
+            Files.createDirectories(pasta);
+            Path destino = slot(proximoSlot);
+            Path temporario = pasta.resolve(destino.getFileName() + ".tmp");
+            ByteBuffer buf = ByteBuffer.wrap(SaveBinario.codificar(p.estado, p.perfis));
+            try (FileChannel ch = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buf.hasRemaining()) {
+                    ch.write(buf);
+                }
+                ch.force(true);
+            }
+            try {
+                Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING);
+            }
+            sincronizarPasta();
+            proximoSlot = (proximoSlot + 1) % slots;
+            ultimoArquivo = destino.toFile();
+            falhando = false;
+
+            long dt = System.nanoTime() - inicio;
+            gravacoes.incrementAndGet();
+            latenciaTotalNanos.addAndGet(dt);
+            ultimaLatenciaNanos = dt;
+            if (dt > latenciaMaximaNanos) {
+                latenciaMaximaNanos = dt;
+            }
+        } catch (IOException | RuntimeException ex) {
+            falhas.incrementAndGet();
+            ultimaFalha = ex;
+            boolean avisar = !falhando;
+            falhando = true;
+            Consumer<Throwable> ouvinte = aoFalhar;
+            if (avisar && ouvinte != null) {
+                ouvinte.accept(ex);
+            }
+        }
+    }
+
+    /** Garante que o rename chegou ao disco; nem todo sistema permite abrir a pasta. */
+    private void sincronizarPasta() {
+        try (FileChannel dir = FileChannel.open(pasta, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException | RuntimeException ignorado) {
+            // melhor esforço
+        }
+    }
+
+    /** Espera as gravações pendentes; devolve false se o tempo acabar antes. */
+    public boolean aguardarGravacao(long timeout, TimeUnit unit) throws InterruptedException {
+        final long limite = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (monitor) {
+            while (agendado.get() || pendente.get() != null) {
+                long resta = limite - System.nanoTime();
+                if (resta <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(monitor, resta);
+            }
+        }
+        return true;
+    }
+
+    /** Arquivo do último salvamento concluído, ou null se nenhum foi gravado ainda. */
+    public File getUltimoArquivo() { return ultimoArquivo; }
+    public File getPasta() { return pasta.toFile(); }
+    public int getSlots() { return slots; }
+    public long getGravacoes() { return gravacoes.get(); }
+    public long getSubstituidos() { return substituidos.get(); }
+    public long getFalhas() { return falhas.get(); }
+    public Throwable getUltimaFalha() { return ultimaFalha; }
+    public long getUltimaLatenciaNanos() { return ultimaLatenciaNanos; }
+    public long getLatenciaMaximaNanos() { return latenciaMaximaNanos; }
+
+    public long getLatenciaMediaNanos() {
+        long n = gravacoes.get();
+        return n == 0 ? 0 : latenciaTotalNanos.get() / n;
+    }
+
+    /** Grava o que estiver pendente e encerra a thread. */
+    @Override
+    public void close() {
+        synchronized (ciclo) {
+            fechado = true;
+            executor.shutdown();
+        }
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AutoSaveService[" + pasta + ", gravacoes=" + getGravacoes() + ", falhas=" + getFalhas()
+                + ", latenciaMedia=" + TimeUnit.NANOSECONDS.toMicros(getLatenciaMediaNanos()) + "us]";
+    }
+}
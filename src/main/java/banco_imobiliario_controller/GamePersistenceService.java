@@ -1,7 +1,10 @@
 package banco_imobiliario_controller;
 
 import java.awt.Color;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
@@ -22,6 +25,11 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import banco_imobiliario_models.AlgoritmoAleatorio;
 import banco_imobiliario_models.GameModel;
 
 public final class GamePersistenceService {
@@ -41,6 +49,22 @@ public final class GamePersistenceService {
 
     private static final String COMMENT = "Banco Imobiliario Save";
 
+    /** Extensão do formato binário; qualquer outra grava o formato texto. */
+    public static final String EXTENSAO_BINARIA = ".bim";
+
+    public static final String EXTENSAO_JSON = ".json";
+
+    /** Formato texto (Properties), o padrão para partidas salvas pelo usuário. */
+    public static final String EXTENSAO_TEXTO = ".txt";
+
+    public static boolean isArquivoBinario(java.io.File arquivo) {
+        return arquivo.getName().toLowerCase(Locale.ROOT).endsWith(EXTENSAO_BINARIA);
+    }
+
+    public static boolean isArquivoJson(java.io.File arquivo) {
+        return arquivo.getName().toLowerCase(Locale.ROOT).endsWith(EXTENSAO_JSON);
+    }
+
     public void salvar(java.io.File arquivo,
                        GameModel.SaveState estado,
                        List<PlayerProfile> perfis) throws IOException {
@@ -48,6 +72,18 @@ public final class GamePersistenceService {
         Objects.requireNonNull(estado, "estado");
         Objects.requireNonNull(perfis, "perfis");
 
+        if (isArquivoBinario(arquivo)) {
+            Files.write(arquivo.toPath(), SaveBinario.codificar(estado, perfis));
+            return;
+        }
+        if (isArquivoJson(arquivo)) {
+            try (OutputStream out = Files.newOutputStream(arquivo.toPath());
+                 JsonGenerator g = SaveJson.FABRICA.createGenerator(out)) {
+                SaveJson.escrever(g, estado, perfis, null);
+            }
+            return;
+        }
+
         List<Map.Entry<String, String>> linhas = new ArrayList<>();
         addLinha(linhas, "profiles.count", String.valueOf(perfis.size()));
         for (int i = 0; i < perfis.size(); i++) {
@@ -77,6 +113,9 @@ public final class GamePersistenceService {
         addLinha(linhas, "model.queda.construiu", flag(estado.isJaConstruiuNestaQueda()));
         addLinha(linhas, "model.queda.comprou", flag(estado.isAcabouDeComprarNestaQueda()));
         addLinha(linhas, "model.banco.saldo", String.valueOf(estado.getBancoSaldo()));
+        if (estado.getNumCasasTabuleiro() > 0) {
+            addLinha(linhas, "model.tabuleiro.casas", String.valueOf(estado.getNumCasasTabuleiro()));
+        }
 
         addLinha(linhas, "sr.tamanho", String.valueOf(estado.getTamanhoBaralhoSR()));
         addLinha(linhas, "sr.ponteiro", String.valueOf(estado.getPonteiroBaralhoSR()));
@@ -84,6 +123,11 @@ public final class GamePersistenceService {
         addLinha(linhas, "sr.buffer", formatOptional(estado.getCartaBufferNumero()));
         addLinha(linhas, "sr.ordem", join(estado.getOrdemBaralhoSR()));
 
+        if (estado.getAlgoritmoRng() != null) {
+            addLinha(linhas, "rng.algoritmo", estado.getAlgoritmoRng().name());
+            addLinha(linhas, "rng.estado", joinLongs(estado.getEstadoRng()));
+        }
+
         List<Map.Entry<Integer, Set<Integer>>> cartasOrdenadas = new ArrayList<>(estado.getCartasSRPorJogador().entrySet());
         cartasOrdenadas.sort(Map.Entry.comparingByKey());
         for (Map.Entry<Integer, Set<Integer>> entry : cartasOrdenadas) {
@@ -98,7 +142,8 @@ public final class GamePersistenceService {
             addLinha(linhas, key, linha);
         }
 
-        escreverArquivoOrdenado(arquivo, linhas);
+        String cabecalho = MetadadosSave.linhaTexto(estado, perfis, System.currentTimeMillis());
+        escreverArquivoOrdenado(arquivo, cabecalho, linhas);
     }
 
     public LoadedGame carregar(java.io.File arquivo) throws IOException {
@@ -107,8 +152,31 @@ public final class GamePersistenceService {
             throw new IOException("Arquivo não encontrado: " + arquivo.getAbsolutePath());
         }
 
+        byte[] bytes = Files.readAllBytes(arquivo.toPath());
+        if (SaveBinario.reconhece(bytes)) {
+            return SaveBinario.decodificar(bytes);
+        }
+        if (pareceJson(bytes)) {
+            try (JsonParser p = SaveJson.FABRICA.createParser(bytes)) {
+                SaveJson.Documento doc = SaveJson.ler(p);
+                if (doc == null) {
+                    throw new IOException("Arquivo JSON vazio.");
+                }
+                return doc.jogo;
+            }
+        }
+
+        LoadedGame rapido = LeitorSaveTexto.ler(bytes);
+        if (rapido != null) {
+            return rapido;
+        }
+        return carregarViaProperties(bytes);
+    }
+
+    /** Caminho genérico para arquivos .txt editados à mão com recursos completos de Properties. */
+    LoadedGame carregarViaProperties(byte[] bytes) throws IOException {
         Properties props = new Properties();
-        try (Reader reader = Files.newBufferedReader(arquivo.toPath(), StandardCharsets.US_ASCII)) {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.US_ASCII)) {
             props.load(reader);
         }
 
@@ -132,6 +200,8 @@ public final class GamePersistenceService {
         boolean quedaConstruiu = parseFlag(require(props, "model.queda.construiu"));
         boolean quedaComprou = parseFlag(require(props, "model.queda.comprou"));
         int bancoSaldo = parseInt(require(props, "model.banco.saldo"));
+        String rawCasas = props.getProperty("model.tabuleiro.casas");
+        int casasTabuleiro = rawCasas == null ? 0 : parseInt(rawCasas);
 
         int tamanhoBaralho = parseInt(require(props, "sr.tamanho"));
         int ponteiroBaralho = parseInt(require(props, "sr.ponteiro"));
@@ -141,34 +211,103 @@ public final class GamePersistenceService {
 
         Map<Integer, Set<Integer>> cartasSR = lerCartasSR(props);
 
-        GameModel.SaveState state = new GameModel.SaveState(
-                jogadores,
-                propriedades,
-                ordem,
-                turnoIndex,
-                turnoDuplas,
-                turnoUltimo[0],
-                turnoUltimo[1],
-                toNullable(dadosUltimo[0]),
-                toNullable(dadosUltimo[1]),
-                jaLancou,
-                devePrisao,
-                quedaPos,
-                quedaConstruiu,
-                quedaComprou,
-                salvarHabilitado,
-                bancoSaldo,
-                tamanhoBaralho,
-                ponteiroBaralho,
-                cartasSR,
-                ultimaCarta,
-                bufferCarta,
-                ordemBaralho
-        );
+        AlgoritmoAleatorio algoritmoRng = null;
+        long[] estadoRng = null;
+        String rawAlgoritmo = props.getProperty("rng.algoritmo");
+        if (rawAlgoritmo != null) {
+            algoritmoRng = AlgoritmoAleatorio.porNome(rawAlgoritmo);
+            if (algoritmoRng == null) {
+                throw new IOException("Algoritmo de gerador desconhecido: " + rawAlgoritmo.trim());
+            }
+            estadoRng = parseLongs(require(props, "rng.estado"));
+            if (estadoRng.length != algoritmoRng.getTamanhoEstado()) {
+                throw new IOException("Estado do gerador inválido para " + algoritmoRng);
+            }
+        }
+
+        GameModel.SaveState state = new GameModel.SaveState.Builder()
+                .jogadores(jogadores)
+                .propriedades(propriedades)
+                .ordemTurno(ordem)
+                .turnoIndex(turnoIndex)
+                .turnoDuplasConsecutivas(turnoDuplas)
+                .turnoUltimosDados(turnoUltimo[0], turnoUltimo[1])
+                .ultimosDados(toNullable(dadosUltimo[0]), toNullable(dadosUltimo[1]))
+                .jaLancouNesteTurno(jaLancou)
+                .deveIrParaPrisaoPorTerceiraDupla(devePrisao)
+                .posicaoDaQuedaAtual(quedaPos)
+                .jaConstruiuNestaQueda(quedaConstruiu)
+                .acabouDeComprarNestaQueda(quedaComprou)
+                .salvamentoDisponivel(salvarHabilitado)
+                .bancoSaldo(bancoSaldo)
+                .tamanhoBaralhoSR(tamanhoBaralho)
+                .ponteiroBaralhoSR(ponteiroBaralho)
+                .cartasSRPorJogador(cartasSR)
+                .ultimaCartaNumero(ultimaCarta)
+                .cartaBufferNumero(bufferCarta)
+                .ordemBaralhoSR(ordemBaralho)
+                .rng(algoritmoRng, estadoRng)
+                .numCasasTabuleiro(casasTabuleiro)
+                .criar();
 
         return new LoadedGame(state, perfis);
     }
 
+    private static boolean pareceJson(byte[] bytes) {
+        for (byte b : bytes) {
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return b == '{';
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converte salvamentos em qualquer formato para um único arquivo JSON com um documento por
+     * linha. Cada arquivo é lido, escrito e descartado antes do próximo.
+     */
+    public int converterParaJson(List<java.io.File> arquivos, java.io.File destino) throws IOException {
+        Objects.requireNonNull(arquivos, "arquivos");
+        Objects.requireNonNull(destino, "destino");
+        int total = 0;
+        try (OutputStream out = Files.newOutputStream(destino.toPath());
+             JsonGenerator g = SaveJson.FABRICA.createGenerator(out)) {
+            g.setRootValueSeparator(new SerializedString(System.lineSeparator()));
+            for (java.io.File arquivo : arquivos) {
+                LoadedGame jogo = carregar(arquivo);
+                SaveJson.escrever(g, jogo.getState(), jogo.getPerfis(), arquivo.getName());
+                total++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Caminho inverso de {@link #converterParaJson}: lê os documentos em sequência e grava cada um
+     * na pasta com o nome de origem (ou save-N) e a extensão pedida (.txt, .bim ou .json).
+     */
+    public int converterDeJson(java.io.File origem, java.io.File pasta, String extensao) throws IOException {
+        Objects.requireNonNull(origem, "origem");
+        Objects.requireNonNull(pasta, "pasta");
+        Objects.requireNonNull(extensao, "extensao");
+        Files.createDirectories(pasta.toPath());
+        int total = 0;
+        try (JsonParser p = SaveJson.FABRICA.createParser(origem)) {
+            SaveJson.Documento doc;
+            while ((doc = SaveJson.ler(p)) != null) {
+                String base = doc.origem == null ? "save-" + total : semExtensao(doc.origem);
+                salvar(new java.io.File(pasta, base + extensao), doc.jogo.getState(), doc.jogo.getPerfis());
+                total++;
+            }
+        }
+        return total;
+    }
+
+    private static String semExtensao(String nome) {
+        int ponto = nome.lastIndexOf('.');
+        return ponto > 0 ? nome.substring(0, ponto) : nome;
+    }
+
     private static List<PlayerProfile> lerPerfis(Properties props) throws IOException {
         int total = parseInt(require(props, "profiles.count"));
         List<PlayerProfile> perfis = new ArrayList<>();
@@ -271,6 +410,30 @@ public final class GamePersistenceService {
         return valores.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
     }
 
+    private static String joinLongs(long[] valores) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(valores[i]);
+        }
+        return sb.toString();
+    }
+
+    private static long[] parseLongs(String raw) throws IOException {
+        String[] parts = raw.split(",");
+        long[] valores = new long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            try {
+                valores[i] = Long.parseLong(parts[i].trim());
+            } catch (NumberFormatException ex) {
+                throw new IOException("Não foi possível converter número longo: " + parts[i], ex);
+            }
+        }
+        return valores;
+    }
+
     private static String flag(boolean valor) {
         return valor ? "1" : "0";
     }
@@ -330,11 +493,14 @@ public final class GamePersistenceService {
         linhas.add(new AbstractMap.SimpleEntry<>(chave, valor));
     }
 
-    private void escreverArquivoOrdenado(java.io.File arquivo,
+    /** O cabeçalho de metadados vai na primeira linha, para {@link MetadadosSave#ler} achá-lo no início. */
+    private void escreverArquivoOrdenado(java.io.File arquivo, String cabecalho,
                                          List<Map.Entry<String, String>> linhas) throws IOException {
         String newline = System.lineSeparator();
         SimpleDateFormat sdf = new SimpleDateFormat("EEE MMM dd HH:mm:ss z yyyy", Locale.ROOT);
         try (Writer writer = Files.newBufferedWriter(arquivo.toPath(), StandardCharsets.US_ASCII)) {
+            writer.write(cabecalho);
+            writer.write(newline);
             writer.write('#');
             writer.write(COMMENT);
             writer.write(newline);
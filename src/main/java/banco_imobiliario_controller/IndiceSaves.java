@@ -0,0 +1,348 @@
+package banco_imobiliario_controller;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Índice de uma pasta de salvamentos. {@link #atualizar()} analisa em paralelo só os arquivos
+ * novos ou alterados (tamanho ou data diferentes) e grava o resumo de cada partida num arquivo
+ * ao lado deles; listagens e consultas depois disso não abrem nenhum salvamento.
+ * Arquivos .json com vários documentos (ver {@link GamePersistenceService#converterParaJson})
+ * geram uma entrada por documento, com o deslocamento em bytes dentro do arquivo.
+ */
+public final class IndiceSaves {
+
+    public static final String NOME_ARQUIVO = ".indice-saves";
+    private static final int MAGIC = 0x42494D58; // "BIMX"
+    private static final int VERSAO = 1;
+
+    /** Resumo de uma partida salva. */
+    public static final class Entrada {
+        private final String arquivo;
+        private final long deslocamento;
+        private final long tamanho;
+        private final long modificado;
+        private final List<String> jogadores;
+        private final List<Integer> saldos;
+        private final int jogadorDaVez;
+        private final int bancoSaldo;
+
+        Entrada(String arquivo, long deslocamento, long tamanho, long modificado,
+                List<String> jogadores, List<Integer> saldos, int jogadorDaVez, int bancoSaldo) {
+            this.arquivo = arquivo;
+            this.deslocamento = deslocamento;
+            this.tamanho = tamanho;
+            this.modificado = modificado;
+            this.jogadores = Collections.unmodifiableList(new ArrayList<>(jogadores));
+            this.saldos = Collections.unmodifiableList(new ArrayList<>(saldos));
+            this.jogadorDaVez = jogadorDaVez;
+            this.bancoSaldo = bancoSaldo;
+        }
+
+        public String getArquivo() { return arquivo; }
+        /** Posição do documento dentro do arquivo; 0 quando o arquivo guarda uma partida só. */
+        public long getDeslocamento() { return deslocamento; }
+        public long getTamanho() { return tamanho; }
+        public long getModificado() { return modificado; }
+        public List<String> getJogadores() { return jogadores; }
+        public List<Integer> getSaldos() { return saldos; }
+        public int getJogadorDaVez() { return jogadorDaVez; }
+        public int getBancoSaldo() { return bancoSaldo; }
+
+        @Override
+        public String toString() {
+            return arquivo + (deslocamento > 0 ? "@" + deslocamento : "") + " " + jogadores
+                    + " vez=" + jogadorDaVez + " banco=" + bancoSaldo;
+        }
+    }
+
+    /** Resultado de uma atualização. */
+    public static final class Resultado {
+        private final int arquivos;
+        private final int analisados;
+        private final int removidos;
+        private final List<String> falhas;
+
+        Resultado(int arquivos, int analisados, int removidos, List<String> falhas) {
+            this.arquivos = arquivos;
+            this.analisados = analisados;
+            this.removidos = removidos;
+            this.falhas = Collections.unmodifiableList(falhas);
+        }
+
+        public int getArquivos() { return arquivos; }
+        public int getAnalisados() { return analisados; }
+        public int getRemovidos() { return removidos; }
+        public List<String> getFalhas() { return falhas; }
+    }
+
+    private final File pasta;
+    private final int paralelismo;
+    private final GamePersistenceService persistence = new GamePersistenceService();
+    /** Entradas por nome de arquivo, na ordem dos nomes. */
+    private Map<String, List<Entrada>> entradas = new LinkedHashMap<>();
+
+    public IndiceSaves(File pasta, int paralelismo) {
+        this.pasta = Objects.requireNonNull(pasta, "pasta");
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("paralelismo deve ser >= 1");
+        }
+        this.paralelismo = paralelismo;
+    }
+
+    public IndiceSaves(File pasta) {
+        this(pasta, Math.max(1, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public File getArquivoIndice() {
+        return new File(pasta, NOME_ARQUIVO);
+    }
+
+    /**
+     * Lê o índice gravado, reanalisa o que mudou na pasta e grava o índice de novo.
+     * Arquivos que não puderem ser lidos ficam de fora e aparecem em {@link Resultado#getFalhas()}.
+     */
+    public synchronized Resultado atualizar() throws IOException {
+        Map<String, List<Entrada>> anterior = lerIndice();
+        File[] arquivos = pasta.listFiles(f -> f.isFile() && isSalvamento(f.getName()));
+        if (arquivos == null) {
+            throw new IOException("Pasta não encontrada: " + pasta.getAbsolutePath());
+        }
+
+        Map<String, List<Entrada>> novas = new HashMap<>();
+        List<File> pendentes = new ArrayList<>();
+        for (File f : arquivos) {
+            List<Entrada> antigas = anterior.get(f.getName());
+            if (antigas != null && !antigas.isEmpty()
+                    && antigas.get(0).getTamanho() == f.length()
+                    && antigas.get(0).getModificado() == f.lastModified()) {
+                novas.put(f.getName(), antigas);
+            } else {
+                pendentes.add(f);
+            }
+        }
+
+        List<String> falhas = new ArrayList<>();
+        if (!pendentes.isEmpty()) {
+            ExecutorService pool = Executors.newFixedThreadPool(Math.min(paralelismo, pendentes.size()));
+            try {
+                List<Future<List<Entrada>>> futuros = new ArrayList<>(pendentes.size());
+                for (File f : pendentes) {
+                    futuros.add(pool.submit(() -> analisar(f)));
+                }
+                for (int i = 0; i < pendentes.size(); i++) {
+                    try {
+                        novas.put(pendentes.get(i).getName(), futuros.get(i).get());
+                    } catch (ExecutionException ex) {
+                        falhas.add(pendentes.get(i).getName() + ": " + ex.getCause().getMessage());
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Indexação interrompida.", ex);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        int removidos = 0;
+        for (String nome : anterior.keySet()) {
+            if (!novas.containsKey(nome)) {
+                removidos++;
+            }
+        }
+
+        List<String> nomes = new ArrayList<>(novas.keySet());
+        Collections.sort(nomes);
+        Map<String, List<Entrada>> ordenadas = new LinkedHashMap<>();
+        for (String nome : nomes) {
+            ordenadas.put(nome, novas.get(nome));
+        }
+        this.entradas = ordenadas;
+        gravarIndice();
+        return new Resultado(arquivos.length, pendentes.size() - falhas.size(), removidos, falhas);
+    }
+
+    /** Entradas conhecidas, sem tocar no disco. Vazia antes do primeiro {@link #atualizar()}. */
+    public synchronized List<Entrada> listar() {
+        List<Entrada> todas = new ArrayList<>();
+        for (List<Entrada> porArquivo : entradas.values()) {
+            todas.addAll(porArquivo);
+        }
+        return todas;
+    }
+
+    public List<Entrada> consultar(Predicate<Entrada> filtro) {
+        List<Entrada> r = new ArrayList<>();
+        for (Entrada e : listar()) {
+            if (filtro.test(e)) {
+                r.add(e);
+            }
+        }
+        return r;
+    }
+
+    /** Carrega a partida completa de uma entrada, indo direto ao documento quando o arquivo tem vários. */
+    public GamePersistenceService.LoadedGame carregar(Entrada entrada) throws IOException {
+        File f = new File(pasta, entrada.getArquivo());
+        if (!GamePersistenceService.isArquivoJson(f)) {
+            return persistence.carregar(f);
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(f.toPath()))) {
+            long resta = entrada.getDeslocamento();
+            while (resta > 0) {
+                long pulados = in.skip(resta);
+                if (pulados <= 0) {
+                    throw new IOException("Deslocamento além do fim do arquivo: " + entrada);
+                }
+                resta -= pulados;
+            }
+            try (JsonParser p = SaveJson.FABRICA.createParser(in)) {
+                SaveJson.Documento doc = SaveJson.ler(p);
+                if (doc == null) {
+                    throw new IOException("Documento não encontrado: " + entrada);
+                }
+                return doc.jogo;
+            }
+        }
+    }
+
+    private static boolean isSalvamento(String nome) {
+        String n = nome.toLowerCase(Locale.ROOT);
+        return n.endsWith(GamePersistenceService.EXTENSAO_TEXTO) || n.endsWith(GamePersistenceService.EXTENSAO_BINARIA)
+                || n.endsWith(GamePersistenceService.EXTENSAO_JSON);
+    }
+
+    private List<Entrada> analisar(File f) throws IOException {
+        final long tamanho = f.length();
+        final long modificado = f.lastModified();
+        List<Entrada> r = new ArrayList<>(1);
+        if (!GamePersistenceService.isArquivoJson(f)) {
+            r.add(resumir(f.getName(), 0L, tamanho, modificado, persistence.carregar(f)));
+            return r;
+        }
+        try (JsonParser p = SaveJson.FABRICA.createParser(f)) {
+            while (true) {
+                long deslocamento = p.currentLocation().getByteOffset();
+                SaveJson.Documento doc = SaveJson.ler(p);
+                if (doc == null) {
+                    break;
+                }
+                r.add(resumir(f.getName(), deslocamento, tamanho, modificado, doc.jogo));
+            }
+        }
+        if (r.isEmpty()) {
+            throw new IOException("Arquivo JSON vazio.");
+        }
+        return r;
+    }
+
+    private static Entrada resumir(String nome, long deslocamento, long tamanho, long modificado,
+                                   GamePersistenceService.LoadedGame jogo) {
+        GameModel.SaveState s = jogo.getState();
+        List<String> nomes = new ArrayList<>();
+        for (PlayerProfile p : jogo.getPerfis()) {
+            nomes.add(p.getNome());
+        }
+        List<Integer> saldos = new ArrayList<>();
+        for (GameModel.PlayerState ps : s.getJogadores()) {
+            saldos.add(ps.getSaldo());
+        }
+        List<Integer> ordem = s.getOrdemTurno();
+        int idx = s.getTurnoIndex();
+        int daVez = (idx >= 0 && idx < ordem.size() && ordem.get(idx) != null) ? ordem.get(idx) : -1;
+        return new Entrada(nome, deslocamento, tamanho, modificado, nomes, saldos, daVez, s.getBancoSaldo());
+    }
+
+    private Map<String, List<Entrada>> lerIndice() {
+        Map<String, List<Entrada>> mapa = new HashMap<>();
+        File indice = getArquivoIndice();
+        if (!indice.isFile()) {
+            return mapa;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indice.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSAO) {
+                return mapa;
+            }
+            int total = in.readInt();
+            for (int i = 0; i < total; i++) {
+                String arquivo = in.readUTF();
+                long deslocamento = in.readLong();
+                long tamanho = in.readLong();
+                long modificado = in.readLong();
+                int n = in.readInt();
+                List<String> nomes = new ArrayList<>(n);
+                List<Integer> saldos = new ArrayList<>(n);
+                for (int j = 0; j < n; j++) {
+                    nomes.add(in.readUTF());
+                    saldos.add(in.readInt());
+                }
+                int daVez = in.readInt();
+                int banco = in.readInt();
+                mapa.computeIfAbsent(arquivo, k -> new ArrayList<>())
+                    .add(new Entrada(arquivo, deslocamento, tamanho, modificado, nomes, saldos, daVez, banco));
+            }
+        } catch (IOException | RuntimeException ex) {
+            // índice ilegível é só refeito do zero
+            mapa.clear();
+        }
+        return mapa;
+    }
+
+    private void gravarIndice() throws IOException {
+        Path destino = getArquivoIndice().toPath();
+        Path temporario = destino.resolveSibling(NOME_ARQUIVO + ".tmp");
+        List<Entrada> todas = listar();
+        try (OutputStream os = Files.newOutputStream(temporario);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSAO);
+            out.writeInt(todas.size());
+            for (Entrada e : todas) {
+                out.writeUTF(e.getArquivo());
+                out.writeLong(e.getDeslocamento());
+                out.writeLong(e.getTamanho());
+                out.writeLong(e.getModificado());
+                out.writeInt(e.getJogadores().size());
+                for (int j = 0; j < e.getJogadores().size(); j++) {
+                    out.writeUTF(e.getJogadores().get(j));
+                    out.writeInt(j < e.getSaldos().size() ? e.getSaldos().get(j) : 0);
+                }
+                out.writeInt(e.getJogadorDaVez());
+                out.writeInt(e.getBancoSaldo());
+            }
+        }
+        try {
+            Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,633 @@
+package banco_imobiliario_controller;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import banco_imobiliario_models.AlgoritmoAleatorio;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Leitor de uma passada para o formato texto gravado por {@link GamePersistenceService#salvar}.
+ * Percorre os bytes uma vez, sem Properties, sem split e sem Integer intermediário: os valores vão
+ * direto para arrays primitivos e só no final viram o {@link GameModel.SaveState}.
+ * Linhas fora do que o próprio salvar produz (escapes, ':' como separador, continuações)
+ * fazem {@link #ler} devolver null para o chamador usar o caminho via Properties.
+ */
+final class LeitorSaveTexto {
+
+    private static final byte[] PROFILES_COUNT = ascii("profiles.count");
+    private static final byte[] PROFILES = ascii("profiles.");
+    private static final byte[] PLAYERS_COUNT = ascii("model.players.count");
+    private static final byte[] PLAYER = ascii("model.player.");
+    private static final byte[] TURNO_ORDEM = ascii("model.turno.ordem");
+    private static final byte[] TURNO_INDEX = ascii("model.turno.index");
+    private static final byte[] TURNO_DUPLAS = ascii("model.turno.duplas");
+    private static final byte[] TURNO_ULTIMO = ascii("model.turno.ultimo");
+    private static final byte[] DADOS_ULTIMO = ascii("model.dados.ultimo");
+    private static final byte[] JA_LANCOU = ascii("model.jaLancou");
+    private static final byte[] DEVE_PRISAO = ascii("model.devePrisao");
+    private static final byte[] SALVAR = ascii("model.salvar.habilitado");
+    private static final byte[] QUEDA_POS = ascii("model.queda.pos");
+    private static final byte[] QUEDA_CONSTRUIU = ascii("model.queda.construiu");
+    private static final byte[] QUEDA_COMPROU = ascii("model.queda.comprou");
+    private static final byte[] BANCO_SALDO = ascii("model.banco.saldo");
+    private static final byte[] TABULEIRO_CASAS = ascii("model.tabuleiro.casas");
+    private static final byte[] SR_TAMANHO = ascii("sr.tamanho");
+    private static final byte[] SR_PONTEIRO = ascii("sr.ponteiro");
+    private static final byte[] SR_ULTIMA = ascii("sr.ultima");
+    private static final byte[] SR_BUFFER = ascii("sr.buffer");
+    private static final byte[] SR_ORDEM = ascii("sr.ordem");
+    private static final byte[] SR_CARDS = ascii("sr.cards.");
+    private static final byte[] PROPERTY = ascii("property.");
+    private static final byte[] RNG_ALGORITMO = ascii("rng.algoritmo");
+    private static final byte[] RNG_ESTADO = ascii("rng.estado");
+
+    /** Campos obrigatórios, na ordem dos bits de {@link #presentes}. */
+    private static final String[] OBRIGATORIOS = {
+            "profiles.count", "model.players.count", "model.turno.ordem", "model.turno.index",
+            "model.turno.duplas", "model.turno.ultimo", "model.dados.ultimo", "model.jaLancou",
+            "model.devePrisao", "model.salvar.habilitado", "model.queda.pos", "model.queda.construiu",
+            "model.queda.comprou", "model.banco.saldo", "sr.tamanho", "sr.ponteiro", "sr.ultima", "sr.buffer"
+    };
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private final byte[] b;
+    private int presentes;
+
+    private int totalPerfis = -1;
+    private int[] perfilId = new int[8];
+    private String[] perfilNome = new String[8];
+    private int[] perfilCor = new int[8];
+    private int[] perfilPeao = new int[8];
+    private boolean[] perfilLido = new boolean[8];
+
+    private int totalJogadores = -1;
+    private int[] jogador = new int[8 * 6];
+    private boolean[] jogadorLido = new boolean[8];
+
+    private int[] ordem = new int[8];
+    private int tamOrdem;
+    private int turnoIndex;
+    private int turnoDuplas;
+    private int turnoUltimoD1;
+    private int turnoUltimoD2;
+    private int dadosUltimoD1;
+    private int dadosUltimoD2;
+    private boolean jaLancou;
+    private boolean devePrisao;
+    private boolean salvar;
+    private int quedaPos;
+    private boolean quedaConstruiu;
+    private boolean quedaComprou;
+    private int bancoSaldo;
+    private int casasTabuleiro;
+
+    private int srTamanho;
+    private int srPonteiro;
+    private int srUltima;
+    private int srBuffer;
+    private int[] srOrdem = new int[32];
+    private int tamSrOrdem;
+
+    /** Cartas por jogador: início e fim em {@link #cartas}; -1 quando o jogador não aparece. */
+    private int[] cartasInicio = new int[8];
+    private int[] cartasFim = new int[8];
+    private int[] cartas = new int[16];
+    private int tamCartas;
+
+    /** Por posição: dono, casas e hotel; dono == Integer.MIN_VALUE quando a linha não existe. */
+    private int[] propDono = new int[64];
+    private int[] propCasas = new int[64];
+    private boolean[] propHotel = new boolean[64];
+
+    private String rngAlgoritmo;
+    private long[] rngEstado;
+
+    private LeitorSaveTexto(byte[] b) {
+        this.b = b;
+        Arrays.fill(cartasInicio, -1);
+        Arrays.fill(propDono, Integer.MIN_VALUE);
+    }
+
+    /** Lê o arquivo ou devolve null se ele usar recursos de Properties que este leitor não trata. */
+    static GamePersistenceService.LoadedGame ler(byte[] bytes) throws IOException {
+        LeitorSaveTexto l = new LeitorSaveTexto(bytes);
+        if (!l.percorrer()) {
+            return null;
+        }
+        return l.montar();
+    }
+
+    private boolean percorrer() throws IOException {
+        final int n = b.length;
+        int i = 0;
+        while (i < n) {
+            while (i < n && (b[i] == ' ' || b[i] == '\t' || b[i] == '\f')) {
+                i++;
+            }
+            if (i >= n) {
+                break;
+            }
+            byte c = b[i];
+            if (c == '\r' || c == '\n') {
+                i++;
+                continue;
+            }
+            int fimLinha = i;
+            while (fimLinha < n && b[fimLinha] != '\n' && b[fimLinha] != '\r') {
+                fimLinha++;
+            }
+            if (c == '#' || c == '!') {
+                i = fimLinha;
+                continue;
+            }
+            if (b[fimLinha - 1] == '\\') {
+                return false;
+            }
+            int eq = i;
+            while (eq < fimLinha && b[eq] != '=') {
+                byte k = b[eq];
+                if (k == ':' || k == ' ' || k == '\t' || k == '\\' || k < 0) {
+                    return false;
+                }
+                eq++;
+            }
+            if (eq == fimLinha) {
+                return false;
+            }
+            for (int k = eq + 1; k < fimLinha; k++) {
+                if (b[k] == '\\' || b[k] < 0) {
+                    return false;
+                }
+            }
+            campo(i, eq, eq + 1, fimLinha);
+            i = fimLinha;
+        }
+        return true;
+    }
+
+    private boolean chave(int ini, int fim, byte[] k) {
+        if (fim - ini != k.length) {
+            return false;
+        }
+        for (int j = 0; j < k.length; j++) {
+            if (b[ini + j] != k[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean prefixo(int ini, int fim, byte[] k) {
+        if (fim - ini <= k.length) {
+            return false;
+        }
+        for (int j = 0; j < k.length; j++) {
+            if (b[ini + j] != k[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void marcar(int bit) {
+        presentes |= 1 << bit;
+    }
+
+    private void campo(int ki, int kf, int vi, int vf) throws IOException {
+        if (chave(ki, kf, PROFILES_COUNT)) {
+            totalPerfis = inteiro(vi, vf);
+            marcar(0);
+        } else if (chave(ki, kf, PLAYERS_COUNT)) {
+            totalJogadores = inteiro(vi, vf);
+            marcar(1);
+        } else if (prefixo(ki, kf, PROFILES)) {
+            perfil(inteiro(ki + PROFILES.length, kf), vi, vf);
+        } else if (prefixo(ki, kf, PLAYER)) {
+            jogador(inteiro(ki + PLAYER.length, kf), vi, vf);
+        } else if (prefixo(ki, kf, PROPERTY)) {
+            propriedade(inteiro(ki + PROPERTY.length, kf), vi, vf);
+        } else if (prefixo(ki, kf, SR_CARDS)) {
+            cartasDoJogador(inteiro(ki + SR_CARDS.length, kf), vi, vf);
+        } else if (chave(ki, kf, TURNO_ORDEM)) {
+            tamOrdem = 0;
+            lista(vi, vf, true);
+            marcar(2);
+        } else if (chave(ki, kf, TURNO_INDEX)) {
+            turnoIndex = inteiro(vi, vf);
+            marcar(3);
+        } else if (chave(ki, kf, TURNO_DUPLAS)) {
+            turnoDuplas = inteiro(vi, vf);
+            marcar(4);
+        } else if (chave(ki, kf, TURNO_ULTIMO)) {
+            int virgula = par(vi, vf);
+            turnoUltimoD1 = inteiro(vi, virgula);
+            turnoUltimoD2 = inteiro(virgula + 1, proximo(virgula + 1, vf, ','));
+            marcar(5);
+        } else if (chave(ki, kf, DADOS_ULTIMO)) {
+            int virgula = par(vi, vf);
+            dadosUltimoD1 = inteiro(vi, virgula);
+            dadosUltimoD2 = inteiro(virgula + 1, proximo(virgula + 1, vf, ','));
+            marcar(6);
+        } else if (chave(ki, kf, JA_LANCOU)) {
+            jaLancou = flag(vi, vf);
+            marcar(7);
+        } else if (chave(ki, kf, DEVE_PRISAO)) {
+            devePrisao = flag(vi, vf);
+            marcar(8);
+        } else if (chave(ki, kf, SALVAR)) {
+            salvar = flag(vi, vf);
+            marcar(9);
+        } else if (chave(ki, kf, QUEDA_POS)) {
+            quedaPos = inteiro(vi, vf);
+            marcar(10);
+        } else if (chave(ki, kf, QUEDA_CONSTRUIU)) {
+            quedaConstruiu = flag(vi, vf);
+            marcar(11);
+        } else if (chave(ki, kf, QUEDA_COMPROU)) {
+            quedaComprou = flag(vi, vf);
+            marcar(12);
+        } else if (chave(ki, kf, BANCO_SALDO)) {
+            bancoSaldo = inteiro(vi, vf);
+            marcar(13);
+        } else if (chave(ki, kf, TABULEIRO_CASAS)) {
+            casasTabuleiro = inteiro(vi, vf);
+        } else if (chave(ki, kf, SR_TAMANHO)) {
+            srTamanho = inteiro(vi, vf);
+            marcar(14);
+        } else if (chave(ki, kf, SR_PONTEIRO)) {
+            srPonteiro = inteiro(vi, vf);
+            marcar(15);
+        } else if (chave(ki, kf, SR_ULTIMA)) {
+            srUltima = inteiro(vi, vf);
+            marcar(16);
+        } else if (chave(ki, kf, SR_BUFFER)) {
+            srBuffer = inteiro(vi, vf);
+            marcar(17);
+        } else if (chave(ki, kf, SR_ORDEM)) {
+            tamSrOrdem = 0;
+            lista(vi, vf, false);
+        } else if (chave(ki, kf, RNG_ALGORITMO)) {
+            rngAlgoritmo = new String(b, vi, vf - vi, StandardCharsets.US_ASCII);
+        } else if (chave(ki, kf, RNG_ESTADO)) {
+            rngEstado = longs(vi, vf);
+        }
+    }
+
+    private void perfil(int slot, int vi, int vf) throws IOException {
+        if (slot < 0) {
+            return;
+        }
+        if (slot >= perfilId.length) {
+            int novo = Math.max(slot + 1, perfilId.length * 2);
+            perfilId = Arrays.copyOf(perfilId, novo);
+            perfilNome = Arrays.copyOf(perfilNome, novo);
+            perfilCor = Arrays.copyOf(perfilCor, novo);
+            perfilPeao = Arrays.copyOf(perfilPeao, novo);
+            perfilLido = Arrays.copyOf(perfilLido, novo);
+        }
+        int p1 = proximo(vi, vf, '|');
+        int p2 = p1 < vf ? proximo(p1 + 1, vf, '|') : vf;
+        int p3 = p2 < vf ? proximo(p2 + 1, vf, '|') : vf;
+        if (p3 >= vf) {
+            throw new IOException("Perfil inválido no slot " + slot);
+        }
+        perfilId[slot] = inteiro(vi, p1);
+        perfilNome[slot] = new String(b, p1 + 1, p2 - p1 - 1, StandardCharsets.US_ASCII);
+        perfilCor[slot] = cor(p2 + 1, p3, slot);
+        perfilPeao[slot] = inteiro(p3 + 1, proximo(p3 + 1, vf, '|'));
+        perfilLido[slot] = true;
+    }
+
+    private int cor(int ini, int fim, int slot) throws IOException {
+        if (fim - ini == 7 && b[ini] == '#') {
+            int v = 0;
+            for (int k = ini + 1; k < fim; k++) {
+                int d = Character.digit(b[k], 16);
+                if (d < 0) {
+                    v = -1;
+                    break;
+                }
+                v = (v << 4) | d;
+            }
+            if (v >= 0) {
+                return v;
+            }
+        }
+        String raw = new String(b, ini, fim - ini, StandardCharsets.US_ASCII);
+        try {
+            return Color.decode(raw).getRGB() & 0xFFFFFF;
+        } catch (NumberFormatException ex) {
+            throw new IOException("Cor inválida para o perfil " + slot + ": " + raw, ex);
+        }
+    }
+
+    private void jogador(int slot, int vi, int vf) throws IOException {
+        if (slot < 0) {
+            return;
+        }
+        if (slot >= jogadorLido.length) {
+            int novo = Math.max(slot + 1, jogadorLido.length * 2);
+            jogador = Arrays.copyOf(jogador, novo * 6);
+            jogadorLido = Arrays.copyOf(jogadorLido, novo);
+        }
+        int ini = vi;
+        for (int k = 0; k < 6; k++) {
+            if (ini > vf) {
+                throw new IOException("Registro de jogador inválido no slot " + slot);
+            }
+            int fim = proximo(ini, vf, ',');
+            jogador[slot * 6 + k] = k < 3 ? inteiro(ini, fim) : (flag(ini, fim) ? 1 : 0);
+            ini = fim + 1;
+        }
+        jogadorLido[slot] = true;
+    }
+
+    private void propriedade(int pos, int vi, int vf) throws IOException {
+        if (pos < 0) {
+            throw new IOException("Propriedade inválida na posição " + pos);
+        }
+        if (pos >= propDono.length) {
+            int novo = Math.max(pos + 1, propDono.length * 2);
+            int antigo = propDono.length;
+            propDono = Arrays.copyOf(propDono, novo);
+            Arrays.fill(propDono, antigo, novo, Integer.MIN_VALUE);
+            propCasas = Arrays.copyOf(propCasas, novo);
+            propHotel = Arrays.copyOf(propHotel, novo);
+        }
+        int c1 = proximo(vi, vf, ',');
+        int c2 = c1 < vf ? proximo(c1 + 1, vf, ',') : vf;
+        if (c2 >= vf) {
+            throw new IOException("Propriedade inválida na posição " + pos);
+        }
+        propDono[pos] = inteiro(vi, c1);
+        propCasas[pos] = inteiro(c1 + 1, c2);
+        propHotel[pos] = flag(c2 + 1, proximo(c2 + 1, vf, ','));
+    }
+
+    private void cartasDoJogador(int id, int vi, int vf) throws IOException {
+        if (id < 0) {
+            return;
+        }
+        if (id >= cartasInicio.length) {
+            int novo = Math.max(id + 1, cartasInicio.length * 2);
+            int antigo = cartasInicio.length;
+            cartasInicio = Arrays.copyOf(cartasInicio, novo);
+            cartasFim = Arrays.copyOf(cartasFim, novo);
+            Arrays.fill(cartasInicio, antigo, novo, -1);
+        }
+        cartasInicio[id] = tamCartas;
+        int ini = vi;
+        while (ini <= vf) {
+            int fim = proximo(ini, vf, ',');
+            if (!vazio(ini, fim)) {
+                if (tamCartas == cartas.length) {
+                    cartas = Arrays.copyOf(cartas, tamCartas * 2);
+                }
+                cartas[tamCartas++] = inteiro(ini, fim);
+            }
+            ini = fim + 1;
+        }
+        cartasFim[id] = tamCartas;
+    }
+
+    /** Lista separada por vírgulas para {@link #ordem} ou {@link #srOrdem}. */
+    private void lista(int vi, int vf, boolean turno) throws IOException {
+        if (vazio(vi, vf)) {
+            if (turno) {
+                throw new IOException("Lista de inteiros vazia.");
+            }
+            return;
+        }
+        int ini = vi;
+        while (ini <= vf) {
+            int fim = proximo(ini, vf, ',');
+            int v = inteiro(ini, fim);
+            if (turno) {
+                if (tamOrdem == ordem.length) {
+                    ordem = Arrays.copyOf(ordem, tamOrdem * 2);
+                }
+                ordem[tamOrdem++] = v;
+            } else {
+                if (tamSrOrdem == srOrdem.length) {
+                    srOrdem = Arrays.copyOf(srOrdem, tamSrOrdem * 2);
+                }
+                srOrdem[tamSrOrdem++] = v;
+            }
+            ini = fim + 1;
+        }
+    }
+
+    private long[] longs(int vi, int vf) throws IOException {
+        int n = 1;
+        for (int k = vi; k < vf; k++) {
+            if (b[k] == ',') {
+                n++;
+            }
+        }
+        long[] r = new long[n];
+        int ini = vi;
+        for (int k = 0; k < n; k++) {
+            int fim = proximo(ini, vf, ',');
+            r[k] = numero(ini, fim, Long.MIN_VALUE, Long.MAX_VALUE);
+            ini = fim + 1;
+        }
+        return r;
+    }
+
+    private int proximo(int ini, int fim, char sep) {
+        int k = ini;
+        while (k < fim && b[k] != sep) {
+            k++;
+        }
+        return k;
+    }
+
+    private int par(int vi, int vf) throws IOException {
+        int virgula = proximo(vi, vf, ',');
+        if (virgula >= vf) {
+            throw new IOException("Valor inválido: " + new String(b, vi, vf - vi, StandardCharsets.US_ASCII));
+        }
+        return virgula;
+    }
+
+    private boolean vazio(int ini, int fim) {
+        for (int k = ini; k < fim; k++) {
+            if (b[k] != ' ' && b[k] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean flag(int ini, int fim) {
+        while (ini < fim && (b[ini] == ' ' || b[ini] == '\t')) {
+            ini++;
+        }
+        while (fim > ini && (b[fim - 1] == ' ' || b[fim - 1] == '\t')) {
+            fim--;
+        }
+        return fim - ini == 1 && b[ini] == '1';
+    }
+
+    private int inteiro(int ini, int fim) throws IOException {
+        return (int) numero(ini, fim, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    private long numero(int ini, int fim, long min, long max) throws IOException {
+        int a = ini;
+        int z = fim;
+        while (a < z && (b[a] == ' ' || b[a] == '\t')) {
+            a++;
+        }
+        while (z > a && (b[z - 1] == ' ' || b[z - 1] == '\t')) {
+            z--;
+        }
+        boolean negativo = a < z && b[a] == '-';
+        int k = (a < z && (b[a] == '-' || b[a] == '+')) ? a + 1 : a;
+        if (k >= z || z - k > 19) {
+            throw erroNumero(ini, fim);
+        }
+        long v = 0;
+        for (; k < z; k++) {
+            int d = b[k] - '0';
+            if (d < 0 || d > 9) {
+                throw erroNumero(ini, fim);
+            }
+            long proximo = v * 10 - d;
+            if (proximo > v) {
+                throw erroNumero(ini, fim);
+            }
+            v = proximo;
+        }
+        if (!negativo) {
+            v = -v;
+            if (v < 0) {
+                throw erroNumero(ini, fim);
+            }
+        }
+        if (v < min || v > max) {
+            throw erroNumero(ini, fim);
+        }
+        return v;
+    }
+
+    private IOException erroNumero(int ini, int fim) {
+        return new IOException("Não foi possível converter número inteiro: "
+                + new String(b, ini, fim - ini, StandardCharsets.US_ASCII));
+    }
+
+    private GamePersistenceService.LoadedGame montar() throws IOException {
+        for (int bit = 0; bit < OBRIGATORIOS.length; bit++) {
+            if ((presentes & (1 << bit)) == 0) {
+                throw new IOException("Campo ausente no arquivo: " + OBRIGATORIOS[bit]);
+            }
+        }
+
+        List<PlayerProfile> perfis = new ArrayList<>(totalPerfis);
+        for (int i = 0; i < totalPerfis; i++) {
+            if (i >= perfilLido.length || !perfilLido[i]) {
+                throw new IOException("Campo ausente no arquivo: profiles." + i);
+            }
+            perfis.add(new PlayerProfile(perfilId[i], perfilNome[i], new Color(perfilCor[i]), perfilPeao[i]));
+        }
+        perfis.sort(Comparator.comparingInt(PlayerProfile::getId));
+
+        List<GameModel.PlayerState> jogadores = new ArrayList<>(Math.max(totalJogadores, 0));
+        for (int i = 0; i < totalJogadores; i++) {
+            if (i >= jogadorLido.length || !jogadorLido[i]) {
+                throw new IOException("Campo ausente no arquivo: model.player." + i);
+            }
+            int o = i * 6;
+            jogadores.add(new GameModel.PlayerState(jogador[o], jogador[o + 1], jogador[o + 2],
+                    jogador[o + 3] != 0, jogador[o + 4] != 0, jogador[o + 5] != 0));
+        }
+        if (perfis.size() != jogadores.size()) {
+            throw new IOException("Arquivo inconsistente: número de perfis difere da quantidade de jogadores.");
+        }
+
+        List<GameModel.PropertyState> propriedades = new ArrayList<>();
+        for (int pos = 0; pos < propDono.length; pos++) {
+            if (propDono[pos] != Integer.MIN_VALUE) {
+                propriedades.add(new GameModel.PropertyState(pos, propDono[pos], propCasas[pos], propHotel[pos]));
+            }
+        }
+
+        Map<Integer, Set<Integer>> cartasSR = new HashMap<>();
+        for (int id = 0; id < cartasInicio.length; id++) {
+            if (cartasInicio[id] >= 0) {
+                Set<Integer> s = new HashSet<>();
+                for (int k = cartasInicio[id]; k < cartasFim[id]; k++) {
+                    s.add(cartas[k]);
+                }
+                cartasSR.put(id, s);
+            }
+        }
+
+        AlgoritmoAleatorio algoritmoRng = null;
+        long[] estadoRng = null;
+        if (rngAlgoritmo != null) {
+            algoritmoRng = AlgoritmoAleatorio.porNome(rngAlgoritmo);
+            if (algoritmoRng == null) {
+                throw new IOException("Algoritmo de gerador desconhecido: " + rngAlgoritmo.trim());
+            }
+            if (rngEstado == null) {
+                throw new IOException("Campo ausente no arquivo: rng.estado");
+            }
+            if (rngEstado.length != algoritmoRng.getTamanhoEstado()) {
+                throw new IOException("Estado do gerador inválido para " + algoritmoRng);
+            }
+            estadoRng = rngEstado;
+        }
+
+        GameModel.SaveState state = new GameModel.SaveState.Builder()
+                .jogadores(jogadores)
+                .propriedades(propriedades)
+                .ordemTurno(inteiros(ordem, tamOrdem))
+                .turnoIndex(turnoIndex)
+                .turnoDuplasConsecutivas(turnoDuplas)
+                .turnoUltimosDados(turnoUltimoD1, turnoUltimoD2)
+                .ultimosDados(opcional(dadosUltimoD1), opcional(dadosUltimoD2))
+                .jaLancouNesteTurno(jaLancou)
+                .deveIrParaPrisaoPorTerceiraDupla(devePrisao)
+                .posicaoDaQuedaAtual(opcional(quedaPos))
+                .jaConstruiuNestaQueda(quedaConstruiu)
+                .acabouDeComprarNestaQueda(quedaComprou)
+                .salvamentoDisponivel(salvar)
+                .bancoSaldo(bancoSaldo)
+                .tamanhoBaralhoSR(srTamanho)
+                .ponteiroBaralhoSR(srPonteiro)
+                .cartasSRPorJogador(cartasSR)
+                .ultimaCartaNumero(opcional(srUltima))
+                .cartaBufferNumero(opcional(srBuffer))
+                .ordemBaralhoSR(inteiros(srOrdem, tamSrOrdem))
+                .rng(algoritmoRng, estadoRng)
+                .numCasasTabuleiro(casasTabuleiro)
+                .criar();
+        return new GamePersistenceService.LoadedGame(state, perfis);
+    }
+
+    private static List<Integer> inteiros(int[] valores, int n) {
+        List<Integer> r = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            r.add(valores[i]);
+        }
+        return r;
+    }
+
+    private static Integer opcional(int v) {
+        return v < 0 ? null : Integer.valueOf(v);
+    }
+}
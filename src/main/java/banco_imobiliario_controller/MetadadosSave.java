@@ -0,0 +1,238 @@
+package banco_imobiliario_controller;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Cabeçalho de tamanho fixo gravado logo após a versão nos arquivos .bim e, em Base64, na primeira
+ * linha dos salvamentos em texto (ver {@link #linhaTexto}). Guarda o suficiente
+ * para listar e pré-visualizar a partida (nomes, cores, saldos, vez, banco, data e uma miniatura
+ * do tabuleiro) e é lido com uma única leitura posicional, sem tocar no resto do arquivo.
+ *
+ * <pre>
+ *   0  u8   versão do cabeçalho
+ *   1  u8   jogadores
+ *   2  i8   jogador da vez (-1 se nenhum)
+ *   3  u8   casas do tabuleiro, até 64 (0 se desconhecido)
+ *   4  i32  saldo do banco
+ *   8  i64  salvo em (epoch ms)
+ *  16  6 x 24 bytes por jogador: nome UTF-8 (16), cor RGB (3), flags (1), saldo i32 (4)
+ * 160  64 bytes de miniatura, um por casa: dono+1 (bits 0-2), casas (bits 3-5), hotel (bit 6)
+ * 224  CRC32 dos 224 bytes anteriores
+ * </pre>
+ */
+public final class MetadadosSave {
+
+    static final int TAMANHO = 228;
+    static final int MAX_JOGADORES = 6;
+    static final int CASAS_MINIATURA = 64;
+    private static final int VERSAO = 1;
+    private static final int BYTES_NOME = 16;
+    private static final int BYTES_JOGADOR = 24;
+    private static final int OFF_JOGADORES = 16;
+    private static final int OFF_MINIATURA = OFF_JOGADORES + MAX_JOGADORES * BYTES_JOGADOR;
+    private static final int OFF_CRC = TAMANHO - 4;
+    private static final String MARCA_TEXTO = "#meta ";
+    static final int TAMANHO_TEXTO = MARCA_TEXTO.length() + (TAMANHO + 2) / 3 * 4;
+
+    private final String[] nomes;
+    private final Color[] cores;
+    private final int[] saldos;
+    private final boolean[] ativos;
+    private final int jogadorDaVez;
+    private final int bancoSaldo;
+    private final long salvoEm;
+    private final int casasTabuleiro;
+    private final byte[] miniatura;
+
+    private MetadadosSave(String[] nomes, Color[] cores, int[] saldos, boolean[] ativos,
+                          int jogadorDaVez, int bancoSaldo, long salvoEm, int casasTabuleiro, byte[] miniatura) {
+        this.nomes = nomes;
+        this.cores = cores;
+        this.saldos = saldos;
+        this.ativos = ativos;
+        this.jogadorDaVez = jogadorDaVez;
+        this.bancoSaldo = bancoSaldo;
+        this.salvoEm = salvoEm;
+        this.casasTabuleiro = casasTabuleiro;
+        this.miniatura = miniatura;
+    }
+
+    public int getNumJogadores() { return nomes.length; }
+    public String getNome(int i) { return nomes[i]; }
+    public Color getCor(int i) { return cores[i]; }
+    public int getSaldo(int i) { return saldos[i]; }
+    public boolean isAtivo(int i) { return ativos[i]; }
+    public int getJogadorDaVez() { return jogadorDaVez; }
+    public int getBancoSaldo() { return bancoSaldo; }
+    public long getSalvoEm() { return salvoEm; }
+    public int getCasasMiniatura() { return miniatura.length; }
+    /** Casas do tabuleiro salvo (no máximo 64), ou 0 em cabeçalhos que não registraram o tamanho. */
+    public int getCasasTabuleiro() { return casasTabuleiro; }
+
+    /** Dono da casa na miniatura, ou -1 se for do banco ou não for comprável. */
+    public int getDonoCasa(int pos) { return (miniatura[pos] & 0x07) - 1; }
+    public int getConstrucoesCasa(int pos) { return (miniatura[pos] >> 3) & 0x07; }
+    public boolean hasHotelCasa(int pos) { return (miniatura[pos] & 0x40) != 0; }
+
+    static byte[] codificar(GameModel.SaveState estado, List<PlayerProfile> perfis, long salvoEm) {
+        ByteBuffer b = ByteBuffer.allocate(TAMANHO);
+        List<GameModel.PlayerState> jogadores = estado.getJogadores();
+        int n = Math.min(jogadores.size(), MAX_JOGADORES);
+        b.put(0, (byte) VERSAO);
+        b.put(1, (byte) n);
+        List<Integer> ordem = estado.getOrdemTurno();
+        int idx = estado.getTurnoIndex();
+        Integer daVez = (idx >= 0 && idx < ordem.size()) ? ordem.get(idx) : null;
+        b.put(2, (byte) (daVez == null ? -1 : daVez));
+        b.put(3, (byte) Math.min(Math.max(estado.getNumCasasTabuleiro(), 0), CASAS_MINIATURA));
+        b.putInt(4, estado.getBancoSaldo());
+        b.putLong(8, salvoEm);
+
+        for (int i = 0; i < n; i++) {
+            GameModel.PlayerState ps = jogadores.get(i);
+            PlayerProfile perfil = perfilDe(perfis, ps.getId());
+            int base = OFF_JOGADORES + i * BYTES_JOGADOR;
+            byte[] nome = truncar(perfil == null ? "J" + (ps.getId() + 1) : perfil.getNome());
+            for (int k = 0; k < nome.length; k++) {
+                b.put(base + k, nome[k]);
+            }
+            int rgb = perfil == null ? 0 : perfil.getCor().getRGB();
+            b.put(base + BYTES_NOME, (byte) (rgb >> 16));
+            b.put(base + BYTES_NOME + 1, (byte) (rgb >> 8));
+            b.put(base + BYTES_NOME + 2, (byte) rgb);
+            b.put(base + BYTES_NOME + 3, (byte) ((ps.isAtivo() ? 1 : 0) | (ps.isNaPrisao() ? 2 : 0)));
+            b.putInt(base + BYTES_NOME + 4, ps.getSaldo());
+        }
+
+        for (GameModel.PropertyState prop : estado.getPropriedades()) {
+            int pos = prop.getPosicao();
+            int dono = prop.getDonoId();
+            if (pos < 0 || pos >= CASAS_MINIATURA || dono < 0 || dono >= MAX_JOGADORES) {
+                continue;
+            }
+            int casas = Math.min(prop.getNumCasas(), 7);
+            b.put(OFF_MINIATURA + pos, (byte) ((dono + 1) | (casas << 3) | (prop.hasHotel() ? 0x40 : 0)));
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(b.array(), 0, OFF_CRC);
+        b.putInt(OFF_CRC, (int) crc.getValue());
+        return b.array();
+    }
+
+    private static PlayerProfile perfilDe(List<PlayerProfile> perfis, int id) {
+        for (PlayerProfile p : perfis) {
+            if (p.getId() == id) {
+                return p;
+            }
+        }
+        return null;
+    }
+
+    /** Nome em UTF-8 cortado em até 16 bytes sem partir caracteres. */
+    private static byte[] truncar(String nome) {
+        String s = nome;
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        while (b.length > BYTES_NOME) {
+            s = s.substring(0, s.offsetByCodePoints(0, s.codePointCount(0, s.length()) - 1));
+            b = s.getBytes(StandardCharsets.UTF_8);
+        }
+        return b;
+    }
+
+    /**
+     * Primeira linha dos salvamentos em texto: o mesmo cabeçalho em Base64 num comentário, que os
+     * leitores do formato ignoram. Tem sempre {@link #TAMANHO_TEXTO} caracteres ASCII.
+     */
+    static String linhaTexto(GameModel.SaveState estado, List<PlayerProfile> perfis, long salvoEm) {
+        return MARCA_TEXTO + Base64.getEncoder().encodeToString(codificar(estado, perfis, salvoEm));
+    }
+
+    /**
+     * Lê só o cabeçalho do arquivo, com uma leitura posicional do início: logo após a versão nos .bim
+     * ou na primeira linha nos .txt. Devolve null se o arquivo não tiver cabeçalho (JSON, .bim da
+     * versão 1, texto gravado antes do cabeçalho ou editado sem ele) ou se ele estiver corrompido.
+     */
+    public static MetadadosSave ler(File arquivo) throws IOException {
+        final int prefixoBinario = SaveBinario.MAGIC.length + 1;
+        ByteBuffer b = ByteBuffer.allocate(Math.max(prefixoBinario + TAMANHO, TAMANHO_TEXTO));
+        try (FileChannel ch = FileChannel.open(arquivo.toPath(), StandardOpenOption.READ)) {
+            int n;
+            do {
+                n = ch.read(b, b.position());
+            } while (n >= 0 && b.hasRemaining());
+        }
+        final byte[] bytes = b.array();
+        final int lidos = b.position();
+        if (SaveBinario.reconhece(bytes)) {
+            int versao = bytes[SaveBinario.MAGIC.length];
+            if (lidos < prefixoBinario + TAMANHO || versao == SaveBinario.VERSAO_SEM_METADADOS
+                    || versao > SaveBinario.VERSAO) {
+                return null;
+            }
+            return decodificar(bytes, prefixoBinario);
+        }
+        if (lidos < TAMANHO_TEXTO || !comecaCom(bytes, MARCA_TEXTO)) {
+            return null;
+        }
+        final byte[] cabecalho;
+        try {
+            cabecalho = Base64.getDecoder().decode(new String(bytes, MARCA_TEXTO.length(),
+                    TAMANHO_TEXTO - MARCA_TEXTO.length(), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+        return decodificar(cabecalho, 0);
+    }
+
+    private static boolean comecaCom(byte[] bytes, String marca) {
+        for (int i = 0; i < marca.length(); i++) {
+            if (bytes[i] != marca.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static MetadadosSave decodificar(byte[] bytes, int inicio) {
+        ByteBuffer m = ByteBuffer.wrap(bytes, inicio, TAMANHO).slice();
+        CRC32 crc = new CRC32();
+        crc.update(bytes, inicio, OFF_CRC);
+        if (m.getInt(OFF_CRC) != (int) crc.getValue() || m.get(0) != VERSAO) {
+            return null;
+        }
+
+        int n = Math.min(m.get(1) & 0xFF, MAX_JOGADORES);
+        String[] nomes = new String[n];
+        Color[] cores = new Color[n];
+        int[] saldos = new int[n];
+        boolean[] ativos = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            int base = OFF_JOGADORES + i * BYTES_JOGADOR;
+            int len = 0;
+            while (len < BYTES_NOME && m.get(base + len) != 0) {
+                len++;
+            }
+            nomes[i] = new String(bytes, inicio + base, len, StandardCharsets.UTF_8);
+            cores[i] = new Color(m.get(base + BYTES_NOME) & 0xFF, m.get(base + BYTES_NOME + 1) & 0xFF,
+                    m.get(base + BYTES_NOME + 2) & 0xFF);
+            ativos[i] = (m.get(base + BYTES_NOME + 3) & 1) != 0;
+            saldos[i] = m.getInt(base + BYTES_NOME + 4);
+        }
+        byte[] miniatura = new byte[CASAS_MINIATURA];
+        System.arraycopy(bytes, inicio + OFF_MINIATURA, miniatura, 0, CASAS_MINIATURA);
+        return new MetadadosSave(nomes, cores, saldos, ativos, m.get(2), m.getInt(4), m.getLong(8),
+                m.get(3) & 0xFF, miniatura);
+    }
+}
@@ -0,0 +1,403 @@
+package banco_imobiliario_controller;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import banco_imobiliario_models.AlgoritmoAleatorio;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Formato binário de salvamento (.bim): magic "BIMS", versão, cabeçalho de metadados de tamanho fixo
+ * (a partir da versão 2; ver {@link MetadadosSave}), corpo em varints e CRC32 de tudo após a versão.
+ * A versão 3 acrescenta ao fim do corpo o número de casas do tabuleiro.
+ * Inteiros que podem ser negativos (saldos, opcionais) usam zigzag; opcionais ausentes viram -1.
+ */
+final class SaveBinario {
+
+    static final byte[] MAGIC = { 'B', 'I', 'M', 'S' };
+    static final int VERSAO = 3;
+    static final int VERSAO_SEM_CASAS = 2;
+    static final int VERSAO_SEM_METADADOS = 1;
+
+    private SaveBinario() {
+    }
+
+    static boolean reconhece(byte[] bytes) {
+        if (bytes.length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (bytes[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static byte[] codificar(GameModel.SaveState estado, List<PlayerProfile> perfis) {
+        Escritor e = new Escritor(256);
+        e.bytes(MAGIC);
+        e.varint(VERSAO);
+        final int inicioCorpo = e.tamanho;
+        e.bytes(MetadadosSave.codificar(estado, perfis, System.currentTimeMillis()));
+
+        e.varint(perfis.size());
+        for (PlayerProfile p : perfis) {
+            e.varint(p.getId());
+            e.texto(p.getNome());
+            e.varint(p.getCor().getRGB() & 0xFFFFFF);
+            e.zigzag(p.getPawnIndex());
+        }
+
+        e.varint(estado.getJogadores().size());
+        for (GameModel.PlayerState ps : estado.getJogadores()) {
+            e.varint(ps.getId());
+            e.zigzag(ps.getSaldo());
+            e.varint(ps.getPosicao());
+            e.flags(ps.isAtivo(), ps.isNaPrisao(), ps.hasCartaSaidaLivre());
+        }
+
+        e.lista(estado.getOrdemTurno());
+        e.varint(estado.getTurnoIndex());
+        e.varint(estado.getTurnoDuplasConsecutivas());
+        e.zigzag(estado.getTurnoUltimoD1());
+        e.zigzag(estado.getTurnoUltimoD2());
+        e.opcional(estado.getUltimoD1());
+        e.opcional(estado.getUltimoD2());
+        e.flags(estado.isJaLancouNesteTurno(), estado.isDeveIrParaPrisaoPorTerceiraDupla(),
+                estado.isSalvamentoDisponivel(), estado.isJaConstruiuNestaQueda(), estado.isAcabouDeComprarNestaQueda());
+        e.opcional(estado.getPosicaoDaQuedaAtual());
+        e.zigzag(estado.getBancoSaldo());
+
+        e.varint(estado.getTamanhoBaralhoSR());
+        e.varint(estado.getPonteiroBaralhoSR());
+        e.opcional(estado.getUltimaCartaNumero());
+        e.opcional(estado.getCartaBufferNumero());
+        e.lista(estado.getOrdemBaralhoSR());
+
+        List<Map.Entry<Integer, Set<Integer>>> cartas = new ArrayList<>(estado.getCartasSRPorJogador().entrySet());
+        cartas.sort(Map.Entry.comparingByKey());
+        e.varint(cartas.size());
+        for (Map.Entry<Integer, Set<Integer>> entry : cartas) {
+            e.varint(entry.getKey());
+            List<Integer> ordenadas = new ArrayList<>(entry.getValue());
+            ordenadas.sort(null);
+            e.lista(ordenadas);
+        }
+
+        List<GameModel.PropertyState> props = new ArrayList<>(estado.getPropriedades());
+        props.sort(Comparator.comparingInt(GameModel.PropertyState::getPosicao));
+        e.varint(props.size());
+        for (GameModel.PropertyState prop : props) {
+            e.varint(prop.getPosicao());
+            e.zigzag(prop.getDonoId());
+            e.varint((prop.getNumCasas() << 1) | (prop.hasHotel() ? 1 : 0));
+        }
+
+        AlgoritmoAleatorio alg = estado.getAlgoritmoRng();
+        e.varint(alg == null ? 0 : alg.ordinal() + 1);
+        if (alg != null) {
+            for (long v : estado.getEstadoRng()) {
+                e.longFixo(v);
+            }
+        }
+        e.varint(Math.max(estado.getNumCasasTabuleiro(), 0));
+
+        CRC32 crc = new CRC32();
+        crc.update(e.dados, inicioCorpo, e.tamanho - inicioCorpo);
+        e.intFixo((int) crc.getValue());
+        return Arrays.copyOf(e.dados, e.tamanho);
+    }
+
+    static GamePersistenceService.LoadedGame decodificar(byte[] bytes) throws IOException {
+        if (!reconhece(bytes)) {
+            throw new IOException("Arquivo não está no formato binário de salvamento.");
+        }
+        if (bytes.length < MAGIC.length + 5) {
+            throw new IOException("Arquivo de salvamento truncado.");
+        }
+        Leitor l = new Leitor(bytes, MAGIC.length, bytes.length - 4);
+        int versao = l.varint();
+        if (versao != VERSAO && versao != VERSAO_SEM_CASAS && versao != VERSAO_SEM_METADADOS) {
+            throw new IOException("Versão de salvamento não suportada: " + versao);
+        }
+        final int inicioCorpo = l.pos;
+        CRC32 crc = new CRC32();
+        crc.update(bytes, inicioCorpo, l.fim - inicioCorpo);
+        int esperado = ((bytes[l.fim] & 0xFF) << 24) | ((bytes[l.fim + 1] & 0xFF) << 16)
+                     | ((bytes[l.fim + 2] & 0xFF) << 8) | (bytes[l.fim + 3] & 0xFF);
+        if ((int) crc.getValue() != esperado) {
+            throw new IOException("Arquivo de salvamento corrompido (CRC inválido).");
+        }
+        if (versao != VERSAO_SEM_METADADOS) {
+            l.pular(MetadadosSave.TAMANHO);
+        }
+
+        int totalPerfis = l.varint();
+        List<PlayerProfile> perfis = new ArrayList<>(totalPerfis);
+        for (int i = 0; i < totalPerfis; i++) {
+            int id = l.varint();
+            String nome = l.texto();
+            Color cor = new Color(l.varint());
+            int pawn = l.zigzag();
+            perfis.add(new PlayerProfile(id, nome, cor, pawn));
+        }
+        perfis.sort(Comparator.comparingInt(PlayerProfile::getId));
+
+        int totalJogadores = l.varint();
+        if (totalJogadores != totalPerfis) {
+            throw new IOException("Arquivo inconsistente: número de perfis difere da quantidade de jogadores.");
+        }
+        List<GameModel.PlayerState> jogadores = new ArrayList<>(totalJogadores);
+        for (int i = 0; i < totalJogadores; i++) {
+            int id = l.varint();
+            int saldo = l.zigzag();
+            int pos = l.varint();
+            int f = l.varint();
+            jogadores.add(new GameModel.PlayerState(id, saldo, pos, (f & 1) != 0, (f & 2) != 0, (f & 4) != 0));
+        }
+
+        List<Integer> ordem = l.lista();
+        if (ordem.isEmpty()) {
+            throw new IOException("Lista de inteiros vazia.");
+        }
+        int turnoIndex = l.varint();
+        int turnoDuplas = l.varint();
+        int turnoUltimoD1 = l.zigzag();
+        int turnoUltimoD2 = l.zigzag();
+        Integer ultimoD1 = l.opcional();
+        Integer ultimoD2 = l.opcional();
+        int f = l.varint();
+        Integer quedaPos = l.opcional();
+        int bancoSaldo = l.zigzag();
+
+        int tamanhoBaralho = l.varint();
+        int ponteiroBaralho = l.varint();
+        Integer ultimaCarta = l.opcional();
+        Integer bufferCarta = l.opcional();
+        List<Integer> ordemBaralho = l.lista();
+
+        int totalCartas = l.varint();
+        Map<Integer, Set<Integer>> cartasSR = new HashMap<>();
+        for (int i = 0; i < totalCartas; i++) {
+            int id = l.varint();
+            cartasSR.put(id, new HashSet<>(l.lista()));
+        }
+
+        int totalProps = l.varint();
+        List<GameModel.PropertyState> propriedades = new ArrayList<>(totalProps);
+        for (int i = 0; i < totalProps; i++) {
+            int pos = l.varint();
+            int dono = l.zigzag();
+            int casas = l.varint();
+            propriedades.add(new GameModel.PropertyState(pos, dono, casas >>> 1, (casas & 1) != 0));
+        }
+
+        AlgoritmoAleatorio algoritmoRng = null;
+        long[] estadoRng = null;
+        int alg = l.varint();
+        if (alg != 0) {
+            AlgoritmoAleatorio[] valores = AlgoritmoAleatorio.values();
+            if (alg > valores.length) {
+                throw new IOException("Algoritmo de gerador desconhecido: " + alg);
+            }
+            algoritmoRng = valores[alg - 1];
+            estadoRng = new long[algoritmoRng.getTamanhoEstado()];
+            for (int i = 0; i < estadoRng.length; i++) {
+                estadoRng[i] = l.longFixo();
+            }
+        }
+        int casasTabuleiro = versao == VERSAO ? l.varint() : 0;
+        if (l.pos != l.fim) {
+            throw new IOException("Arquivo de salvamento com bytes sobrando.");
+        }
+
+        GameModel.SaveState state = new GameModel.SaveState.Builder()
+                .jogadores(jogadores)
+                .propriedades(propriedades)
+                .ordemTurno(ordem)
+                .turnoIndex(turnoIndex)
+                .turnoDuplasConsecutivas(turnoDuplas)
+                .turnoUltimosDados(turnoUltimoD1, turnoUltimoD2)
+                .ultimosDados(ultimoD1, ultimoD2)
+                .jaLancouNesteTurno((f & 1) != 0)
+                .deveIrParaPrisaoPorTerceiraDupla((f & 2) != 0)
+                .posicaoDaQuedaAtual(quedaPos)
+                .jaConstruiuNestaQueda((f & 8) != 0)
+                .acabouDeComprarNestaQueda((f & 16) != 0)
+                .salvamentoDisponivel((f & 4) != 0)
+                .bancoSaldo(bancoSaldo)
+                .tamanhoBaralhoSR(tamanhoBaralho)
+                .ponteiroBaralhoSR(ponteiroBaralho)
+                .cartasSRPorJogador(cartasSR)
+                .ultimaCartaNumero(ultimaCarta)
+                .cartaBufferNumero(bufferCarta)
+                .ordemBaralhoSR(ordemBaralho)
+                .rng(algoritmoRng, estadoRng)
+                .numCasasTabuleiro(casasTabuleiro)
+                .criar();
+        return new GamePersistenceService.LoadedGame(state, perfis);
+    }
+
+    private static final class Escritor {
+        byte[] dados;
+        int tamanho;
+
+        Escritor(int capacidade) {
+            this.dados = new byte[capacidade];
+        }
+
+        private void garantir(int extra) {
+            if (tamanho + extra > dados.length) {
+                dados = Arrays.copyOf(dados, Math.max(dados.length * 2, tamanho + extra));
+            }
+        }
+
+        void bytes(byte[] b) {
+            garantir(b.length);
+            System.arraycopy(b, 0, dados, tamanho, b.length);
+            tamanho += b.length;
+        }
+
+        void varint(int v) {
+            garantir(5);
+            while ((v & ~0x7F) != 0) {
+                dados[tamanho++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            dados[tamanho++] = (byte) v;
+        }
+
+        void zigzag(int v) {
+            varint((v << 1) ^ (v >> 31));
+        }
+
+        void opcional(Integer v) {
+            zigzag(v == null ? -1 : v);
+        }
+
+        void flags(boolean... bits) {
+            int f = 0;
+            for (int i = 0; i < bits.length; i++) {
+                if (bits[i]) {
+                    f |= 1 << i;
+                }
+            }
+            varint(f);
+        }
+
+        void lista(List<Integer> valores) {
+            varint(valores.size());
+            for (Integer v : valores) {
+                zigzag(v);
+            }
+        }
+
+        void texto(String s) {
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            varint(b.length);
+            bytes(b);
+        }
+
+        void intFixo(int v) {
+            garantir(4);
+            dados[tamanho++] = (byte) (v >>> 24);
+            dados[tamanho++] = (byte) (v >>> 16);
+            dados[tamanho++] = (byte) (v >>> 8);
+            dados[tamanho++] = (byte) v;
+        }
+
+        void longFixo(long v) {
+            intFixo((int) (v >>> 32));
+            intFixo((int) v);
+        }
+    }
+
+    private static final class Leitor {
+        private final byte[] dados;
+        private final int fim;
+        private int pos;
+
+        Leitor(byte[] dados, int inicio, int fim) {
+            this.dados = dados;
+            this.pos = inicio;
+            this.fim = fim;
+        }
+
+        void pular(int n) throws IOException {
+            if (n > fim - pos) {
+                throw new IOException("Arquivo de salvamento truncado.");
+            }
+            pos += n;
+        }
+
+        private int byte1() throws IOException {
+            if (pos >= fim) {
+                throw new IOException("Arquivo de salvamento truncado.");
+            }
+            return dados[pos++] & 0xFF;
+        }
+
+        int varint() throws IOException {
+            int v = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = byte1();
+                v |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return v;
+                }
+            }
+            throw new IOException("Número inválido na posição " + pos);
+        }
+
+        int zigzag() throws IOException {
+            int v = varint();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        Integer opcional() throws IOException {
+            int v = zigzag();
+            return v < 0 ? null : Integer.valueOf(v);
+        }
+
+        List<Integer> lista() throws IOException {
+            int n = varint();
+            if (n < 0 || n > fim - pos) {
+                throw new IOException("Lista com tamanho inválido: " + n);
+            }
+            List<Integer> valores = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                valores.add(zigzag());
+            }
+            return valores;
+        }
+
+        String texto() throws IOException {
+            int n = varint();
+            if (n < 0 || n > fim - pos) {
+                throw new IOException("Texto com tamanho inválido: " + n);
+            }
+            String s = new String(dados, pos, n, StandardCharsets.UTF_8);
+            pos += n;
+            return s;
+        }
+
+        long longFixo() throws IOException {
+            long v = 0;
+            for (int i = 0; i < 8; i++) {
+                v = (v << 8) | byte1();
+            }
+            return v;
+        }
+    }
+}
@@ -0,0 +1,457 @@
+package banco_imobiliario_controller;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import banco_imobiliario_models.AlgoritmoAleatorio;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Formato JSON de salvamento, escrito e lido só com a API de streaming do Jackson: nenhum
+ * documento inteiro vira árvore na memória, então arquivos com muitos salvamentos em sequência
+ * (um objeto por linha) são processados um de cada vez.
+ */
+final class SaveJson {
+
+    static final JsonFactory FABRICA = new JsonFactory();
+    static final String FORMATO = "banco-imobiliario-save";
+    static final int VERSAO = 1;
+
+    private SaveJson() {
+    }
+
+    static void escrever(JsonGenerator g, GameModel.SaveState estado, List<PlayerProfile> perfis,
+                         String origem) throws IOException {
+        g.writeStartObject();
+        g.writeStringField("formato", FORMATO);
+        g.writeNumberField("versao", VERSAO);
+        if (origem != null) {
+            g.writeStringField("origem", origem);
+        }
+
+        g.writeArrayFieldStart("perfis");
+        for (PlayerProfile p : perfis) {
+            g.writeStartObject();
+            g.writeNumberField("id", p.getId());
+            g.writeStringField("nome", p.getNome());
+            g.writeStringField("cor", p.getCorHex());
+            g.writeNumberField("peao", p.getPawnIndex());
+            g.writeEndObject();
+        }
+        g.writeEndArray();
+
+        g.writeArrayFieldStart("jogadores");
+        for (GameModel.PlayerState ps : estado.getJogadores()) {
+            g.writeStartObject();
+            g.writeNumberField("id", ps.getId());
+            g.writeNumberField("saldo", ps.getSaldo());
+            g.writeNumberField("posicao", ps.getPosicao());
+            g.writeBooleanField("ativo", ps.isAtivo());
+            g.writeBooleanField("naPrisao", ps.isNaPrisao());
+            g.writeBooleanField("cartaSaidaLivre", ps.hasCartaSaidaLivre());
+            g.writeEndObject();
+        }
+        g.writeEndArray();
+
+        g.writeObjectFieldStart("turno");
+        escreverLista(g, "ordem", estado.getOrdemTurno());
+        g.writeNumberField("indice", estado.getTurnoIndex());
+        g.writeNumberField("duplas", estado.getTurnoDuplasConsecutivas());
+        g.writeNumberField("ultimoD1", estado.getTurnoUltimoD1());
+        g.writeNumberField("ultimoD2", estado.getTurnoUltimoD2());
+        g.writeEndObject();
+
+        escreverOpcional(g, "ultimoD1", estado.getUltimoD1());
+        escreverOpcional(g, "ultimoD2", estado.getUltimoD2());
+        g.writeBooleanField("jaLancou", estado.isJaLancouNesteTurno());
+        g.writeBooleanField("devePrisao", estado.isDeveIrParaPrisaoPorTerceiraDupla());
+        g.writeBooleanField("salvamentoDisponivel", estado.isSalvamentoDisponivel());
+        escreverOpcional(g, "quedaPosicao", estado.getPosicaoDaQuedaAtual());
+        g.writeBooleanField("quedaConstruiu", estado.isJaConstruiuNestaQueda());
+        g.writeBooleanField("quedaComprou", estado.isAcabouDeComprarNestaQueda());
+        g.writeNumberField("bancoSaldo", estado.getBancoSaldo());
+        if (estado.getNumCasasTabuleiro() > 0) {
+            g.writeNumberField("casasTabuleiro", estado.getNumCasasTabuleiro());
+        }
+
+        g.writeObjectFieldStart("sorteReves");
+        g.writeNumberField("tamanho", estado.getTamanhoBaralhoSR());
+        g.writeNumberField("ponteiro", estado.getPonteiroBaralhoSR());
+        escreverOpcional(g, "ultima", estado.getUltimaCartaNumero());
+        escreverOpcional(g, "buffer", estado.getCartaBufferNumero());
+        escreverLista(g, "ordem", estado.getOrdemBaralhoSR());
+        g.writeObjectFieldStart("cartas");
+        List<Map.Entry<Integer, Set<Integer>>> cartas = new ArrayList<>(estado.getCartasSRPorJogador().entrySet());
+        cartas.sort(Map.Entry.comparingByKey());
+        for (Map.Entry<Integer, Set<Integer>> entry : cartas) {
+            List<Integer> ordenadas = new ArrayList<>(entry.getValue());
+            ordenadas.sort(null);
+            escreverLista(g, String.valueOf(entry.getKey()), ordenadas);
+        }
+        g.writeEndObject();
+        g.writeEndObject();
+
+        g.writeArrayFieldStart("propriedades");
+        List<GameModel.PropertyState> props = new ArrayList<>(estado.getPropriedades());
+        props.sort(Comparator.comparingInt(GameModel.PropertyState::getPosicao));
+        for (GameModel.PropertyState prop : props) {
+            g.writeStartObject();
+            g.writeNumberField("posicao", prop.getPosicao());
+            g.writeNumberField("dono", prop.getDonoId());
+            g.writeNumberField("casas", prop.getNumCasas());
+            g.writeBooleanField("hotel", prop.hasHotel());
+            g.writeEndObject();
+        }
+        g.writeEndArray();
+
+        if (estado.getAlgoritmoRng() != null) {
+            g.writeObjectFieldStart("rng");
+            g.writeStringField("algoritmo", estado.getAlgoritmoRng().name());
+            g.writeArrayFieldStart("estado");
+            for (long v : estado.getEstadoRng()) {
+                g.writeNumber(v);
+            }
+            g.writeEndArray();
+            g.writeEndObject();
+        }
+        g.writeEndObject();
+    }
+
+    private static void escreverLista(JsonGenerator g, String campo, List<Integer> valores) throws IOException {
+        g.writeArrayFieldStart(campo);
+        for (Integer v : valores) {
+            g.writeNumber(v);
+        }
+        g.writeEndArray();
+    }
+
+    private static void escreverOpcional(JsonGenerator g, String campo, Integer valor) throws IOException {
+        if (valor == null) {
+            g.writeNullField(campo);
+        } else {
+            g.writeNumberField(campo, valor);
+        }
+    }
+
+    /** Documento lido: o jogo e, quando veio de uma conversão em lote, o nome do arquivo original. */
+    static final class Documento {
+        final GamePersistenceService.LoadedGame jogo;
+        final String origem;
+
+        Documento(GamePersistenceService.LoadedGame jogo, String origem) {
+            this.jogo = jogo;
+            this.origem = origem;
+        }
+    }
+
+    /**
+     * Lê o próximo documento do parser, ou devolve null no fim da entrada. Campos desconhecidos
+     * são pulados sem materializar o conteúdo.
+     */
+    static Documento ler(JsonParser p) throws IOException {
+        JsonToken t = p.nextToken();
+        if (t == null) {
+            return null;
+        }
+        exigir(p, t, JsonToken.START_OBJECT);
+
+        Leitura r = new Leitura();
+        while ((t = p.nextToken()) == JsonToken.FIELD_NAME) {
+            String campo = p.currentName();
+            p.nextToken();
+            switch (campo) {
+                case "formato":
+                    if (!FORMATO.equals(p.getText())) {
+                        throw new IOException("Documento JSON não é um salvamento: " + p.getText());
+                    }
+                    r.formato = true;
+                    break;
+                case "versao":
+                    if (p.getIntValue() != VERSAO) {
+                        throw new IOException("Versão de salvamento não suportada: " + p.getIntValue());
+                    }
+                    break;
+                case "origem": r.origem = p.getText(); break;
+                case "perfis": lerPerfis(p, r.perfis); break;
+                case "jogadores": lerJogadores(p, r.jogadores); break;
+                case "turno": lerTurno(p, r); break;
+                case "ultimoD1": r.ultimoD1 = opcional(p); break;
+                case "ultimoD2": r.ultimoD2 = opcional(p); break;
+                case "jaLancou": r.jaLancou = p.getBooleanValue(); break;
+                case "devePrisao": r.devePrisao = p.getBooleanValue(); break;
+                case "salvamentoDisponivel": r.salvarHabilitado = p.getBooleanValue(); break;
+                case "quedaPosicao": r.quedaPos = opcional(p); break;
+                case "quedaConstruiu": r.quedaConstruiu = p.getBooleanValue(); break;
+                case "quedaComprou": r.quedaComprou = p.getBooleanValue(); break;
+                case "bancoSaldo": r.bancoSaldo = p.getIntValue(); r.temBanco = true; break;
+                case "casasTabuleiro": r.casasTabuleiro = p.getIntValue(); break;
+                case "sorteReves": lerSorteReves(p, r); break;
+                case "propriedades": lerPropriedades(p, r.propriedades); break;
+                case "rng": lerRng(p, r); break;
+                default: p.skipChildren(); break;
+            }
+        }
+        exigir(p, t, JsonToken.END_OBJECT);
+
+        if (!r.formato) {
+            throw new IOException("Campo ausente no arquivo: formato");
+        }
+        if (r.ordem.isEmpty()) {
+            throw new IOException("Campo ausente no arquivo: turno.ordem");
+        }
+        if (!r.temBanco) {
+            throw new IOException("Campo ausente no arquivo: bancoSaldo");
+        }
+        if (r.perfis.size() != r.jogadores.size()) {
+            throw new IOException("Arquivo inconsistente: número de perfis difere da quantidade de jogadores.");
+        }
+        r.perfis.sort(Comparator.comparingInt(PlayerProfile::getId));
+
+        GameModel.SaveState state = new GameModel.SaveState.Builder()
+                .jogadores(r.jogadores)
+                .propriedades(r.propriedades)
+                .ordemTurno(r.ordem)
+                .turnoIndex(r.turnoIndex)
+                .turnoDuplasConsecutivas(r.turnoDuplas)
+                .turnoUltimosDados(r.turnoUltimoD1, r.turnoUltimoD2)
+                .ultimosDados(r.ultimoD1, r.ultimoD2)
+                .jaLancouNesteTurno(r.jaLancou)
+                .deveIrParaPrisaoPorTerceiraDupla(r.devePrisao)
+                .posicaoDaQuedaAtual(r.quedaPos)
+                .jaConstruiuNestaQueda(r.quedaConstruiu)
+                .acabouDeComprarNestaQueda(r.quedaComprou)
+                .salvamentoDisponivel(r.salvarHabilitado)
+                .bancoSaldo(r.bancoSaldo)
+                .tamanhoBaralhoSR(r.tamanhoBaralho)
+                .ponteiroBaralhoSR(r.ponteiroBaralho)
+                .cartasSRPorJogador(r.cartasSR)
+                .ultimaCartaNumero(r.ultimaCarta)
+                .cartaBufferNumero(r.bufferCarta)
+                .ordemBaralhoSR(r.ordemBaralho)
+                .rng(r.algoritmoRng, r.estadoRng)
+                .numCasasTabuleiro(r.casasTabuleiro)
+                .criar();
+        return new Documento(new GamePersistenceService.LoadedGame(state, r.perfis), r.origem);
+    }
+
+    /** Campos acumulados enquanto o documento é percorrido. */
+    private static final class Leitura {
+        boolean formato;
+        String origem;
+        final List<PlayerProfile> perfis = new ArrayList<>();
+        final List<GameModel.PlayerState> jogadores = new ArrayList<>();
+        final List<GameModel.PropertyState> propriedades = new ArrayList<>();
+        List<Integer> ordem = new ArrayList<>();
+        int turnoIndex;
+        int turnoDuplas;
+        int turnoUltimoD1;
+        int turnoUltimoD2;
+        Integer ultimoD1;
+        Integer ultimoD2;
+        boolean jaLancou;
+        boolean devePrisao;
+        boolean salvarHabilitado;
+        Integer quedaPos;
+        boolean quedaConstruiu;
+        boolean quedaComprou;
+        int bancoSaldo;
+        boolean temBanco;
+        int casasTabuleiro;
+        int tamanhoBaralho;
+        int ponteiroBaralho;
+        Integer ultimaCarta;
+        Integer bufferCarta;
+        List<Integer> ordemBaralho = new ArrayList<>();
+        final Map<Integer, Set<Integer>> cartasSR = new HashMap<>();
+        AlgoritmoAleatorio algoritmoRng;
+        long[] estadoRng;
+    }
+
+    private static void lerPerfis(JsonParser p, List<PlayerProfile> destino) throws IOException {
+        exigir(p, p.currentToken(), JsonToken.START_ARRAY);
+        while (p.nextToken() == JsonToken.START_OBJECT) {
+            int id = -1;
+            String nome = "";
+            String cor = "#000000";
+            int peao = -1;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String campo = p.currentName();
+                p.nextToken();
+                switch (campo) {
+                    case "id": id = p.getIntValue(); break;
+                    case "nome": nome = p.getText(); break;
+                    case "cor": cor = p.getText(); break;
+                    case "peao": peao = p.getIntValue(); break;
+                    default: p.skipChildren(); break;
+                }
+            }
+            try {
+                destino.add(new PlayerProfile(id, nome, Color.decode(cor), peao));
+            } catch (NumberFormatException ex) {
+                throw new IOException("Cor inválida para o perfil " + id + ": " + cor, ex);
+            }
+        }
+        exigir(p, p.currentToken(), JsonToken.END_ARRAY);
+    }
+
+    private static void lerJogadores(JsonParser p, List<GameModel.PlayerState> destino) throws IOException {
+        exigir(p, p.currentToken(), JsonToken.START_ARRAY);
+        while (p.nextToken() == JsonToken.START_OBJECT) {
+            int id = -1, saldo = 0, posicao = 0;
+            boolean ativo = false, prisao = false, carta = false;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String campo = p.currentName();
+                p.nextToken();
+                switch (campo) {
+                    case "id": id = p.getIntValue(); break;
+                    case "saldo": saldo = p.getIntValue(); break;
+                    case "posicao": posicao = p.getIntValue(); break;
+                    case "ativo": ativo = p.getBooleanValue(); break;
+                    case "naPrisao": prisao = p.getBooleanValue(); break;
+                    case "cartaSaidaLivre": carta = p.getBooleanValue(); break;
+                    default: p.skipChildren(); break;
+                }
+            }
+            destino.add(new GameModel.PlayerState(id, saldo, posicao, ativo, prisao, carta));
+        }
+        exigir(p, p.currentToken(), JsonToken.END_ARRAY);
+    }
+
+    private static void lerTurno(JsonParser p, Leitura r) throws IOException {
+        exigir(p, p.currentToken(), JsonToken.START_OBJECT);
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = p.currentName();
+            p.nextToken();
+            switch (campo) {
+                case "ordem": r.ordem = lerLista(p); break;
+                case "indice": r.turnoIndex = p.getIntValue(); break;
+                case "duplas": r.turnoDuplas = p.getIntValue(); break;
+                case "ultimoD1": r.turnoUltimoD1 = p.getIntValue(); break;
+                case "ultimoD2": r.turnoUltimoD2 = p.getIntValue(); break;
+                default: p.skipChildren(); break;
+            }
+        }
+        exigir(p, p.currentToken(), JsonToken.END_OBJECT);
+    }
+
+    private static void lerSorteReves(JsonParser p, Leitura r) throws IOException {
+        exigir(p, p.currentToken(), JsonToken.START_OBJECT);
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = p.currentName();
+            p.nextToken();
+            switch (campo) {
+                case "tamanho": r.tamanhoBaralho = p.getIntValue(); break;
+                case "ponteiro": r.ponteiroBaralho = p.getIntValue(); break;
+                case "ultima": r.ultimaCarta = opcional(p); break;
+                case "buffer": r.bufferCarta = opcional(p); break;
+                case "ordem": r.ordemBaralho = lerLista(p); break;
+                case "cartas":
+                    exigir(p, p.currentToken(), JsonToken.START_OBJECT);
+                    while (p.nextToken() == JsonToken.FIELD_NAME) {
+                        int id;
+                        try {
+                            id = Integer.parseInt(p.currentName());
+                        } catch (NumberFormatException ex) {
+                            throw new IOException("Jogador inválido nas cartas: " + p.currentName(), ex);
+                        }
+                        p.nextToken();
+                        r.cartasSR.put(id, new HashSet<>(lerLista(p)));
+                    }
+                    exigir(p, p.currentToken(), JsonToken.END_OBJECT);
+                    break;
+                default: p.skipChildren(); break;
+            }
+        }
+        exigir(p, p.currentToken(), JsonToken.END_OBJECT);
+    }
+
+    private static void lerPropriedades(JsonParser p, List<GameModel.PropertyState> destino) throws IOException {
+        exigir(p, p.currentToken(), JsonToken.START_ARRAY);
+        while (p.nextToken() == JsonToken.START_OBJECT) {
+            int posicao = -1, dono = -1, casas = 0;
+            boolean hotel = false;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String campo = p.currentName();
+                p.nextToken();
+                switch (campo) {
+                    case "posicao": posicao = p.getIntValue(); break;
+                    case "dono": dono = p.getIntValue(); break;
+                    case "casas": casas = p.getIntValue(); break;
+                    case "hotel": hotel = p.getBooleanValue(); break;
+                    default: p.skipChildren(); break;
+                }
+            }
+            destino.add(new GameModel.PropertyState(posicao, dono, casas, hotel));
+        }
+        exigir(p, p.currentToken(), JsonToken.END_ARRAY);
+    }
+
+    private static void lerRng(JsonParser p, Leitura r) throws IOException {
+        exigir(p, p.currentToken(), JsonToken.START_OBJECT);
+        String nome = null;
+        List<Long> estado = new ArrayList<>();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = p.currentName();
+            p.nextToken();
+            switch (campo) {
+                case "algoritmo": nome = p.getText(); break;
+                case "estado":
+                    exigir(p, p.currentToken(), JsonToken.START_ARRAY);
+                    while (p.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                        estado.add(p.getLongValue());
+                    }
+                    exigir(p, p.currentToken(), JsonToken.END_ARRAY);
+                    break;
+                default: p.skipChildren(); break;
+            }
+        }
+        exigir(p, p.currentToken(), JsonToken.END_OBJECT);
+        if (nome == null) {
+            throw new IOException("Campo ausente no arquivo: rng.algoritmo");
+        }
+        r.algoritmoRng = AlgoritmoAleatorio.porNome(nome);
+        if (r.algoritmoRng == null) {
+            throw new IOException("Algoritmo de gerador desconhecido: " + nome);
+        }
+        if (estado.size() != r.algoritmoRng.getTamanhoEstado()) {
+            throw new IOException("Estado do gerador inválido para " + r.algoritmoRng);
+        }
+        r.estadoRng = new long[estado.size()];
+        for (int i = 0; i < r.estadoRng.length; i++) {
+            r.estadoRng[i] = estado.get(i);
+        }
+    }
+
+    private static List<Integer> lerLista(JsonParser p) throws IOException {
+        exigir(p, p.currentToken(), JsonToken.START_ARRAY);
+        List<Integer> valores = new ArrayList<>();
+        while (p.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+            valores.add(p.getIntValue());
+        }
+        exigir(p, p.currentToken(), JsonToken.END_ARRAY);
+        return valores;
+    }
+
+    private static Integer opcional(JsonParser p) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : Integer.valueOf(p.getIntValue());
+    }
+
+    private static void exigir(JsonParser p, JsonToken atual, JsonToken esperado) throws IOException {
+        if (atual != esperado) {
+            throw new IOException("JSON inválido em " + p.currentLocation() + ": esperado " + esperado
+                    + ", encontrado " + atual);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package banco_imobiliario_models;
+
+public enum AlgoritmoAleatorio {
+    /** Mesma sequência de java.util.Random; padrão, mantém partidas salvas com seed reproduzíveis. */
+    LCG_JAVA_UTIL(1),
+    SPLITMIX64(2),
+    XOROSHIRO128PP(2),
+    /** Baseado em contador: os dados do turno N não dependem dos turnos anteriores. */
+    PHILOX4X32(4);
+
+    private final int tamanhoEstado;
+
+    AlgoritmoAleatorio(int tamanhoEstado) {
+        this.tamanhoEstado = tamanhoEstado;
+    }
+
+    public int getTamanhoEstado() { return tamanhoEstado; }
+
+    public FonteAleatoria criar(long seed) {
+        switch (this) {
+            case SPLITMIX64:
+                return new FonteSplitMix64(seed);
+            case XOROSHIRO128PP:
+                return new FonteXoroshiro128PlusPlus(seed);
+            case PHILOX4X32:
+                return new FontePhilox4x32(seed);
+            case LCG_JAVA_UTIL:
+            default:
+                return new FonteLcg(seed);
+        }
+    }
+
+    public FonteAleatoria restaurar(long[] estado) {
+        FonteAleatoria f = criar(0L);
+        f.importarEstado(estado);
+        return f;
+    }
+
+    /** Aceita o nome do enum; retorna null se ausente ou desconhecido. */
+    public static AlgoritmoAleatorio porNome(String nome) {
+        if (nome == null) {
+            return null;
+        }
+        for (AlgoritmoAleatorio a : values()) {
+            if (a.name().equalsIgnoreCase(nome.trim())) {
+                return a;
+            }
+        }
+        return null;
+    }
+}
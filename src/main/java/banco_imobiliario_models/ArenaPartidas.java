@@ -0,0 +1,222 @@
+package banco_imobiliario_models;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.BitSet;
+
+/**
+ * Área fora do heap para estacionar muitas partidas: cada uma vira um registro de tamanho fixo
+ * ({@link RegistroPartida}) num {@code ByteBuffer} direto ou num arquivo mapeado em memória. Uma
+ * partida estacionada não ocupa objetos no heap; o heap só guarda o mapa de registros ocupados,
+ * criado uma vez com a capacidade da arena.
+ *
+ * <p>{@link #estacionar(GameModel)} grava a partida num registro livre e devolve o número dele;
+ * {@link #retomar(int, GameModel)} carrega o registro num {@code GameModel} já existente (que pode
+ * ser reaproveitado para várias partidas). O tabuleiro não é gravado: quem retoma precisa estar
+ * com um tabuleiro do mesmo tamanho (sem tabuleiro, assume o oficial, como no importarEstado).
+ *
+ * <p>No arquivo, o cabeçalho guarda magic "BIMA", versão, casas, tamanho do registro e capacidade;
+ * reabrir o mesmo arquivo devolve as partidas estacionadas antes. Toda gravação de registro
+ * ({@link #estacionar} e {@link #atualizar}) zera o byte "ocupado" antes de mexer no resto e só o
+ * marca de novo no fim. Se o processo cair no meio, o registro reabre livre: a partida que estava
+ * sendo gravada se perde (numa atualização, inclusive a versão anterior), mas nunca volta rasgada.
+ * Contra queda de energia valem só as gravações já levadas ao disco por {@link #sincronizar()}.
+ *
+ * <p>Alocar e liberar registros é sincronizado; registros diferentes podem ser gravados e lidos
+ * por threads diferentes ao mesmo tempo.
+ */
+public final class ArenaPartidas implements Closeable {
+
+    static final byte[] MAGIC = { 'B', 'I', 'M', 'A' };
+    static final int VERSAO = 1;
+    static final int CABECALHO = 32;
+
+    private final ByteBuffer dados;
+    private final int casas;
+    private final int tamanhoRegistro;
+    private final int capacidade;
+    private final BitSet ocupados;
+    private int totalOcupados;
+    private int proximoLivre;
+
+    private ArenaPartidas(ByteBuffer dados, int casas, int capacidade) {
+        this.dados = dados;
+        this.casas = casas;
+        this.tamanhoRegistro = RegistroPartida.tamanho(casas);
+        this.capacidade = capacidade;
+        this.ocupados = new BitSet(capacidade);
+        for (int i = 0; i < capacidade; i++) {
+            if (dados.get(base(i) + RegistroPartida.OCUPADO) != 0) {
+                ocupados.set(i);
+                totalOcupados++;
+            }
+        }
+    }
+
+    /** Arena em memória direta; some com o processo. */
+    public static ArenaPartidas emMemoria(int capacidade, int casasTabuleiro) {
+        long bytes = tamanhoTotal(capacidade, casasTabuleiro);
+        ByteBuffer b = ByteBuffer.allocateDirect((int) bytes);
+        escreverCabecalho(b, casasTabuleiro, capacidade);
+        return new ArenaPartidas(b, casasTabuleiro, capacidade);
+    }
+
+    /**
+     * Arena mapeada em arquivo. Se o arquivo já existe, reabre com a capacidade gravada nele (o
+     * parâmetro só vale na criação) e exige o mesmo número de casas.
+     */
+    public static ArenaPartidas emArquivo(File arquivo, int capacidade, int casasTabuleiro) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(arquivo, "rw")) {
+            FileChannel canal = raf.getChannel();
+            boolean novo = canal.size() == 0;
+            if (!novo) {
+                ByteBuffer cab = ByteBuffer.allocate(CABECALHO);
+                canal.read(cab, 0);
+                cab.flip();
+                capacidade = lerCabecalho(cab, arquivo, casasTabuleiro);
+            }
+            long bytes = tamanhoTotal(capacidade, casasTabuleiro);
+            if (!novo && canal.size() < bytes) {
+                throw new IOException("Arena truncada: " + arquivo);
+            }
+            MappedByteBuffer b = canal.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            if (novo) {
+                escreverCabecalho(b, casasTabuleiro, capacidade);
+            }
+            // O mapeamento continua válido depois de fechar o arquivo.
+            return new ArenaPartidas(b, casasTabuleiro, capacidade);
+        }
+    }
+
+    private static long tamanhoTotal(int capacidade, int casasTabuleiro) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("capacidade deve ser > 0");
+        }
+        if (casasTabuleiro <= 0 || casasTabuleiro > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Número de casas inválido: " + casasTabuleiro);
+        }
+        long bytes = CABECALHO + (long) capacidade * RegistroPartida.tamanho(casasTabuleiro);
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Arena maior que 2 GB; use várias arenas.");
+        }
+        return bytes;
+    }
+
+    private static void escreverCabecalho(ByteBuffer b, int casas, int capacidade) {
+        b.put(0, MAGIC[0]).put(1, MAGIC[1]).put(2, MAGIC[2]).put(3, MAGIC[3]);
+        b.putInt(4, VERSAO);
+        b.putInt(8, casas);
+        b.putInt(12, RegistroPartida.tamanho(casas));
+        b.putInt(16, capacidade);
+    }
+
+    private static int lerCabecalho(ByteBuffer b, File arquivo, int casas) throws IOException {
+        if (b.remaining() < CABECALHO
+                || b.get(0) != MAGIC[0] || b.get(1) != MAGIC[1] || b.get(2) != MAGIC[2] || b.get(3) != MAGIC[3]) {
+            throw new IOException("Arquivo não é uma arena de partidas: " + arquivo);
+        }
+        if (b.getInt(4) != VERSAO) {
+            throw new IOException("Versão de arena não suportada: " + b.getInt(4));
+        }
+        if (b.getInt(8) != casas) {
+            throw new IOException("Arena gravada para tabuleiro de " + b.getInt(8) + " casas, não " + casas + ".");
+        }
+        if (b.getInt(12) != RegistroPartida.tamanho(casas) || b.getInt(16) <= 0) {
+            throw new IOException("Cabeçalho de arena inválido: " + arquivo);
+        }
+        return b.getInt(16);
+    }
+
+    private int base(int registro) {
+        return CABECALHO + registro * tamanhoRegistro;
+    }
+
+    private void validar(int registro) {
+        if (registro < 0 || registro >= capacidade) {
+            throw new IndexOutOfBoundsException("registro " + registro);
+        }
+    }
+
+    /** Grava a partida num registro livre e devolve o número dele. */
+    public int estacionar(GameModel partida) {
+        int registro;
+        synchronized (this) {
+            if (totalOcupados >= capacidade) {
+                throw new IllegalStateException("Arena cheia (" + capacidade + " partidas).");
+            }
+            registro = ocupados.nextClearBit(proximoLivre);
+            if (registro >= capacidade) {
+                registro = ocupados.nextClearBit(0);
+            }
+            ocupados.set(registro);
+            totalOcupados++;
+            proximoLivre = registro + 1;
+        }
+        try {
+            partida.gravarRegistro(dados, base(registro), casas);
+        } catch (RuntimeException ex) {
+            liberar(registro);
+            throw ex;
+        }
+        return registro;
+    }
+
+    /**
+     * Sobrescreve um registro ocupado com o estado atual da partida, no mesmo lugar. Enquanto a
+     * gravação acontece o registro aparece livre no buffer (ver a classe); para a arena ele continua
+     * ocupado.
+     */
+    public void atualizar(int registro, GameModel partida) {
+        exigirOcupado(registro);
+        partida.gravarRegistro(dados, base(registro), casas);
+    }
+
+    /** Carrega o registro em {@code destino}; o registro continua ocupado até {@link #liberar(int)}. */
+    public void retomar(int registro, GameModel destino) {
+        exigirOcupado(registro);
+        destino.lerRegistro(dados, base(registro), casas);
+    }
+
+    public synchronized void liberar(int registro) {
+        validar(registro);
+        if (ocupados.get(registro)) {
+            dados.put(base(registro) + RegistroPartida.OCUPADO, (byte) 0);
+            ocupados.clear(registro);
+            totalOcupados--;
+            proximoLivre = Math.min(proximoLivre, registro);
+        }
+    }
+
+    public synchronized boolean isOcupado(int registro) {
+        validar(registro);
+        return ocupados.get(registro);
+    }
+
+    private void exigirOcupado(int registro) {
+        if (!isOcupado(registro)) {
+            throw new IllegalArgumentException("Registro " + registro + " está livre.");
+        }
+    }
+
+    public int getCapacidade() { return capacidade; }
+    public int getCasasTabuleiro() { return casas; }
+    public int getTamanhoRegistro() { return tamanhoRegistro; }
+    public synchronized int getOcupados() { return totalOcupados; }
+
+    /** No arquivo, força a gravação em disco; em memória não faz nada. */
+    public void sincronizar() {
+        if (dados instanceof MappedByteBuffer) {
+            ((MappedByteBuffer) dados).force();
+        }
+    }
+
+    @Override
+    public void close() {
+        sincronizar();
+    }
+}
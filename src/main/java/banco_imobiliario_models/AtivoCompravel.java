@@ -1,12 +1,8 @@
 package banco_imobiliario_models;
 
 interface AtivoCompravel {
-    boolean temDono();
-    Jogador getDono();
-    void setDono(Jogador novoDono);
     int getPosicao();
     int getPrecoCompra();
-    int calcularAluguel();
-    int valorAgregadoAtual();
-    void resetarParaBanco();
+    int calcularAluguel(EstadoTabuleiro estado);
+    int valorAgregado(EstadoTabuleiro estado);
 }
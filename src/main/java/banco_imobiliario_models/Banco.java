@@ -6,12 +6,15 @@ final class Banco {
 
     Banco(int saldoInicial) { this.saldo = saldoInicial; }
 
+    Banco copiar() { return new Banco(saldo); }
+
     int getSaldo() { return saldo; }
 
-    void pagarHonorarios(Jogador j) {
+    int pagarHonorarios(Jogador j) {
         if (saldo < HONORARIOS) throw new IllegalStateException("Banco sem saldo suficiente");
         saldo -= HONORARIOS;
         j.creditar(HONORARIOS);
+        return HONORARIOS;
     }
 
     void creditar(int valor) {
@@ -0,0 +1,238 @@
+package banco_imobiliario_models;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Baralho de Sorte/Revés de uma partida em arrays primitivos: a ordem das cartas num {@code int[]}
+ * com ponteiro circular (sacar é O(1)) e as cartas de cada jogador num {@code long} (bit n-1 =
+ * carta n), por isso o baralho aceita no máximo {@link #MAX_CARTAS} cartas.
+ *
+ * <p>Também guarda quais jogadores aparecem no mapa de cartas do {@link GameModel.SaveState}: o
+ * mapa tem entrada (mesmo vazia) para cada jogador no início da partida, perde a entrada quando o
+ * jogador fica sem cartas ou vai à falência e volta a ganhar quando ele saca.
+ */
+final class BaralhoSorteReves {
+    static final int MAX_CARTAS = 64;
+
+    private final int[] ordem = new int[MAX_CARTAS];
+    private int tamanho;
+    private int ponteiro;
+
+    private long[] cartasPorJogador = new long[0];
+    private long listados;
+
+    BaralhoSorteReves() {}
+
+    BaralhoSorteReves(BaralhoSorteReves outro) {
+        System.arraycopy(outro.ordem, 0, ordem, 0, outro.tamanho);
+        this.tamanho = outro.tamanho;
+        this.ponteiro = outro.ponteiro;
+        this.cartasPorJogador = outro.cartasPorJogador.clone();
+        this.listados = outro.listados;
+    }
+
+    int tamanho() { return tamanho; }
+
+    int ponteiro() { return ponteiro; }
+
+    int carta(int i) { return ordem[i]; }
+
+    /** Cartas 1..total, embaralhadas numa passada do gerador (sem gerador, ThreadLocalRandom). */
+    void montar(int total, RandomProvider rng) {
+        exigirTamanho(total);
+        for (int i = 0; i < total; i++) {
+            ordem[i] = i + 1;
+        }
+        this.tamanho = total;
+        this.ponteiro = 0;
+        if (rng != null) {
+            rng.shuffle(ordem, total);
+        } else {
+            ThreadLocalRandom r = ThreadLocalRandom.current();
+            for (int i = total; i > 1; i--) {
+                int k = r.nextInt(i);
+                int tmp = ordem[i - 1];
+                ordem[i - 1] = ordem[k];
+                ordem[k] = tmp;
+            }
+        }
+    }
+
+    void restaurar(List<Integer> cartas, int ponteiro) {
+        exigirTamanho(cartas.size());
+        for (int i = 0; i < cartas.size(); i++) {
+            ordem[i] = exigirCarta(cartas.get(i));
+        }
+        this.tamanho = cartas.size();
+        posicionar(ponteiro);
+    }
+
+    void restaurar(int[] cartas, int ponteiro) {
+        exigirTamanho(cartas.length);
+        for (int i = 0; i < cartas.length; i++) {
+            ordem[i] = exigirCarta(cartas[i]);
+        }
+        this.tamanho = cartas.length;
+        posicionar(ponteiro);
+    }
+
+    /** Cartas gravadas uma por byte a partir de {@code inicio} (registro da arena). */
+    void restaurar(ByteBuffer b, int inicio, int cartas, int ponteiro) {
+        exigirTamanho(cartas);
+        for (int i = 0; i < cartas; i++) {
+            ordem[i] = exigirCarta(b.get(inicio + i));
+        }
+        this.tamanho = cartas;
+        posicionar(ponteiro);
+    }
+
+    /** Ponteiro normalizado para dentro do baralho (negativo vira 0). */
+    void posicionar(int indice) {
+        this.ponteiro = tamanho == 0 ? 0 : Math.max(0, indice) % tamanho;
+    }
+
+    int indiceDe(int numero) {
+        for (int i = 0; i < tamanho; i++) {
+            if (ordem[i] == numero) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Carta sob o ponteiro; o ponteiro avança e volta ao início no fim do baralho. */
+    int sacar() {
+        final int numero = ordem[ponteiro];
+        if (++ponteiro == tamanho) {
+            ponteiro = 0;
+        }
+        return numero;
+    }
+
+    /**
+     * Sorteia uma das {@code restantes} cartas a partir do ponteiro, troca com a do ponteiro e saca
+     * (Fisher-Yates feito uma carta por vez).
+     */
+    int sacarEntre(int restantes, Random r) {
+        final int k = ponteiro + r.nextInt(restantes);
+        final int tmp = ordem[k];
+        ordem[k] = ordem[ponteiro];
+        ordem[ponteiro] = tmp;
+        return sacar();
+    }
+
+    List<Integer> ordemComoLista() {
+        List<Integer> out = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            out.add(ordem[i]);
+        }
+        return out;
+    }
+
+    int[] ordemComoArray() {
+        int[] out = new int[tamanho];
+        System.arraycopy(ordem, 0, out, 0, tamanho);
+        return out;
+    }
+
+    // ---------------------------------------------------------------- cartas dos jogadores
+
+    /** Todos os jogadores listados, sem cartas. */
+    void reiniciarPosse(int numJogadores) {
+        if (cartasPorJogador.length == numJogadores) {
+            Arrays.fill(cartasPorJogador, 0L);
+        } else {
+            cartasPorJogador = new long[numJogadores];
+        }
+        listados = (1L << numJogadores) - 1;
+    }
+
+    int numJogadores() { return cartasPorJogador.length; }
+
+    long cartasDo(int jogadorId) {
+        return jogadorId < 0 || jogadorId >= cartasPorJogador.length ? 0L : cartasPorJogador[jogadorId];
+    }
+
+    boolean isListado(int jogadorId) {
+        return jogadorId >= 0 && jogadorId < cartasPorJogador.length && (listados & (1L << jogadorId)) != 0;
+    }
+
+    void guardar(int jogadorId, int numero) {
+        if (jogadorId >= cartasPorJogador.length) {
+            if (jogadorId >= Long.SIZE) {
+                throw new IllegalArgumentException("jogador fora do intervalo: " + jogadorId);
+            }
+            cartasPorJogador = Arrays.copyOf(cartasPorJogador, jogadorId + 1);
+        }
+        cartasPorJogador[jogadorId] |= bit(numero);
+        listados |= 1L << jogadorId;
+    }
+
+    /** Tira a carta do jogador; sem cartas, ele sai do mapa. */
+    void devolver(int jogadorId, int numero) {
+        if (!isListado(jogadorId)) {
+            return;
+        }
+        cartasPorJogador[jogadorId] &= ~bit(numero);
+        if (cartasPorJogador[jogadorId] == 0L) {
+            listados &= ~(1L << jogadorId);
+        }
+    }
+
+    void esquecer(int jogadorId) {
+        if (jogadorId >= 0 && jogadorId < cartasPorJogador.length) {
+            cartasPorJogador[jogadorId] = 0L;
+            listados &= ~(1L << jogadorId);
+        }
+    }
+
+    void definirCartas(int jogadorId, long cartas) {
+        cartasPorJogador[jogadorId] = cartas;
+        listados |= 1L << jogadorId;
+    }
+
+    static long bit(int numero) {
+        return 1L << (numero - 1);
+    }
+
+    static Set<Integer> comoConjunto(long cartas) {
+        if (cartas == 0L) {
+            return Collections.emptySet();
+        }
+        Set<Integer> out = new HashSet<>();
+        while (cartas != 0L) {
+            out.add(Long.numberOfTrailingZeros(cartas) + 1);
+            cartas &= cartas - 1;
+        }
+        return out;
+    }
+
+    static long comoMascara(Set<Integer> cartas) {
+        long out = 0L;
+        for (int numero : cartas) {
+            out |= bit(exigirCarta(numero));
+        }
+        return out;
+    }
+
+    private static void exigirTamanho(int total) {
+        if (total < 0 || total > MAX_CARTAS) {
+            throw new IllegalArgumentException("Baralho de Sorte/Revés aceita até " + MAX_CARTAS + " cartas.");
+        }
+    }
+
+    private static int exigirCarta(int numero) {
+        if (numero < 1 || numero > MAX_CARTAS) {
+            throw new IllegalArgumentException("Carta de Sorte/Revés fora do intervalo: " + numero);
+        }
+        return numero;
+    }
+}
@@ -1,10 +1,10 @@
 package banco_imobiliario_models;
 
 class Casa {
-    protected int posicao;
-    protected String nome;
-    protected String tipo;
-    protected int valorEfeito;
+    protected final int posicao;
+    protected final String nome;
+    protected final String tipo;
+    protected final int valorEfeito;
 
     Casa(int posicao, String nome, String tipo) {
         this(posicao, nome, tipo, 0);
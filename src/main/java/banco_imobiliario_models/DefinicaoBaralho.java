@@ -0,0 +1,268 @@
+package banco_imobiliario_models;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Definição imutável de um baralho de Sorte/Revés, lida de JSON ou YAML ou montada em código, como
+ * o baralho oficial ({@link SorteRevesCards}). O documento tem {@code nome} e a lista
+ * {@code cartas}; a carta n é o n-ésimo item, com {@code tipo} (um {@link TipoEfeitoCarta}),
+ * {@code titulo} e {@code descricao} opcionais e os campos inteiros do tipo:
+ *
+ * <pre>
+ *   nome: Baralho da casa
+ *   cartas:
+ *     - { tipo: RECEBER_DO_BANCO, valor: 100 }
+ *     - { tipo: AVANCAR, casas: -3, titulo: "Volte 3 casas" }
+ *     - { tipo: PAGAR_POR_CONSTRUCAO, porCasa: 25, porHotel: 100 }
+ * </pre>
+ *
+ * <p>Cada carta é validada e compilada uma única vez: o efeito fica num array indexado pelo número
+ * da carta e a carta exibida ({@link GameModel.SorteRevesCard}) é a mesma instância em todos os
+ * saques. Como no tabuleiro, definições lidas de arquivo ficam em cache pelo SHA-256 do arquivo e
+ * conteúdos iguais são a mesma instância.
+ */
+public final class DefinicaoBaralho {
+
+    static final String CAMPO_NOME_BARALHO = "nome";
+    static final String CAMPO_CARTAS = "cartas";
+    static final String CAMPO_TIPO = "tipo";
+    static final String CAMPO_TITULO = "titulo";
+    static final String CAMPO_DESCRICAO = "descricao";
+
+    private static final Map<String, DefinicaoBaralho> POR_ARQUIVO = new ConcurrentHashMap<>();
+    private static final Map<String, DefinicaoBaralho> POR_CONTEUDO = new ConcurrentHashMap<>();
+
+    private static final class Oficial {
+        static final DefinicaoBaralho INSTANCIA = SorteRevesCards.criar();
+    }
+
+    private final String nome;
+    // Indexados pelo número da carta; a posição 0 fica vazia.
+    private final String[] titulos;
+    private final String[] descricoes;
+    private final TipoEfeitoCarta[] tipos;
+    private final int[][] valores;
+    private final EfeitoCarta[] efeitos;
+    private final GameModel.SorteRevesCard[] cartas;
+    private final long ficamComJogador;
+    private final long saidasLivres;
+    private final String hash;
+
+    private DefinicaoBaralho(String nome, String[] titulos, String[] descricoes, TipoEfeitoCarta[] tipos,
+                             int[][] valores) {
+        this.nome = nome;
+        this.titulos = titulos;
+        this.descricoes = descricoes;
+        this.tipos = tipos;
+        this.valores = valores;
+        this.efeitos = new EfeitoCarta[tipos.length];
+        this.cartas = new GameModel.SorteRevesCard[tipos.length];
+        long guardadas = 0L;
+        long saidas = 0L;
+        for (int n = 1; n < tipos.length; n++) {
+            efeitos[n] = tipos[n].compilar(valores[n]);
+            cartas[n] = new GameModel.SorteRevesCard(n, titulos[n], descricoes[n]);
+            if (tipos[n].ficaComJogador()) {
+                guardadas |= BaralhoSorteReves.bit(n);
+            }
+            if (tipos[n] == TipoEfeitoCarta.SAIDA_LIVRE_DA_PRISAO) {
+                saidas |= BaralhoSorteReves.bit(n);
+            }
+        }
+        this.ficamComJogador = guardadas;
+        this.saidasLivres = saidas;
+        this.hash = calcularHash();
+    }
+
+    /** Baralho oficial de 30 cartas. */
+    public static DefinicaoBaralho oficial() {
+        return Oficial.INSTANCIA;
+    }
+
+    /**
+     * Lê a definição de um arquivo .json ou .yaml/.yml. Arquivos já lidos não são interpretados
+     * de novo.
+     *
+     * @throws IOException se o arquivo não puder ser lido ou tiver extensão desconhecida
+     * @throws IllegalArgumentException se o conteúdo não for um baralho válido
+     */
+    public static DefinicaoBaralho carregar(File arquivo) throws IOException {
+        return carregar(Files.readAllBytes(arquivo.toPath()), DefinicaoTabuleiro.extensao(arquivo.getName()));
+    }
+
+    /** Como {@link #carregar(File)}, com o conteúdo já em memória e a extensão sem o ponto. */
+    public static DefinicaoBaralho carregar(byte[] conteudo, String extensao) throws IOException {
+        String formato = extensao == null ? "" : extensao.toLowerCase(Locale.ROOT);
+        String chave = formato + ":" + DefinicaoTabuleiro.hex(DefinicaoTabuleiro.sha256(conteudo));
+        DefinicaoBaralho def = POR_ARQUIVO.get(chave);
+        if (def != null) {
+            return def;
+        }
+        Map<String, Object> documento;
+        switch (formato) {
+            case "json":
+                documento = FormatoTabuleiro.lerJson(conteudo, "baralho", CAMPO_CARTAS);
+                break;
+            case "yaml":
+            case "yml":
+                documento = FormatoTabuleiro.lerYaml(conteudo, "baralho", CAMPO_CARTAS);
+                break;
+            default:
+                throw new IOException("Formato de baralho não suportado: " + extensao);
+        }
+        def = compilar(documento);
+        DefinicaoBaralho anterior = POR_ARQUIVO.putIfAbsent(chave, def);
+        return anterior != null ? anterior : def;
+    }
+
+    /**
+     * Valida o documento ({@code nome} opcional e a lista {@code cartas}) e devolve a definição
+     * compartilhada com o mesmo conteúdo, se já houver uma.
+     */
+    static DefinicaoBaralho compilar(Map<String, Object> documento) {
+        if (documento == null) {
+            throw new IllegalArgumentException("Baralho vazio.");
+        }
+        for (String campo : documento.keySet()) {
+            if (!CAMPO_NOME_BARALHO.equals(campo) && !CAMPO_CARTAS.equals(campo)) {
+                throw new IllegalArgumentException("Campo desconhecido no baralho: " + campo);
+            }
+        }
+        Object nomeDoc = documento.get(CAMPO_NOME_BARALHO);
+        Object cartasDoc = documento.get(CAMPO_CARTAS);
+        if (!(cartasDoc instanceof List) || ((List<?>) cartasDoc).isEmpty()) {
+            throw new IllegalArgumentException("Baralho sem a lista de cartas.");
+        }
+        List<?> lista = (List<?>) cartasDoc;
+        if (lista.size() > BaralhoSorteReves.MAX_CARTAS) {
+            throw new IllegalArgumentException("Baralho com mais de " + BaralhoSorteReves.MAX_CARTAS + " cartas.");
+        }
+        final int total = lista.size();
+        String[] titulos = new String[total + 1];
+        String[] descricoes = new String[total + 1];
+        TipoEfeitoCarta[] tipos = new TipoEfeitoCarta[total + 1];
+        int[][] valores = new int[total + 1][];
+
+        for (int n = 1; n <= total; n++) {
+            if (!(lista.get(n - 1) instanceof Map)) {
+                throw new IllegalArgumentException("Carta " + n + ": esperado um objeto.");
+            }
+            Map<?, ?> carta = (Map<?, ?>) lista.get(n - 1);
+            String rotulo = "Carta " + n;
+            String tipoTexto = DefinicaoTabuleiro.texto(carta.get(CAMPO_TIPO));
+            if (tipoTexto == null) {
+                throw new IllegalArgumentException(rotulo + ": tipo ausente.");
+            }
+            TipoEfeitoCarta tipo;
+            try {
+                tipo = TipoEfeitoCarta.valueOf(tipoTexto.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException(rotulo + ": tipo desconhecido: " + tipoTexto);
+            }
+            Set<String> permitidos = new HashSet<>();
+            permitidos.add(CAMPO_TIPO);
+            permitidos.add(CAMPO_TITULO);
+            permitidos.add(CAMPO_DESCRICAO);
+            int[] v = new int[tipo.quantidadeCampos()];
+            for (int k = 0; k < v.length; k++) {
+                TipoEfeitoCarta.Campo campo = tipo.campo(k);
+                permitidos.add(campo.nome);
+                v[k] = DefinicaoTabuleiro.inteiro(rotulo, campo.nome, carta.get(campo.nome), true, campo.minimo);
+                if (v[k] > campo.maximo) {
+                    throw new IllegalArgumentException(rotulo + ": " + campo.nome + " fora do intervalo: " + v[k]);
+                }
+            }
+            for (Object campo : carta.keySet()) {
+                if (!permitidos.contains(String.valueOf(campo))) {
+                    throw new IllegalArgumentException(rotulo + ": campo não se aplica a " + tipo + ": " + campo);
+                }
+            }
+            String titulo = DefinicaoTabuleiro.texto(carta.get(CAMPO_TITULO));
+            String descricao = DefinicaoTabuleiro.texto(carta.get(CAMPO_DESCRICAO));
+            titulos[n] = titulo == null ? String.format(Locale.ROOT, "Sorte/Revés #%02d", n) : titulo;
+            descricoes[n] = descricao == null ? "" : descricao;
+            tipos[n] = tipo;
+            valores[n] = v;
+        }
+
+        String nomeBaralho = nomeDoc == null ? "" : String.valueOf(nomeDoc).trim();
+        DefinicaoBaralho def = new DefinicaoBaralho(nomeBaralho, titulos, descricoes, tipos, valores);
+        DefinicaoBaralho anterior = POR_CONTEUDO.putIfAbsent(def.hash, def);
+        return anterior != null ? anterior : def;
+    }
+
+    private String calcularHash() {
+        try {
+            ByteArrayOutputStream buf = new ByteArrayOutputStream(tipos.length * 48);
+            DataOutputStream out = new DataOutputStream(buf);
+            out.writeUTF(nome);
+            out.writeInt(tipos.length - 1);
+            for (int n = 1; n < tipos.length; n++) {
+                out.writeUTF(titulos[n]);
+                out.writeUTF(descricoes[n]);
+                out.writeByte(tipos[n].ordinal());
+                out.writeByte(valores[n].length);
+                for (int v : valores[n]) {
+                    out.writeInt(v);
+                }
+            }
+            out.flush();
+            return DefinicaoTabuleiro.hex(DefinicaoTabuleiro.sha256(buf.toByteArray()));
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /** Efeito compilado da carta; {@code null} fora do baralho. */
+    EfeitoCarta efeito(int numero) {
+        return numero > 0 && numero < efeitos.length ? efeitos[numero] : null;
+    }
+
+    /** Carta exibida, a mesma instância em todos os saques; {@code null} fora do baralho. */
+    GameModel.SorteRevesCard carta(int numero) {
+        return numero > 0 && numero < cartas.length ? cartas[numero] : null;
+    }
+
+    boolean ficaComJogador(int numero) {
+        return numero > 0 && numero < tipos.length && (ficamComJogador & BaralhoSorteReves.bit(numero)) != 0;
+    }
+
+    /** Máscara (como em {@link BaralhoSorteReves}) das cartas de saída livre da prisão. */
+    long cartasSaidaLivre() { return saidasLivres; }
+
+    /** Primeira carta de saída livre da prisão, ou 0 se o baralho não tiver nenhuma. */
+    int primeiraCartaSaidaLivre() {
+        return saidasLivres == 0L ? 0 : Long.numberOfTrailingZeros(saidasLivres) + 1;
+    }
+
+    TipoEfeitoCarta tipo(int numero) { return tipos[numero]; }
+
+    /** Campo {@code k} da carta, na ordem de {@link TipoEfeitoCarta#campo(int)}. */
+    int valor(int numero, int k) { return valores[numero][k]; }
+
+    public String getNome() { return nome; }
+
+    /** SHA-256 (hex) do conteúdo compilado; independe do formato de origem. */
+    public String getHash() { return hash; }
+
+    public int total() { return tipos.length - 1; }
+    public String getTitulo(int numero) { return titulos[numero]; }
+    public String getDescricao(int numero) { return descricoes[numero]; }
+    public String getTipoEfeito(int numero) { return tipos[numero].name(); }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s (%d cartas, %s)", nome.isEmpty() ? "baralho" : nome,
+                total(), hash.substring(0, 12));
+    }
+}
@@ -0,0 +1,380 @@
+package banco_imobiliario_models;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Definição imutável de um tabuleiro, lida de JSON, YAML ou XLSX (ver {@link FormatoTabuleiro})
+ * ou montada em código, como o tabuleiro oficial. As casas ficam em arrays paralelos, são
+ * validadas uma única vez e compiladas num único {@link Tabuleiro} imutável, compartilhado por
+ * todas as partidas; cada partida guarda só o seu {@link EstadoTabuleiro} (dono e construções).
+ *
+ * <p>Definições lidas de arquivo ficam em cache pelo SHA-256 do arquivo; definições com o mesmo
+ * conteúdo compilado (mesmo {@link #getHash()}) são a mesma instância, qualquer que seja o formato.
+ */
+public final class DefinicaoTabuleiro {
+
+    static final String CAMPO_NOME_TABULEIRO = "nome";
+    static final String CAMPO_CASAS = "casas";
+    static final String CAMPO_TIPO = "tipo";
+    static final String CAMPO_NOME = "nome";
+    static final String CAMPO_PRECO = "preco";
+    static final String CAMPO_PRECO_CASA = "precoCasa";
+    static final String CAMPO_PRECO_HOTEL = "precoHotel";
+    static final String CAMPO_ALUGUEIS = "alugueis";
+    static final String CAMPO_ALUGUEL = "aluguel";
+    static final String CAMPO_VALOR = "valor";
+
+    /** Aluguel sem casas, com 1 a 4 casas e com hotel. */
+    private static final int MAX_ALUGUEIS = 6;
+
+    private static final Map<String, DefinicaoTabuleiro> POR_ARQUIVO = new ConcurrentHashMap<>();
+    private static final Map<String, DefinicaoTabuleiro> POR_CONTEUDO = new ConcurrentHashMap<>();
+
+    private static final class Oficial {
+        static final DefinicaoTabuleiro INSTANCIA = TabuleiroOficialFactory.criar();
+    }
+
+    private final String nome;
+    private final String[] nomes;
+    private final TipoCasa[] tipos;
+    private final int[] precos;
+    private final int[] precosCasa;
+    private final int[] precosHotel;
+    private final int[][] alugueis;
+    /** Aluguel fixo das companhias e valor de lucro/imposto; 0 nas demais casas. */
+    private final int[] valores;
+    private final String hash;
+    private final Tabuleiro tabuleiro;
+
+    private DefinicaoTabuleiro(String nome, String[] nomes, TipoCasa[] tipos, int[] precos, int[] precosCasa,
+                               int[] precosHotel, int[][] alugueis, int[] valores) {
+        this.nome = nome;
+        this.nomes = nomes;
+        this.tipos = tipos;
+        this.precos = precos;
+        this.precosCasa = precosCasa;
+        this.precosHotel = precosHotel;
+        this.alugueis = alugueis;
+        this.valores = valores;
+        this.hash = calcularHash();
+        this.tabuleiro = compilar();
+    }
+
+    /** Tabuleiro oficial brasileiro de 40 casas. */
+    public static DefinicaoTabuleiro oficial() {
+        return Oficial.INSTANCIA;
+    }
+
+    /**
+     * Lê a definição de um arquivo .json, .yaml/.yml ou .xlsx. Arquivos já lidos não são
+     * interpretados de novo.
+     *
+     * @throws IOException se o arquivo não puder ser lido ou tiver extensão desconhecida
+     * @throws IllegalArgumentException se o conteúdo não for um tabuleiro válido
+     */
+    public static DefinicaoTabuleiro carregar(File arquivo) throws IOException {
+        return carregar(Files.readAllBytes(arquivo.toPath()), extensao(arquivo.getName()));
+    }
+
+    /** Como {@link #carregar(File)}, com o conteúdo já em memória e a extensão sem o ponto. */
+    public static DefinicaoTabuleiro carregar(byte[] conteudo, String extensao) throws IOException {
+        String formato = extensao == null ? "" : extensao.toLowerCase(Locale.ROOT);
+        String chave = formato + ":" + hex(sha256(conteudo));
+        DefinicaoTabuleiro def = POR_ARQUIVO.get(chave);
+        if (def != null) {
+            return def;
+        }
+        Map<String, Object> documento;
+        switch (formato) {
+            case "json":
+                documento = FormatoTabuleiro.lerJson(conteudo);
+                break;
+            case "yaml":
+            case "yml":
+                documento = FormatoTabuleiro.lerYaml(conteudo);
+                break;
+            case "xlsx":
+                documento = FormatoTabuleiro.lerXlsx(conteudo);
+                break;
+            default:
+                throw new IOException("Formato de tabuleiro não suportado: " + extensao);
+        }
+        def = compilar(documento);
+        DefinicaoTabuleiro anterior = POR_ARQUIVO.putIfAbsent(chave, def);
+        return anterior != null ? anterior : def;
+    }
+
+    static String extensao(String nomeArquivo) {
+        int ponto = nomeArquivo.lastIndexOf('.');
+        return ponto < 0 ? "" : nomeArquivo.substring(ponto + 1);
+    }
+
+    /**
+     * Valida o documento ({@code nome} opcional e a lista {@code casas}) e devolve a definição
+     * compartilhada com o mesmo conteúdo, se já houver uma.
+     */
+    static DefinicaoTabuleiro compilar(Map<String, Object> documento) {
+        if (documento == null) {
+            throw new IllegalArgumentException("Tabuleiro vazio.");
+        }
+        for (String campo : documento.keySet()) {
+            if (!CAMPO_NOME_TABULEIRO.equals(campo) && !CAMPO_CASAS.equals(campo)) {
+                throw new IllegalArgumentException("Campo desconhecido no tabuleiro: " + campo);
+            }
+        }
+        Object nomeDoc = documento.get(CAMPO_NOME_TABULEIRO);
+        Object casasDoc = documento.get(CAMPO_CASAS);
+        if (!(casasDoc instanceof List) || ((List<?>) casasDoc).isEmpty()) {
+            throw new IllegalArgumentException("Tabuleiro sem a lista de casas.");
+        }
+        List<?> casas = (List<?>) casasDoc;
+        final int n = casas.size();
+        String[] nomes = new String[n];
+        TipoCasa[] tipos = new TipoCasa[n];
+        int[] precos = new int[n];
+        int[] precosCasa = new int[n];
+        int[] precosHotel = new int[n];
+        int[][] alugueis = new int[n][];
+        int[] valores = new int[n];
+        int partidas = 0;
+        int prisoes = 0;
+        int vaParaPrisao = 0;
+
+        for (int i = 0; i < n; i++) {
+            if (!(casas.get(i) instanceof Map)) {
+                throw new IllegalArgumentException("Casa " + i + ": esperado um objeto.");
+            }
+            Map<?, ?> casa = (Map<?, ?>) casas.get(i);
+            String tipoTexto = texto(casa.get(CAMPO_TIPO));
+            if (tipoTexto == null) {
+                throw new IllegalArgumentException("Casa " + i + ": tipo ausente.");
+            }
+            TipoCasa tipo;
+            try {
+                tipo = TipoCasa.valueOf(tipoTexto.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Casa " + i + ": tipo desconhecido: " + tipoTexto);
+            }
+            String nome = texto(casa.get(CAMPO_NOME));
+            if (nome == null) {
+                throw new IllegalArgumentException("Casa " + i + ": nome ausente.");
+            }
+            String rotulo = "Casa " + i + " (" + nome + ")";
+            Set<String> permitidos = camposPermitidos(tipo);
+            for (Object campo : casa.keySet()) {
+                if (!permitidos.contains(String.valueOf(campo))) {
+                    throw new IllegalArgumentException(rotulo + ": campo não se aplica a " + tipo + ": " + campo);
+                }
+            }
+
+            nomes[i] = nome;
+            tipos[i] = tipo;
+            alugueis[i] = new int[0];
+            switch (tipo) {
+                case PROPRIEDADE:
+                    precos[i] = inteiro(rotulo, CAMPO_PRECO, casa.get(CAMPO_PRECO), true, 1);
+                    precosCasa[i] = inteiro(rotulo, CAMPO_PRECO_CASA, casa.get(CAMPO_PRECO_CASA), false, 0);
+                    precosHotel[i] = inteiro(rotulo, CAMPO_PRECO_HOTEL, casa.get(CAMPO_PRECO_HOTEL), false, 0);
+                    alugueis[i] = tabelaAlugueis(rotulo, casa.get(CAMPO_ALUGUEIS));
+                    break;
+                case COMPANHIA:
+                    precos[i] = inteiro(rotulo, CAMPO_PRECO, casa.get(CAMPO_PRECO), true, 1);
+                    valores[i] = inteiro(rotulo, CAMPO_ALUGUEL, casa.get(CAMPO_ALUGUEL), true, 0);
+                    break;
+                case LUCRO:
+                case IMPOSTO:
+                    valores[i] = inteiro(rotulo, CAMPO_VALOR, casa.get(CAMPO_VALOR), true, 0);
+                    break;
+                case PONTO_PARTIDA:
+                    partidas++;
+                    break;
+                case PRISAO:
+                    prisoes++;
+                    break;
+                case VA_PARA_PRISAO:
+                    vaParaPrisao++;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (partidas > 1) {
+            throw new IllegalArgumentException("Tabuleiro com mais de um ponto de partida.");
+        }
+        if (vaParaPrisao > 0 && prisoes == 0) {
+            throw new IllegalArgumentException("Tabuleiro com \"vá para a prisão\" mas sem prisão.");
+        }
+
+        String nomeTabuleiro = nomeDoc == null ? "" : String.valueOf(nomeDoc).trim();
+        DefinicaoTabuleiro def = new DefinicaoTabuleiro(nomeTabuleiro, nomes, tipos, precos, precosCasa,
+                precosHotel, alugueis, valores);
+        DefinicaoTabuleiro anterior = POR_CONTEUDO.putIfAbsent(def.hash, def);
+        return anterior != null ? anterior : def;
+    }
+
+    private static Set<String> camposPermitidos(TipoCasa tipo) {
+        Set<String> s = new HashSet<>(Arrays.asList(CAMPO_TIPO, CAMPO_NOME));
+        switch (tipo) {
+            case PROPRIEDADE:
+                s.addAll(Arrays.asList(CAMPO_PRECO, CAMPO_PRECO_CASA, CAMPO_PRECO_HOTEL, CAMPO_ALUGUEIS));
+                break;
+            case COMPANHIA:
+                s.addAll(Arrays.asList(CAMPO_PRECO, CAMPO_ALUGUEL));
+                break;
+            case LUCRO:
+            case IMPOSTO:
+                s.add(CAMPO_VALOR);
+                break;
+            default:
+                break;
+        }
+        return s;
+    }
+
+    static String texto(Object v) {
+        if (v == null) {
+            return null;
+        }
+        String s = String.valueOf(v).trim();
+        return s.isEmpty() ? null : s;
+    }
+
+    static int inteiro(String rotulo, String campo, Object v, boolean obrigatorio, int minimo) {
+        if (v == null || (v instanceof String && ((String) v).trim().isEmpty())) {
+            if (obrigatorio) {
+                throw new IllegalArgumentException(rotulo + ": campo ausente: " + campo);
+            }
+            return 0;
+        }
+        long valor;
+        if (v instanceof Number) {
+            double d = ((Number) v).doubleValue();
+            valor = ((Number) v).longValue();
+            if (d != valor) {
+                throw new IllegalArgumentException(rotulo + ": " + campo + " deve ser inteiro: " + v);
+            }
+        } else {
+            try {
+                valor = Long.parseLong(String.valueOf(v).trim());
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(rotulo + ": " + campo + " deve ser inteiro: " + v);
+            }
+        }
+        if (valor < minimo || valor > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(rotulo + ": " + campo + " fora do intervalo: " + v);
+        }
+        return (int) valor;
+    }
+
+    private static int[] tabelaAlugueis(String rotulo, Object v) {
+        if (v == null) {
+            return new int[0];
+        }
+        if (!(v instanceof List)) {
+            throw new IllegalArgumentException(rotulo + ": " + CAMPO_ALUGUEIS + " deve ser uma lista.");
+        }
+        List<?> lista = (List<?>) v;
+        if (lista.size() > MAX_ALUGUEIS) {
+            throw new IllegalArgumentException(rotulo + ": no máximo " + MAX_ALUGUEIS + " aluguéis.");
+        }
+        int[] t = new int[lista.size()];
+        for (int k = 0; k < t.length; k++) {
+            t[k] = inteiro(rotulo, CAMPO_ALUGUEIS + "[" + k + "]", lista.get(k), true, 0);
+        }
+        return t;
+    }
+
+    private Tabuleiro compilar() {
+        Casa[] casas = new Casa[nomes.length];
+        for (int i = 0; i < casas.length; i++) {
+            switch (tipos[i]) {
+                case PROPRIEDADE:
+                    casas[i] = new Propriedade(i, nomes[i], precos[i], precosCasa[i], precosHotel[i], alugueis[i]);
+                    break;
+                case COMPANHIA:
+                    casas[i] = new Companhia(i, nomes[i], precos[i], valores[i]);
+                    break;
+                default:
+                    casas[i] = new Casa(i, nomes[i], tipos[i].name(), valores[i]);
+                    break;
+            }
+        }
+        return new Tabuleiro(casas, tipos.clone());
+    }
+
+    private String calcularHash() {
+        try {
+            ByteArrayOutputStream buf = new ByteArrayOutputStream(nomes.length * 32);
+            DataOutputStream out = new DataOutputStream(buf);
+            out.writeUTF(nome);
+            out.writeInt(nomes.length);
+            for (int i = 0; i < nomes.length; i++) {
+                out.writeUTF(nomes[i]);
+                out.writeByte(tipos[i].ordinal());
+                out.writeInt(precos[i]);
+                out.writeInt(precosCasa[i]);
+                out.writeInt(precosHotel[i]);
+                out.writeInt(valores[i]);
+                out.writeByte(alugueis[i].length);
+                for (int a : alugueis[i]) {
+                    out.writeInt(a);
+                }
+            }
+            out.flush();
+            return hex(sha256(buf.toByteArray()));
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static byte[] sha256(byte[] dados) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(dados);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static String hex(byte[] b) {
+        StringBuilder sb = new StringBuilder(b.length * 2);
+        for (byte x : b) {
+            sb.append(Character.forDigit((x >> 4) & 0xF, 16)).append(Character.forDigit(x & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    /** Tabuleiro compilado, o mesmo para todas as partidas desta definição. */
+    Tabuleiro tabuleiro() {
+        return tabuleiro;
+    }
+
+    public String getNome() { return nome; }
+
+    /** SHA-256 (hex) do conteúdo compilado; independe do formato de origem. */
+    public String getHash() { return hash; }
+
+    public int tamanho() { return nomes.length; }
+    public String getNomeCasa(int pos) { return nomes[pos]; }
+    public String getTipoCasa(int pos) { return tipos[pos].name(); }
+    public int getPreco(int pos) { return precos[pos]; }
+    public int getValor(int pos) { return valores[pos]; }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s (%d casas, %s)", nome.isEmpty() ? "tabuleiro" : nome,
+                nomes.length, hash.substring(0, 12));
+    }
+}
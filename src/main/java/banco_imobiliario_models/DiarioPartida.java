@@ -0,0 +1,479 @@
+package banco_imobiliario_models;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registro binário, só de acréscimo, dos comandos executados numa partida e dos eventos que cada um gerou.
+ * O cabeçalho guarda o ponto de partida (gerador, definição e ordem do baralho de Sorte/Revés e
+ * ordem dos jogadores); com ele, o
+ * {@link ReprodutorDiario} reconstrói a partida repetindo os comandos e confere os eventos byte a byte.
+ */
+public final class DiarioPartida {
+
+    static final int MAGIC = 0x42494A31; // "BIJ1"
+    static final int VERSAO = 4;
+    /**
+     * Versão anterior, sem eventos de {@link GameEvent.PagamentoRealizado}; ainda é lida, e um diário
+     * dela continua sem gravá-los para que a reprodução confira os mesmos bytes.
+     */
+    private static final int VERSAO_SEM_PAGAMENTOS = 3;
+    /** Como {@link #VERSAO_SEM_PAGAMENTOS} e ainda sem a definição do baralho (sempre o oficial). */
+    private static final int VERSAO_BARALHO_OFICIAL = 2;
+
+    /** Comandos públicos do GameModel; o código gravado é ordinal() + 1. */
+    enum Comando {
+        LANCAR_DADOS,
+        LANCAR_DADOS_FORCADO,
+        ENCERRAR_VEZ,
+        DESLOCAR_PIAO,
+        DESLOCAR_E_APLICAR_OBRIGATORIOS,
+        APLICAR_OBRIGATORIOS,
+        PAGAR_ALUGUEL,
+        COMPRAR_PROPRIEDADE,
+        CONSTRUIR_CASA,
+        CONSTRUIR_HOTEL,
+        ENVIAR_PARA_PRISAO,
+        TENTAR_SAIR_DA_PRISAO,
+        VENDER_PROPRIEDADE,
+        DECLARAR_FALENCIA,
+        ENCERRAR_PARTIDA,
+        DEFINIR_ORDEM,
+        CONFIGURAR_BARALHO;
+
+        private static final Comando[] VALORES = values();
+
+        int codigo() { return ordinal() + 1; }
+
+        static Comando porCodigo(int codigo) {
+            return (codigo >= 1 && codigo <= VALORES.length) ? VALORES[codigo - 1] : null;
+        }
+    }
+
+    /** Bit que distingue eventos de comandos no byte de marcação. */
+    static final int MARCA_EVENTO = 0x80;
+
+    /**
+     * Comando recusado: vem depois dos eventos do comando, seguida do nome da classe da exceção.
+     * A reprodução precisa ser recusada com a mesma exceção no mesmo ponto.
+     */
+    static final int MARCA_RECUSA = 0x7F;
+
+    private final int versao;
+    private final int numJogadores;
+    private final AlgoritmoAleatorio algoritmo;
+    private final long[] estadoRng;
+    private final DefinicaoBaralho baralho;
+    private final int[] ordemBaralho;
+    private final int ponteiroBaralho;
+    private final int[] ordemTurno;
+    private final int indiceVez;
+
+    private byte[] dados;
+    private int tamanho;
+    private int comandos;
+
+    DiarioPartida(int numJogadores, AlgoritmoAleatorio algoritmo, long[] estadoRng, DefinicaoBaralho baralho,
+                  int[] ordemBaralho, int ponteiroBaralho, int[] ordemTurno, int indiceVez) {
+        this(VERSAO, numJogadores, algoritmo, estadoRng, baralho, ordemBaralho, ponteiroBaralho, ordemTurno,
+                indiceVez, new byte[256], 0, 0);
+    }
+
+    private DiarioPartida(int versao, int numJogadores, AlgoritmoAleatorio algoritmo, long[] estadoRng,
+                          DefinicaoBaralho baralho, int[] ordemBaralho, int ponteiroBaralho, int[] ordemTurno,
+                          int indiceVez, byte[] dados, int tamanho, int comandos) {
+        this.versao = versao;
+        this.numJogadores = numJogadores;
+        this.algoritmo = algoritmo;
+        this.estadoRng = estadoRng.clone();
+        this.baralho = baralho;
+        this.ordemBaralho = ordemBaralho.clone();
+        this.ponteiroBaralho = ponteiroBaralho;
+        this.ordemTurno = ordemTurno.clone();
+        this.indiceVez = indiceVez;
+        this.dados = dados;
+        this.tamanho = tamanho;
+        this.comandos = comandos;
+    }
+
+    public int getNumJogadores() { return numJogadores; }
+    public AlgoritmoAleatorio getAlgoritmo() { return algoritmo; }
+    /** Baralho de Sorte/Revés em uso quando o diário começou. */
+    public DefinicaoBaralho getDefinicaoBaralho() { return baralho; }
+    public int getQuantidadeComandos() { return comandos; }
+    /** Bytes dos registros, sem o cabeçalho. */
+    public int getTamanhoRegistros() { return tamanho; }
+
+    long[] getEstadoRng() { return estadoRng.clone(); }
+    int[] getOrdemBaralho() { return ordemBaralho.clone(); }
+    int getPonteiroBaralho() { return ponteiroBaralho; }
+    int[] getOrdemTurno() { return ordemTurno.clone(); }
+    int getIndiceVez() { return indiceVez; }
+    byte[] registros() { return dados; }
+
+    /** Cabeçalho vazio para a reprodução, com o mesmo ponto de partida deste diário. */
+    DiarioPartida novoComMesmoInicio() {
+        return new DiarioPartida(versao, numJogadores, algoritmo, estadoRng, baralho, ordemBaralho, ponteiroBaralho,
+                ordemTurno, indiceVez, new byte[256], 0, 0);
+    }
+
+    void comando(Comando c) {
+        byte1(c.codigo());
+        comandos++;
+    }
+
+    void comando(Comando c, int arg) {
+        comando(c);
+        zigzag(arg);
+    }
+
+    void comando(Comando c, int a, int b) {
+        comando(c);
+        zigzag(a);
+        zigzag(b);
+    }
+
+    void comando(Comando c, int[] args) {
+        comando(c);
+        varint(args.length);
+        for (int a : args) {
+            zigzag(a);
+        }
+    }
+
+    void recusa(RuntimeException ex) {
+        byte1(MARCA_RECUSA);
+        texto(ex.getClass().getName());
+    }
+
+    void evento(GameEvent e) {
+        if (e.getTipo() == GameEvent.Tipo.PAGAMENTO_REALIZADO && versao <= VERSAO_SEM_PAGAMENTOS) {
+            return;
+        }
+        byte1(MARCA_EVENTO | e.getTipo().ordinal());
+        switch (e.getTipo()) {
+            case DADOS_LANCADOS: {
+                GameEvent.DadosLancados ev = (GameEvent.DadosLancados) e;
+                varint(ev.getJogadorId());
+                byte1((ev.getD1() << 4) | ev.getD2());
+                break;
+            }
+            case PIAO_MOVIDO: {
+                GameEvent.PiaoMovido ev = (GameEvent.PiaoMovido) e;
+                varint(ev.getJogadorId());
+                varint(ev.getOrigem());
+                varint(ev.getDestino());
+                byte1(ev.isPassouPeloInicio() ? 1 : 0);
+                break;
+            }
+            case ALUGUEL_PAGO: {
+                GameEvent.AluguelPago ev = (GameEvent.AluguelPago) e;
+                varint(ev.getPagadorId());
+                varint(ev.getRecebedorId());
+                varint(ev.getPosicao());
+                zigzag(ev.getValor());
+                break;
+            }
+            case PROPRIEDADE_COMPRADA: {
+                GameEvent.PropriedadeComprada ev = (GameEvent.PropriedadeComprada) e;
+                varint(ev.getJogadorId());
+                varint(ev.getPosicao());
+                zigzag(ev.getPreco());
+                break;
+            }
+            case CONSTRUCAO_REALIZADA: {
+                GameEvent.ConstrucaoRealizada ev = (GameEvent.ConstrucaoRealizada) e;
+                varint(ev.getJogadorId());
+                varint(ev.getPosicao());
+                byte1((ev.getNumCasas() << 1) | (ev.hasHotel() ? 1 : 0));
+                zigzag(ev.getPreco());
+                break;
+            }
+            case CARTA_SACADA: {
+                GameEvent.CartaSacada ev = (GameEvent.CartaSacada) e;
+                varint(ev.getJogadorId());
+                varint(ev.getNumero());
+                break;
+            }
+            case JOGADOR_FALIU:
+                varint(((GameEvent.JogadorFaliu) e).getJogadorId());
+                break;
+            case PARTIDA_ENCERRADA: {
+                GameModel.ResultadoPartida r = ((GameEvent.PartidaEncerrada) e).getResultado();
+                varint(r.getMotivo().ordinal());
+                zigzag(r.getVencedorId());
+                break;
+            }
+            case PAGAMENTO_REALIZADO: {
+                GameEvent.PagamentoRealizado ev = (GameEvent.PagamentoRealizado) e;
+                zigzag(ev.getPagadorId());
+                zigzag(ev.getRecebedorId());
+                zigzag(ev.getValor());
+                byte1(ev.getMotivo().ordinal());
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    private void garantir(int extra) {
+        if (tamanho + extra > dados.length) {
+            dados = Arrays.copyOf(dados, Math.max(dados.length * 2, tamanho + extra));
+        }
+    }
+
+    private void byte1(int b) {
+        garantir(1);
+        dados[tamanho++] = (byte) b;
+    }
+
+    private void varint(int v) {
+        garantir(5);
+        while ((v & ~0x7F) != 0) {
+            dados[tamanho++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        dados[tamanho++] = (byte) v;
+    }
+
+    private void zigzag(int v) {
+        varint((v << 1) ^ (v >> 31));
+    }
+
+    private void texto(String s) {
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        varint(b.length);
+        garantir(b.length);
+        System.arraycopy(b, 0, dados, tamanho, b.length);
+        tamanho += b.length;
+    }
+
+    /** O oficial é só a marca 0; os demais vão carta a carta (tipo, título, descrição e campos). */
+    private void escreverBaralho() {
+        if (baralho == DefinicaoBaralho.oficial()) {
+            varint(0);
+            return;
+        }
+        varint(baralho.total());
+        texto(baralho.getNome());
+        for (int n = 1; n <= baralho.total(); n++) {
+            TipoEfeitoCarta tipo = baralho.tipo(n);
+            varint(tipo.ordinal());
+            texto(baralho.getTitulo(n));
+            texto(baralho.getDescricao(n));
+            for (int k = 0; k < tipo.quantidadeCampos(); k++) {
+                zigzag(baralho.valor(n, k));
+            }
+        }
+    }
+
+    /** Remonta o documento do baralho e compila de novo, com a mesma validação de um arquivo. */
+    private static DefinicaoBaralho lerBaralho(Leitor l) {
+        int total = l.varint();
+        if (total == 0) {
+            return DefinicaoBaralho.oficial();
+        }
+        if (total < 0 || total > BaralhoSorteReves.MAX_CARTAS) {
+            throw new IllegalArgumentException("Baralho do diário com tamanho inválido: " + total);
+        }
+        TipoEfeitoCarta[] tipos = TipoEfeitoCarta.values();
+        Map<String, Object> documento = new LinkedHashMap<>();
+        documento.put(DefinicaoBaralho.CAMPO_NOME_BARALHO, l.texto());
+        List<Object> cartas = new ArrayList<>(total);
+        for (int n = 1; n <= total; n++) {
+            int t = l.varint();
+            if (t < 0 || t >= tipos.length) {
+                throw new IllegalArgumentException("Carta " + n + " do diário com tipo desconhecido: " + t);
+            }
+            Map<String, Object> carta = new LinkedHashMap<>();
+            carta.put(DefinicaoBaralho.CAMPO_TIPO, tipos[t].name());
+            carta.put(DefinicaoBaralho.CAMPO_TITULO, l.texto());
+            carta.put(DefinicaoBaralho.CAMPO_DESCRICAO, l.texto());
+            for (int k = 0; k < tipos[t].quantidadeCampos(); k++) {
+                carta.put(tipos[t].campo(k).nome, l.zigzag());
+            }
+            cartas.add(carta);
+        }
+        documento.put(DefinicaoBaralho.CAMPO_CARTAS, cartas);
+        return DefinicaoBaralho.compilar(documento);
+    }
+
+    /** Cursor sobre os registros; usado pelo reprodutor. */
+    static final class Leitor {
+        private final byte[] dados;
+        private final int fim;
+        private int pos;
+
+        Leitor(byte[] dados, int inicio, int fim) {
+            this.dados = dados;
+            this.pos = inicio;
+            this.fim = fim;
+        }
+
+        boolean temMais() { return pos < fim; }
+        int espiar() { return dados[pos] & 0xFF; }
+        int posicao() { return pos; }
+
+        int byte1() {
+            if (pos >= fim) {
+                throw new IllegalStateException("Diário truncado na posição " + pos);
+            }
+            return dados[pos++] & 0xFF;
+        }
+
+        int varint() {
+            int v = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = byte1();
+                v |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return v;
+                }
+            }
+            throw new IllegalStateException("Varint inválido na posição " + pos);
+        }
+
+        int zigzag() {
+            int v = varint();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        /** Nome da exceção de uma recusa cuja marcação já foi lida. */
+        String recusa() {
+            return texto();
+        }
+
+        String texto() {
+            int n = varint();
+            if (n < 0 || n > fim - pos) {
+                throw new IllegalStateException("Texto truncado na posição " + pos);
+            }
+            String s = new String(dados, pos, n, StandardCharsets.UTF_8);
+            pos += n;
+            return s;
+        }
+
+        /** Pula os campos de um evento cuja marcação já foi lida. */
+        void pularEvento(int marca) {
+            GameEvent.Tipo[] tipos = GameEvent.Tipo.values();
+            int t = marca & ~MARCA_EVENTO;
+            if (t >= tipos.length) {
+                throw new IllegalStateException("Evento desconhecido: " + t);
+            }
+            switch (tipos[t]) {
+                case DADOS_LANCADOS: varint(); byte1(); break;
+                case PIAO_MOVIDO: varint(); varint(); varint(); byte1(); break;
+                case ALUGUEL_PAGO: varint(); varint(); varint(); varint(); break;
+                case PROPRIEDADE_COMPRADA: varint(); varint(); varint(); break;
+                case CONSTRUCAO_REALIZADA: varint(); varint(); byte1(); varint(); break;
+                case CARTA_SACADA: varint(); varint(); break;
+                case JOGADOR_FALIU: varint(); break;
+                case PARTIDA_ENCERRADA: varint(); varint(); break;
+                case PAGAMENTO_REALIZADO: varint(); varint(); varint(); byte1(); break;
+                default: break;
+            }
+        }
+    }
+
+    public byte[] toByteArray() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(tamanho + 128);
+        try {
+            escrever(out);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    public void escrever(OutputStream out) throws IOException {
+        DiarioPartida cab = new DiarioPartida(versao, numJogadores, algoritmo, estadoRng, baralho, ordemBaralho,
+                ponteiroBaralho, ordemTurno, indiceVez, new byte[64], 0, 0);
+        cab.varint(MAGIC);
+        cab.varint(versao);
+        cab.varint(numJogadores);
+        cab.varint(algoritmo.ordinal());
+        cab.varint(estadoRng.length);
+        for (long v : estadoRng) {
+            cab.varint((int) (v >>> 32));
+            cab.varint((int) v);
+        }
+        if (versao != VERSAO_BARALHO_OFICIAL) {
+            cab.escreverBaralho();
+        }
+        cab.varint(ordemBaralho.length);
+        for (int c : ordemBaralho) {
+            cab.varint(c);
+        }
+        cab.varint(ponteiroBaralho);
+        cab.varint(ordemTurno.length);
+        for (int id : ordemTurno) {
+            cab.varint(id);
+        }
+        cab.varint(indiceVez);
+        cab.varint(comandos);
+        cab.varint(tamanho);
+        out.write(cab.dados, 0, cab.tamanho);
+        out.write(dados, 0, tamanho);
+    }
+
+    public static DiarioPartida ler(byte[] bytes) {
+        Leitor l = new Leitor(bytes, 0, bytes.length);
+        if (l.varint() != MAGIC) {
+            throw new IllegalArgumentException("Arquivo não é um diário de partida.");
+        }
+        int versao = l.varint();
+        if (versao != VERSAO && versao != VERSAO_SEM_PAGAMENTOS && versao != VERSAO_BARALHO_OFICIAL) {
+            throw new IllegalArgumentException("Versão de diário não suportada: " + versao);
+        }
+        int numJogadores = l.varint();
+        AlgoritmoAleatorio[] algoritmos = AlgoritmoAleatorio.values();
+        int alg = l.varint();
+        if (alg < 0 || alg >= algoritmos.length) {
+            throw new IllegalArgumentException("Algoritmo de gerador desconhecido: " + alg);
+        }
+        long[] estado = new long[l.varint()];
+        for (int i = 0; i < estado.length; i++) {
+            long alto = l.varint() & 0xFFFFFFFFL;
+            long baixo = l.varint() & 0xFFFFFFFFL;
+            estado[i] = (alto << 32) | baixo;
+        }
+        DefinicaoBaralho definicao = versao == VERSAO_BARALHO_OFICIAL ? DefinicaoBaralho.oficial() : lerBaralho(l);
+        int[] baralho = new int[l.varint()];
+        for (int i = 0; i < baralho.length; i++) {
+            baralho[i] = l.varint();
+        }
+        int ponteiro = l.varint();
+        int[] ordem = new int[l.varint()];
+        for (int i = 0; i < ordem.length; i++) {
+            ordem[i] = l.varint();
+        }
+        int vez = l.varint();
+        int comandos = l.varint();
+        int tamanho = l.varint();
+        if (tamanho < 0 || l.posicao() + tamanho > bytes.length) {
+            throw new IllegalArgumentException("Diário truncado.");
+        }
+        byte[] registros = Arrays.copyOfRange(bytes, l.posicao(), l.posicao() + tamanho);
+        return new DiarioPartida(versao, numJogadores, algoritmos[alg], estado, definicao, baralho, ponteiro, ordem,
+                vez, registros, tamanho, comandos);
+    }
+
+    public static DiarioPartida ler(InputStream in) throws IOException {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        byte[] tmp = new byte[8192];
+        int n;
+        while ((n = in.read(tmp)) > 0) {
+            buf.write(tmp, 0, n);
+        }
+        return ler(buf.toByteArray());
+    }
+}
@@ -0,0 +1,10 @@
+package banco_imobiliario_models;
+
+/**
+ * Efeito de uma carta de Sorte/Revés já compilado, com os parâmetros da carta embutidos. Fica no
+ * array da {@link DefinicaoBaralho} indexado pelo número da carta; o saque chama direto.
+ */
+@FunctionalInterface
+interface EfeitoCarta {
+    void aplicar(GameModel partida, int jogadorId);
+}
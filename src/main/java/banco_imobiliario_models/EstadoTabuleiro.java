@@ -0,0 +1,82 @@
+package banco_imobiliario_models;
+
+import java.util.Arrays;
+
+/**
+ * Parte mutável do tabuleiro numa partida: dono e construções de cada posição, em dois arrays de
+ * bytes. As casas ({@link Tabuleiro}) são imutáveis e compartilhadas entre partidas; só este
+ * estado é criado, copiado no fork e restaurado no importarEstado.
+ */
+final class EstadoTabuleiro {
+    static final int SEM_DONO = -1;
+    static final int MAX_CASAS = 4;
+    private static final int HOTEL = 0x08;
+    private static final int CASAS = 0x07;
+
+    private final byte[] donos;
+    private final byte[] construcoes;
+
+    EstadoTabuleiro(int tamanho) {
+        this.donos = new byte[tamanho];
+        this.construcoes = new byte[tamanho];
+        Arrays.fill(donos, (byte) SEM_DONO);
+    }
+
+    EstadoTabuleiro(EstadoTabuleiro outro) {
+        this.donos = outro.donos.clone();
+        this.construcoes = outro.construcoes.clone();
+    }
+
+    int tamanho() { return donos.length; }
+
+    int dono(int pos) { return donos[pos]; }
+
+    boolean temDono(int pos) { return donos[pos] != SEM_DONO; }
+
+    int numCasas(int pos) { return construcoes[pos] & CASAS; }
+
+    boolean temHotel(int pos) { return (construcoes[pos] & HOTEL) != 0; }
+
+    void definirDono(int pos, int jogadorId) {
+        donos[pos] = (byte) jogadorId;
+    }
+
+    boolean podeConstruirCasa(int pos) {
+        return !temHotel(pos) && numCasas(pos) < MAX_CASAS;
+    }
+
+    void construirCasa(int pos) {
+        if (!podeConstruirCasa(pos))
+            throw new IllegalStateException("Não é possível construir casa.");
+        construcoes[pos]++;
+    }
+
+    boolean podeConstruirHotel(int pos) {
+        return !temHotel(pos) && numCasas(pos) >= 1;
+    }
+
+    void construirHotel(int pos) {
+        if (!podeConstruirHotel(pos))
+            throw new IllegalStateException("Não é possível construir hotel.");
+        construcoes[pos] |= HOTEL;
+    }
+
+    /** Sem dono e sem construções. */
+    void devolverAoBanco(int pos) {
+        donos[pos] = (byte) SEM_DONO;
+        construcoes[pos] = 0;
+    }
+
+    /** Byte de construções como guardado (bits 0-2 casas, 0x08 hotel), para cópia direta. */
+    int construcoes(int pos) { return construcoes[pos]; }
+
+    void restaurar(int pos, int dono, int construcoesCodificadas) {
+        donos[pos] = (byte) dono;
+        construcoes[pos] = (byte) (construcoesCodificadas & (HOTEL | CASAS));
+    }
+
+    void limpar() {
+        Arrays.fill(donos, (byte) SEM_DONO);
+        Arrays.fill(construcoes, (byte) 0);
+    }
+}
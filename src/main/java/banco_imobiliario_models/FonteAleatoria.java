@@ -0,0 +1,36 @@
+package banco_imobiliario_models;
+
+/** Gerador de números aleatórios com estado exportável; usado para dados e embaralhamento do baralho. */
+public interface FonteAleatoria {
+
+    AlgoritmoAleatorio getAlgoritmo();
+
+    /** Inteiro uniforme em [0, limite). */
+    int proximoInt(int limite);
+
+    long proximoLong();
+
+    /** Cópia com o mesmo estado: as duas fontes produzem a mesma sequência daqui em diante. */
+    FonteAleatoria copiar();
+
+    /** Nova fonte independente desta; a sequência de ambas continua reproduzível. */
+    FonteAleatoria dividir();
+
+    long[] exportarEstado();
+
+    void importarEstado(long[] estado);
+
+    /** Chamado ao fim de cada vez; fontes baseadas em contador passam a sortear no próximo turno. */
+    default void avancarTurno() {
+    }
+
+    /** Acesso direto a (turno, sorteio); só fontes baseadas em contador suportam. */
+    default void posicionar(long turno, long sorteio) {
+        throw new UnsupportedOperationException(getAlgoritmo() + " não permite acesso direto a turnos.");
+    }
+
+    /** Sorteio usado ao embaralhar o baralho; por padrão, vem da mesma sequência dos dados. */
+    default int proximoIntEmbaralhamento(int limite) {
+        return proximoInt(limite);
+    }
+}
@@ -0,0 +1,29 @@
+package banco_imobiliario_models;
+
+abstract class FonteAleatoriaBase implements FonteAleatoria {
+
+    /** 31 bits uniformes, no formato de java.util.Random.next(31). */
+    abstract int proximos31Bits();
+
+    @Override
+    public int proximoInt(int limite) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("limite deve ser > 0");
+        }
+        int r = proximos31Bits();
+        int m = limite - 1;
+        if ((limite & m) == 0) {
+            return (int) ((limite * (long) r) >> 31);
+        }
+        for (int u = r; u - (r = u % limite) + m < 0; u = proximos31Bits()) {
+            // rejeita valores que enviesariam o resultado
+        }
+        return r;
+    }
+
+    static void exigirTamanho(long[] estado, int tamanho) {
+        if (estado == null || estado.length != tamanho) {
+            throw new IllegalArgumentException("Estado do gerador deve ter " + tamanho + " valor(es).");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package banco_imobiliario_models;
+
+/** Congruencial linear de 48 bits com as constantes de java.util.Random. */
+final class FonteLcg extends FonteAleatoriaBase {
+    private static final long MULTIPLICADOR = 0x5DEECE66DL;
+    private static final long INCREMENTO = 0xBL;
+    private static final long MASCARA = (1L << 48) - 1;
+
+    private long seed;
+
+    FonteLcg(long seed) {
+        this.seed = (seed ^ MULTIPLICADOR) & MASCARA;
+    }
+
+    private FonteLcg(FonteLcg outra) {
+        this.seed = outra.seed;
+    }
+
+    private int next(int bits) {
+        seed = (seed * MULTIPLICADOR + INCREMENTO) & MASCARA;
+        return (int) (seed >>> (48 - bits));
+    }
+
+    @Override
+    int proximos31Bits() {
+        return next(31);
+    }
+
+    @Override
+    public AlgoritmoAleatorio getAlgoritmo() { return AlgoritmoAleatorio.LCG_JAVA_UTIL; }
+
+    @Override
+    public long proximoLong() {
+        return ((long) next(32) << 32) + next(32);
+    }
+
+    @Override
+    public FonteAleatoria copiar() {
+        return new FonteLcg(this);
+    }
+
+    @Override
+    public FonteAleatoria dividir() {
+        return new FonteLcg(FonteSplitMix64.misturar64(proximoLong()));
+    }
+
+    @Override
+    public long[] exportarEstado() {
+        return new long[] { seed };
+    }
+
+    @Override
+    public void importarEstado(long[] estado) {
+        exigirTamanho(estado, 1);
+        this.seed = estado[0] & MASCARA;
+    }
+}
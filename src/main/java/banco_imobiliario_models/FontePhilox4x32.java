@@ -0,0 +1,127 @@
+package banco_imobiliario_models;
+
+/**
+ * Philox4x32-10 (Salmon et al., 2011): cada sorteio é uma função pura de (seed, turno, índice do sorteio),
+ * então os dados de qualquer turno podem ser recalculados sem repetir os anteriores.
+ * O embaralhamento do baralho usa um fluxo próprio, para não deslocar os sorteios de dados.
+ */
+final class FontePhilox4x32 implements FonteAleatoria {
+    private static final int M0 = 0xD2511F53;
+    private static final int M1 = 0xCD9E8D57;
+    private static final int W0 = 0x9E3779B9;
+    private static final int W1 = 0xBB67AE85;
+    private static final int RODADAS = 10;
+
+    /** Turno reservado ao fluxo de embaralhamento. */
+    static final long TURNO_BARALHO = -1L;
+
+    private long chave;
+    private long turno;
+    private long sorteio;
+    private long sorteioBaralho;
+
+    private final int[] bloco = new int[4];
+
+    FontePhilox4x32(long seed) {
+        this.chave = seed;
+    }
+
+    private FontePhilox4x32(FontePhilox4x32 outra) {
+        this.chave = outra.chave;
+        this.turno = outra.turno;
+        this.sorteio = outra.sorteio;
+        this.sorteioBaralho = outra.sorteioBaralho;
+    }
+
+    static void gerarBloco(long chave, long turno, long sorteio, int[] saida) {
+        int c0 = (int) sorteio, c1 = (int) (sorteio >>> 32);
+        int c2 = (int) turno, c3 = (int) (turno >>> 32);
+        int k0 = (int) chave, k1 = (int) (chave >>> 32);
+        for (int r = 0; r < RODADAS; r++) {
+            long p0 = (M0 & 0xFFFFFFFFL) * (c0 & 0xFFFFFFFFL);
+            long p1 = (M1 & 0xFFFFFFFFL) * (c2 & 0xFFFFFFFFL);
+            int n0 = (int) (p1 >>> 32) ^ c1 ^ k0;
+            int n1 = (int) p1;
+            int n2 = (int) (p0 >>> 32) ^ c3 ^ k1;
+            int n3 = (int) p0;
+            c0 = n0; c1 = n1; c2 = n2; c3 = n3;
+            k0 += W0;
+            k1 += W1;
+        }
+        saida[0] = c0; saida[1] = c1; saida[2] = c2; saida[3] = c3;
+    }
+
+    /** Inteiro em [0, limite) a partir de um bloco; usa as quatro palavras antes de aceitar o viés residual. */
+    static int limitar(int[] bloco, int limite) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("limite deve ser > 0");
+        }
+        final long lim = limite;
+        final long limiar = (0x100000000L - lim) % lim;
+        long m = 0;
+        for (int i = 0; i < bloco.length; i++) {
+            m = (bloco[i] & 0xFFFFFFFFL) * lim;
+            if ((m & 0xFFFFFFFFL) >= limiar) {
+                break;
+            }
+        }
+        return (int) (m >>> 32);
+    }
+
+    @Override
+    public AlgoritmoAleatorio getAlgoritmo() { return AlgoritmoAleatorio.PHILOX4X32; }
+
+    @Override
+    public int proximoInt(int limite) {
+        gerarBloco(chave, turno, sorteio++, bloco);
+        return limitar(bloco, limite);
+    }
+
+    @Override
+    public long proximoLong() {
+        gerarBloco(chave, turno, sorteio++, bloco);
+        return ((long) bloco[0] << 32) | (bloco[1] & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public void avancarTurno() {
+        turno++;
+        sorteio = 0;
+    }
+
+    @Override
+    public void posicionar(long turno, long sorteio) {
+        this.turno = turno;
+        this.sorteio = sorteio;
+    }
+
+    @Override
+    public int proximoIntEmbaralhamento(int limite) {
+        gerarBloco(chave, TURNO_BARALHO, sorteioBaralho++, bloco);
+        return limitar(bloco, limite);
+    }
+
+    @Override
+    public FonteAleatoria copiar() {
+        return new FontePhilox4x32(this);
+    }
+
+    @Override
+    public FonteAleatoria dividir() {
+        return new FontePhilox4x32(FonteSplitMix64.misturar64(chave ^ proximoLong()));
+    }
+
+    @Override
+    public long[] exportarEstado() {
+        return new long[] { chave, turno, sorteio, sorteioBaralho };
+    }
+
+    @Override
+    public void importarEstado(long[] estado) {
+        FonteAleatoriaBase.exigirTamanho(estado, 4);
+        this.chave = estado[0];
+        this.turno = estado[1];
+        this.sorteio = estado[2];
+        this.sorteioBaralho = estado[3];
+    }
+}
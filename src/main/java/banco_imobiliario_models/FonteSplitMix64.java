@@ -0,0 +1,70 @@
+package banco_imobiliario_models;
+
+/** SplitMix64 (mesma construção de java.util.SplittableRandom), com estado (seed, gamma). */
+final class FonteSplitMix64 extends FonteAleatoriaBase {
+    static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long seed;
+    private long gamma;
+
+    FonteSplitMix64(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private FonteSplitMix64(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    static long misturar64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long misturarGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+
+    @Override
+    public AlgoritmoAleatorio getAlgoritmo() { return AlgoritmoAleatorio.SPLITMIX64; }
+
+    @Override
+    public long proximoLong() {
+        seed += gamma;
+        return misturar64(seed);
+    }
+
+    @Override
+    int proximos31Bits() {
+        return (int) (proximoLong() >>> 33);
+    }
+
+    @Override
+    public FonteAleatoria copiar() {
+        return new FonteSplitMix64(seed, gamma);
+    }
+
+    @Override
+    public FonteAleatoria dividir() {
+        long novaSeed = proximoLong();
+        seed += gamma;
+        return new FonteSplitMix64(novaSeed, misturarGamma(seed));
+    }
+
+    @Override
+    public long[] exportarEstado() {
+        return new long[] { seed, gamma };
+    }
+
+    @Override
+    public void importarEstado(long[] estado) {
+        exigirTamanho(estado, 2);
+        this.seed = estado[0];
+        this.gamma = estado[1] | 1L;
+    }
+}
@@ -0,0 +1,86 @@
+package banco_imobiliario_models;
+
+/** xoroshiro128++ (Blackman e Vigna); dividir() usa o salto de 2^64 passos. */
+final class FonteXoroshiro128PlusPlus extends FonteAleatoriaBase {
+    private static final long[] SALTO = { 0x2BD7A6A6E99C2DDCL, 0x0992CCAF6A6FCA05L };
+
+    private long s0;
+    private long s1;
+
+    FonteXoroshiro128PlusPlus(long seed) {
+        long z = seed;
+        this.s0 = FonteSplitMix64.misturar64(z += FonteSplitMix64.GOLDEN_GAMMA);
+        this.s1 = FonteSplitMix64.misturar64(z + FonteSplitMix64.GOLDEN_GAMMA);
+        if ((s0 | s1) == 0) {
+            s1 = 1L;
+        }
+    }
+
+    private FonteXoroshiro128PlusPlus(long s0, long s1) {
+        this.s0 = s0;
+        this.s1 = s1;
+    }
+
+    @Override
+    public AlgoritmoAleatorio getAlgoritmo() { return AlgoritmoAleatorio.XOROSHIRO128PP; }
+
+    @Override
+    public long proximoLong() {
+        final long a = s0;
+        long b = s1;
+        final long resultado = Long.rotateLeft(a + b, 17) + a;
+        b ^= a;
+        s0 = Long.rotateLeft(a, 49) ^ b ^ (b << 21);
+        s1 = Long.rotateLeft(b, 28);
+        return resultado;
+    }
+
+    @Override
+    int proximos31Bits() {
+        return (int) (proximoLong() >>> 33);
+    }
+
+    /** Avança 2^64 passos. */
+    void saltar() {
+        long n0 = 0, n1 = 0;
+        for (long salto : SALTO) {
+            for (int b = 0; b < 64; b++) {
+                if ((salto & (1L << b)) != 0) {
+                    n0 ^= s0;
+                    n1 ^= s1;
+                }
+                proximoLong();
+            }
+        }
+        s0 = n0;
+        s1 = n1;
+    }
+
+    @Override
+    public FonteAleatoria copiar() {
+        return new FonteXoroshiro128PlusPlus(s0, s1);
+    }
+
+    /** A nova fonte fica com a sequência atual; esta salta 2^64 passos à frente, sem sobreposição. */
+    @Override
+    public FonteAleatoria dividir() {
+        FonteXoroshiro128PlusPlus filha = new FonteXoroshiro128PlusPlus(s0, s1);
+        saltar();
+        return filha;
+    }
+
+    @Override
+    public long[] exportarEstado() {
+        return new long[] { s0, s1 };
+    }
+
+    @Override
+    public void importarEstado(long[] estado) {
+        exigirTamanho(estado, 2);
+        if ((estado[0] | estado[1]) == 0) {
+            throw new IllegalArgumentException("Estado nulo é inválido para xoroshiro128++.");
+        }
+        this.s0 = estado[0];
+        this.s1 = estado[1];
+    }
+}
@@ -0,0 +1,147 @@
+package banco_imobiliario_models;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Leitura dos arquivos de tabuleiro para o documento genérico validado por
+ * {@link DefinicaoTabuleiro#compilar(Map)}: um mapa com {@code nome} e a lista {@code casas},
+ * cada casa um mapa com {@code tipo}, {@code nome} e os campos do tipo.
+ *
+ * <p>JSON e YAML trazem essa estrutura diretamente. No XLSX vale a aba "casas" (ou a primeira):
+ * a primeira linha tem os nomes dos campos, cada linha seguinte é uma casa, células vazias são
+ * ignoradas e {@code alugueis} é uma lista separada por ';' ou ','. O nome do tabuleiro é o da aba.
+ */
+final class FormatoTabuleiro {
+    private FormatoTabuleiro() {}
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    static Map<String, Object> lerJson(byte[] conteudo) throws IOException {
+        return lerJson(conteudo, "tabuleiro", DefinicaoTabuleiro.CAMPO_CASAS);
+    }
+
+    static Map<String, Object> lerYaml(byte[] conteudo) throws IOException {
+        return lerYaml(conteudo, "tabuleiro", DefinicaoTabuleiro.CAMPO_CASAS);
+    }
+
+    /**
+     * Lê um documento JSON cuja raiz é um objeto; {@code documento} e {@code lista} só entram nas
+     * mensagens de erro (também usado pelos arquivos de baralho).
+     */
+    static Map<String, Object> lerJson(byte[] conteudo, String documento, String lista) throws IOException {
+        try {
+            return documento(JSON.readValue(conteudo, Object.class), documento, lista);
+        } catch (JsonProcessingException ex) {
+            throw new IOException("JSON de " + documento + " inválido: " + ex.getOriginalMessage(), ex);
+        }
+    }
+
+    static Map<String, Object> lerYaml(byte[] conteudo, String documento, String lista) throws IOException {
+        Yaml yaml = new Yaml(new SafeConstructor(new LoaderOptions()));
+        try (InputStreamReader in = new InputStreamReader(new ByteArrayInputStream(conteudo), StandardCharsets.UTF_8)) {
+            return documento(yaml.load(in), documento, lista);
+        } catch (RuntimeException ex) {
+            throw new IOException("YAML de " + documento + " inválido: " + ex.getMessage(), ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> documento(Object raiz, String documento, String lista) throws IOException {
+        if (!(raiz instanceof Map)) {
+            throw new IOException(Character.toUpperCase(documento.charAt(0)) + documento.substring(1)
+                    + " deve ser um objeto com a lista \"" + lista + "\".");
+        }
+        return (Map<String, Object>) raiz;
+    }
+
+    static Map<String, Object> lerXlsx(byte[] conteudo) throws IOException {
+        try (Workbook wb = new XSSFWorkbook(new ByteArrayInputStream(conteudo))) {
+            if (wb.getNumberOfSheets() == 0) {
+                throw new IOException("Planilha de tabuleiro sem abas.");
+            }
+            Sheet aba = wb.getSheet(DefinicaoTabuleiro.CAMPO_CASAS);
+            if (aba == null) {
+                aba = wb.getSheetAt(0);
+            }
+            Row cabecalho = aba.getRow(aba.getFirstRowNum());
+            if (cabecalho == null) {
+                throw new IOException("Planilha de tabuleiro sem cabeçalho.");
+            }
+            String[] campos = new String[Math.max(0, cabecalho.getLastCellNum())];
+            for (int c = 0; c < campos.length; c++) {
+                Object v = valor(cabecalho.getCell(c));
+                campos[c] = v == null ? null : String.valueOf(v).trim();
+            }
+
+            List<Object> casas = new ArrayList<>();
+            for (int r = aba.getFirstRowNum() + 1; r <= aba.getLastRowNum(); r++) {
+                Row linha = aba.getRow(r);
+                if (linha == null) {
+                    continue;
+                }
+                Map<String, Object> casa = new LinkedHashMap<>();
+                for (int c = 0; c < campos.length; c++) {
+                    Object v = valor(linha.getCell(c));
+                    if (v == null || campos[c] == null || campos[c].isEmpty()) {
+                        continue;
+                    }
+                    if (DefinicaoTabuleiro.CAMPO_ALUGUEIS.equals(campos[c]) && v instanceof String) {
+                        v = new ArrayList<Object>(Arrays.asList(((String) v).trim().split("\\s*[;,]\\s*")));
+                    } else if (DefinicaoTabuleiro.CAMPO_ALUGUEIS.equals(campos[c])) {
+                        v = new ArrayList<Object>(Arrays.asList(v));
+                    }
+                    casa.put(campos[c], v);
+                }
+                if (!casa.isEmpty()) {
+                    casas.add(casa);
+                }
+            }
+            Map<String, Object> doc = new LinkedHashMap<>();
+            doc.put(DefinicaoTabuleiro.CAMPO_NOME_TABULEIRO, aba.getSheetName());
+            doc.put(DefinicaoTabuleiro.CAMPO_CASAS, casas);
+            return doc;
+        } catch (RuntimeException ex) {
+            throw new IOException("Planilha de tabuleiro inválida: " + ex.getMessage(), ex);
+        }
+    }
+
+    /** Texto aparado, número (Double) ou null para célula vazia. */
+    private static Object valor(Cell cell) {
+        if (cell == null) {
+            return null;
+        }
+        CellType tipo = cell.getCellType() == CellType.FORMULA ? cell.getCachedFormulaResultType() : cell.getCellType();
+        switch (tipo) {
+            case NUMERIC:
+                return cell.getNumericCellValue();
+            case STRING:
+                String s = cell.getStringCellValue().trim();
+                return s.isEmpty() ? null : s;
+            case BOOLEAN:
+                return String.valueOf(cell.getBooleanCellValue());
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package banco_imobiliario_models;
+
+/** Evento tipado publicado pelo GameModel com os valores que mudaram. */
+public abstract class GameEvent {
+
+    public static enum Tipo {
+        DADOS_LANCADOS,
+        PIAO_MOVIDO,
+        ALUGUEL_PAGO,
+        PROPRIEDADE_COMPRADA,
+        CONSTRUCAO_REALIZADA,
+        CARTA_SACADA,
+        JOGADOR_FALIU,
+        PARTIDA_ENCERRADA,
+        PAGAMENTO_REALIZADO
+    }
+
+    private final Tipo tipo;
+
+    GameEvent(Tipo tipo) {
+        this.tipo = tipo;
+    }
+
+    public Tipo getTipo() { return tipo; }
+
+    public static final class DadosLancados extends GameEvent {
+        private final int jogadorId;
+        private final int d1, d2;
+
+        DadosLancados(int jogadorId, int d1, int d2) {
+            super(Tipo.DADOS_LANCADOS);
+            this.jogadorId = jogadorId;
+            this.d1 = d1;
+            this.d2 = d2;
+        }
+
+        public int getJogadorId() { return jogadorId; }
+        public int getD1() { return d1; }
+        public int getD2() { return d2; }
+        public int getSoma() { return d1 + d2; }
+        public boolean isDupla() { return d1 == d2; }
+    }
+
+    public static final class PiaoMovido extends GameEvent {
+        private final int jogadorId;
+        private final int origem;
+        private final int destino;
+        private final boolean passouPeloInicio;
+
+        PiaoMovido(int jogadorId, int origem, int destino, boolean passouPeloInicio) {
+            super(Tipo.PIAO_MOVIDO);
+            this.jogadorId = jogadorId;
+            this.origem = origem;
+            this.destino = destino;
+            this.passouPeloInicio = passouPeloInicio;
+        }
+
+        public int getJogadorId() { return jogadorId; }
+        public int getOrigem() { return origem; }
+        public int getDestino() { return destino; }
+        public boolean isPassouPeloInicio() { return passouPeloInicio; }
+    }
+
+    public static final class AluguelPago extends GameEvent {
+        private final int pagadorId;
+        private final int recebedorId;
+        private final int posicao;
+        private final int valor;
+
+        AluguelPago(int pagadorId, int recebedorId, int posicao, int valor) {
+            super(Tipo.ALUGUEL_PAGO);
+            this.pagadorId = pagadorId;
+            this.recebedorId = recebedorId;
+            this.posicao = posicao;
+            this.valor = valor;
+        }
+
+        public int getPagadorId() { return pagadorId; }
+        public int getRecebedorId() { return recebedorId; }
+        public int getPosicao() { return posicao; }
+        public int getValor() { return valor; }
+    }
+
+    public static final class PropriedadeComprada extends GameEvent {
+        private final int jogadorId;
+        private final int posicao;
+        private final int preco;
+
+        PropriedadeComprada(int jogadorId, int posicao, int preco) {
+            super(Tipo.PROPRIEDADE_COMPRADA);
+            this.jogadorId = jogadorId;
+            this.posicao = posicao;
+            this.preco = preco;
+        }
+
+        public int getJogadorId() { return jogadorId; }
+        public int getPosicao() { return posicao; }
+        public int getPreco() { return preco; }
+    }
+
+    public static final class ConstrucaoRealizada extends GameEvent {
+        private final int jogadorId;
+        private final int posicao;
+        private final int numCasas;
+        private final boolean hotel;
+        private final int preco;
+
+        ConstrucaoRealizada(int jogadorId, int posicao, int numCasas, boolean hotel, int preco) {
+            super(Tipo.CONSTRUCAO_REALIZADA);
+            this.jogadorId = jogadorId;
+            this.posicao = posicao;
+            this.numCasas = numCasas;
+            this.hotel = hotel;
+            this.preco = preco;
+        }
+
+        public int getJogadorId() { return jogadorId; }
+        public int getPosicao() { return posicao; }
+        public int getNumCasas() { return numCasas; }
+        public boolean hasHotel() { return hotel; }
+        public int getPreco() { return preco; }
+    }
+
+    public static final class CartaSacada extends GameEvent {
+        private final int jogadorId;
+        private final int numero;
+
+        CartaSacada(int jogadorId, int numero) {
+            super(Tipo.CARTA_SACADA);
+            this.jogadorId = jogadorId;
+            this.numero = numero;
+        }
+
+        public int getJogadorId() { return jogadorId; }
+        public int getNumero() { return numero; }
+    }
+
+    public static final class JogadorFaliu extends GameEvent {
+        private final int jogadorId;
+
+        JogadorFaliu(int jogadorId) {
+            super(Tipo.JOGADOR_FALIU);
+            this.jogadorId = jogadorId;
+        }
+
+        public int getJogadorId() { return jogadorId; }
+    }
+
+    public static final class PartidaEncerrada extends GameEvent {
+        private final GameModel.ResultadoPartida resultado;
+
+        PartidaEncerrada(GameModel.ResultadoPartida resultado) {
+            super(Tipo.PARTIDA_ENCERRADA);
+            this.resultado = resultado;
+        }
+
+        public GameModel.ResultadoPartida getResultado() { return resultado; }
+    }
+
+    /**
+     * Dinheiro que mudou de mão fora do aluguel, que tem {@link AluguelPago}. {@link #BANCO} no lugar de
+     * um jogador indica o banco; {@code valor} é o que foi pago de fato, que pode ser menos que o devido
+     * quando o pagador vai à falência.
+     */
+    public static final class PagamentoRealizado extends GameEvent {
+        public static final int BANCO = -1;
+
+        public static enum Motivo {
+            HONORARIOS,
+            IMPOSTO,
+            LUCRO,
+            CARTA
+        }
+
+        private final int pagadorId;
+        private final int recebedorId;
+        private final int valor;
+        private final Motivo motivo;
+
+        PagamentoRealizado(int pagadorId, int recebedorId, int valor, Motivo motivo) {
+            super(Tipo.PAGAMENTO_REALIZADO);
+            this.pagadorId = pagadorId;
+            this.recebedorId = recebedorId;
+            this.valor = valor;
+            this.motivo = motivo;
+        }
+
+        public int getPagadorId() { return pagadorId; }
+        public int getRecebedorId() { return recebedorId; }
+        public int getValor() { return valor; }
+        public Motivo getMotivo() { return motivo; }
+    }
+}
@@ -1,5 +1,6 @@
 package banco_imobiliario_models;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -9,11 +10,16 @@ import java.util.Set;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.HashMap;
-import java.text.Normalizer;
 import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 public class GameModel {
 
+    /** Caixa do banco e de cada jogador no início da partida (o diário só começa desse estado). */
+    static final int SALDO_INICIAL_BANCO = 200_000;
+    static final int SALDO_INICIAL_JOGADOR = 4000;
+
     private RandomProvider rng;
     private final Dado dado1 = new Dado();
     private final Dado dado2 = new Dado();
@@ -21,12 +27,15 @@ public class GameModel {
     private Banco banco;
     private final List<Jogador> jogadores = new ArrayList<>();
     private Tabuleiro tabuleiro;
+    private EstadoTabuleiro estadoTabuleiro;
+    private final IndicePosses posses = new IndicePosses(0);
     private boolean salvamentoDisponivel = true;
     private boolean partidaEncerrada = false;
     private ResultadoPartida resultadoPartida = null;
 
     
     private Integer ultimoD1 = null, ultimoD2 = null;
+    private final ResultadoMovimentoBuffer movimentoAtual = new ResultadoMovimentoBuffer();
 
     
     private boolean jaLancouNesteTurno = false;
@@ -77,20 +86,50 @@ public class GameModel {
     }
 
     
+    private DefinicaoBaralho definicaoBaralho = DefinicaoBaralho.oficial();
     private int tamanhoBaralhoSR = 30;
-    private int ponteiroBaralhoSR = 0;
-    private final List<Integer> ordemBaralhoSR = new ArrayList<>();
+    private BaralhoSorteReves baralhoSR = new BaralhoSorteReves();
 
-    
-    private final Map<Integer, Set<Integer>> cartasSRPorJogador = new HashMap<>();
+    /** Número da carta (0 = nenhuma); o objeto vem da {@link DefinicaoBaralho}. */
+    private int ultimaCartaSR = 0;
+    private int srRecemSacada = 0;
 
-    
-    private Optional<SorteRevesCard> ultimaCartaSR = Optional.empty();
-    private Optional<SorteRevesCard> srRecemSacada = Optional.empty();
+    private int numeroSeDefinido(Integer numero) {
+        return numero != null && definicaoBaralho.carta(numero) != null ? numero : 0;
+    }
+
+    /**
+     * Troca o baralho de Sorte/Revés desta partida e das próximas (como o tabuleiro, vale até ser
+     * trocado de novo). O baralho é remontado e embaralhado; use antes de começar a jogar e antes
+     * de {@link #iniciarDiario()}, que grava o baralho no cabeçalho.
+     */
+    public void carregarBaralhoSorteReves(DefinicaoBaralho definicao) {
+        if (definicao == null) {
+            throw new IllegalArgumentException("definicao == null");
+        }
+        if (diario != null) {
+            throw new IllegalStateException("Não é possível trocar o baralho com o diário em andamento.");
+        }
+        this.definicaoBaralho = definicao;
+        this.tamanhoBaralhoSR = definicao.total();
+        this.ultimaCartaSR = numeroSeDefinido(ultimaCartaSR);
+        this.srRecemSacada = numeroSeDefinido(srRecemSacada);
+        reconstruirBaralhoSorteReves();
+        notifyObservers();
+    }
+
+    public DefinicaoBaralho getDefinicaoBaralho() {
+        return definicaoBaralho;
+    }
 
     
     public void configurarBaralhoSorteRevesPadrao(int totalCartas) {
-        int limite = SorteRevesCards.total();
+        registrarComando(DiarioPartida.Comando.CONFIGURAR_BARALHO, totalCartas);
+        executarRegistrado(() -> configurarBaralhoSorteRevesPadraoInterno(totalCartas));
+    }
+
+    private void configurarBaralhoSorteRevesPadraoInterno(int totalCartas) {
+        int limite = definicaoBaralho.total();
         if (totalCartas <= 0 || totalCartas > limite) {
             totalCartas = limite;
         }
@@ -100,129 +139,134 @@ public class GameModel {
 
     
     public Optional<SorteRevesCard> getUltimaCartaSorteReves() {
-        return ultimaCartaSR;
+        return Optional.ofNullable(definicaoBaralho.carta(ultimaCartaSR));
     }
 
     
     public Optional<SorteRevesCard> getCartaSorteRevesPorNumero(int numero) {
-        if (numero < 1 || numero > SorteRevesCards.total()) {
-            return Optional.empty();
-        }
-        SorteRevesCards.Definition def = SorteRevesCards.get(numero);
-        if (def == null) {
-            return Optional.empty();
-        }
-        return Optional.of(new SorteRevesCard(numero, def.getTitulo(), def.getDescricao()));
+        return Optional.ofNullable(definicaoBaralho.carta(numero));
     }
 
     
     public Set<Integer> getCartasSorteRevesDoJogador(int jogadorId) {
-        Set<Integer> cartas = cartasSRPorJogador.get(jogadorId);
-        return cartas == null ? Collections.emptySet() : Collections.unmodifiableSet(cartas);
+        return Collections.unmodifiableSet(BaralhoSorteReves.comoConjunto(baralhoSR.cartasDo(jogadorId)));
     }
 
     
     public Optional<SorteRevesCard> consumirSorteRevesRecemSacada() {
-        Optional<SorteRevesCard> out = srRecemSacada;
-        srRecemSacada = Optional.empty();
+        Optional<SorteRevesCard> out = Optional.ofNullable(definicaoBaralho.carta(srRecemSacada));
+        srRecemSacada = 0;
         return out;
     }
 
     private void reconstruirBaralhoSorteReves() {
-        ordemBaralhoSR.clear();
         if (tamanhoBaralhoSR <= 0) {
-            tamanhoBaralhoSR = SorteRevesCards.total();
-        }
-        for (int i = 1; i <= tamanhoBaralhoSR; i++) {
-            ordemBaralhoSR.add(i);
-        }
-        embaralharOrdemBaralhoSorteReves();
-        ponteiroBaralhoSR = 0;
-    }
-
-    private void embaralharOrdemBaralhoSorteReves() {
-        if (ordemBaralhoSR.size() <= 1) {
-            return;
-        }
-        if (rng != null) {
-            rng.shuffle(ordemBaralhoSR);
-        } else {
-            Collections.shuffle(ordemBaralhoSR);
+            tamanhoBaralhoSR = definicaoBaralho.total();
         }
+        baralhoSR.montar(tamanhoBaralhoSR, rng);
     }
 
     private void sincronizarBaralhoSorteRevesSeNecessario() {
-        if (ordemBaralhoSR.size() != tamanhoBaralhoSR) {
+        if (baralhoSR.tamanho() != tamanhoBaralhoSR) {
             reconstruirBaralhoSorteReves();
         }
     }
 
     
-    private SorteRevesCard sortearCartaParaJogador(int jogadorId) {
+    private void sortearCartaParaJogador(int jogadorId) {
         if (tamanhoBaralhoSR <= 0) {
-            tamanhoBaralhoSR = SorteRevesCards.total();
+            tamanhoBaralhoSR = definicaoBaralho.total();
         }
         sincronizarBaralhoSorteRevesSeNecessario();
-        if (ordemBaralhoSR.isEmpty()) {
+        if (baralhoSR.tamanho() == 0) {
             reconstruirBaralhoSorteReves();
         }
-        int numero = ordemBaralhoSR.get(ponteiroBaralhoSR);
-        ponteiroBaralhoSR = (ponteiroBaralhoSR + 1) % ordemBaralhoSR.size();
+        final int numero = baralhoSR.sacar();
+        baralhoSR.guardar(jogadorId, numero);
+        ultimaCartaSR = numero;
+        srRecemSacada = numero;
+        if (temOuvintesDeEventos()) {
+            publicarEvento(new GameEvent.CartaSacada(jogadorId, numero));
+        }
+        final EfeitoCarta efeito = definicaoBaralho.efeito(numero);
+        if (efeito == null) {
+            return;
+        }
+        efeito.aplicar(this, jogadorId);
+        if (!definicaoBaralho.ficaComJogador(numero)) {
+            removerCartaSorteRevesDoJogador(jogadorId, numero);
+        }
+    }
 
-        SorteRevesCards.Definition def = SorteRevesCards.get(numero);
-        String titulo = def != null ? def.getTitulo() : String.format(Locale.ROOT, "Sorte/Revés #%02d", numero);
-        String descricao = def != null ? def.getDescricao() : "";
+    // Operações usadas pelos efeitos de carta compilados (TipoEfeitoCarta).
 
-        SorteRevesCard card = new SorteRevesCard(numero, titulo, descricao);
-        Set<Integer> cartas = cartasSRPorJogador.get(jogadorId);
-        if (cartas == null) {
-            cartas = new HashSet<>();
-            cartasSRPorJogador.put(jogadorId, cartas);
+    void cartaReceberDoBanco(int jogadorId, int valor) {
+        if (valor > 0) {
+            banco.debitar(valor);
+            jogadores.get(jogadorId).creditar(valor);
+            publicarPagamento(GameEvent.PagamentoRealizado.BANCO, jogadorId, valor,
+                    GameEvent.PagamentoRealizado.Motivo.CARTA);
         }
-        cartas.add(numero);
-        ultimaCartaSR = Optional.of(card);
-        srRecemSacada = Optional.of(card);
-        aplicarEfeitoCartaSorteReves(jogadorId, numero, def);
-        return card;
     }
 
-    private void aplicarEfeitoCartaSorteReves(int jogadorId, int numero, SorteRevesCards.Definition def) {
-        if (def == null) {
-            return;
-        }
-        Jogador jogador = jogadores.get(jogadorId);
-        if (jogador == null) {
-            return;
-        }
+    void cartaPagarAoBanco(int jogadorId, int valor) {
+        processarPagamentoAoBanco(jogadores.get(jogadorId), valor);
+    }
 
-        boolean manterCarta = def.getEffectType() == SorteRevesCards.EffectType.SAIDA_LIVRE_DA_PRISAO;
+    void cartaReceberDeCadaJogador(int jogadorId, int valor) {
+        processarReceberDeCadaJogador(jogadorId, valor);
+    }
 
-        switch (def.getEffectType()) {
-            case RECEBER_DO_BANCO:
-                if (def.getValor() > 0) {
-                    banco.debitar(def.getValor());
-                    jogador.creditar(def.getValor());
-                }
-                break;
-            case PAGAR_AO_BANCO:
-                processarPagamentoAoBanco(jogador, def.getValor());
-                break;
-            case RECEBER_DE_CADA_JOGADOR:
-                processarReceberDeCadaJogador(jogadorId, def.getValor());
-                break;
-            case SAIDA_LIVRE_DA_PRISAO:
-                jogador.setCartaSaidaLivre(true);
-                break;
-            case IR_PARA_PRISAO:
-                enviarParaPrisao(jogadorId);
-                break;
-            default:
-                break;
+    void cartaSaidaLivreDaPrisao(int jogadorId) {
+        jogadores.get(jogadorId).setCartaSaidaLivre(true);
+    }
+
+    void cartaIrParaPrisao(int jogadorId) {
+        moverParaPrisao(jogadorId);
+    }
+
+    int cartaPosicao(int jogadorId) {
+        return jogadores.get(jogadorId).getPosicao();
+    }
+
+    int cartaTamanhoTabuleiro() {
+        return tabuleiro.tamanho();
+    }
+
+    /**
+     * Leva o pião para {@code destino}, que passa a ser a casa da queda (compra e aluguel valem lá).
+     * {@code passos} é quanto ele andou para a frente (0 ao voltar). "Vá para a prisão" manda para a
+     * prisão; cair em outro Sorte/Revés não saca outra carta.
+     */
+    void cartaMoverPara(int jogadorId, int destino, int passos) {
+        final Jogador j = jogadores.get(jogadorId);
+        final int posAnt = j.getPosicao();
+        final boolean passouPeloInicio = tabuleiro.passaPeloInicioAndando(posAnt, passos);
+        j.moverPara(destino);
+        if (temOuvintesDeEventos()) {
+            publicarEvento(new GameEvent.PiaoMovido(jogadorId, posAnt, destino, passouPeloInicio));
+        }
+        if (passouPeloInicio) {
+            pagarHonorarios(j);
         }
+        if (tabuleiro.getTipoCasa(destino) == TipoCasa.VA_PARA_PRISAO) {
+            moverParaPrisao(jogadorId);
+        }
+        iniciarContextoDeQueda(j.getPosicao());
+    }
 
-        if (!manterCarta) {
-            removerCartaSorteRevesDoJogador(jogadorId, numero);
+    /** Soma de {@code porCasa} por casa e {@code porHotel} por hotel nas propriedades do jogador. */
+    int cartaValorPorConstrucoes(int jogadorId, int porCasa, int porHotel) {
+        long total = 0;
+        final int qtd = posses.contar(jogadorId);
+        for (int i = 0; i < qtd; i++) {
+            final int pos = posses.posicao(jogadorId, i);
+            total += (long) estadoTabuleiro.numCasas(pos) * porCasa;
+            if (estadoTabuleiro.temHotel(pos)) {
+                total += porHotel;
+            }
         }
+        return (int) Math.min(Integer.MAX_VALUE, total);
     }
 
     private void processarPagamentoAoBanco(Jogador jogador, int valor) {
@@ -237,6 +281,8 @@ public class GameModel {
         if (jogador.getSaldo() >= valor) {
             jogador.debitar(valor);
             banco.creditar(valor);
+            publicarPagamento(jogador.getId(), GameEvent.PagamentoRealizado.BANCO, valor,
+                    GameEvent.PagamentoRealizado.Motivo.CARTA);
             return;
         }
 
@@ -245,6 +291,8 @@ public class GameModel {
             jogador.debitar(disponivel);
             banco.creditar(disponivel);
         }
+        publicarPagamento(jogador.getId(), GameEvent.PagamentoRealizado.BANCO, disponivel,
+                GameEvent.PagamentoRealizado.Motivo.CARTA);
         executarFalencia(jogador);
     }
 
@@ -281,6 +329,7 @@ public class GameModel {
         if (pagador.getSaldo() >= valor) {
             pagador.debitar(valor);
             recebedor.creditar(valor);
+            publicarPagamento(pagador.getId(), recebedor.getId(), valor, GameEvent.PagamentoRealizado.Motivo.CARTA);
             return valor;
         }
 
@@ -289,44 +338,34 @@ public class GameModel {
             pagador.debitar(disponivel);
             recebedor.creditar(disponivel);
         }
+        publicarPagamento(pagador.getId(), recebedor.getId(), disponivel, GameEvent.PagamentoRealizado.Motivo.CARTA);
         executarFalencia(pagador);
         return disponivel;
     }
 
     private void removerCartaSorteRevesDoJogador(int jogadorId, int numero) {
-        Set<Integer> cartas = cartasSRPorJogador.get(jogadorId);
-        if (cartas == null) {
-            return;
-        }
-        cartas.remove(numero);
-        if (cartas.isEmpty()) {
-            cartasSRPorJogador.remove(jogadorId);
-        }
+        baralhoSR.devolver(jogadorId, numero);
     }
 
-    
-    private boolean isCasaSorteReves(Casa c) {
-        if (c == null) return false;
-        String tipo = c.getTipo() == null ? "" : c.getTipo();
-        String nome = c.getNome() == null ? "" : c.getNome();
-
-        String T = normalizarCampoSorteReves(tipo);
-        String N = normalizarCampoSorteReves(nome);
-
-        if (T.contains("CHANCE") || N.contains("CHANCE")) return true;
-        if ((T.contains("SORTE") && (T.contains("REVES") || T.contains("REVEZ"))) ||
-            (N.contains("SORTE") && (N.contains("REVES") || N.contains("REVEZ")))) return true;
-        if (tipo.contains("?") || nome.contains("?")) return true;
-
-        return T.equals("SORTE_REVES") || T.equals("INTERROGACAO") || T.equals("SORTE_REVEZ");
+    /** Gasta uma carta de saída livre: devolve ao baralho a de menor número que o jogador guarda. */
+    private void usarCartaSaidaLivre(Jogador jogador) {
+        long guardadas = baralhoSR.cartasDo(jogador.getId()) & definicaoBaralho.cartasSaidaLivre();
+        if (guardadas != 0L) {
+            removerCartaSorteRevesDoJogador(jogador.getId(), Long.numberOfTrailingZeros(guardadas) + 1);
+        }
+        jogador.setCartaSaidaLivre((guardadas & (guardadas - 1)) != 0L);
     }
 
-    private String normalizarCampoSorteReves(String valor) {
-        String base = valor == null ? "" : valor;
-        String n = Normalizer.normalize(base, Normalizer.Form.NFD)
-                .replaceAll("\\p{M}+", "");
-        n = n.replace('/', '_').replace('-', '_').replace(' ', '_');
-        return n.toUpperCase(Locale.ROOT);
+    /**
+     * Estados que só marcam que o jogador tem a carta (saves em texto, registros) ganham a primeira
+     * carta de saída livre do baralho; baralhos sem essa carta ficam só com a marca.
+     */
+    private void guardarCartaSaidaLivreSeFaltar(Jogador jogador) {
+        int carta = definicaoBaralho.primeiraCartaSaidaLivre();
+        if (jogador.temCartaSaidaLivre() && carta != 0
+                && (baralhoSR.cartasDo(jogador.getId()) & definicaoBaralho.cartasSaidaLivre()) == 0L) {
+            baralhoSR.guardar(jogador.getId(), carta);
+        }
     }
 
     
@@ -334,33 +373,41 @@ public class GameModel {
     
 
     public void novaPartida(int numJogadores, Long seedOpcional) {
+        novaPartida(numJogadores, seedOpcional, AlgoritmoAleatorio.LCG_JAVA_UTIL);
+    }
+
+    public void novaPartida(int numJogadores, Long seedOpcional, AlgoritmoAleatorio algoritmo) {
         if (numJogadores < 2 || numJogadores > 6) {
             throw new IllegalArgumentException("Número de jogadores deve estar entre 2 e 6.");
         }
-        this.rng = new RandomProvider(seedOpcional);
+        this.diario = null;
+        this.rng = new RandomProvider(algoritmo, seedOpcional);
         this.turno = new Turno(numJogadores);
-        this.banco = new Banco(200_000);
+        this.banco = new Banco(SALDO_INICIAL_BANCO);
         this.partidaEncerrada = false;
         this.resultadoPartida = null;
         this.salvamentoDisponivel = true;
 
         this.jogadores.clear();
-        cartasSRPorJogador.clear();
+        baralhoSR.reiniciarPosse(numJogadores);
 
         for (int i = 0; i < numJogadores; i++) {
-            this.jogadores.add(new Jogador(i, 4000));
-            cartasSRPorJogador.put(i, new HashSet<>());
+            this.jogadores.add(new Jogador(i, SALDO_INICIAL_JOGADOR));
+        }
+        if (estadoTabuleiro != null) {
+            estadoTabuleiro.limpar();
         }
+        reconstruirIndicePosses();
 
-        configurarBaralhoSorteRevesPadrao(30);
+        configurarBaralhoSorteRevesPadrao(definicaoBaralho.total());
 
         this.ultimoD1 = this.ultimoD2 = null;
         this.jaLancouNesteTurno = false;
         this.deveIrParaPrisaoPorTerceiraDupla = false;
         this.autoLancamentoAposSaidaPrisao = false;
         this.executandoAutoLancamento = false;
-        this.ultimaCartaSR = Optional.empty();
-        this.srRecemSacada = Optional.empty();
+        this.ultimaCartaSR = 0;
+        this.srRecemSacada = 0;
         limparContextoDeQueda();
         liberarSalvamentoNoInicioDaVez();
         notifyObservers();
@@ -371,6 +418,8 @@ public class GameModel {
             throw new IllegalArgumentException("Tabuleiro inválido.");
         }
         this.tabuleiro = tabuleiro;
+        this.estadoTabuleiro = new EstadoTabuleiro(tabuleiro.tamanho());
+        reconstruirIndicePosses();
     }
 
     private void exigirPartidaIniciada() {
@@ -414,6 +463,11 @@ public class GameModel {
     
 
     public ResultadoDados lancarDados() {
+        registrarComando(DiarioPartida.Comando.LANCAR_DADOS);
+        return executarRegistrado(this::lancarDadosInterno);
+    }
+
+    private ResultadoDados lancarDadosInterno() {
         exigirPartidaIniciada();
         if (jaLancouNesteTurno) {
             throw new IllegalStateException("Neste turno você já rolou os dados.");
@@ -428,12 +482,20 @@ public class GameModel {
         if (turno.houveDupla() && turno.getDuplasConsecutivas() >= 3) {
             this.deveIrParaPrisaoPorTerceiraDupla = true;
         }
+        if (temOuvintesDeEventos()) {
+            publicarEvento(new GameEvent.DadosLancados(getJogadorDaVez(), d1, d2));
+        }
         notifyObservers();
         return new ResultadoDados(d1, d2);
     }
 
     
     public ResultadoDados lancarDadosForcado(int d1, int d2) {
+        registrarComando(DiarioPartida.Comando.LANCAR_DADOS_FORCADO, d1, d2);
+        return executarRegistrado(() -> lancarDadosForcadoInterno(d1, d2));
+    }
+
+    private ResultadoDados lancarDadosForcadoInterno(int d1, int d2) {
         exigirPartidaIniciada();
         if (jaLancouNesteTurno) {
             throw new IllegalStateException("Neste turno você já rolou os dados.");
@@ -449,10 +511,28 @@ public class GameModel {
         if (turno.houveDupla() && turno.getDuplasConsecutivas() >= 3) {
             this.deveIrParaPrisaoPorTerceiraDupla = true;
         }
+        if (temOuvintesDeEventos()) {
+            publicarEvento(new GameEvent.DadosLancados(getJogadorDaVez(), d1, d2));
+        }
         notifyObservers();
         return new ResultadoDados(d1, d2);
     }
 
+    /**
+     * Dados do lance {@code lance} (0 = primeiro da vez) no turno {@code turno} de uma partida criada com
+     * {@link AlgoritmoAleatorio#PHILOX4X32} e esta seed; não depende dos turnos anteriores.
+     */
+    public static ResultadoDados dadosDoTurno(long seed, long turno, int lance) {
+        if (turno < 0 || lance < 0) {
+            throw new IllegalArgumentException("turno e lance devem ser >= 0");
+        }
+        FonteAleatoria fonte = AlgoritmoAleatorio.PHILOX4X32.criar(seed);
+        fonte.posicionar(turno, 2L * lance);
+        int d1 = fonte.proximoInt(6) + 1;
+        int d2 = fonte.proximoInt(6) + 1;
+        return new ResultadoDados(d1, d2);
+    }
+
     public boolean houveDuplaNoUltimoLancamento() {
         exigirPartidaIniciada();
         
@@ -475,12 +555,20 @@ public class GameModel {
 
     
     public void encerrarVez() {
+        registrarComando(DiarioPartida.Comando.ENCERRAR_VEZ);
+        executarRegistrado(this::encerrarVezInterno);
+    }
+
+    private void encerrarVezInterno() {
         exigirPartidaIniciada();
         passarVezPulandoFalidos();
         limparContextoDeQueda();
         this.jaLancouNesteTurno = false;
         this.ultimoD1 = null;
         this.ultimoD2 = null;
+        if (rng != null) {
+            rng.avancarTurno();
+        }
         liberarSalvamentoNoInicioDaVez();
         notifyObservers();
     }
@@ -524,6 +612,19 @@ public class GameModel {
     
 
     public ResultadoMovimento deslocarPiao() {
+        registrarComando(DiarioPartida.Comando.DESLOCAR_PIAO);
+        iniciarLoteDeNotificacoes();
+        try {
+            return executarRegistrado(() -> {
+                deslocarPiaoInterno();
+                return movimentoAtual.congelar();
+            });
+        } finally {
+            concluirLoteDeNotificacoes();
+        }
+    }
+
+    private void deslocarPiaoInterno() {
         exigirPartidaIniciada();
         exigirTabuleiroCarregado();
         if (ultimoD1 == null || ultimoD2 == null) {
@@ -536,46 +637,53 @@ public class GameModel {
         
         if (deveIrParaPrisaoPorTerceiraDupla) {
             int posAnt = j.getPosicao();
-            enviarParaPrisao(id);
+            moverParaPrisao(id);
             deveIrParaPrisaoPorTerceiraDupla = false;
             turno.resetarDuplas();
             iniciarContextoDeQueda(j.getPosicao());
             notifyObservers();
-            return new ResultadoMovimento(id, posAnt, 0, j.getPosicao(), false);
+            movimentoAtual.preencher(id, posAnt, 0, j.getPosicao(), false);
+            return;
         }
 
         
         if (j.isNaPrisao()) {
-            boolean saiu = tentarSairDaPrisaoComDuplaOuCarta();
+            boolean saiu = tentarSairDaPrisao();
             if (!saiu) {
                 iniciarContextoDeQueda(j.getPosicao());
                 notifyObservers();
-                return new ResultadoMovimento(id, j.getPosicao(), 0, j.getPosicao(), false);
+                movimentoAtual.preencher(id, j.getPosicao(), 0, j.getPosicao(), false);
+                return;
             }
         }
 
         
-        ResultadoMovimento r = Movimento.executar(j, ultimoD1, ultimoD2, tabuleiro);
+        Movimento.executar(j, ultimoD1, ultimoD2, tabuleiro, movimentoAtual);
+        if (temOuvintesDeEventos()) {
+            publicarEvento(new GameEvent.PiaoMovido(id, movimentoAtual.posicaoAnterior,
+                    movimentoAtual.posicaoAtual, movimentoAtual.passouOuCaiuNoInicio));
+        }
 
-        if (r.passouOuCaiuNoInicio) {
-            banco.pagarHonorarios(j);
+        if (movimentoAtual.passouOuCaiuNoInicio) {
+            pagarHonorarios(j);
             notifyObservers();
         }
 
         iniciarContextoDeQueda(j.getPosicao());
 
         
-        Casa casaAtual = tabuleiro.getCasa(j.getPosicao());
-        if ("VA_PARA_PRISAO".equalsIgnoreCase(casaAtual.getTipo())) {
+        final TipoCasa tipoAtual = tabuleiro.getTipoCasa(j.getPosicao());
+        if (tipoAtual == TipoCasa.VA_PARA_PRISAO) {
             int posAnt = j.getPosicao();
-            enviarParaPrisao(id);
+            moverParaPrisao(id);
             iniciarContextoDeQueda(j.getPosicao());
             notifyObservers();
-            return new ResultadoMovimento(id, posAnt, 0, j.getPosicao(), false);
+            movimentoAtual.preencher(id, posAnt, 0, j.getPosicao(), false);
+            return;
         }
 
         
-        if (isCasaSorteReves(casaAtual)) {
+        if (tipoAtual == TipoCasa.SORTE_REVES) {
             sortearCartaParaJogador(id); 
             notifyObservers();
         }
@@ -586,7 +694,6 @@ public class GameModel {
         }
 
         notifyObservers();
-        return r;
     }
 
     
@@ -603,7 +710,7 @@ public class GameModel {
         final AtivoCompravel ativo = asAtivoCompravel(casa);
         if (ativo == null) return false;
 
-        if (ativo.temDono()) return false;
+        if (estadoTabuleiro.temDono(ativo.getPosicao())) return false;
         final int preco = ativo.getPrecoCompra();
         return preco > 0 && j.getSaldo() >= preco;
     }
@@ -618,10 +725,16 @@ public class GameModel {
         final AtivoCompravel ativo = asAtivoCompravel(casa);
         if (ativo == null) return false;
 
-        return ativo.temDono() && ativo.getDono() != j;
+        final int dono = estadoTabuleiro.dono(ativo.getPosicao());
+        return dono != EstadoTabuleiro.SEM_DONO && dono != j.getId();
     }
 
     public boolean comprarPropriedade() {
+        registrarComando(DiarioPartida.Comando.COMPRAR_PROPRIEDADE);
+        return executarRegistrado(this::comprarPropriedadeInterno);
+    }
+
+    private boolean comprarPropriedadeInterno() {
         exigirPartidaIniciada();
         exigirTabuleiroCarregado();
 
@@ -631,7 +744,7 @@ public class GameModel {
         final AtivoCompravel ativo = asAtivoCompravel(casaAtual);
         if (ativo == null)
             return false;
-        if (ativo.temDono())
+        if (estadoTabuleiro.temDono(ativo.getPosicao()))
             return false;
 
         final int preco = ativo.getPrecoCompra();
@@ -640,7 +753,10 @@ public class GameModel {
 
         jogador.debitar(preco);
         banco.creditar(preco);
-        ativo.setDono(jogador);
+        atribuirDono(ativo, jogador);
+        if (temOuvintesDeEventos()) {
+            publicarEvento(new GameEvent.PropriedadeComprada(jogador.getId(), jogador.getPosicao(), preco));
+        }
 
         this.acabouDeComprarNestaQueda = true;
         notifyObservers();
@@ -663,10 +779,10 @@ public class GameModel {
         if (!(casa instanceof Propriedade)) return false;
 
         final Propriedade prop = (Propriedade) casa;
-        if (!prop.temDono() || prop.getDono() != jogador) return false;
+        if (estadoTabuleiro.dono(prop.getPosicao()) != jogador.getId()) return false;
         if (acabouDeComprarNestaQueda) return false;   
         if (jaConstruiuNestaQueda) return false;       
-        if (!prop.podeConstruirCasa()) return false;
+        if (!estadoTabuleiro.podeConstruirCasa(prop.getPosicao())) return false;
 
         final int preco = prop.getPrecoCasa();
         return preco > 0 && jogador.getSaldo() >= preco;
@@ -684,16 +800,21 @@ public class GameModel {
         if (!(casa instanceof Propriedade)) return false;
 
         final Propriedade prop = (Propriedade) casa;
-        if (!prop.temDono() || prop.getDono() != jogador) return false;
+        if (estadoTabuleiro.dono(prop.getPosicao()) != jogador.getId()) return false;
         if (acabouDeComprarNestaQueda) return false;
         if (jaConstruiuNestaQueda) return false;
-        if (!prop.podeConstruirHotel()) return false;
+        if (!estadoTabuleiro.podeConstruirHotel(prop.getPosicao())) return false;
 
         final int preco = prop.getPrecoHotel();
         return preco > 0 && jogador.getSaldo() >= preco;
     }
 
     public boolean construirCasa() {
+        registrarComando(DiarioPartida.Comando.CONSTRUIR_CASA);
+        return executarRegistrado(this::construirCasaInterno);
+    }
+
+    private boolean construirCasaInterno() {
         exigirPartidaIniciada();
         exigirTabuleiroCarregado();
         if (!canConstruirCasaNaCasaAtual()) return false;
@@ -703,13 +824,22 @@ public class GameModel {
 
         jogador.debitar(prop.getPrecoCasa());
         banco.creditar(prop.getPrecoCasa());
-        prop.construirCasa();
+        estadoTabuleiro.construirCasa(prop.getPosicao());
         jaConstruiuNestaQueda = true;
+        if (temOuvintesDeEventos()) {
+            publicarEvento(new GameEvent.ConstrucaoRealizada(jogador.getId(), jogador.getPosicao(),
+                    estadoTabuleiro.numCasas(prop.getPosicao()), false, prop.getPrecoCasa()));
+        }
         notifyObservers();
         return true;
     }
 
     public boolean construirHotel() {
+        registrarComando(DiarioPartida.Comando.CONSTRUIR_HOTEL);
+        return executarRegistrado(this::construirHotelInterno);
+    }
+
+    private boolean construirHotelInterno() {
         exigirPartidaIniciada();
         exigirTabuleiroCarregado();
         if (!canConstruirHotelNaCasaAtual()) return false;
@@ -719,8 +849,12 @@ public class GameModel {
 
         jogador.debitar(prop.getPrecoHotel());
         banco.creditar(prop.getPrecoHotel());
-        prop.construirHotel();
+        estadoTabuleiro.construirHotel(prop.getPosicao());
         jaConstruiuNestaQueda = true;
+        if (temOuvintesDeEventos()) {
+            publicarEvento(new GameEvent.ConstrucaoRealizada(jogador.getId(), jogador.getPosicao(),
+                    estadoTabuleiro.numCasas(prop.getPosicao()), true, prop.getPrecoHotel()));
+        }
         notifyObservers();
         return true;
     }
@@ -730,6 +864,16 @@ public class GameModel {
     
 
     public Transacao pagarAluguelSeDevido() {
+        registrarComando(DiarioPartida.Comando.PAGAR_ALUGUEL);
+        iniciarLoteDeNotificacoes();
+        try {
+            return executarRegistrado(this::cobrarAluguelSeDevido);
+        } finally {
+            concluirLoteDeNotificacoes();
+        }
+    }
+
+    private Transacao cobrarAluguelSeDevido() {
         exigirPartidaIniciada();
         exigirTabuleiroCarregado();
 
@@ -742,16 +886,16 @@ public class GameModel {
             return Transacao.semEfeito("Casa atual não é propriedade/companhia", idPagador, pagador.getPosicao(), null, 0);
         }
 
-        if (!ativo.temDono()) {
+        if (!estadoTabuleiro.temDono(ativo.getPosicao())) {
             return Transacao.semEfeito("Posse sem dono", idPagador, pagador.getPosicao(), null, 0);
         }
 
-        final Jogador dono = ativo.getDono();
+        final Jogador dono = jogadores.get(estadoTabuleiro.dono(ativo.getPosicao()));
         if (dono == pagador) {
             return Transacao.semEfeito("Posse do próprio jogador", idPagador, pagador.getPosicao(), dono.getId(), 0);
         }
 
-        final int aluguel = ativo.calcularAluguel();
+        final int aluguel = ativo.calcularAluguel(estadoTabuleiro);
         if (aluguel <= 0) {
             return Transacao.semEfeito("Aluguel calculado como zero", idPagador, pagador.getPosicao(), dono.getId(), 0);
         }
@@ -764,6 +908,9 @@ public class GameModel {
         if (pagador.getSaldo() >= aluguel) {
             pagador.debitar(aluguel);
             dono.creditar(aluguel);
+            if (temOuvintesDeEventos()) {
+                publicarEvento(new GameEvent.AluguelPago(idPagador, dono.getId(), ativo.getPosicao(), aluguel));
+            }
             notifyObservers(); 
             return Transacao.aluguelEfetuado(idPagador, dono.getId(), ativo.getPosicao(), aluguel);
         }
@@ -774,26 +921,49 @@ public class GameModel {
             pagador.debitar(disponivel);
             dono.creditar(disponivel);
         }
+        if (temOuvintesDeEventos()) {
+            publicarEvento(new GameEvent.AluguelPago(idPagador, dono.getId(), ativo.getPosicao(), disponivel));
+        }
         executarFalencia(pagador);
         notifyObservers(); 
         return Transacao.aluguelEfetuado(idPagador, dono.getId(), ativo.getPosicao(), disponivel);
     }
 
     public Transacao aplicarEfeitosObrigatoriosPosMovimento() {
+        registrarComando(DiarioPartida.Comando.APLICAR_OBRIGATORIOS);
+        iniciarLoteDeNotificacoes();
+        try {
+            return executarRegistrado(this::aplicarEfeitosObrigatorios);
+        } finally {
+            concluirLoteDeNotificacoes();
+        }
+    }
+
+    private Transacao aplicarEfeitosObrigatorios() {
         
         Transacao t = aplicarCasaEspecialSeDevida();
         if (t != null && !"SEM_EFEITO".equals(t.getTipo())) {
             return t;
         }
         
-        return pagarAluguelSeDevido();
+        return cobrarAluguelSeDevido();
     }
 
     public Transacao deslocarPiaoEAplicarObrigatorios() {
-        deslocarPiao();
-        Transacao resultado = aplicarEfeitosObrigatoriosPosMovimento();
-        processarLancamentosAutomaticosSeNecessario();
-        return resultado;
+        registrarComando(DiarioPartida.Comando.DESLOCAR_E_APLICAR_OBRIGATORIOS);
+        return executarRegistrado(this::deslocarPiaoEAplicarObrigatoriosInterno);
+    }
+
+    private Transacao deslocarPiaoEAplicarObrigatoriosInterno() {
+        iniciarLoteDeNotificacoes();
+        try {
+            deslocarPiaoInterno();
+            Transacao resultado = aplicarEfeitosObrigatorios();
+            processarLancamentosAutomaticosSeNecessario();
+            return resultado;
+        } finally {
+            concluirLoteDeNotificacoes();
+        }
     }
 
     
@@ -801,6 +971,11 @@ public class GameModel {
     
 
     public void enviarParaPrisao(int idJogador) {
+        registrarComando(DiarioPartida.Comando.ENVIAR_PARA_PRISAO, idJogador);
+        executarRegistrado(() -> moverParaPrisao(idJogador));
+    }
+
+    private void moverParaPrisao(int idJogador) {
         exigirPartidaIniciada();
         exigirTabuleiroCarregado();
         if (idJogador < 0 || idJogador >= jogadores.size()) {
@@ -808,7 +983,11 @@ public class GameModel {
         }
         final int idxPrisao = getIndicePrisaoOrThrow();
         final Jogador j = jogadores.get(idJogador);
+        final int posAnt = j.getPosicao();
         j.moverPara(idxPrisao);
+        if (temOuvintesDeEventos()) {
+            publicarEvento(new GameEvent.PiaoMovido(idJogador, posAnt, idxPrisao, false));
+        }
         if (j.temCartaSaidaLivre()) {
             ativarSaidaAutomaticaDaPrisao(j);
         } else {
@@ -821,8 +1000,7 @@ public class GameModel {
         if (jogador == null) {
             return;
         }
-        jogador.setCartaSaidaLivre(false);
-        removerCartaSorteRevesDoJogador(jogador.getId(), 9);
+        usarCartaSaidaLivre(jogador);
         jogador.setNaPrisao(false);
         this.jaLancouNesteTurno = false;
         this.ultimoD1 = null;
@@ -841,8 +1019,8 @@ public class GameModel {
                 this.jaLancouNesteTurno = false;
                 this.ultimoD1 = null;
                 this.ultimoD2 = null;
-                lancarDados();
-                deslocarPiaoEAplicarObrigatorios();
+                lancarDadosInterno();
+                deslocarPiaoEAplicarObrigatoriosInterno();
             } finally {
                 executandoAutoLancamento = false;
             }
@@ -850,6 +1028,11 @@ public class GameModel {
     }
 
     public boolean tentarSairDaPrisaoComDuplaOuCarta() {
+        registrarComando(DiarioPartida.Comando.TENTAR_SAIR_DA_PRISAO);
+        return executarRegistrado(this::tentarSairDaPrisao);
+    }
+
+    private boolean tentarSairDaPrisao() {
         exigirPartidaIniciada();
         exigirTabuleiroCarregado();
         final Jogador j = jogadores.get(getJogadorDaVez());
@@ -857,8 +1040,7 @@ public class GameModel {
             return false;
 
         if (j.temCartaSaidaLivre()) {
-            j.setCartaSaidaLivre(false);
-            removerCartaSorteRevesDoJogador(j.getId(), 9);
+            usarCartaSaidaLivre(j);
             j.setNaPrisao(false);
             turno.resetarDuplas();
             return true;
@@ -884,6 +1066,11 @@ public class GameModel {
     
 
     public boolean venderPropriedadeAoBanco(int posicaoPropriedade) {
+        registrarComando(DiarioPartida.Comando.VENDER_PROPRIEDADE, posicaoPropriedade);
+        return executarRegistrado(() -> venderPropriedadeAoBancoInterno(posicaoPropriedade));
+    }
+
+    private boolean venderPropriedadeAoBancoInterno(int posicaoPropriedade) {
         exigirPartidaIniciada();
         exigirTabuleiroCarregado();
 
@@ -893,20 +1080,30 @@ public class GameModel {
             return false;
 
         final AtivoCompravel ativo = (AtivoCompravel) c;
-        if (!ativo.temDono() || ativo.getDono() != j)
+        if (estadoTabuleiro.dono(ativo.getPosicao()) != j.getId())
             return false;
 
-        final int valorAgregado = Math.max(0, ativo.valorAgregadoAtual());
+        final int valorAgregado = Math.max(0, ativo.valorAgregado(estadoTabuleiro));
         final int pagamento = (valorAgregado * 9) / 10; 
 
         banco.debitar(pagamento); 
         j.creditar(pagamento);
-        ativo.resetarParaBanco();
+        devolverAoBanco(ativo);
         notifyObservers();
         return true;
     }
 
     public boolean declararFalenciaSeNecessario() {
+        registrarComando(DiarioPartida.Comando.DECLARAR_FALENCIA);
+        iniciarLoteDeNotificacoes();
+        try {
+            return executarRegistrado(this::liquidarOuFalirSeNecessario);
+        } finally {
+            concluirLoteDeNotificacoes();
+        }
+    }
+
+    private boolean liquidarOuFalirSeNecessario() {
         exigirPartidaIniciada();
         exigirTabuleiroCarregado();
 
@@ -918,15 +1115,15 @@ public class GameModel {
 
         
         List<AtivoCompravel> minhas = listarAtivosDo(j);
-        minhas.sort(Comparator.comparingInt(AtivoCompravel::valorAgregadoAtual).reversed());
+        minhas.sort(Comparator.comparingInt((AtivoCompravel a) -> a.valorAgregado(estadoTabuleiro)).reversed());
 
         for (AtivoCompravel ativo : minhas) {
             if (j.getSaldo() >= 0)
                 break;
-            final int pagamento = (Math.max(0, ativo.valorAgregadoAtual()) * 9) / 10;
+            final int pagamento = (Math.max(0, ativo.valorAgregado(estadoTabuleiro)) * 9) / 10;
             banco.debitar(pagamento);
             j.creditar(pagamento);
-            ativo.resetarParaBanco();
+            devolverAoBanco(ativo);
         }
 
         if (j.getSaldo() < 0) {
@@ -939,17 +1136,45 @@ public class GameModel {
     }
 
     private List<AtivoCompravel> listarAtivosDo(Jogador dono) {
-        List<AtivoCompravel> ativos = new ArrayList<>();
+        final int id = dono.getId();
+        final int total = posses.contar(id);
+        List<AtivoCompravel> ativos = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            ativos.add((AtivoCompravel) tabuleiro.getCasa(posses.posicao(id, i)));
+        }
+        return ativos;
+    }
+
+    private void atribuirDono(AtivoCompravel ativo, Jogador novoDono) {
+        final int pos = ativo.getPosicao();
+        if (estadoTabuleiro.temDono(pos)) {
+            posses.remover(estadoTabuleiro.dono(pos), pos);
+        }
+        estadoTabuleiro.definirDono(pos, novoDono == null ? EstadoTabuleiro.SEM_DONO : novoDono.getId());
+        if (novoDono != null) {
+            posses.adicionar(novoDono.getId(), pos);
+        }
+    }
+
+    private void devolverAoBanco(AtivoCompravel ativo) {
+        final int pos = ativo.getPosicao();
+        if (estadoTabuleiro.temDono(pos)) {
+            posses.remover(estadoTabuleiro.dono(pos), pos);
+        }
+        estadoTabuleiro.devolverAoBanco(pos);
+    }
+
+    private void reconstruirIndicePosses() {
+        posses.limpar(jogadores.size());
+        if (tabuleiro == null) {
+            return;
+        }
         for (int i = 0; i < tabuleiro.tamanho(); i++) {
-            Casa c = tabuleiro.getCasa(i);
-            if (c instanceof AtivoCompravel) {
-                AtivoCompravel ativo = (AtivoCompravel) c;
-                if (ativo.temDono() && ativo.getDono() == dono) {
-                    ativos.add(ativo);
-                }
+            int id = estadoTabuleiro.dono(i);
+            if (id >= 0 && id < jogadores.size() && asAtivoCompravel(tabuleiro.getCasa(i)) != null) {
+                posses.adicionar(id, i);
             }
         }
-        return ativos;
     }
 
     private AtivoCompravel asAtivoCompravel(Casa casa) {
@@ -999,6 +1224,14 @@ public class GameModel {
         return Optional.ofNullable(resultadoPartida);
     }
 
+    public int getQuantidadeAtivosDoJogador(int idJogador) {
+        exigirPartidaIniciada();
+        if (idJogador < 0 || idJogador >= jogadores.size()) {
+            throw new IllegalArgumentException("idJogador inválido");
+        }
+        return posses.contar(idJogador);
+    }
+
     public boolean isJogadorAtivo(int idJogador) {
         exigirPartidaIniciada();
         if (idJogador < 0 || idJogador >= jogadores.size()) {
@@ -1070,7 +1303,7 @@ public class GameModel {
         if (idJogador < 0 || idJogador >= jogadores.size()) {
             throw new IllegalArgumentException("idJogador inválido");
         }
-        boolean temProp = !getNomesPropriedadesDoJogador(idJogador).isEmpty();
+        boolean temProp = posses.contar(idJogador) > 0;
         boolean temSR   = !getCartasSorteRevesDoJogador(idJogador).isEmpty();
         return temProp || temSR;
     }
@@ -1082,27 +1315,21 @@ public class GameModel {
         if (idJogador < 0 || idJogador >= jogadores.size()) {
             throw new IllegalArgumentException("idJogador inválido");
         }
-        Jogador dono = jogadores.get(idJogador);
         List<BancoDeCartasItem> items = new ArrayList<>();
 
         
-        for (int i = 0; i < tabuleiro.tamanho(); i++) {
-            Casa c = tabuleiro.getCasa(i);
-            if (c instanceof AtivoCompravel) {
-                AtivoCompravel ativo = (AtivoCompravel) c;
-                if (ativo.temDono() && ativo.getDono() == dono) {
-                    BancoDeCartasItem.Tipo tipo =
-                            (c instanceof Companhia)
-                                    ? BancoDeCartasItem.Tipo.COMPANHIA
-                                    : BancoDeCartasItem.Tipo.TERRITORIO;
-                    items.add(new BancoDeCartasItem(
-                            tipo,
-                            c.getNome(),
-                            null,
-                            ativo.getPosicao()
-                    ));
-                }
-            }
+        for (int i = 0; i < posses.contar(idJogador); i++) {
+            Casa c = tabuleiro.getCasa(posses.posicao(idJogador, i));
+            BancoDeCartasItem.Tipo tipo =
+                    (c instanceof Companhia)
+                            ? BancoDeCartasItem.Tipo.COMPANHIA
+                            : BancoDeCartasItem.Tipo.TERRITORIO;
+            items.add(new BancoDeCartasItem(
+                    tipo,
+                    c.getNome(),
+                    null,
+                    c.getPosicao()
+            ));
         }
 
         
@@ -1249,14 +1476,14 @@ public class GameModel {
         if (numero < 1)
             throw new IllegalArgumentException("numero deve ser >= 1");
         if (tamanhoBaralhoSR <= 0) {
-            tamanhoBaralhoSR = SorteRevesCards.total();
+            tamanhoBaralhoSR = definicaoBaralho.total();
         }
         sincronizarBaralhoSorteRevesSeNecessario();
-        int idx = ordemBaralhoSR.indexOf(numero);
+        int idx = baralhoSR.indiceDe(numero);
         if (idx < 0) {
             throw new IllegalArgumentException("numero fora do baralho configurado");
         }
-        this.ponteiroBaralhoSR = idx;
+        baralhoSR.posicionar(idx);
     }
 
     public void debugForcarPosicaoJogador(int idJogador, int posicao) {
@@ -1286,15 +1513,15 @@ public class GameModel {
         if (idDono < 0 || idDono >= jogadores.size()) {
             throw new IllegalArgumentException("idDono inválido");
         }
-        p.setDono(jogadores.get(idDono));
+        atribuirDono(p, jogadores.get(idDono));
 
-        while (p.getNumCasas() < numCasas) {
-            if (!p.podeConstruirCasa())
+        while (estadoTabuleiro.numCasas(posicaoPropriedade) < numCasas) {
+            if (!estadoTabuleiro.podeConstruirCasa(posicaoPropriedade))
                 break;
-            p.construirCasa();
+            estadoTabuleiro.construirCasa(posicaoPropriedade);
         }
-        if (hotel && p.podeConstruirHotel()) {
-            p.construirHotel();
+        if (hotel && estadoTabuleiro.podeConstruirHotel(posicaoPropriedade)) {
+            estadoTabuleiro.construirHotel(posicaoPropriedade);
         }
         notifyObservers();
     }
@@ -1310,7 +1537,7 @@ public class GameModel {
         if (idDono < 0 || idDono >= jogadores.size()) {
             throw new IllegalArgumentException("idDono inválido");
         }
-        ((Companhia) c).setDono(jogadores.get(idDono));
+        atribuirDono((Companhia) c, jogadores.get(idDono));
         notifyObservers();
     }
 
@@ -1330,7 +1557,8 @@ public class GameModel {
     public static enum FimPartidaMotivo {
         JANELA_FECHADA,
         BOTAO_ENCERRAR,
-        ULTIMO_JOGADOR_RESTANTE
+        ULTIMO_JOGADOR_RESTANTE,
+        LIMITE_DE_TURNOS
     }
 
     public static final class ResumoCapital {
@@ -1372,6 +1600,11 @@ public class GameModel {
     }
 
     public void encerrarPartida(FimPartidaMotivo motivo) {
+        registrarComando(DiarioPartida.Comando.ENCERRAR_PARTIDA, motivo == null ? -1 : motivo.ordinal());
+        executarRegistrado(() -> encerrarPartidaInterno(motivo));
+    }
+
+    private void encerrarPartidaInterno(FimPartidaMotivo motivo) {
         if (!temPartidaConfigurada() || partidaEncerrada) {
             return;
         }
@@ -1380,6 +1613,9 @@ public class GameModel {
         this.resultadoPartida = new ResultadoPartida(efetivo, ranking);
         this.partidaEncerrada = true;
         this.salvamentoDisponivel = false;
+        if (temOuvintesDeEventos()) {
+            publicarEvento(new GameEvent.PartidaEncerrada(resultadoPartida));
+        }
         notifyObservers();
     }
 
@@ -1387,28 +1623,32 @@ public class GameModel {
         List<ResumoCapital> lista = new ArrayList<>();
         for (Jogador j : jogadores) {
             int patrimonio = 0;
-            for (AtivoCompravel ativo : listarAtivosDo(j)) {
-                patrimonio += Math.max(0, ativo.valorAgregadoAtual());
+            for (int i = 0; i < posses.contar(j.getId()); i++) {
+                AtivoCompravel ativo = (AtivoCompravel) tabuleiro.getCasa(posses.posicao(j.getId(), i));
+                patrimonio += Math.max(0, ativo.valorAgregado(estadoTabuleiro));
             }
             lista.add(new ResumoCapital(j.getId(), j.getSaldo(), patrimonio, j.isAtivo()));
         }
-        lista.sort(new java.util.Comparator<ResumoCapital>() {
-            @Override
-            public int compare(ResumoCapital a, ResumoCapital b) {
-                int cmp = Integer.compare(b.getCapitalTotal(), a.getCapitalTotal());
-                if (cmp != 0) {
-                    return cmp;
-                }
-                cmp = Integer.compare(b.getSaldoDisponivel(), a.getSaldoDisponivel());
-                if (cmp != 0) {
-                    return cmp;
-                }
-                return Integer.compare(a.getJogadorId(), b.getJogadorId());
-            }
-        });
+        lista.sort(ORDEM_RANKING);
         return lista;
     }
 
+    /** Maior capital total primeiro; empate pelo saldo disponível e depois pelo id. */
+    static final Comparator<ResumoCapital> ORDEM_RANKING = new Comparator<ResumoCapital>() {
+        @Override
+        public int compare(ResumoCapital a, ResumoCapital b) {
+            int cmp = Integer.compare(b.getCapitalTotal(), a.getCapitalTotal());
+            if (cmp != 0) {
+                return cmp;
+            }
+            cmp = Integer.compare(b.getSaldoDisponivel(), a.getSaldoDisponivel());
+            if (cmp != 0) {
+                return cmp;
+            }
+            return Integer.compare(a.getJogadorId(), b.getJogadorId());
+        }
+    };
+
     
     
     
@@ -1480,7 +1720,11 @@ public class GameModel {
         private final Integer ultimaCartaNumero;
         private final Integer cartaBufferNumero;
         private final List<Integer> ordemBaralhoSR;
+        private final AlgoritmoAleatorio algoritmoRng;
+        private final long[] estadoRng;
+        private final int numCasasTabuleiro;
 
+        /** Estado sem gerador aleatório nem tamanho de tabuleiro; os demais campos ficam no {@link Builder}. */
         public SaveState(List<PlayerState> jogadores,
                          List<PropertyState> propriedades,
                          List<Integer> ordemTurno,
@@ -1503,32 +1747,157 @@ public class GameModel {
                          Integer ultimaCartaNumero,
                          Integer cartaBufferNumero,
                          List<Integer> ordemBaralhoSR) {
-            this.jogadores = Collections.unmodifiableList(new ArrayList<>(jogadores));
-            this.propriedades = Collections.unmodifiableList(new ArrayList<>(propriedades));
-            this.ordemTurno = Collections.unmodifiableList(new ArrayList<>(ordemTurno));
-            this.turnoIndex = turnoIndex;
-            this.turnoDuplasConsecutivas = turnoDuplasConsecutivas;
-            this.turnoUltimoD1 = turnoUltimoD1;
-            this.turnoUltimoD2 = turnoUltimoD2;
-            this.ultimoD1 = ultimoD1;
-            this.ultimoD2 = ultimoD2;
-            this.jaLancouNesteTurno = jaLancouNesteTurno;
-            this.deveIrParaPrisaoPorTerceiraDupla = deveIrParaPrisaoPorTerceiraDupla;
-            this.posicaoDaQuedaAtual = posicaoDaQuedaAtual;
-            this.jaConstruiuNestaQueda = jaConstruiuNestaQueda;
-            this.acabouDeComprarNestaQueda = acabouDeComprarNestaQueda;
-            this.salvamentoDisponivel = salvamentoDisponivel;
-            this.bancoSaldo = bancoSaldo;
-            this.tamanhoBaralhoSR = tamanhoBaralhoSR;
-            this.ponteiroBaralhoSR = ponteiroBaralhoSR;
+            this(new Builder()
+                    .jogadores(jogadores)
+                    .propriedades(propriedades)
+                    .ordemTurno(ordemTurno)
+                    .turnoIndex(turnoIndex)
+                    .turnoDuplasConsecutivas(turnoDuplasConsecutivas)
+                    .turnoUltimosDados(turnoUltimoD1, turnoUltimoD2)
+                    .ultimosDados(ultimoD1, ultimoD2)
+                    .jaLancouNesteTurno(jaLancouNesteTurno)
+                    .deveIrParaPrisaoPorTerceiraDupla(deveIrParaPrisaoPorTerceiraDupla)
+                    .posicaoDaQuedaAtual(posicaoDaQuedaAtual)
+                    .jaConstruiuNestaQueda(jaConstruiuNestaQueda)
+                    .acabouDeComprarNestaQueda(acabouDeComprarNestaQueda)
+                    .salvamentoDisponivel(salvamentoDisponivel)
+                    .bancoSaldo(bancoSaldo)
+                    .tamanhoBaralhoSR(tamanhoBaralhoSR)
+                    .ponteiroBaralhoSR(ponteiroBaralhoSR)
+                    .cartasSRPorJogador(cartasSRPorJogador)
+                    .ultimaCartaNumero(ultimaCartaNumero)
+                    .cartaBufferNumero(cartaBufferNumero)
+                    .ordemBaralhoSR(ordemBaralhoSR));
+        }
+
+        private SaveState(Builder b) {
+            if ((b.algoritmoRng == null) != (b.estadoRng == null)) {
+                throw new IllegalArgumentException("Algoritmo e estado do gerador devem ser informados juntos.");
+            }
+            if (b.algoritmoRng != null && b.estadoRng.length != b.algoritmoRng.getTamanhoEstado()) {
+                throw new IllegalArgumentException("Estado do gerador com tamanho inválido para " + b.algoritmoRng);
+            }
+            this.algoritmoRng = b.algoritmoRng;
+            this.estadoRng = (b.estadoRng == null) ? null : b.estadoRng.clone();
+            this.jogadores = Collections.unmodifiableList(new ArrayList<>(b.jogadores));
+            this.propriedades = Collections.unmodifiableList(new ArrayList<>(b.propriedades));
+            this.ordemTurno = Collections.unmodifiableList(new ArrayList<>(b.ordemTurno));
+            this.turnoIndex = b.turnoIndex;
+            this.turnoDuplasConsecutivas = b.turnoDuplasConsecutivas;
+            this.turnoUltimoD1 = b.turnoUltimoD1;
+            this.turnoUltimoD2 = b.turnoUltimoD2;
+            this.ultimoD1 = b.ultimoD1;
+            this.ultimoD2 = b.ultimoD2;
+            this.jaLancouNesteTurno = b.jaLancouNesteTurno;
+            this.deveIrParaPrisaoPorTerceiraDupla = b.deveIrParaPrisaoPorTerceiraDupla;
+            this.posicaoDaQuedaAtual = b.posicaoDaQuedaAtual;
+            this.jaConstruiuNestaQueda = b.jaConstruiuNestaQueda;
+            this.acabouDeComprarNestaQueda = b.acabouDeComprarNestaQueda;
+            this.salvamentoDisponivel = b.salvamentoDisponivel;
+            this.bancoSaldo = b.bancoSaldo;
+            this.tamanhoBaralhoSR = b.tamanhoBaralhoSR;
+            this.ponteiroBaralhoSR = b.ponteiroBaralhoSR;
             Map<Integer, Set<Integer>> mapa = new HashMap<>();
-            for (Map.Entry<Integer, Set<Integer>> e : cartasSRPorJogador.entrySet()) {
+            for (Map.Entry<Integer, Set<Integer>> e : b.cartasSRPorJogador.entrySet()) {
                 mapa.put(e.getKey(), Collections.unmodifiableSet(new HashSet<>(e.getValue())));
             }
             this.cartasSRPorJogador = Collections.unmodifiableMap(mapa);
-            this.ultimaCartaNumero = ultimaCartaNumero;
-            this.cartaBufferNumero = cartaBufferNumero;
-            this.ordemBaralhoSR = Collections.unmodifiableList(new ArrayList<>(ordemBaralhoSR == null ? Collections.emptyList() : ordemBaralhoSR));
+            this.ultimaCartaNumero = b.ultimaCartaNumero;
+            this.cartaBufferNumero = b.cartaBufferNumero;
+            this.ordemBaralhoSR = Collections.unmodifiableList(new ArrayList<>(b.ordemBaralhoSR));
+            this.numCasasTabuleiro = b.numCasasTabuleiro;
+        }
+
+        /**
+         * Monta um {@link SaveState} campo a campo. Listas e mapas começam vazios, opcionais começam
+         * null e o gerador começa ausente (a partida carregada volta com um gerador sem seed).
+         */
+        public static final class Builder {
+            private List<PlayerState> jogadores = Collections.emptyList();
+            private List<PropertyState> propriedades = Collections.emptyList();
+            private List<Integer> ordemTurno = Collections.emptyList();
+            private int turnoIndex;
+            private int turnoDuplasConsecutivas;
+            private int turnoUltimoD1;
+            private int turnoUltimoD2;
+            private Integer ultimoD1;
+            private Integer ultimoD2;
+            private boolean jaLancouNesteTurno;
+            private boolean deveIrParaPrisaoPorTerceiraDupla;
+            private Integer posicaoDaQuedaAtual;
+            private boolean jaConstruiuNestaQueda;
+            private boolean acabouDeComprarNestaQueda;
+            private boolean salvamentoDisponivel;
+            private int bancoSaldo;
+            private int tamanhoBaralhoSR;
+            private int ponteiroBaralhoSR;
+            private Map<Integer, Set<Integer>> cartasSRPorJogador = Collections.emptyMap();
+            private Integer ultimaCartaNumero;
+            private Integer cartaBufferNumero;
+            private List<Integer> ordemBaralhoSR = Collections.emptyList();
+            private AlgoritmoAleatorio algoritmoRng;
+            private long[] estadoRng;
+            private int numCasasTabuleiro;
+
+            public Builder jogadores(List<PlayerState> v) { this.jogadores = v; return this; }
+            public Builder propriedades(List<PropertyState> v) { this.propriedades = v; return this; }
+            public Builder ordemTurno(List<Integer> v) { this.ordemTurno = v; return this; }
+            public Builder turnoIndex(int v) { this.turnoIndex = v; return this; }
+            public Builder turnoDuplasConsecutivas(int v) { this.turnoDuplasConsecutivas = v; return this; }
+
+            public Builder turnoUltimosDados(int d1, int d2) {
+                this.turnoUltimoD1 = d1;
+                this.turnoUltimoD2 = d2;
+                return this;
+            }
+
+            public Builder ultimosDados(Integer d1, Integer d2) {
+                this.ultimoD1 = d1;
+                this.ultimoD2 = d2;
+                return this;
+            }
+
+            public Builder jaLancouNesteTurno(boolean v) { this.jaLancouNesteTurno = v; return this; }
+
+            public Builder deveIrParaPrisaoPorTerceiraDupla(boolean v) {
+                this.deveIrParaPrisaoPorTerceiraDupla = v;
+                return this;
+            }
+
+            public Builder posicaoDaQuedaAtual(Integer v) { this.posicaoDaQuedaAtual = v; return this; }
+            public Builder jaConstruiuNestaQueda(boolean v) { this.jaConstruiuNestaQueda = v; return this; }
+            public Builder acabouDeComprarNestaQueda(boolean v) { this.acabouDeComprarNestaQueda = v; return this; }
+            public Builder salvamentoDisponivel(boolean v) { this.salvamentoDisponivel = v; return this; }
+            public Builder bancoSaldo(int v) { this.bancoSaldo = v; return this; }
+            public Builder tamanhoBaralhoSR(int v) { this.tamanhoBaralhoSR = v; return this; }
+            public Builder ponteiroBaralhoSR(int v) { this.ponteiroBaralhoSR = v; return this; }
+
+            public Builder cartasSRPorJogador(Map<Integer, Set<Integer>> v) {
+                this.cartasSRPorJogador = v;
+                return this;
+            }
+
+            public Builder ultimaCartaNumero(Integer v) { this.ultimaCartaNumero = v; return this; }
+            public Builder cartaBufferNumero(Integer v) { this.cartaBufferNumero = v; return this; }
+
+            public Builder ordemBaralhoSR(List<Integer> v) {
+                this.ordemBaralhoSR = v == null ? Collections.<Integer>emptyList() : v;
+                return this;
+            }
+
+            /** Algoritmo e estado do gerador vão juntos: os dois null ou os dois informados. */
+            public Builder rng(AlgoritmoAleatorio algoritmo, long[] estado) {
+                this.algoritmoRng = algoritmo;
+                this.estadoRng = estado;
+                return this;
+            }
+
+            /** Casas do tabuleiro da partida; 0 (o padrão) quando desconhecido. */
+            public Builder numCasasTabuleiro(int v) { this.numCasasTabuleiro = v; return this; }
+
+            public SaveState criar() {
+                return new SaveState(this);
+            }
         }
 
         public List<PlayerState> getJogadores() { return jogadores; }
@@ -1553,6 +1922,48 @@ public class GameModel {
         public Integer getUltimaCartaNumero() { return ultimaCartaNumero; }
         public Integer getCartaBufferNumero() { return cartaBufferNumero; }
         public List<Integer> getOrdemBaralhoSR() { return ordemBaralhoSR; }
+        public AlgoritmoAleatorio getAlgoritmoRng() { return algoritmoRng; }
+        public long[] getEstadoRng() { return estadoRng == null ? null : estadoRng.clone(); }
+        public int getNumCasasTabuleiro() { return numCasasTabuleiro; }
+    }
+
+    /**
+     * Cópia profunda e independente da partida, incluindo estado do gerador aleatório e ordem do baralho.
+     * Observadores e ouvintes de eventos não são copiados.
+     */
+    public GameModel fork() {
+        GameModel c = new GameModel();
+        c.rng = (rng == null) ? null : rng.copiar();
+        c.turno = (turno == null) ? null : new Turno(turno);
+        c.banco = (banco == null) ? null : banco.copiar();
+        for (Jogador j : jogadores) {
+            c.jogadores.add(new Jogador(j));
+        }
+        c.tabuleiro = tabuleiro;
+        c.estadoTabuleiro = (estadoTabuleiro == null) ? null : new EstadoTabuleiro(estadoTabuleiro);
+        c.posses.copiarDe(posses);
+        c.salvamentoDisponivel = salvamentoDisponivel;
+        c.partidaEncerrada = partidaEncerrada;
+        c.resultadoPartida = resultadoPartida;
+
+        c.ultimoD1 = ultimoD1;
+        c.ultimoD2 = ultimoD2;
+        c.movimentoAtual.preencher(movimentoAtual.idJogador, movimentoAtual.posicaoAnterior,
+                movimentoAtual.deslocamento, movimentoAtual.posicaoAtual, movimentoAtual.passouOuCaiuNoInicio);
+        c.jaLancouNesteTurno = jaLancouNesteTurno;
+        c.posicaoDaQuedaAtual = posicaoDaQuedaAtual;
+        c.jaConstruiuNestaQueda = jaConstruiuNestaQueda;
+        c.acabouDeComprarNestaQueda = acabouDeComprarNestaQueda;
+        c.deveIrParaPrisaoPorTerceiraDupla = deveIrParaPrisaoPorTerceiraDupla;
+        c.autoLancamentoAposSaidaPrisao = autoLancamentoAposSaidaPrisao;
+        c.executandoAutoLancamento = executandoAutoLancamento;
+
+        c.definicaoBaralho = definicaoBaralho;
+        c.tamanhoBaralhoSR = tamanhoBaralhoSR;
+        c.baralhoSR = new BaralhoSorteReves(baralhoSR);
+        c.ultimaCartaSR = ultimaCartaSR;
+        c.srRecemSacada = srRecemSacada;
+        return c;
     }
 
     public SaveState exportarEstado() {
@@ -1568,57 +1979,60 @@ public class GameModel {
         for (int i = 0; i < tabuleiro.tamanho(); i++) {
             Casa c = tabuleiro.getCasa(i);
             if (c instanceof AtivoCompravel) {
-                AtivoCompravel ativo = (AtivoCompravel) c;
-                int donoId = ativo.temDono() ? ativo.getDono().getId() : -1;
-                int numCasas = 0;
-                boolean hotel = false;
-                if (c instanceof Propriedade) {
-                    Propriedade p = (Propriedade) c;
-                    numCasas = p.getNumCasas();
-                    hotel = p.temHotel();
-                }
-                props.add(new PropertyState(ativo.getPosicao(), donoId, numCasas, hotel));
+                int pos = ((AtivoCompravel) c).getPosicao();
+                props.add(new PropertyState(pos, estadoTabuleiro.dono(pos), estadoTabuleiro.numCasas(pos),
+                        estadoTabuleiro.temHotel(pos)));
             }
         }
 
         Map<Integer, Set<Integer>> cartas = new HashMap<>();
-        for (Map.Entry<Integer, Set<Integer>> e : cartasSRPorJogador.entrySet()) {
-            cartas.put(e.getKey(), new HashSet<>(e.getValue()));
-        }
-
-        Integer ultimaCartaNumero = ultimaCartaSR.map(SorteRevesCard::getNumero).orElse(null);
-        Integer bufferCartaNumero = srRecemSacada.map(SorteRevesCard::getNumero).orElse(null);
-
-        return new SaveState(
-                players,
-                props,
-                turno.snapshotOrdem(),
-                turno.snapshotIdxVez(),
-                turno.snapshotDuplasConsecutivas(),
-                turno.snapshotUltimoD1(),
-                turno.snapshotUltimoD2(),
-                ultimoD1,
-                ultimoD2,
-                jaLancouNesteTurno,
-                deveIrParaPrisaoPorTerceiraDupla,
-                posicaoDaQuedaAtual,
-                jaConstruiuNestaQueda,
-                acabouDeComprarNestaQueda,
-                salvamentoDisponivel,
-                banco.getSaldo(),
-                tamanhoBaralhoSR,
-                ponteiroBaralhoSR,
-                cartas,
-                ultimaCartaNumero,
-                bufferCartaNumero,
-                ordemBaralhoSR
-        );
-    }
+        for (int id = 0; id < baralhoSR.numJogadores(); id++) {
+            if (baralhoSR.isListado(id)) {
+                cartas.put(id, BaralhoSorteReves.comoConjunto(baralhoSR.cartasDo(id)));
+            }
+        }
 
+        Integer ultimaCartaNumero = ultimaCartaSR == 0 ? null : ultimaCartaSR;
+        Integer bufferCartaNumero = srRecemSacada == 0 ? null : srRecemSacada;
+
+        return new SaveState.Builder()
+                .jogadores(players)
+                .propriedades(props)
+                .ordemTurno(turno.snapshotOrdem())
+                .turnoIndex(turno.snapshotIdxVez())
+                .turnoDuplasConsecutivas(turno.snapshotDuplasConsecutivas())
+                .turnoUltimosDados(turno.snapshotUltimoD1(), turno.snapshotUltimoD2())
+                .ultimosDados(ultimoD1, ultimoD2)
+                .jaLancouNesteTurno(jaLancouNesteTurno)
+                .deveIrParaPrisaoPorTerceiraDupla(deveIrParaPrisaoPorTerceiraDupla)
+                .posicaoDaQuedaAtual(posicaoDaQuedaAtual)
+                .jaConstruiuNestaQueda(jaConstruiuNestaQueda)
+                .acabouDeComprarNestaQueda(acabouDeComprarNestaQueda)
+                .salvamentoDisponivel(salvamentoDisponivel)
+                .bancoSaldo(banco.getSaldo())
+                .tamanhoBaralhoSR(tamanhoBaralhoSR)
+                .ponteiroBaralhoSR(baralhoSR.ponteiro())
+                .cartasSRPorJogador(cartas)
+                .ultimaCartaNumero(ultimaCartaNumero)
+                .cartaBufferNumero(bufferCartaNumero)
+                .ordemBaralhoSR(baralhoSR.ordemComoLista())
+                .rng(rng.algoritmo(), rng.exportState())
+                .numCasasTabuleiro(tabuleiro.tamanho())
+                .criar();
+    }
+
+    /** Substitui a partida pelo estado salvo; como em {@link #novaPartida}, um diário em andamento é encerrado. */
     public void importarEstado(SaveState state) {
         if (state == null || state.getJogadores().isEmpty()) {
             throw new IllegalArgumentException("Estado inválido para importação.");
         }
+        final int casasSalvas = state.getNumCasasTabuleiro();
+        final Tabuleiro destino = tabuleiro == null ? DefinicaoTabuleiro.oficial().tabuleiro() : tabuleiro;
+        if (casasSalvas > 0 && casasSalvas != destino.tamanho()) {
+            throw new IllegalArgumentException("Estado salvo para um tabuleiro de " + casasSalvas
+                    + " casas; o tabuleiro atual tem " + destino.tamanho() + ".");
+        }
+        pararDiario();
 
         int qtdJogadores = state.getJogadores().size();
         this.jogadores.clear();
@@ -1644,7 +2058,11 @@ public class GameModel {
             }
         }
 
-        this.rng = new RandomProvider(null);
+        if (state.getAlgoritmoRng() != null) {
+            this.rng = RandomProvider.comFonte(state.getAlgoritmoRng().restaurar(state.getEstadoRng()));
+        } else {
+            this.rng = new RandomProvider(null);
+        }
 
         if (state.getOrdemTurno().size() != qtdJogadores) {
             throw new IllegalArgumentException("Ordem dos jogadores inválida no estado salvo.");
@@ -1656,79 +2074,52 @@ public class GameModel {
         this.banco = new Banco(state.getBancoSaldo());
 
         if (this.tabuleiro == null) {
-            this.tabuleiro = TabuleiroOficialFactory.criar();
-        }
-        for (int i = 0; i < tabuleiro.tamanho(); i++) {
-            Casa c = tabuleiro.getCasa(i);
-            if (c instanceof AtivoCompravel) {
-                ((AtivoCompravel) c).resetarParaBanco();
-            }
+            this.tabuleiro = destino;
+            this.estadoTabuleiro = new EstadoTabuleiro(tabuleiro.tamanho());
         }
+        estadoTabuleiro.limpar();
         for (PropertyState ps : state.getPropriedades()) {
-            Casa c = tabuleiro.getCasa(ps.getPosicao());
-            if (!(c instanceof AtivoCompravel)) {
+            final int pos = ps.getPosicao();
+            if (!(tabuleiro.getCasa(pos) instanceof AtivoCompravel)) {
                 continue;
             }
-            AtivoCompravel ativo = (AtivoCompravel) c;
-            if (ps.getDonoId() >= 0 && ps.getDonoId() < jogadores.size()) {
-                ativo.setDono(jogadores.get(ps.getDonoId()));
-                if (c instanceof Propriedade) {
-                    Propriedade prop = (Propriedade) c;
-                    for (int i = 0; i < ps.getNumCasas(); i++) {
-                        if (!prop.podeConstruirCasa()) {
-                            break;
-                        }
-                        prop.construirCasa();
-                    }
-                    if (ps.hasHotel() && prop.podeConstruirHotel()) {
-                        prop.construirHotel();
-                    }
+            if (ps.getDonoId() < 0 || ps.getDonoId() >= jogadores.size()) {
+                continue;
+            }
+            estadoTabuleiro.definirDono(pos, ps.getDonoId());
+            if (tabuleiro.getCasa(pos) instanceof Propriedade) {
+                for (int i = 0; i < ps.getNumCasas() && estadoTabuleiro.podeConstruirCasa(pos); i++) {
+                    estadoTabuleiro.construirCasa(pos);
+                }
+                if (ps.hasHotel() && estadoTabuleiro.podeConstruirHotel(pos)) {
+                    estadoTabuleiro.construirHotel(pos);
                 }
-            } else {
-                ativo.setDono(null);
             }
         }
+        reconstruirIndicePosses();
 
-        this.cartasSRPorJogador.clear();
-        for (int i = 0; i < qtdJogadores; i++) {
-            this.cartasSRPorJogador.put(i, new HashSet<>());
-        }
+        baralhoSR.reiniciarPosse(qtdJogadores);
         for (Map.Entry<Integer, Set<Integer>> entry : state.getCartasSRPorJogador().entrySet()) {
             int id = entry.getKey();
-            if (!cartasSRPorJogador.containsKey(id)) {
-                cartasSRPorJogador.put(id, new HashSet<>());
+            if (id >= 0 && id < qtdJogadores) {
+                baralhoSR.definirCartas(id, BaralhoSorteReves.comoMascara(entry.getValue()));
             }
-            cartasSRPorJogador.get(id).addAll(entry.getValue());
         }
 
         for (Jogador jogador : jogadores) {
-            if (jogador != null && jogador.temCartaSaidaLivre()) {
-                Set<Integer> cartas = cartasSRPorJogador.get(jogador.getId());
-                if (cartas == null) {
-                    cartas = new HashSet<>();
-                    cartasSRPorJogador.put(jogador.getId(), cartas);
-                }
-                cartas.add(9);
+            if (jogador != null) {
+                guardarCartaSaidaLivreSeFaltar(jogador);
             }
         }
 
-        this.tamanhoBaralhoSR = state.getTamanhoBaralhoSR() <= 0 ? SorteRevesCards.total() : state.getTamanhoBaralhoSR();
+        this.tamanhoBaralhoSR = state.getTamanhoBaralhoSR() <= 0 ? definicaoBaralho.total() : state.getTamanhoBaralhoSR();
         List<Integer> ordemRestaurada = state.getOrdemBaralhoSR();
         if (ordemRestaurada != null && !ordemRestaurada.isEmpty()) {
-            ordemBaralhoSR.clear();
-            ordemBaralhoSR.addAll(ordemRestaurada);
-            this.tamanhoBaralhoSR = ordemBaralhoSR.size();
+            baralhoSR.restaurar(ordemRestaurada, state.getPonteiroBaralhoSR());
+            this.tamanhoBaralhoSR = baralhoSR.tamanho();
         } else {
             reconstruirBaralhoSorteReves();
-        }
-        int ponteiro = state.getPonteiroBaralhoSR();
-        if (ponteiro < 0) {
-            ponteiro = 0;
-        }
-        if (!ordemBaralhoSR.isEmpty()) {
-            this.ponteiroBaralhoSR = ponteiro % ordemBaralhoSR.size();
-        } else {
-            this.ponteiroBaralhoSR = 0;
+            baralhoSR.posicionar(state.getPonteiroBaralhoSR());
         }
 
         this.ultimoD1 = state.getUltimoD1();
@@ -1740,19 +2131,175 @@ public class GameModel {
         this.acabouDeComprarNestaQueda = state.isAcabouDeComprarNestaQueda();
         this.salvamentoDisponivel = state.isSalvamentoDisponivel();
 
-        if (state.getUltimaCartaNumero() != null) {
-            this.ultimaCartaSR = getCartaSorteRevesPorNumero(state.getUltimaCartaNumero());
-        } else {
-            this.ultimaCartaSR = Optional.empty();
+        this.ultimaCartaSR = numeroSeDefinido(state.getUltimaCartaNumero());
+        this.srRecemSacada = numeroSeDefinido(state.getCartaBufferNumero());
+
+        sincronizarBaralhoSorteRevesSeNecessario();
+
+        this.partidaEncerrada = false;
+        this.resultadoPartida = null;
+        this.autoLancamentoAposSaidaPrisao = false;
+        this.executandoAutoLancamento = false;
+        garantirJogadorDaVezAtivo();
+        notifyObservers();
+    }
+
+    /**
+     * Grava o estado da partida (os campos do {@link SaveState}) no registro de tamanho fixo que
+     * começa em {@code base}. Depois das validações, o byte "ocupado" é zerado antes de qualquer
+     * outro campo e volta a 1 por último, então um registro interrompido no meio nunca parece ocupado.
+     */
+    void gravarRegistro(ByteBuffer b, int base, int casasRegistro) {
+        exigirPartidaIniciada();
+        exigirTabuleiroCarregado();
+        exigirTamanhoDoRegistro(casasRegistro);
+        final int n = jogadores.size();
+        if (n > RegistroPartida.MAX_JOGADORES) {
+            throw new IllegalStateException("Partida não cabe no registro de tamanho fixo.");
+        }
+        b.put(base + RegistroPartida.OCUPADO, (byte) 0);
+        b.put(base + RegistroPartida.NUM_JOGADORES, (byte) n);
+        b.put(base + RegistroPartida.TURNO_INDEX, (byte) turno.snapshotIdxVez());
+        b.put(base + RegistroPartida.TURNO_DUPLAS, (byte) turno.snapshotDuplasConsecutivas());
+        b.put(base + RegistroPartida.TURNO_ULTIMO_D1, (byte) turno.snapshotUltimoD1());
+        b.put(base + RegistroPartida.TURNO_ULTIMO_D2, (byte) turno.snapshotUltimoD2());
+        b.put(base + RegistroPartida.ULTIMO_D1, (byte) (ultimoD1 == null ? 0 : ultimoD1));
+        b.put(base + RegistroPartida.ULTIMO_D2, (byte) (ultimoD2 == null ? 0 : ultimoD2));
+        b.put(base + RegistroPartida.FLAGS, (byte) ((jaLancouNesteTurno ? RegistroPartida.JA_LANCOU : 0)
+                | (deveIrParaPrisaoPorTerceiraDupla ? RegistroPartida.TERCEIRA_DUPLA : 0)
+                | (salvamentoDisponivel ? RegistroPartida.SALVAMENTO : 0)
+                | (jaConstruiuNestaQueda ? RegistroPartida.JA_CONSTRUIU : 0)
+                | (acabouDeComprarNestaQueda ? RegistroPartida.ACABOU_DE_COMPRAR : 0)));
+        b.putShort(base + RegistroPartida.QUEDA, (short) (posicaoDaQuedaAtual == null ? -1 : posicaoDaQuedaAtual));
+        b.putInt(base + RegistroPartida.BANCO, banco.getSaldo());
+
+        b.put(base + RegistroPartida.TAMANHO_BARALHO, (byte) tamanhoBaralhoSR);
+        b.put(base + RegistroPartida.PONTEIRO_BARALHO, (byte) baralhoSR.ponteiro());
+        b.put(base + RegistroPartida.ULTIMA_CARTA, (byte) ultimaCartaSR);
+        b.put(base + RegistroPartida.CARTA_BUFFER, (byte) srRecemSacada);
+        for (int i = 0; i < baralhoSR.tamanho(); i++) {
+            b.put(base + RegistroPartida.BARALHO + i, (byte) baralhoSR.carta(i));
+        }
+
+        long[] estadoRng = rng.exportState();
+        b.put(base + RegistroPartida.ALGORITMO, (byte) (rng.algoritmo().ordinal() + 1));
+        for (int i = 0; i < estadoRng.length; i++) {
+            b.putLong(base + RegistroPartida.ESTADO_RNG + 8 * i, estadoRng[i]);
+        }
+
+        for (int id = 0; id < n; id++) {
+            Jogador j = jogadores.get(id);
+            int p = base + RegistroPartida.JOGADORES + id * RegistroPartida.TAMANHO_JOGADOR;
+            b.putInt(p, j.getSaldo());
+            b.putShort(p + 4, (short) j.getPosicao());
+            b.put(p + 6, (byte) ((j.isAtivo() ? RegistroPartida.ATIVO : 0)
+                    | (j.isNaPrisao() ? RegistroPartida.NA_PRISAO : 0)
+                    | (j.temCartaSaidaLivre() ? RegistroPartida.CARTA_SAIDA : 0)));
+            b.put(base + RegistroPartida.ORDEM_TURNO + id, (byte) turno.jogadorNaOrdem(id));
+            b.putLong(base + RegistroPartida.CARTAS + 8 * id, baralhoSR.cartasDo(id));
+        }
+
+        final int casas = tabuleiro.tamanho();
+        for (int pos = 0; pos < casas; pos++) {
+            b.put(base + RegistroPartida.CASAS + pos, (byte) estadoTabuleiro.dono(pos));
+            b.put(base + RegistroPartida.CASAS + casas + pos, (byte) estadoTabuleiro.construcoes(pos));
+        }
+        b.put(base + RegistroPartida.OCUPADO, (byte) 1);
+    }
+
+    /**
+     * Restaura um registro gravado por {@link #gravarRegistro}, com o mesmo efeito de
+     * {@link #importarEstado(SaveState)}, inclusive encerrar o diário. Tabuleiro e gerador atuais são
+     * reaproveitados quando servem.
+     */
+    void lerRegistro(ByteBuffer b, int base, int casasRegistro) {
+        if (b.get(base + RegistroPartida.OCUPADO) == 0) {
+            throw new IllegalArgumentException("Registro vazio.");
+        }
+        final int n = b.get(base + RegistroPartida.NUM_JOGADORES);
+        if (n < 2 || n > RegistroPartida.MAX_JOGADORES) {
+            throw new IllegalArgumentException("Número de jogadores inválido no registro: " + n);
+        }
+        pararDiario();
+        if (this.tabuleiro == null) {
+            this.tabuleiro = DefinicaoTabuleiro.oficial().tabuleiro();
+            this.estadoTabuleiro = new EstadoTabuleiro(tabuleiro.tamanho());
+        }
+        exigirTamanhoDoRegistro(casasRegistro);
+
+        this.jogadores.clear();
+        baralhoSR.reiniciarPosse(n);
+        List<Integer> ordem = new ArrayList<>(n);
+        for (int id = 0; id < n; id++) {
+            int p = base + RegistroPartida.JOGADORES + id * RegistroPartida.TAMANHO_JOGADOR;
+            int flags = b.get(p + 6);
+            Jogador j = new Jogador(id, b.getInt(p));
+            j.moverPara(b.getShort(p + 4));
+            j.setNaPrisao((flags & RegistroPartida.NA_PRISAO) != 0);
+            j.setCartaSaidaLivre((flags & RegistroPartida.CARTA_SAIDA) != 0);
+            if ((flags & RegistroPartida.ATIVO) == 0) {
+                j.falir();
+            }
+            this.jogadores.add(j);
+            ordem.add((int) b.get(base + RegistroPartida.ORDEM_TURNO + id));
+
+            baralhoSR.definirCartas(id, b.getLong(base + RegistroPartida.CARTAS + 8 * id));
+            guardarCartaSaidaLivreSeFaltar(j);
         }
 
-        if (state.getCartaBufferNumero() != null) {
-            this.srRecemSacada = getCartaSorteRevesPorNumero(state.getCartaBufferNumero());
+        int alg = b.get(base + RegistroPartida.ALGORITMO);
+        if (alg <= 0 || alg > AlgoritmoAleatorio.values().length) {
+            this.rng = new RandomProvider(null);
         } else {
-            this.srRecemSacada = Optional.empty();
+            AlgoritmoAleatorio algoritmo = AlgoritmoAleatorio.values()[alg - 1];
+            long[] estadoRng = new long[algoritmo.getTamanhoEstado()];
+            for (int i = 0; i < estadoRng.length; i++) {
+                estadoRng[i] = b.getLong(base + RegistroPartida.ESTADO_RNG + 8 * i);
+            }
+            if (rng != null && rng.algoritmo() == algoritmo) {
+                rng.importState(estadoRng);
+            } else {
+                this.rng = RandomProvider.comFonte(algoritmo.restaurar(estadoRng));
+            }
         }
 
+        this.turno = new Turno(n);
+        this.turno.restaurarEstado(ordem, b.get(base + RegistroPartida.TURNO_INDEX),
+                b.get(base + RegistroPartida.TURNO_DUPLAS), b.get(base + RegistroPartida.TURNO_ULTIMO_D1),
+                b.get(base + RegistroPartida.TURNO_ULTIMO_D2));
+        this.banco = new Banco(b.getInt(base + RegistroPartida.BANCO));
+
+        final int casas = tabuleiro.tamanho();
+        for (int pos = 0; pos < casas; pos++) {
+            int dono = b.get(base + RegistroPartida.CASAS + pos);
+            if (dono < 0 || dono >= n || !(tabuleiro.getCasa(pos) instanceof AtivoCompravel)) {
+                estadoTabuleiro.devolverAoBanco(pos);
+            } else {
+                estadoTabuleiro.restaurar(pos, dono, b.get(base + RegistroPartida.CASAS + casas + pos));
+            }
+        }
+        reconstruirIndicePosses();
+
+        final int tamanhoBaralho = b.get(base + RegistroPartida.TAMANHO_BARALHO);
+        baralhoSR.restaurar(b, base + RegistroPartida.BARALHO, Math.max(0, tamanhoBaralho),
+                b.get(base + RegistroPartida.PONTEIRO_BARALHO));
+        this.tamanhoBaralhoSR = tamanhoBaralho <= 0 ? definicaoBaralho.total() : tamanhoBaralho;
         sincronizarBaralhoSorteRevesSeNecessario();
+        this.ultimaCartaSR = numeroSeDefinido((int) b.get(base + RegistroPartida.ULTIMA_CARTA));
+        this.srRecemSacada = numeroSeDefinido((int) b.get(base + RegistroPartida.CARTA_BUFFER));
+
+        final int d1 = b.get(base + RegistroPartida.ULTIMO_D1);
+        final int d2 = b.get(base + RegistroPartida.ULTIMO_D2);
+        final int flags = b.get(base + RegistroPartida.FLAGS);
+        final int queda = b.getShort(base + RegistroPartida.QUEDA);
+        this.ultimoD1 = d1 == 0 ? null : d1;
+        this.ultimoD2 = d2 == 0 ? null : d2;
+        this.jaLancouNesteTurno = (flags & RegistroPartida.JA_LANCOU) != 0;
+        this.deveIrParaPrisaoPorTerceiraDupla = (flags & RegistroPartida.TERCEIRA_DUPLA) != 0;
+        this.salvamentoDisponivel = (flags & RegistroPartida.SALVAMENTO) != 0;
+        this.jaConstruiuNestaQueda = (flags & RegistroPartida.JA_CONSTRUIU) != 0;
+        this.acabouDeComprarNestaQueda = (flags & RegistroPartida.ACABOU_DE_COMPRAR) != 0;
+        this.posicaoDaQuedaAtual = queda < 0 ? null : queda;
 
         this.partidaEncerrada = false;
         this.resultadoPartida = null;
@@ -1762,12 +2309,19 @@ public class GameModel {
         notifyObservers();
     }
 
+    private void exigirTamanhoDoRegistro(int casasRegistro) {
+        if (tabuleiro.tamanho() != casasRegistro) {
+            throw new IllegalArgumentException("Tabuleiro com " + tabuleiro.tamanho()
+                    + " casas; o registro guarda tabuleiros de " + casasRegistro + ".");
+        }
+    }
+
     
     
     
 
     private int getIndicePrisaoOrThrow() {
-        int idx = encontrarIndicePorTipo("PRISAO");
+        int idx = tabuleiro.primeiroIndice(TipoCasa.PRISAO);
         if (idx < 0)
             throw new IllegalStateException("Tabuleiro não possui casa PRISAO.");
         return idx;
@@ -1779,10 +2333,10 @@ public class GameModel {
         final Jogador j = jogadores.get(id);
         final Casa casa = tabuleiro.getCasa(j.getPosicao());
 
-        final String tipo = casa.getTipo();
+        final TipoCasa tipo = tabuleiro.getTipoCasa(j.getPosicao());
         final int valor = Math.max(0, casa.getValorEfeito());
 
-        if ("IMPOSTO".equalsIgnoreCase(tipo)) {
+        if (tipo == TipoCasa.IMPOSTO) {
             if (valor <= 0)
                 return Transacao.semEfeito("Imposto zero", id, casa.getPosicao(), null, 0);
 
@@ -1793,6 +2347,8 @@ public class GameModel {
             if (j.getSaldo() >= valor) {
                 j.debitar(valor);
                 banco.creditar(valor);
+                publicarPagamento(id, GameEvent.PagamentoRealizado.BANCO, valor,
+                        GameEvent.PagamentoRealizado.Motivo.IMPOSTO);
                 notifyObservers();
                 return Transacao.impostoPago(id, casa.getPosicao(), valor);
             } else {
@@ -1801,18 +2357,22 @@ public class GameModel {
                     j.debitar(disponivel);
                     banco.creditar(disponivel);
                 }
+                publicarPagamento(id, GameEvent.PagamentoRealizado.BANCO, disponivel,
+                        GameEvent.PagamentoRealizado.Motivo.IMPOSTO);
                 executarFalencia(j);
                 notifyObservers();
                 return Transacao.impostoPago(id, casa.getPosicao(), disponivel);
             }
         }
 
-        if ("LUCRO".equalsIgnoreCase(tipo)) {
+        if (tipo == TipoCasa.LUCRO) {
             if (valor <= 0)
                 return Transacao.semEfeito("Lucro zero", id, casa.getPosicao(), null, 0);
 
             banco.debitar(valor);
             j.creditar(valor);
+            publicarPagamento(GameEvent.PagamentoRealizado.BANCO, id, valor,
+                    GameEvent.PagamentoRealizado.Motivo.LUCRO);
             notifyObservers();
             return Transacao.lucroRecebido(id, casa.getPosicao(), valor);
         }
@@ -1822,40 +2382,35 @@ public class GameModel {
 
     @SuppressWarnings("unused")
     private int getIndiceVaParaPrisaoOrMinus1() {
-        return encontrarIndicePorTipo("VA_PARA_PRISAO");
-    }
-
-    private int encontrarIndicePorTipo(String tipo) {
-        for (int i = 0; i < tabuleiro.tamanho(); i++) {
-            Casa c = tabuleiro.getCasa(i);
-            if (tipo.equalsIgnoreCase(c.getTipo()))
-                return i;
-        }
-        return -1;
+        return tabuleiro.primeiroIndice(TipoCasa.VA_PARA_PRISAO);
     }
 
     private void tentarLevantarFundosPara(Jogador j, int valorNecessario) {
         if (j.getSaldo() >= valorNecessario)
             return;
         List<AtivoCompravel> minhas = listarAtivosDo(j);
-        minhas.sort(Comparator.comparingInt(AtivoCompravel::valorAgregadoAtual).reversed());
+        minhas.sort(Comparator.comparingInt((AtivoCompravel a) -> a.valorAgregado(estadoTabuleiro)).reversed());
         for (AtivoCompravel ativo : minhas) {
             if (j.getSaldo() >= valorNecessario)
                 break;
-            final int pagamento = (Math.max(0, ativo.valorAgregadoAtual()) * 9) / 10; 
+            final int pagamento = (Math.max(0, ativo.valorAgregado(estadoTabuleiro)) * 9) / 10; 
             banco.debitar(pagamento);
             j.creditar(pagamento);
-            ativo.resetarParaBanco();
+            devolverAoBanco(ativo);
         }
         notifyObservers();
     }
 
     private void executarFalencia(Jogador j) {
         for (AtivoCompravel ativo : listarAtivosDo(j)) {
-            ativo.resetarParaBanco();
+            estadoTabuleiro.devolverAoBanco(ativo.getPosicao());
         }
+        posses.removerTodos(j.getId());
         j.falir();
-        cartasSRPorJogador.remove(j.getId());
+        baralhoSR.esquecer(j.getId());
+        if (temOuvintesDeEventos()) {
+            publicarEvento(new GameEvent.JogadorFaliu(j.getId()));
+        }
         verificarEncerramentoPorUltimoJogador();
     }
 
@@ -1872,11 +2427,25 @@ public class GameModel {
             }
         }
         if (ativos == 1 && ultimoAtivoId >= 0) {
-            encerrarPartida(FimPartidaMotivo.ULTIMO_JOGADOR_RESTANTE);
+            encerrarPartidaInterno(FimPartidaMotivo.ULTIMO_JOGADOR_RESTANTE);
         }
     }
 
     public void definirOrdemJogadores(List<Integer> ordem) {
+        if (ordem == null) {
+            throw new IllegalArgumentException("Ordem inválida: tamanho diferente do número de jogadores.");
+        }
+        if (diario != null) {
+            int[] ids = new int[ordem.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = ordem.get(i) == null ? -1 : ordem.get(i);
+            }
+            diario.comando(DiarioPartida.Comando.DEFINIR_ORDEM, ids);
+        }
+        executarRegistrado(() -> definirOrdemJogadoresInterno(ordem));
+    }
+
+    private void definirOrdemJogadoresInterno(List<Integer> ordem) {
         exigirPartidaIniciada();
         if (ordem == null || ordem.size() != jogadores.size()) {
             throw new IllegalArgumentException("Ordem inválida: tamanho diferente do número de jogadores.");
@@ -1893,7 +2462,15 @@ public class GameModel {
     }
 
     public void carregarTabuleiroOficialBR() {
-        this.setTabuleiro(TabuleiroOficialFactory.criar());
+        carregarTabuleiro(DefinicaoTabuleiro.oficial());
+    }
+
+    /** Usa o tabuleiro (compartilhado) da definição, com dono e construções zerados para esta partida. */
+    public void carregarTabuleiro(DefinicaoTabuleiro definicao) {
+        if (definicao == null) {
+            throw new IllegalArgumentException("Definição de tabuleiro nula.");
+        }
+        this.setTabuleiro(definicao.tabuleiro());
         notifyObservers();
     }
 
@@ -1905,23 +2482,191 @@ public class GameModel {
         void update(GameModel source);
     }
 
-    private final java.util.concurrent.CopyOnWriteArrayList<Observer> observers =
-            new java.util.concurrent.CopyOnWriteArrayList<>();
+    private final CopyOnWriteArrayList<Observer> observers = new CopyOnWriteArrayList<>();
 
     public void addObserver(Observer o) {
         if (o != null) observers.addIfAbsent(o);
     }
 
     public void removeObserver(Observer o) {
-        if (o != null) observers.remove(o);
+        if (o == null) return;
+        for (Observer registrado : observers) {
+            if (registrado == o || (registrado instanceof ObservadorAssincrono
+                    && ((ObservadorAssincrono) registrado).getDestino() == o)) {
+                observers.remove(registrado);
+                if (registrado instanceof ObservadorAssincrono) {
+                    ((ObservadorAssincrono) registrado).close();
+                }
+            }
+        }
     }
 
-    private void notifyObservers() {
+    /** Registra o observador com entrega em thread própria; removeObserver(o) também o desliga. */
+    public ObservadorAssincrono addObserverAssincrono(Observer o, int capacidadeFila,
+                                                      ObservadorAssincrono.Politica politica) {
+        ObservadorAssincrono assincrono = new ObservadorAssincrono(o, capacidadeFila, politica);
+        observers.add(assincrono);
+        return assincrono;
+    }
+
+    public static interface EventListener {
+        void onEvent(GameEvent evento);
+    }
+
+    private final CopyOnWriteArrayList<EventListener> ouvintesDeEventos = new CopyOnWriteArrayList<>();
+
+    public void addEventListener(EventListener l) {
+        if (l != null) ouvintesDeEventos.addIfAbsent(l);
+    }
+
+    public void removeEventListener(EventListener l) {
+        if (l != null) ouvintesDeEventos.remove(l);
+    }
+
+    private boolean temOuvintesDeEventos() {
+        return diario != null || !ouvintesDeEventos.isEmpty();
+    }
+
+    private void pagarHonorarios(Jogador j) {
+        int valor = banco.pagarHonorarios(j);
+        publicarPagamento(GameEvent.PagamentoRealizado.BANCO, j.getId(), valor,
+                GameEvent.PagamentoRealizado.Motivo.HONORARIOS);
+    }
+
+    /** Pagamentos de valor zero (falência sem saldo) não geram evento. */
+    private void publicarPagamento(int pagadorId, int recebedorId, int valor,
+                                   GameEvent.PagamentoRealizado.Motivo motivo) {
+        if (valor > 0 && temOuvintesDeEventos()) {
+            publicarEvento(new GameEvent.PagamentoRealizado(pagadorId, recebedorId, valor, motivo));
+        }
+    }
+
+    private void publicarEvento(GameEvent evento) {
+        if (diario != null) {
+            diario.evento(evento);
+        }
+        for (EventListener l : ouvintesDeEventos) {
+            try { l.onEvent(evento); } catch (Exception ignore) {}
+        }
+    }
+
+    private DiarioPartida diario;
+
+    /**
+     * Começa a registrar comandos e eventos. Deve ser chamado com a partida recém-criada
+     * (tabuleiro carregado, nenhum lance feito); o diário parte desse estado.
+     */
+    public DiarioPartida iniciarDiario() {
+        exigirPartidaIniciada();
+        exigirTabuleiroCarregado();
+        if (jaLancouNesteTurno || partidaEncerrada || banco.getSaldo() != SALDO_INICIAL_BANCO) {
+            throw new IllegalStateException("O diário só pode começar no início da partida.");
+        }
+        for (Jogador j : jogadores) {
+            if (j.getSaldo() != SALDO_INICIAL_JOGADOR || j.getPosicao() != 0 || !j.isAtivo() || j.isNaPrisao()
+                    || posses.contar(j.getId()) > 0) {
+                throw new IllegalStateException("O diário só pode começar no início da partida.");
+            }
+        }
+        int[] baralho = baralhoSR.ordemComoArray();
+        List<Integer> ordem = turno.snapshotOrdem();
+        int[] ids = new int[ordem.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ordem.get(i);
+        }
+        this.diario = new DiarioPartida(jogadores.size(), rng.algoritmo(), rng.exportState(), definicaoBaralho,
+                baralho, baralhoSR.ponteiro(), ids, turno.snapshotIdxVez());
+        return diario;
+    }
+
+    public DiarioPartida getDiario() { return diario; }
+
+    public void pararDiario() {
+        this.diario = null;
+    }
+
+    /** Ponto de partida do diário aplicado sobre uma partida nova; usado pelo reprodutor. */
+    void restaurarInicioDoDiario(DiarioPartida d, DiarioPartida novoDiario) {
+        if (d.getNumJogadores() != jogadores.size()) {
+            throw new IllegalArgumentException("Diário é de uma partida com " + d.getNumJogadores() + " jogadores.");
+        }
+        this.rng = RandomProvider.comFonte(d.getAlgoritmo().restaurar(d.getEstadoRng()));
+        this.definicaoBaralho = d.getDefinicaoBaralho();
+        baralhoSR.restaurar(d.getOrdemBaralho(), d.getPonteiroBaralho());
+        this.tamanhoBaralhoSR = baralhoSR.tamanho();
+        List<Integer> ordem = new ArrayList<>();
+        for (int id : d.getOrdemTurno()) {
+            ordem.add(id);
+        }
+        turno.restaurarEstado(ordem, d.getIndiceVez(), 0, 0, 0);
+        this.diario = novoDiario;
+    }
+
+    private void registrarComando(DiarioPartida.Comando c) {
+        if (diario != null) diario.comando(c);
+    }
+
+    private void registrarComando(DiarioPartida.Comando c, int arg) {
+        if (diario != null) diario.comando(c, arg);
+    }
+
+    private void registrarComando(DiarioPartida.Comando c, int a, int b) {
+        if (diario != null) diario.comando(c, a, b);
+    }
+
+    /**
+     * Executa o comando já gravado com {@code registrarComando}; se ele for recusado, a recusa entra no
+     * diário depois dos eventos que o comando chegou a gerar e a exceção segue para quem chamou.
+     */
+    private <T> T executarRegistrado(Supplier<T> comando) {
+        try {
+            return comando.get();
+        } catch (RuntimeException ex) {
+            if (diario != null) diario.recusa(ex);
+            throw ex;
+        }
+    }
+
+    private void executarRegistrado(Runnable comando) {
+        executarRegistrado(() -> {
+            comando.run();
+            return null;
+        });
+    }
+
+    private int profundidadeLote = 0;
+    private boolean notificacaoPendente = false;
+
+    public void iniciarLoteDeNotificacoes() {
+        profundidadeLote++;
+    }
+
+    public void concluirLoteDeNotificacoes() {
+        if (profundidadeLote <= 0) {
+            throw new IllegalStateException("Nenhum lote de notificações aberto.");
+        }
+        if (--profundidadeLote == 0) {
+            descarregarNotificacoes();
+        }
+    }
+
+    public void descarregarNotificacoes() {
+        if (!notificacaoPendente) {
+            return;
+        }
+        notificacaoPendente = false;
         for (Observer o : observers) {
             try { o.update(this); } catch (Exception ignore) {}
         }
     }
 
+    private void notifyObservers() {
+        notificacaoPendente = true;
+        if (profundidadeLote == 0) {
+            descarregarNotificacoes();
+        }
+    }
+
     public Integer getUltimoD1() { return ultimoD1; }
     public Integer getUltimoD2() { return ultimoD2; }
     public boolean houveDupla() { return turno != null && turno.houveDupla(); }
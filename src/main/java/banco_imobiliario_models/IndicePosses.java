@@ -0,0 +1,91 @@
+package banco_imobiliario_models;
+
+import java.util.Arrays;
+
+final class IndicePosses {
+    private static final int[] VAZIO = new int[0];
+
+    private int[][] posicoes;
+    private int[] contagem;
+
+    IndicePosses(int numJogadores) {
+        limpar(numJogadores);
+    }
+
+    IndicePosses(IndicePosses outro) {
+        int n = outro.contagem.length;
+        this.posicoes = new int[n][];
+        this.contagem = outro.contagem.clone();
+        for (int j = 0; j < n; j++) {
+            posicoes[j] = contagem[j] == 0 ? VAZIO : Arrays.copyOf(outro.posicoes[j], contagem[j]);
+        }
+    }
+
+    void copiarDe(IndicePosses outro) {
+        IndicePosses c = new IndicePosses(outro);
+        this.posicoes = c.posicoes;
+        this.contagem = c.contagem;
+    }
+
+    void limpar(int numJogadores) {
+        int n = Math.max(0, numJogadores);
+        this.posicoes = new int[n][];
+        this.contagem = new int[n];
+        Arrays.fill(posicoes, VAZIO);
+    }
+
+    int contar(int jogadorId) {
+        return valido(jogadorId) ? contagem[jogadorId] : 0;
+    }
+
+    int posicao(int jogadorId, int i) {
+        if (i < 0 || i >= contar(jogadorId)) {
+            throw new IndexOutOfBoundsException("índice " + i);
+        }
+        return posicoes[jogadorId][i];
+    }
+
+    void adicionar(int jogadorId, int posicao) {
+        if (!valido(jogadorId)) {
+            return;
+        }
+        int n = contagem[jogadorId];
+        int[] arr = posicoes[jogadorId];
+        int idx = Arrays.binarySearch(arr, 0, n, posicao);
+        if (idx >= 0) {
+            return;
+        }
+        idx = -idx - 1;
+        if (n == arr.length) {
+            arr = Arrays.copyOf(arr, Math.max(4, n * 2));
+            posicoes[jogadorId] = arr;
+        }
+        System.arraycopy(arr, idx, arr, idx + 1, n - idx);
+        arr[idx] = posicao;
+        contagem[jogadorId] = n + 1;
+    }
+
+    void remover(int jogadorId, int posicao) {
+        if (!valido(jogadorId)) {
+            return;
+        }
+        int n = contagem[jogadorId];
+        int[] arr = posicoes[jogadorId];
+        int idx = Arrays.binarySearch(arr, 0, n, posicao);
+        if (idx < 0) {
+            return;
+        }
+        System.arraycopy(arr, idx + 1, arr, idx, n - idx - 1);
+        contagem[jogadorId] = n - 1;
+    }
+
+    void removerTodos(int jogadorId) {
+        if (valido(jogadorId)) {
+            contagem[jogadorId] = 0;
+        }
+    }
+
+    private boolean valido(int jogadorId) {
+        return jogadorId >= 0 && jogadorId < contagem.length;
+    }
+}
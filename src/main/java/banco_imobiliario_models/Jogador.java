@@ -16,6 +16,15 @@ final class Jogador {
         this.posicao = 0;
     }
 
+    Jogador(Jogador outro) {
+        this.id = outro.id;
+        this.saldo = outro.saldo;
+        this.posicao = outro.posicao;
+        this.naPrisao = outro.naPrisao;
+        this.cartaSaidaLivre = outro.cartaSaidaLivre;
+        this.ativo = outro.ativo;
+    }
+
     int getId() {
         return id;
     }
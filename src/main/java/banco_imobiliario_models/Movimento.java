@@ -7,25 +7,18 @@ final class Movimento {
     }
 
     static ResultadoMovimento executar(Jogador jogador, int d1, int d2, Tabuleiro tabuleiro) {
-        final int totalCasas = tabuleiro.tamanho();
-        final int desloc = passos(d1, d2);
+        ResultadoMovimentoBuffer out = new ResultadoMovimentoBuffer();
+        executar(jogador, d1, d2, tabuleiro, out);
+        return out.congelar();
+    }
 
+    static void executar(Jogador jogador, int d1, int d2, Tabuleiro tabuleiro, ResultadoMovimentoBuffer out) {
+        final int desloc = passos(d1, d2);
         final int posAnt = jogador.getPosicao();
-        final int posNova = (posAnt + desloc) % totalCasas;
-
-        
-        final int start = tabuleiro.indicePontoDePartida();
-        boolean passouOuCaiuNoInicio = false;
-        if (desloc > 0) {
-            if (posAnt <= posNova) {
-                passouOuCaiuNoInicio = (start > posAnt && start <= posNova);
-            } else {
-                passouOuCaiuNoInicio = (start > posAnt) || (start <= posNova);
-            }
-        }
+        final int posNova = tabuleiro.destino(posAnt, desloc);
 
         jogador.moverPara(posNova);
 
-        return new ResultadoMovimento(jogador.getId(), posAnt, desloc, posNova, passouOuCaiuNoInicio);
+        out.preencher(jogador.getId(), posAnt, desloc, posNova, tabuleiro.passaPeloInicio(posAnt, desloc));
     }
 }
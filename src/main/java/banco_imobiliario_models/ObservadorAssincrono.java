@@ -0,0 +1,196 @@
+package banco_imobiliario_models;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entrega as notificações de um observador numa thread própria, com fila limitada.
+ * O observador lê o modelo fora da thread do jogo; deve tolerar ver um estado mais novo que o notificado.
+ */
+public final class ObservadorAssincrono implements GameModel.Observer, AutoCloseable {
+
+    public static enum Politica {
+        /** Fila cheia: descarta a notificação mais antiga ainda não entregue. */
+        DESCARTAR_MAIS_ANTIGO,
+        /** Fila cheia: a thread do jogo espera até haver espaço. */
+        BLOQUEAR,
+        /** Mantém no máximo uma notificação pendente por modelo. */
+        COALESCER
+    }
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    private static final class Pendente {
+        final GameModel source;
+        final long enfileiradoEm;
+
+        Pendente(GameModel source, long enfileiradoEm) {
+            this.source = source;
+            this.enfileiradoEm = enfileiradoEm;
+        }
+    }
+
+    private final GameModel.Observer destino;
+    private final Politica politica;
+    private final LinkedBlockingDeque<Pendente> fila;
+    private final ExecutorService executor;
+    private final AtomicBoolean agendado = new AtomicBoolean(false);
+    private final Object lock = new Object();
+    private volatile boolean fechado = false;
+
+    private final AtomicLong entregues = new AtomicLong();
+    private final AtomicLong descartados = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+    private final AtomicLong somaLatenciaNanos = new AtomicLong();
+    private final AtomicLong maxLatenciaNanos = new AtomicLong();
+    private final AtomicInteger maxProfundidade = new AtomicInteger();
+    private volatile Throwable ultimaFalha;
+
+    public ObservadorAssincrono(GameModel.Observer destino, int capacidade, Politica politica) {
+        if (destino == null) {
+            throw new IllegalArgumentException("destino == null");
+        }
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("capacidade deve ser > 0");
+        }
+        this.destino = destino;
+        this.politica = (politica == null) ? Politica.COALESCER : politica;
+        this.fila = new LinkedBlockingDeque<>(capacidade);
+        final String nome = "observador-" + SEQ.incrementAndGet();
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, nome);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public GameModel.Observer getDestino() { return destino; }
+    public Politica getPolitica() { return politica; }
+
+    @Override
+    public void update(GameModel source) {
+        if (fechado) {
+            return;
+        }
+        Pendente p = new Pendente(source, System.nanoTime());
+        switch (politica) {
+            case BLOQUEAR:
+                try {
+                    fila.putLast(p);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    descartados.incrementAndGet();
+                    return;
+                }
+                break;
+            case DESCARTAR_MAIS_ANTIGO:
+                synchronized (lock) {
+                    while (!fila.offerLast(p)) {
+                        if (fila.pollFirst() != null) {
+                            descartados.incrementAndGet();
+                        }
+                    }
+                }
+                break;
+            case COALESCER:
+            default:
+                synchronized (lock) {
+                    Pendente ultimo = fila.peekLast();
+                    if (ultimo != null && ultimo.source == source) {
+                        descartados.incrementAndGet();
+                        return;
+                    }
+                    while (!fila.offerLast(p)) {
+                        if (fila.pollFirst() != null) {
+                            descartados.incrementAndGet();
+                        }
+                    }
+                }
+                break;
+        }
+        int profundidade = fila.size();
+        maxProfundidade.accumulateAndGet(profundidade, Math::max);
+        agendar();
+    }
+
+    private void agendar() {
+        if (agendado.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drenar);
+            } catch (java.util.concurrent.RejectedExecutionException ex) {
+                agendado.set(false);
+            }
+        }
+    }
+
+    private void drenar() {
+        while (true) {
+            Pendente p;
+            synchronized (lock) {
+                p = fila.pollFirst();
+            }
+            if (p == null) {
+                agendado.set(false);
+                if (fila.isEmpty() || !agendado.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                destino.update(p.source);
+                entregues.incrementAndGet();
+            } catch (Exception ex) {
+                falhas.incrementAndGet();
+                ultimaFalha = ex;
+            }
+            long latencia = System.nanoTime() - p.enfileiradoEm;
+            somaLatenciaNanos.addAndGet(latencia);
+            maxLatenciaNanos.accumulateAndGet(latencia, Math::max);
+        }
+    }
+
+    /** Espera a fila esvaziar; retorna false se o prazo acabar antes. */
+    public boolean aguardarEntrega(long timeout, TimeUnit unidade) throws InterruptedException {
+        final long limite = System.nanoTime() + unidade.toNanos(timeout);
+        while (!fila.isEmpty() || agendado.get()) {
+            if (System.nanoTime() >= limite) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        fechado = true;
+        executor.shutdown();
+    }
+
+    public long getEntregues() { return entregues.get(); }
+    public long getDescartados() { return descartados.get(); }
+    public long getFalhas() { return falhas.get(); }
+    public Throwable getUltimaFalha() { return ultimaFalha; }
+    public int getProfundidadeFila() { return fila.size(); }
+    public int getProfundidadeMaxima() { return maxProfundidade.get(); }
+    public long getLatenciaMaximaNanos() { return maxLatenciaNanos.get(); }
+
+    public double getLatenciaMediaNanos() {
+        long processadas = entregues.get() + falhas.get();
+        return processadas == 0 ? 0.0 : (double) somaLatenciaNanos.get() / processadas;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%s[%s entregues=%d descartados=%d falhas=%d fila=%d max=%d latencia(media=%.0fns max=%dns)]",
+                destino.getClass().getSimpleName(), politica, getEntregues(), getDescartados(), getFalhas(),
+                getProfundidadeFila(), getProfundidadeMaxima(), getLatenciaMediaNanos(), getLatenciaMaximaNanos());
+    }
+}
@@ -1,63 +1,64 @@
 package banco_imobiliario_models;
 
-import java.lang.reflect.Field;
-import java.util.Collections;
-import java.util.List;
-import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 
 final class RandomProvider {
-    private final Random random;
-    private static final Field SEED_FIELD;
-
-    static {
-        Field f;
-        try {
-            f = Random.class.getDeclaredField("seed");
-            f.setAccessible(true);
-        } catch (Exception ex) {
-            f = null;
+    private static final AtomicLong UNIQUIFICADOR = new AtomicLong(8682522807148012L);
+
+    private final FonteAleatoria fonte;
+
+    RandomProvider(Long seed) {
+        this(AlgoritmoAleatorio.LCG_JAVA_UTIL, seed);
+    }
+
+    RandomProvider(AlgoritmoAleatorio algoritmo, Long seed) {
+        AlgoritmoAleatorio a = (algoritmo == null) ? AlgoritmoAleatorio.LCG_JAVA_UTIL : algoritmo;
+        long inicial = (seed == null) ? UNIQUIFICADOR.addAndGet(1181783497276652981L) ^ System.nanoTime() : seed;
+        this.fonte = a.criar(inicial);
+    }
+
+    private RandomProvider(FonteAleatoria fonte) {
+        this.fonte = fonte;
+    }
+
+    static RandomProvider comFonte(FonteAleatoria fonte) {
+        if (fonte == null) {
+            throw new IllegalArgumentException("fonte == null");
         }
-        SEED_FIELD = f;
+        return new RandomProvider(fonte);
     }
 
-    RandomProvider(Long seed) {
-        this.random = (seed == null) ? new Random() : new Random(seed);
+    RandomProvider copiar() {
+        return new RandomProvider(fonte.copiar());
+    }
+
+    AlgoritmoAleatorio algoritmo() {
+        return fonte.getAlgoritmo();
     }
 
-    
     int nextDieInclusive() {
-        return random.nextInt(6) + 1;
+        return fonte.proximoInt(6) + 1;
     }
 
-    long exportState() {
-        if (SEED_FIELD == null) {
-            throw new IllegalStateException("Random seed field indisponível para exportação.");
-        }
-        try {
-            AtomicLong atomic = (AtomicLong) SEED_FIELD.get(random);
-            return atomic.get();
-        } catch (Exception ex) {
-            throw new IllegalStateException("Falha ao capturar estado do gerador aleatório.", ex);
-        }
+    long[] exportState() {
+        return fonte.exportarEstado();
     }
 
-    void importState(long rawSeed) {
-        if (SEED_FIELD == null) {
-            throw new IllegalStateException("Random seed field indisponível para importação.");
-        }
-        try {
-            AtomicLong atomic = (AtomicLong) SEED_FIELD.get(random);
-            atomic.set(rawSeed);
-        } catch (Exception ex) {
-            throw new IllegalStateException("Falha ao restaurar estado do gerador aleatório.", ex);
-        }
+    void importState(long[] estado) {
+        fonte.importarEstado(estado);
+    }
+
+    void avancarTurno() {
+        fonte.avancarTurno();
     }
 
-    <T> void shuffle(List<T> list) {
-        if (list == null || list.size() <= 1) {
-            return;
+    /** Fisher-Yates nos {@code n} primeiros elementos, do último para o primeiro. */
+    void shuffle(int[] a, int n) {
+        for (int i = n; i > 1; i--) {
+            int k = fonte.proximoIntEmbaralhamento(i);
+            int tmp = a[i - 1];
+            a[i - 1] = a[k];
+            a[k] = tmp;
         }
-        Collections.shuffle(list, random);
     }
 }
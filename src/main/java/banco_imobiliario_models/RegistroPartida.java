@@ -0,0 +1,70 @@
+package banco_imobiliario_models;
+
+/**
+ * Layout fixo de uma partida dentro da {@link ArenaPartidas}: os mesmos campos do
+ * {@link GameModel.SaveState}, em posições fixas (big-endian), seguidos de dono e construções de
+ * cada casa. O tamanho só depende do número de casas do tabuleiro.
+ *
+ * <pre>
+ *   0 byte   ocupado (gravado por último)        16 byte  tamanho do baralho
+ *   1 byte   número de jogadores                 17 byte  ponteiro do baralho
+ *   2 byte   índice da vez                       18 byte  última carta (0 = nenhuma)
+ *   3 byte   duplas consecutivas                 19 byte  carta recém-sacada (0 = nenhuma)
+ *   4 byte   último d1 do turno                  20 byte[6] ordem dos jogadores
+ *   5 byte   último d2 do turno                  32 long[4] estado do gerador
+ *   6 byte   d1 lançado (0 = nenhum)             64 jogadores: int saldo, short posição, byte flags
+ *   7 byte   d2 lançado (0 = nenhum)            112 long[6] cartas de cada jogador (bit n-1 = carta n)
+ *   8 byte   flags da vez                       160 byte[64] ordem do baralho
+ *   9 byte   gerador (0 = sem estado, ou ordinal + 1)
+ *  10 short  casa da queda atual (-1 = nenhuma)  224 byte[n] donos, byte[n] construções
+ *  12 int    saldo do banco
+ * </pre>
+ */
+final class RegistroPartida {
+    private RegistroPartida() {}
+
+    static final int MAX_JOGADORES = 6;
+    static final int MAX_CARTAS = BaralhoSorteReves.MAX_CARTAS;
+    static final int MAX_ESTADO_RNG = 4;
+
+    static final int OCUPADO = 0;
+    static final int NUM_JOGADORES = 1;
+    static final int TURNO_INDEX = 2;
+    static final int TURNO_DUPLAS = 3;
+    static final int TURNO_ULTIMO_D1 = 4;
+    static final int TURNO_ULTIMO_D2 = 5;
+    static final int ULTIMO_D1 = 6;
+    static final int ULTIMO_D2 = 7;
+    static final int FLAGS = 8;
+    static final int ALGORITMO = 9;
+    static final int QUEDA = 10;
+    static final int BANCO = 12;
+    static final int TAMANHO_BARALHO = 16;
+    static final int PONTEIRO_BARALHO = 17;
+    static final int ULTIMA_CARTA = 18;
+    static final int CARTA_BUFFER = 19;
+    static final int ORDEM_TURNO = 20;
+    static final int ESTADO_RNG = 32;
+    static final int JOGADORES = 64;
+    static final int TAMANHO_JOGADOR = 8;
+    static final int CARTAS = JOGADORES + MAX_JOGADORES * TAMANHO_JOGADOR;
+    static final int BARALHO = CARTAS + MAX_JOGADORES * 8;
+    static final int CASAS = BARALHO + MAX_CARTAS;
+
+    // Flags da vez.
+    static final int JA_LANCOU = 0x01;
+    static final int TERCEIRA_DUPLA = 0x02;
+    static final int SALVAMENTO = 0x04;
+    static final int JA_CONSTRUIU = 0x08;
+    static final int ACABOU_DE_COMPRAR = 0x10;
+
+    // Flags de jogador (mesma ordem do .bim).
+    static final int ATIVO = 0x01;
+    static final int NA_PRISAO = 0x02;
+    static final int CARTA_SAIDA = 0x04;
+
+    /** Múltiplo de 8, para os longs de todos os registros ficarem alinhados. */
+    static int tamanho(int casas) {
+        return (CASAS + 2 * casas + 7) & ~7;
+    }
+}
@@ -0,0 +1,148 @@
+package banco_imobiliario_models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reconstrói uma partida a partir de um {@link DiarioPartida}. Cada comando é repetido e os eventos
+ * gerados são comparados com os gravados; qualquer diferença interrompe a reprodução. Um comando
+ * recusado no original tem que ser recusado com a mesma exceção; qualquer outra exceção é divergência.
+ */
+public final class ReprodutorDiario {
+
+    private ReprodutorDiario() {
+    }
+
+    /** Reproduz o diário inteiro sobre o tabuleiro oficial, com o baralho gravado no diário. */
+    public static GameModel reproduzir(DiarioPartida diario) {
+        return reproduzirAte(diario, partidaOficial(diario), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reproduz sobre uma partida já preparada com {@code novaPartida} e o mesmo tabuleiro do original.
+     * A partida devolvida continua gravando no diário, então pode seguir de onde o original parou.
+     */
+    public static GameModel reproduzir(DiarioPartida diario, GameModel preparada) {
+        return reproduzirAte(diario, preparada, Integer.MAX_VALUE);
+    }
+
+    public static GameModel reproduzirAte(DiarioPartida diario, GameModel preparada, int totalComandos) {
+        if (diario == null || preparada == null) {
+            throw new IllegalArgumentException("diário e partida são obrigatórios");
+        }
+        DiarioPartida copia = diario.novoComMesmoInicio();
+        preparada.restaurarInicioDoDiario(diario, copia);
+
+        final byte[] original = diario.registros();
+        final DiarioPartida.Leitor leitor = new DiarioPartida.Leitor(original, 0, diario.getTamanhoRegistros());
+        int executados = 0;
+        while (leitor.temMais() && executados < totalComandos) {
+            final int inicio = leitor.posicao();
+            final int marca = leitor.byte1();
+            DiarioPartida.Comando c = DiarioPartida.Comando.porCodigo(marca);
+            if (c == null) {
+                throw new IllegalStateException("Registro inesperado na posição " + inicio + ": " + marca);
+            }
+            final int inicioCopia = copia.getTamanhoRegistros();
+            RuntimeException falha = null;
+            try {
+                executar(preparada, c, leitor);
+            } catch (RuntimeException ex) {
+                falha = ex;
+            }
+            while (leitor.temMais() && (leitor.espiar() & DiarioPartida.MARCA_EVENTO) != 0) {
+                leitor.pularEvento(leitor.byte1());
+            }
+            String recusa = null;
+            if (leitor.temMais() && leitor.espiar() == DiarioPartida.MARCA_RECUSA) {
+                leitor.byte1();
+                recusa = leitor.recusa();
+            }
+            conferirRecusa(recusa, falha, executados, c);
+            conferir(original, inicio, leitor.posicao(), copia.registros(), inicioCopia, copia.getTamanhoRegistros(),
+                    executados, c);
+            executados++;
+        }
+        return preparada;
+    }
+
+    private static GameModel partidaOficial(DiarioPartida diario) {
+        GameModel m = new GameModel();
+        m.novaPartida(diario.getNumJogadores(), 0L, diario.getAlgoritmo());
+        m.carregarTabuleiroOficialBR();
+        return m;
+    }
+
+    private static void executar(GameModel m, DiarioPartida.Comando c, DiarioPartida.Leitor l) {
+        int a = 0, b = 0;
+        List<Integer> ordem = null;
+        switch (c) {
+            case LANCAR_DADOS_FORCADO:
+                a = l.zigzag();
+                b = l.zigzag();
+                break;
+            case ENVIAR_PARA_PRISAO:
+            case VENDER_PROPRIEDADE:
+            case ENCERRAR_PARTIDA:
+            case CONFIGURAR_BARALHO:
+                a = l.zigzag();
+                break;
+            case DEFINIR_ORDEM: {
+                int n = l.varint();
+                ordem = new ArrayList<>(n);
+                for (int i = 0; i < n; i++) {
+                    int id = l.zigzag();
+                    ordem.add(id < 0 ? null : id);
+                }
+                break;
+            }
+            default:
+                break;
+        }
+        switch (c) {
+            case LANCAR_DADOS: m.lancarDados(); break;
+            case LANCAR_DADOS_FORCADO: m.lancarDadosForcado(a, b); break;
+            case ENCERRAR_VEZ: m.encerrarVez(); break;
+            case DESLOCAR_PIAO: m.deslocarPiao(); break;
+            case DESLOCAR_E_APLICAR_OBRIGATORIOS: m.deslocarPiaoEAplicarObrigatorios(); break;
+            case APLICAR_OBRIGATORIOS: m.aplicarEfeitosObrigatoriosPosMovimento(); break;
+            case PAGAR_ALUGUEL: m.pagarAluguelSeDevido(); break;
+            case COMPRAR_PROPRIEDADE: m.comprarPropriedade(); break;
+            case CONSTRUIR_CASA: m.construirCasa(); break;
+            case CONSTRUIR_HOTEL: m.construirHotel(); break;
+            case ENVIAR_PARA_PRISAO: m.enviarParaPrisao(a); break;
+            case TENTAR_SAIR_DA_PRISAO: m.tentarSairDaPrisaoComDuplaOuCarta(); break;
+            case VENDER_PROPRIEDADE: m.venderPropriedadeAoBanco(a); break;
+            case DECLARAR_FALENCIA: m.declararFalenciaSeNecessario(); break;
+            case ENCERRAR_PARTIDA:
+                m.encerrarPartida(a < 0 ? null : GameModel.FimPartidaMotivo.values()[a]);
+                break;
+            case DEFINIR_ORDEM: m.definirOrdemJogadores(ordem); break;
+            case CONFIGURAR_BARALHO: m.configurarBaralhoSorteRevesPadrao(a); break;
+            default: throw new IllegalStateException("Comando sem reprodução: " + c);
+        }
+    }
+
+    /** O comando reproduzido tem que ter sido aceito ou recusado como no original, com a mesma exceção. */
+    private static void conferirRecusa(String recusa, RuntimeException falha, int indice, DiarioPartida.Comando c) {
+        String obtida = falha == null ? null : falha.getClass().getName();
+        if (recusa == null ? obtida == null : recusa.equals(obtida)) {
+            return;
+        }
+        String esperado = recusa == null ? "aceito" : "recusado com " + recusa;
+        String ocorrido = obtida == null ? "aceito" : "recusado com " + obtida;
+        throw new IllegalStateException("Reprodução divergiu no comando #" + indice + " (" + c + "): o original foi "
+                + esperado + " e a reprodução foi " + ocorrido + ".", falha);
+    }
+
+    private static void conferir(byte[] a, int inicioA, int fimA, byte[] b, int inicioB, int fimB,
+                                 int indice, DiarioPartida.Comando c) {
+        boolean igual = (fimA - inicioA) == (fimB - inicioB);
+        for (int i = 0; igual && i < fimA - inicioA; i++) {
+            igual = a[inicioA + i] == b[inicioB + i];
+        }
+        if (!igual) {
+            throw new IllegalStateException("Reprodução divergiu no comando #" + indice + " (" + c + ").");
+        }
+    }
+}
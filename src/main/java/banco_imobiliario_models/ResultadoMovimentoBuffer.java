@@ -0,0 +1,21 @@
+package banco_imobiliario_models;
+
+final class ResultadoMovimentoBuffer {
+    int idJogador;
+    int posicaoAnterior;
+    int deslocamento;
+    int posicaoAtual;
+    boolean passouOuCaiuNoInicio;
+
+    void preencher(int idJogador, int posAnt, int desloc, int posAtu, boolean passouOuCaiuNoInicio) {
+        this.idJogador = idJogador;
+        this.posicaoAnterior = posAnt;
+        this.deslocamento = desloc;
+        this.posicaoAtual = posAtu;
+        this.passouOuCaiuNoInicio = passouOuCaiuNoInicio;
+    }
+
+    ResultadoMovimento congelar() {
+        return new ResultadoMovimento(idJogador, posicaoAnterior, deslocamento, posicaoAtual, passouOuCaiuNoInicio);
+    }
+}
@@ -0,0 +1,740 @@
+package banco_imobiliario_models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Simulador para grandes lotes de partidas (Monte Carlo). Roda as mesmas regras e a mesma
+ * política do {@link SimulationEngine#simularPartida(long)}, com as mesmas seeds, mas sem
+ * {@link GameModel}: o estado de todas as partidas do lote fica em arrays paralelos (saldo,
+ * posição e flags de cada jogador; dono e construções de cada casa; banco, vez, dados e baralho de
+ * cada partida) e as partidas avançam juntas, uma vez de cada por rodada.
+ *
+ * <p>Cada posição do lote é reaproveitada pela próxima partida assim que a sua termina. Os
+ * resultados chegam ao consumidor na ordem em que as partidas terminam, não na ordem das seeds.
+ * Não é thread-safe: para usar várias threads, uma instância por thread.
+ */
+public final class SimulacaoEmLote {
+
+    public static final int TAMANHO_LOTE_PADRAO = 1024;
+
+    private static final int HONORARIOS = 200;
+    private static final int SEM_DONO = EstadoTabuleiro.SEM_DONO;
+
+    // Flags de cada jogador.
+    private static final byte ATIVO = 0x01;
+    private static final byte NA_PRISAO = 0x02;
+    private static final byte CARTA_SAIDA = 0x04;
+
+    // Flags de cada partida.
+    private static final int JA_LANCOU = 0x01;
+    private static final int TERCEIRA_DUPLA = 0x02;
+    private static final int AUTO_LANCAMENTO = 0x04;
+    private static final int EXECUTANDO_AUTO = 0x08;
+    private static final int COMPROU_NA_QUEDA = 0x10;
+    private static final int CONSTRUIU_NA_QUEDA = 0x20;
+    private static final int ENCERRADA = 0x40;
+
+    private static final int HOTEL = 0x08;
+    private static final int CASAS = 0x07;
+
+    private static final byte TIPO_SORTE_REVES = (byte) TipoCasa.SORTE_REVES.ordinal();
+    private static final byte TIPO_VA_PARA_PRISAO = (byte) TipoCasa.VA_PARA_PRISAO.ordinal();
+    private static final byte TIPO_IMPOSTO = (byte) TipoCasa.IMPOSTO.ordinal();
+    private static final byte TIPO_LUCRO = (byte) TipoCasa.LUCRO.ordinal();
+
+    // Baralho oficial: só tem efeitos de valor fixo, saída livre e prisão.
+    private static final DefinicaoBaralho BARALHO_OFICIAL = DefinicaoBaralho.oficial();
+    private static final int CARTAS = BARALHO_OFICIAL.total();
+    private static final TipoEfeitoCarta[] EFEITO_CARTA = new TipoEfeitoCarta[CARTAS + 1];
+    private static final int[] VALOR_CARTA = new int[CARTAS + 1];
+
+    static {
+        for (int c = 1; c <= CARTAS; c++) {
+            EFEITO_CARTA[c] = BARALHO_OFICIAL.tipo(c);
+            VALOR_CARTA[c] = EFEITO_CARTA[c].quantidadeCampos() > 0 ? BARALHO_OFICIAL.valor(c, 0) : 0;
+        }
+    }
+
+    private final int numJogadores;
+    private final int maxTurnos;
+    private final int tamanhoLote;
+    private final AlgoritmoAleatorio algoritmo;
+    private final DefinicaoTabuleiro definicao;
+
+    // Tabuleiro: uma entrada por casa; aluguel e valor agregado indexados por (casa << 4 | construções).
+    private final Tabuleiro tabuleiro;
+    private final int n;
+    private final int prisao;
+    private final byte[] tipos;
+    private final boolean[] compravel;
+    private final boolean[] terreno;
+    private final int[] precoCompra;
+    private final int[] precoCasa;
+    private final int[] precoHotel;
+    private final int[] valorEfeito;
+    private final int[] aluguel;
+    private final int[] valorAgregado;
+
+    // Jogadores: índice partida * numJogadores + jogador.
+    private final int[] saldo;
+    private final int[] posicao;
+    private final byte[] estadoJogador;
+
+    // Casas: índice partida * n + casa (mesma codificação do EstadoTabuleiro).
+    private final byte[] donos;
+    private final byte[] construcoes;
+
+    // Partidas.
+    private final int[] partida;
+    private final long[] seed;
+    private final FonteAleatoria[] fonte;
+    private final int[] banco;
+    private final int[] vez;
+    private final int[] turnos;
+    private final int[] flags;
+    private final int[] quedaAtual;
+    private final byte[] duplas;
+    private final byte[] dado1;
+    private final byte[] dado2;
+    private final byte[] baralho;
+    private final byte[] ponteiroBaralho;
+
+    // Capital de cada jogador no momento do encerramento (o ranking congela ali, como no GameModel).
+    private final GameModel.FimPartidaMotivo[] motivo;
+    private final int[] saldoFinal;
+    private final int[] patrimonioFinal;
+    private final boolean[] ativoFinal;
+
+    public SimulacaoEmLote(int numJogadores, int maxTurnos) {
+        this(numJogadores, maxTurnos, AlgoritmoAleatorio.LCG_JAVA_UTIL, DefinicaoTabuleiro.oficial(), TAMANHO_LOTE_PADRAO);
+    }
+
+    public SimulacaoEmLote(int numJogadores, int maxTurnos, AlgoritmoAleatorio algoritmo,
+                           DefinicaoTabuleiro tabuleiro, int tamanhoLote) {
+        if (numJogadores < 2 || numJogadores > 6) {
+            throw new IllegalArgumentException("Número de jogadores deve estar entre 2 e 6.");
+        }
+        if (maxTurnos <= 0) {
+            throw new IllegalArgumentException("maxTurnos deve ser > 0");
+        }
+        if (tamanhoLote <= 0) {
+            throw new IllegalArgumentException("tamanhoLote deve ser > 0");
+        }
+        this.numJogadores = numJogadores;
+        this.maxTurnos = maxTurnos;
+        this.tamanhoLote = tamanhoLote;
+        this.algoritmo = (algoritmo == null) ? AlgoritmoAleatorio.LCG_JAVA_UTIL : algoritmo;
+        this.definicao = (tabuleiro == null) ? DefinicaoTabuleiro.oficial() : tabuleiro;
+
+        this.tabuleiro = definicao.tabuleiro();
+        this.n = this.tabuleiro.tamanho();
+        this.prisao = this.tabuleiro.primeiroIndice(TipoCasa.PRISAO);
+        this.tipos = new byte[n];
+        this.compravel = new boolean[n];
+        this.terreno = new boolean[n];
+        this.precoCompra = new int[n];
+        this.precoCasa = new int[n];
+        this.precoHotel = new int[n];
+        this.valorEfeito = new int[n];
+        this.aluguel = new int[n << 4];
+        this.valorAgregado = new int[n << 4];
+        compilarTabuleiro();
+
+        final int jogadores = tamanhoLote * numJogadores;
+        this.saldo = new int[jogadores];
+        this.posicao = new int[jogadores];
+        this.estadoJogador = new byte[jogadores];
+        this.donos = new byte[tamanhoLote * n];
+        this.construcoes = new byte[tamanhoLote * n];
+
+        this.partida = new int[tamanhoLote];
+        this.seed = new long[tamanhoLote];
+        this.fonte = new FonteAleatoria[tamanhoLote];
+        this.banco = new int[tamanhoLote];
+        this.vez = new int[tamanhoLote];
+        this.turnos = new int[tamanhoLote];
+        this.flags = new int[tamanhoLote];
+        this.quedaAtual = new int[tamanhoLote];
+        this.duplas = new byte[tamanhoLote];
+        this.dado1 = new byte[tamanhoLote];
+        this.dado2 = new byte[tamanhoLote];
+        this.baralho = new byte[tamanhoLote * CARTAS];
+        this.ponteiroBaralho = new byte[tamanhoLote];
+
+        this.motivo = new GameModel.FimPartidaMotivo[tamanhoLote];
+        this.saldoFinal = new int[jogadores];
+        this.patrimonioFinal = new int[jogadores];
+        this.ativoFinal = new boolean[jogadores];
+    }
+
+    /** Aluguel e valor agregado de cada combinação de construções, calculados pelas próprias casas. */
+    private void compilarTabuleiro() {
+        EstadoTabuleiro rascunho = new EstadoTabuleiro(n);
+        for (int pos = 0; pos < n; pos++) {
+            Casa casa = tabuleiro.getCasa(pos);
+            tipos[pos] = (byte) tabuleiro.getTipoCasa(pos).ordinal();
+            valorEfeito[pos] = Math.max(0, casa.getValorEfeito());
+            if (!(casa instanceof AtivoCompravel)) {
+                continue;
+            }
+            AtivoCompravel ativo = (AtivoCompravel) casa;
+            compravel[pos] = true;
+            precoCompra[pos] = ativo.getPrecoCompra();
+            if (casa instanceof Propriedade) {
+                terreno[pos] = true;
+                precoCasa[pos] = ((Propriedade) casa).getPrecoCasa();
+                precoHotel[pos] = ((Propriedade) casa).getPrecoHotel();
+            }
+            for (int hotel = 0; hotel <= 1; hotel++) {
+                for (int casas = hotel; casas <= EstadoTabuleiro.MAX_CASAS; casas++) {
+                    rascunho.devolverAoBanco(pos);
+                    for (int k = 0; k < casas; k++) {
+                        rascunho.construirCasa(pos);
+                    }
+                    if (hotel == 1) {
+                        rascunho.construirHotel(pos);
+                    }
+                    int idx = (pos << 4) | (hotel == 1 ? HOTEL : 0) | casas;
+                    aluguel[idx] = ativo.calcularAluguel(rascunho);
+                    valorAgregado[idx] = Math.max(0, ativo.valorAgregado(rascunho));
+                }
+            }
+        }
+    }
+
+    public int getNumJogadores() { return numJogadores; }
+    public int getMaxTurnos() { return maxTurnos; }
+    public int getTamanhoLote() { return tamanhoLote; }
+    public AlgoritmoAleatorio getAlgoritmo() { return algoritmo; }
+    public DefinicaoTabuleiro getTabuleiro() { return definicao; }
+
+    public SimulationEngine.Relatorio executar(int totalPartidas, long seedBase) {
+        return executar(totalPartidas, seedBase, null);
+    }
+
+    /** Mesmas seeds do {@link SimulationEngine#executar(int, long, Consumer)}. */
+    public SimulationEngine.Relatorio executar(int totalPartidas, long seedBase,
+                                              Consumer<SimulationEngine.ResultadoSimulacao> consumidor) {
+        if (totalPartidas < 0) {
+            throw new IllegalArgumentException("totalPartidas < 0");
+        }
+        final long inicio = System.nanoTime();
+        SimulationEngine.Relatorio relatorio = new SimulationEngine.Relatorio(numJogadores);
+
+        int proxima = 0;
+        int emAndamento = 0;
+        for (int g = 0; g < tamanhoLote; g++) {
+            if (proxima < totalPartidas) {
+                iniciar(g, proxima, SimulationEngine.seedDaPartida(seedBase, proxima));
+                proxima++;
+                emAndamento++;
+            } else {
+                partida[g] = -1;
+            }
+        }
+
+        while (emAndamento > 0) {
+            for (int g = 0; g < tamanhoLote; g++) {
+                if (partida[g] < 0) {
+                    continue;
+                }
+                boolean terminou;
+                try {
+                    terminou = jogarVez(g);
+                } catch (RuntimeException ex) {
+                    relatorio.registrarErro();
+                    terminou = false;
+                    partida[g] = -1;
+                }
+                if (terminou) {
+                    SimulationEngine.ResultadoSimulacao r = resultado(g);
+                    relatorio.registrar(r);
+                    if (consumidor != null) {
+                        consumidor.accept(r);
+                    }
+                    partida[g] = -1;
+                }
+                if (partida[g] < 0) {
+                    if (proxima < totalPartidas) {
+                        iniciar(g, proxima, SimulationEngine.seedDaPartida(seedBase, proxima));
+                        proxima++;
+                    } else {
+                        emAndamento--;
+                    }
+                }
+            }
+        }
+        relatorio.registrarDuracao(System.nanoTime() - inicio);
+        return relatorio;
+    }
+
+    /** Uma partida isolada, para comparar com {@link SimulationEngine#simularPartida(long)}. */
+    public SimulationEngine.ResultadoSimulacao simularPartida(long seedPartida) {
+        iniciar(0, 0, seedPartida);
+        try {
+            while (!jogarVez(0)) {
+                // próxima vez
+            }
+            return resultado(0);
+        } finally {
+            partida[0] = -1;
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Partida (equivalente a novaPartida + carregarTabuleiro)
+    // ------------------------------------------------------------------
+
+    private void iniciar(int g, int indice, long s) {
+        partida[g] = indice;
+        seed[g] = s;
+        fonte[g] = algoritmo.criar(s);
+        banco[g] = GameModel.SALDO_INICIAL_BANCO;
+        vez[g] = 0;
+        turnos[g] = 0;
+        flags[g] = 0;
+        quedaAtual[g] = -1;
+        duplas[g] = 0;
+        dado1[g] = 0;
+        dado2[g] = 0;
+        motivo[g] = null;
+
+        final int j0 = g * numJogadores;
+        Arrays.fill(saldo, j0, j0 + numJogadores, GameModel.SALDO_INICIAL_JOGADOR);
+        Arrays.fill(posicao, j0, j0 + numJogadores, 0);
+        Arrays.fill(estadoJogador, j0, j0 + numJogadores, ATIVO);
+        Arrays.fill(donos, g * n, g * n + n, (byte) SEM_DONO);
+        Arrays.fill(construcoes, g * n, g * n + n, (byte) 0);
+
+        // Mesmo embaralhamento do RandomProvider.shuffle sobre 1..CARTAS.
+        final int b0 = g * CARTAS;
+        for (int i = 0; i < CARTAS; i++) {
+            baralho[b0 + i] = (byte) (i + 1);
+        }
+        FonteAleatoria f = fonte[g];
+        for (int i = CARTAS; i > 1; i--) {
+            int k = f.proximoIntEmbaralhamento(i);
+            byte tmp = baralho[b0 + i - 1];
+            baralho[b0 + i - 1] = baralho[b0 + k];
+            baralho[b0 + k] = tmp;
+        }
+        ponteiroBaralho[g] = 0;
+    }
+
+    /** Uma vez completa do jogador da vez; true quando a partida termina. */
+    private boolean jogarVez(int g) {
+        final int idVez = jogadorDaVez(g);
+        do {
+            lancarDados(g);
+            deslocarEAplicarObrigatorios(g);
+            if ((flags[g] & ENCERRADA) != 0 || !ativo(g, idVez)) {
+                break;
+            }
+            aplicarPolitica(g);
+        } while ((flags[g] & JA_LANCOU) == 0 && jogadorDaVez(g) == idVez);
+
+        if ((flags[g] & ENCERRADA) != 0) {
+            return true;
+        }
+        encerrarVez(g);
+        if (++turnos[g] >= maxTurnos) {
+            encerrar(g, GameModel.FimPartidaMotivo.LIMITE_DE_TURNOS);
+            return true;
+        }
+        return false;
+    }
+
+    private SimulationEngine.ResultadoSimulacao resultado(int g) {
+        final int j0 = g * numJogadores;
+        List<GameModel.ResumoCapital> ranking = new ArrayList<>(numJogadores);
+        int falencias = 0;
+        for (int p = 0; p < numJogadores; p++) {
+            ranking.add(new GameModel.ResumoCapital(p, saldoFinal[j0 + p], patrimonioFinal[j0 + p], ativoFinal[j0 + p]));
+            if ((estadoJogador[j0 + p] & ATIVO) == 0) {
+                falencias++;
+            }
+        }
+        ranking.sort(GameModel.ORDEM_RANKING);
+        return new SimulationEngine.ResultadoSimulacao(seed[g], turnos[g], falencias,
+                new GameModel.ResultadoPartida(motivo[g], ranking));
+    }
+
+    // ------------------------------------------------------------------
+    // Turno
+    // ------------------------------------------------------------------
+
+    private boolean ativo(int g, int p) {
+        return (estadoJogador[g * numJogadores + p] & ATIVO) != 0;
+    }
+
+    private boolean naPrisao(int g, int p) {
+        return (estadoJogador[g * numJogadores + p] & NA_PRISAO) != 0;
+    }
+
+    /** Como {@code GameModel.getJogadorDaVez}: pula (e avança a vez sobre) jogadores falidos. */
+    private int jogadorDaVez(int g) {
+        for (int i = 0; i < numJogadores; i++) {
+            if (ativo(g, vez[g])) {
+                break;
+            }
+            vez[g] = (vez[g] + 1) % numJogadores;
+        }
+        return vez[g];
+    }
+
+    private void encerrarVez(int g) {
+        for (int i = 0; i < numJogadores; i++) {
+            vez[g] = (vez[g] + 1) % numJogadores;
+            if (ativo(g, vez[g])) {
+                break;
+            }
+        }
+        quedaAtual[g] = -1;
+        flags[g] &= ~(JA_LANCOU | COMPROU_NA_QUEDA | CONSTRUIU_NA_QUEDA);
+        fonte[g].avancarTurno();
+    }
+
+    private void lancarDados(int g) {
+        if ((flags[g] & JA_LANCOU) != 0) {
+            throw new IllegalStateException("Neste turno você já rolou os dados.");
+        }
+        FonteAleatoria f = fonte[g];
+        int d1 = f.proximoInt(6) + 1;
+        int d2 = f.proximoInt(6) + 1;
+        dado1[g] = (byte) d1;
+        dado2[g] = (byte) d2;
+        duplas[g] = (d1 == d2) ? (byte) (duplas[g] + 1) : 0;
+        flags[g] |= JA_LANCOU;
+        if (d1 == d2 && duplas[g] >= 3) {
+            flags[g] |= TERCEIRA_DUPLA;
+        }
+    }
+
+    private boolean houveDupla(int g) {
+        return dado1[g] == dado2[g];
+    }
+
+    private void iniciarQueda(int g, int pos) {
+        quedaAtual[g] = pos;
+        flags[g] &= ~(COMPROU_NA_QUEDA | CONSTRUIU_NA_QUEDA);
+    }
+
+    private void deslocarEAplicarObrigatorios(int g) {
+        deslocarPiao(g);
+        aplicarObrigatorios(g);
+        processarLancamentosAutomaticos(g);
+    }
+
+    private void deslocarPiao(int g) {
+        final int id = jogadorDaVez(g);
+        final int j = g * numJogadores + id;
+
+        if ((flags[g] & TERCEIRA_DUPLA) != 0) {
+            moverParaPrisao(g, id);
+            flags[g] &= ~TERCEIRA_DUPLA;
+            duplas[g] = 0;
+            iniciarQueda(g, posicao[j]);
+            return;
+        }
+
+        if ((estadoJogador[j] & NA_PRISAO) != 0) {
+            if ((estadoJogador[j] & CARTA_SAIDA) != 0) {
+                estadoJogador[j] &= ~(CARTA_SAIDA | NA_PRISAO);
+                duplas[g] = 0;
+            } else if (houveDupla(g)) {
+                estadoJogador[j] &= ~NA_PRISAO;
+                duplas[g] = 0;
+            } else {
+                iniciarQueda(g, posicao[j]);
+                return;
+            }
+        }
+
+        final int soma = dado1[g] + dado2[g];
+        final int anterior = posicao[j];
+        posicao[j] = tabuleiro.destino(anterior, soma);
+        if (tabuleiro.passaPeloInicio(anterior, soma)) {
+            bancoPaga(g, HONORARIOS);
+            saldo[j] += HONORARIOS;
+        }
+        iniciarQueda(g, posicao[j]);
+
+        final byte tipo = tipos[posicao[j]];
+        if (tipo == TIPO_VA_PARA_PRISAO) {
+            moverParaPrisao(g, id);
+            iniciarQueda(g, posicao[j]);
+            return;
+        }
+        if (tipo == TIPO_SORTE_REVES) {
+            sortearCarta(g, id);
+        }
+        if (houveDupla(g) && !naPrisao(g, jogadorDaVez(g))) {
+            flags[g] &= ~JA_LANCOU;
+        }
+    }
+
+    private void moverParaPrisao(int g, int id) {
+        if (prisao < 0) {
+            throw new IllegalStateException("Tabuleiro não possui casa PRISAO.");
+        }
+        final int j = g * numJogadores + id;
+        posicao[j] = prisao;
+        if ((estadoJogador[j] & CARTA_SAIDA) != 0) {
+            estadoJogador[j] &= ~(CARTA_SAIDA | NA_PRISAO);
+            flags[g] = (flags[g] & ~JA_LANCOU) | AUTO_LANCAMENTO;
+        } else {
+            estadoJogador[j] |= NA_PRISAO;
+        }
+        duplas[g] = 0;
+    }
+
+    private void processarLancamentosAutomaticos(int g) {
+        if ((flags[g] & EXECUTANDO_AUTO) != 0) {
+            return;
+        }
+        while ((flags[g] & AUTO_LANCAMENTO) != 0) {
+            flags[g] = (flags[g] & ~(AUTO_LANCAMENTO | JA_LANCOU)) | EXECUTANDO_AUTO;
+            try {
+                lancarDados(g);
+                deslocarEAplicarObrigatorios(g);
+            } finally {
+                flags[g] &= ~EXECUTANDO_AUTO;
+            }
+        }
+    }
+
+    private void sortearCarta(int g, int id) {
+        final int numero = baralho[g * CARTAS + ponteiroBaralho[g]];
+        ponteiroBaralho[g] = (byte) ((ponteiroBaralho[g] + 1) % CARTAS);
+        final int valor = VALOR_CARTA[numero];
+        switch (EFEITO_CARTA[numero]) {
+            case RECEBER_DO_BANCO:
+                if (valor > 0) {
+                    bancoPaga(g, valor);
+                    saldo[g * numJogadores + id] += valor;
+                }
+                break;
+            case PAGAR_AO_BANCO:
+                pagarAoBanco(g, id, valor);
+                break;
+            case RECEBER_DE_CADA_JOGADOR:
+                if (valor > 0) {
+                    for (int p = 0; p < numJogadores; p++) {
+                        if (p != id && ativo(g, p)) {
+                            transferir(g, p, id, valor);
+                        }
+                    }
+                }
+                break;
+            case SAIDA_LIVRE_DA_PRISAO:
+                estadoJogador[g * numJogadores + id] |= CARTA_SAIDA;
+                break;
+            case IR_PARA_PRISAO:
+                moverParaPrisao(g, id);
+                break;
+            default:
+                throw new IllegalStateException("Efeito de carta sem suporte na simulação: " + EFEITO_CARTA[numero]);
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Efeitos obrigatórios e pagamentos
+    // ------------------------------------------------------------------
+
+    private void aplicarObrigatorios(int g) {
+        final int id = jogadorDaVez(g);
+        final int pos = posicao[g * numJogadores + id];
+        final byte tipo = tipos[pos];
+        final int valor = valorEfeito[pos];
+        if (tipo == TIPO_IMPOSTO && valor > 0) {
+            pagarAoBanco(g, id, valor);
+            return;
+        }
+        if (tipo == TIPO_LUCRO && valor > 0) {
+            bancoPaga(g, valor);
+            saldo[g * numJogadores + id] += valor;
+            return;
+        }
+        cobrarAluguel(g);
+    }
+
+    private void cobrarAluguel(int g) {
+        final int id = jogadorDaVez(g);
+        final int pos = posicao[g * numJogadores + id];
+        if (!compravel[pos]) {
+            return;
+        }
+        final int dono = donos[g * n + pos];
+        if (dono == SEM_DONO || dono == id) {
+            return;
+        }
+        final int valor = aluguel[(pos << 4) | construcoes[g * n + pos]];
+        if (valor > 0) {
+            transferir(g, id, dono, valor);
+        }
+    }
+
+    private void pagarAoBanco(int g, int p, int valor) {
+        if (valor <= 0) {
+            return;
+        }
+        final int j = g * numJogadores + p;
+        if (saldo[j] < valor) {
+            levantarFundos(g, p, valor);
+        }
+        if (saldo[j] >= valor) {
+            saldo[j] -= valor;
+            banco[g] += valor;
+            return;
+        }
+        int disponivel = Math.max(0, saldo[j]);
+        saldo[j] -= disponivel;
+        banco[g] += disponivel;
+        falir(g, p);
+    }
+
+    private void transferir(int g, int pagador, int recebedor, int valor) {
+        final int j = g * numJogadores + pagador;
+        if (saldo[j] < valor) {
+            levantarFundos(g, pagador, valor);
+        }
+        if (saldo[j] >= valor) {
+            saldo[j] -= valor;
+            saldo[g * numJogadores + recebedor] += valor;
+            return;
+        }
+        int disponivel = Math.max(0, saldo[j]);
+        saldo[j] -= disponivel;
+        saldo[g * numJogadores + recebedor] += disponivel;
+        falir(g, pagador);
+    }
+
+    private void bancoPaga(int g, int valor) {
+        if (banco[g] < valor) {
+            throw new IllegalStateException("Banco sem saldo suficiente");
+        }
+        banco[g] -= valor;
+    }
+
+    /**
+     * Vende ao banco, por 90% do valor agregado, os ativos mais valiosos primeiro (empate: menor
+     * posição), até cobrir o valor; mesma ordem da ordenação estável do GameModel.
+     */
+    private void levantarFundos(int g, int p, int necessario) {
+        final int j = g * numJogadores + p;
+        final int c0 = g * n;
+        while (saldo[j] < necessario) {
+            int melhor = -1;
+            int melhorValor = Integer.MIN_VALUE;
+            for (int pos = 0; pos < n; pos++) {
+                if (donos[c0 + pos] == p) {
+                    int v = valorAgregado[(pos << 4) | construcoes[c0 + pos]];
+                    if (v > melhorValor) {
+                        melhor = pos;
+                        melhorValor = v;
+                    }
+                }
+            }
+            if (melhor < 0) {
+                return;
+            }
+            int pagamento = (melhorValor * 9) / 10;
+            bancoPaga(g, pagamento);
+            saldo[j] += pagamento;
+            donos[c0 + melhor] = (byte) SEM_DONO;
+            construcoes[c0 + melhor] = 0;
+        }
+    }
+
+    private void falir(int g, int p) {
+        final int c0 = g * n;
+        for (int pos = 0; pos < n; pos++) {
+            if (donos[c0 + pos] == p) {
+                donos[c0 + pos] = (byte) SEM_DONO;
+                construcoes[c0 + pos] = 0;
+            }
+        }
+        estadoJogador[g * numJogadores + p] = 0;
+        if ((flags[g] & ENCERRADA) != 0) {
+            return;
+        }
+        int ativos = 0;
+        for (int q = 0; q < numJogadores; q++) {
+            if (ativo(g, q)) {
+                ativos++;
+            }
+        }
+        if (ativos == 1) {
+            encerrar(g, GameModel.FimPartidaMotivo.ULTIMO_JOGADOR_RESTANTE);
+        }
+    }
+
+    private void encerrar(int g, GameModel.FimPartidaMotivo m) {
+        if ((flags[g] & ENCERRADA) != 0) {
+            return;
+        }
+        final int j0 = g * numJogadores;
+        final int c0 = g * n;
+        for (int p = 0; p < numJogadores; p++) {
+            saldoFinal[j0 + p] = saldo[j0 + p];
+            patrimonioFinal[j0 + p] = 0;
+            ativoFinal[j0 + p] = (estadoJogador[j0 + p] & ATIVO) != 0;
+        }
+        for (int pos = 0; pos < n; pos++) {
+            int dono = donos[c0 + pos];
+            if (dono != SEM_DONO) {
+                patrimonioFinal[j0 + dono] += valorAgregado[(pos << 4) | construcoes[c0 + pos]];
+            }
+        }
+        motivo[g] = m;
+        flags[g] |= ENCERRADA;
+    }
+
+    // ------------------------------------------------------------------
+    // Política (a mesma do SimulationEngine: compra, senão hotel, senão casa)
+    // ------------------------------------------------------------------
+
+    private void aplicarPolitica(int g) {
+        final int id = jogadorDaVez(g);
+        final int j = g * numJogadores + id;
+        final int pos = posicao[j];
+        final int c = g * n + pos;
+        if (!compravel[pos]) {
+            return;
+        }
+        final int dono = donos[c];
+        if (dono == SEM_DONO) {
+            final int preco = precoCompra[pos];
+            if (preco > 0 && saldo[j] >= preco) {
+                saldo[j] -= preco;
+                banco[g] += preco;
+                donos[c] = (byte) id;
+                flags[g] |= COMPROU_NA_QUEDA;
+            }
+            return;
+        }
+        if (!terreno[pos] || dono != id || quedaAtual[g] != pos
+                || (flags[g] & (COMPROU_NA_QUEDA | CONSTRUIU_NA_QUEDA)) != 0) {
+            return;
+        }
+        final int construido = construcoes[c];
+        if ((construido & HOTEL) != 0) {
+            return;
+        }
+        final int casas = construido & CASAS;
+        if (casas >= 1 && precoHotel[pos] > 0 && saldo[j] >= precoHotel[pos]) {
+            saldo[j] -= precoHotel[pos];
+            banco[g] += precoHotel[pos];
+            construcoes[c] = (byte) (construido | HOTEL);
+            flags[g] |= CONSTRUIU_NA_QUEDA;
+        } else if (casas < EstadoTabuleiro.MAX_CASAS && precoCasa[pos] > 0 && saldo[j] >= precoCasa[pos]) {
+            saldo[j] -= precoCasa[pos];
+            banco[g] += precoCasa[pos];
+            construcoes[c] = (byte) (construido + 1);
+            flags[g] |= CONSTRUIU_NA_QUEDA;
+        }
+    }
+}
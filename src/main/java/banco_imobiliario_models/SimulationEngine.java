@@ -0,0 +1,293 @@
+package banco_imobiliario_models;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/** Executa partidas completas sem UI nem observadores, distribuindo-as entre várias threads. */
+public final class SimulationEngine {
+
+    private static final int TAMANHO_BLOCO = 64;
+
+    private final int numJogadores;
+    private final int maxTurnos;
+    private final int paralelismo;
+    private final AlgoritmoAleatorio algoritmo;
+    private final DefinicaoTabuleiro tabuleiro;
+
+    public SimulationEngine(int numJogadores, int maxTurnos, int paralelismo) {
+        this(numJogadores, maxTurnos, paralelismo, AlgoritmoAleatorio.LCG_JAVA_UTIL);
+    }
+
+    public SimulationEngine(int numJogadores, int maxTurnos, int paralelismo, AlgoritmoAleatorio algoritmo) {
+        this(numJogadores, maxTurnos, paralelismo, algoritmo, DefinicaoTabuleiro.oficial());
+    }
+
+    /** Todas as partidas usam o mesmo tabuleiro; cada uma tem apenas o seu estado de posses. */
+    public SimulationEngine(int numJogadores, int maxTurnos, int paralelismo, AlgoritmoAleatorio algoritmo,
+                            DefinicaoTabuleiro tabuleiro) {
+        if (numJogadores < 2 || numJogadores > 6) {
+            throw new IllegalArgumentException("Número de jogadores deve estar entre 2 e 6.");
+        }
+        if (maxTurnos <= 0) {
+            throw new IllegalArgumentException("maxTurnos deve ser > 0");
+        }
+        this.numJogadores = numJogadores;
+        this.maxTurnos = maxTurnos;
+        this.paralelismo = paralelismo <= 0 ? Runtime.getRuntime().availableProcessors() : paralelismo;
+        this.algoritmo = (algoritmo == null) ? AlgoritmoAleatorio.LCG_JAVA_UTIL : algoritmo;
+        this.tabuleiro = (tabuleiro == null) ? DefinicaoTabuleiro.oficial() : tabuleiro;
+    }
+
+    public SimulationEngine(int numJogadores, int maxTurnos) {
+        this(numJogadores, maxTurnos, 0);
+    }
+
+    public int getNumJogadores() { return numJogadores; }
+    public int getMaxTurnos() { return maxTurnos; }
+    public int getParalelismo() { return paralelismo; }
+    public AlgoritmoAleatorio getAlgoritmo() { return algoritmo; }
+    public DefinicaoTabuleiro getTabuleiro() { return tabuleiro; }
+
+    public static final class ResultadoSimulacao {
+        private final long seed;
+        private final int vencedorId;
+        private final int turnos;
+        private final int falencias;
+        private final GameModel.FimPartidaMotivo motivo;
+        private final List<GameModel.ResumoCapital> ranking;
+
+        ResultadoSimulacao(long seed, int turnos, int falencias, GameModel.ResultadoPartida resultado) {
+            this.seed = seed;
+            this.vencedorId = resultado.getVencedorId();
+            this.turnos = turnos;
+            this.falencias = falencias;
+            this.motivo = resultado.getMotivo();
+            this.ranking = resultado.getRanking();
+        }
+
+        public long getSeed() { return seed; }
+        public int getVencedorId() { return vencedorId; }
+        public int getTurnos() { return turnos; }
+        public int getFalencias() { return falencias; }
+        public GameModel.FimPartidaMotivo getMotivo() { return motivo; }
+        public List<GameModel.ResumoCapital> getRanking() { return ranking; }
+    }
+
+    public static final class Relatorio {
+        private final int numJogadores;
+        private long partidas;
+        private long erros;
+        private final long[] vitoriasPorJogador;
+        private final long[] partidasPorMotivo = new long[GameModel.FimPartidaMotivo.values().length];
+        private long somaTurnos;
+        private int minTurnos = Integer.MAX_VALUE;
+        private int maxTurnos;
+        private long totalFalencias;
+        private long duracaoNanos;
+
+        Relatorio(int numJogadores) {
+            this.numJogadores = numJogadores;
+            this.vitoriasPorJogador = new long[numJogadores];
+        }
+
+        void registrar(ResultadoSimulacao r) {
+            partidas++;
+            if (r.getVencedorId() >= 0 && r.getVencedorId() < numJogadores) {
+                vitoriasPorJogador[r.getVencedorId()]++;
+            }
+            partidasPorMotivo[r.getMotivo().ordinal()]++;
+            somaTurnos += r.getTurnos();
+            minTurnos = Math.min(minTurnos, r.getTurnos());
+            maxTurnos = Math.max(maxTurnos, r.getTurnos());
+            totalFalencias += r.getFalencias();
+        }
+
+        void registrarErro() {
+            erros++;
+        }
+
+        void registrarDuracao(long nanos) {
+            duracaoNanos = nanos;
+        }
+
+        void combinar(Relatorio outro) {
+            partidas += outro.partidas;
+            erros += outro.erros;
+            for (int i = 0; i < numJogadores; i++) {
+                vitoriasPorJogador[i] += outro.vitoriasPorJogador[i];
+            }
+            for (int i = 0; i < partidasPorMotivo.length; i++) {
+                partidasPorMotivo[i] += outro.partidasPorMotivo[i];
+            }
+            somaTurnos += outro.somaTurnos;
+            minTurnos = Math.min(minTurnos, outro.minTurnos);
+            maxTurnos = Math.max(maxTurnos, outro.maxTurnos);
+            totalFalencias += outro.totalFalencias;
+        }
+
+        public long getPartidas() { return partidas; }
+        public long getErros() { return erros; }
+        public long getVitorias(int jogadorId) { return vitoriasPorJogador[jogadorId]; }
+        public long getPartidasPorMotivo(GameModel.FimPartidaMotivo motivo) { return partidasPorMotivo[motivo.ordinal()]; }
+        public long getSomaTurnos() { return somaTurnos; }
+        public double getMediaTurnos() { return partidas == 0 ? 0.0 : (double) somaTurnos / partidas; }
+        public int getMinTurnos() { return partidas == 0 ? 0 : minTurnos; }
+        public int getMaxTurnos() { return maxTurnos; }
+        public long getTotalFalencias() { return totalFalencias; }
+        public long getDuracaoNanos() { return duracaoNanos; }
+
+        public double getPartidasPorSegundo() {
+            return duracaoNanos <= 0 ? 0.0 : partidas * 1_000_000_000.0 / duracaoNanos;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format(Locale.ROOT, "partidas=%d erros=%d turnos(media=%.1f min=%d max=%d) falencias=%d %.0f partidas/s",
+                    partidas, erros, getMediaTurnos(), getMinTurnos(), maxTurnos, totalFalencias, getPartidasPorSegundo()));
+            for (int i = 0; i < numJogadores; i++) {
+                sb.append(String.format(Locale.ROOT, " J%d=%d", i + 1, vitoriasPorJogador[i]));
+            }
+            return sb.toString();
+        }
+    }
+
+    public Relatorio executar(int totalPartidas, long seedBase) {
+        return executar(totalPartidas, seedBase, null);
+    }
+
+    public Relatorio executar(int totalPartidas, long seedBase, Consumer<ResultadoSimulacao> consumidor) {
+        if (totalPartidas < 0) {
+            throw new IllegalArgumentException("totalPartidas < 0");
+        }
+        final long inicio = System.nanoTime();
+        final AtomicInteger proximo = new AtomicInteger(0);
+        final int workers = Math.max(1, Math.min(paralelismo, (totalPartidas + TAMANHO_BLOCO - 1) / TAMANHO_BLOCO));
+
+        Relatorio total = new Relatorio(numJogadores);
+        if (workers == 1) {
+            total.combinar(executarBlocos(totalPartidas, seedBase, proximo, consumidor));
+        } else {
+            ExecutorService pool = Executors.newFixedThreadPool(workers, new ThreadFactory() {
+                private final AtomicInteger seq = new AtomicInteger();
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "simulacao-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+            try {
+                List<Future<Relatorio>> parciais = new ArrayList<>(workers);
+                for (int w = 0; w < workers; w++) {
+                    parciais.add(pool.submit(() -> executarBlocos(totalPartidas, seedBase, proximo, consumidor)));
+                }
+                for (Future<Relatorio> f : parciais) {
+                    total.combinar(f.get());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Simulação interrompida.", ex);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Falha na simulação.", ex.getCause());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+        total.registrarDuracao(System.nanoTime() - inicio);
+        return total;
+    }
+
+    private Relatorio executarBlocos(int totalPartidas, long seedBase, AtomicInteger proximo,
+                                     Consumer<ResultadoSimulacao> consumidor) {
+        Relatorio parcial = new Relatorio(numJogadores);
+        int bloco;
+        while ((bloco = proximo.getAndAdd(TAMANHO_BLOCO)) < totalPartidas) {
+            int fim = Math.min(totalPartidas, bloco + TAMANHO_BLOCO);
+            for (int i = bloco; i < fim; i++) {
+                ResultadoSimulacao r;
+                try {
+                    r = simularPartida(seedDaPartida(seedBase, i));
+                } catch (RuntimeException ex) {
+                    parcial.registrarErro();
+                    continue;
+                }
+                parcial.registrar(r);
+                if (consumidor != null) {
+                    consumidor.accept(r);
+                }
+            }
+        }
+        return parcial;
+    }
+
+    public ResultadoSimulacao simularPartida(long seed) {
+        GameModel model = new GameModel();
+        model.novaPartida(numJogadores, seed, algoritmo);
+        model.carregarTabuleiro(tabuleiro);
+
+        int turnos = 0;
+        while (!model.isPartidaEncerrada() && turnos < maxTurnos) {
+            final int idVez = model.getJogadorDaVez();
+            do {
+                model.lancarDados();
+                model.deslocarPiaoEAplicarObrigatorios();
+                if (model.isPartidaEncerrada() || !model.isJogadorAtivo(idVez)) {
+                    break;
+                }
+                aplicarPolitica(model);
+            } while (model.podeLancarDadosNesteTurno() && model.getJogadorDaVez() == idVez);
+
+            if (model.isPartidaEncerrada()) {
+                break;
+            }
+            model.encerrarVez();
+            turnos++;
+        }
+        if (!model.isPartidaEncerrada()) {
+            model.encerrarPartida(GameModel.FimPartidaMotivo.LIMITE_DE_TURNOS);
+        }
+
+        int falencias = 0;
+        for (int i = 0; i < numJogadores; i++) {
+            if (!model.isJogadorAtivo(i)) {
+                falencias++;
+            }
+        }
+        GameModel.ResultadoPartida resultado = model.getResultadoPartida()
+                .orElseThrow(() -> new IllegalStateException("Partida simulada sem resultado."));
+        return new ResultadoSimulacao(seed, turnos, falencias, resultado);
+    }
+
+    private static void aplicarPolitica(GameModel model) {
+        if (model.canComprarPropriedadeNaCasaAtual()) {
+            model.comprarPropriedade();
+        } else if (model.canConstruirHotelNaCasaAtual()) {
+            model.construirHotel();
+        } else if (model.canConstruirCasaNaCasaAtual()) {
+            model.construirCasa();
+        }
+    }
+
+    /**
+     * Seed da partida {@code indice} (SplitMix64 sobre a base). Não deriva as fontes com
+     * {@link FonteAleatoria#dividir()}: a partida i teria que esperar as i divisões anteriores, o
+     * resultado passaria a depender de qual thread pegou cada bloco, e a seed em
+     * {@link ResultadoSimulacao} não bastaria para repetir a partida com {@link #simularPartida(long)}
+     * nem para {@link SimulacaoEmLote} reproduzir a mesma partida.
+     */
+    static long seedDaPartida(long seedBase, int indice) {
+        long z = seedBase + (indice + 1L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -2,24 +2,39 @@ package banco_imobiliario_models;
 
 import java.util.*;
 
+/**
+ * Sorteio sem reposição sobre o mesmo {@link BaralhoSorteReves} da partida: cada saque sorteia uma
+ * das cartas ainda disponíveis em O(1) e as cartas de cada jogador ficam num bitmask. Os ids do
+ * catálogo vão de 1 a {@link BaralhoSorteReves#MAX_CARTAS}.
+ */
 public final class SorteRevesManager {
 
-    
-    private final Map<Integer, SorteRevesCard> catalogo = new HashMap<>();
-    
-    private final Set<Integer> disponiveis = new HashSet<>();
-    
-    private final Map<Integer, Set<Integer>> bancoPorJogador = new HashMap<>();
+    private SorteRevesCard[] catalogo = new SorteRevesCard[BaralhoSorteReves.MAX_CARTAS + 1];
+
+    private final BaralhoSorteReves baralho = new BaralhoSorteReves();
 
-    private Integer ultimaCartaId = null;
+    private int sacadas = 0;
+
+    private int ultimaCartaId = 0;
 
     public void resetarComCatalogo(List<SorteRevesCard> cards) {
-        catalogo.clear();
-        for (SorteRevesCard c : cards) catalogo.put(c.getId(), c);
-        disponiveis.clear();
-        disponiveis.addAll(catalogo.keySet());
-        bancoPorJogador.clear();
-        ultimaCartaId = null;
+        SorteRevesCard[] novo = new SorteRevesCard[BaralhoSorteReves.MAX_CARTAS + 1];
+        int[] ids = new int[cards.size()];
+        int n = 0;
+        for (SorteRevesCard c : cards) {
+            if (c.getId() < 1 || c.getId() > BaralhoSorteReves.MAX_CARTAS) {
+                throw new IllegalArgumentException("id de carta fora do intervalo: " + c.getId());
+            }
+            if (novo[c.getId()] == null) {
+                ids[n++] = c.getId();
+            }
+            novo[c.getId()] = c;
+        }
+        catalogo = novo;
+        baralho.restaurar(Arrays.copyOf(ids, n), 0);
+        baralho.reiniciarPosse(0);
+        sacadas = 0;
+        ultimaCartaId = 0;
     }
 
     
@@ -33,38 +48,26 @@ public final class SorteRevesManager {
 
     
     public Optional<SorteRevesCard> sortearParaJogador(int jogadorId, Random rng) {
-        if (disponiveis.isEmpty()) return Optional.empty();
-        
-        int idx = rng.nextInt(disponiveis.size());
-        int chosen = -1;
-        int i = 0;
-        for (int id : disponiveis) {
-            if (i++ == idx) { chosen = id; break; }
-        }
-        if (chosen < 0) return Optional.empty();
+        if (!temDisponiveis()) return Optional.empty();
 
-        disponiveis.remove(chosen);
-        Set<Integer> cartas = bancoPorJogador.get(jogadorId);
-        if (cartas == null) {
-            cartas = new HashSet<>();
-            bancoPorJogador.put(jogadorId, cartas);
-        }
-        cartas.add(chosen);
+        int chosen = baralho.sacarEntre(baralho.tamanho() - sacadas, rng);
+        sacadas++;
+        baralho.guardar(jogadorId, chosen);
         ultimaCartaId = chosen;
-        return Optional.of(catalogo.get(chosen));
+        return Optional.of(catalogo[chosen]);
     }
 
     public Set<Integer> getCartasDoJogador(int jogadorId) {
-        return Collections.unmodifiableSet(bancoPorJogador.getOrDefault(jogadorId, Collections.emptySet()));
+        return Collections.unmodifiableSet(BaralhoSorteReves.comoConjunto(baralho.cartasDo(jogadorId)));
     }
 
     public Optional<SorteRevesCard> getUltimaCarta() {
-        return ultimaCartaId == null ? Optional.empty() : Optional.ofNullable(catalogo.get(ultimaCartaId));
+        return ultimaCartaId == 0 ? Optional.empty() : Optional.ofNullable(catalogo[ultimaCartaId]);
     }
 
     public Optional<Integer> getUltimaCartaId() {
-        return Optional.ofNullable(ultimaCartaId);
+        return ultimaCartaId == 0 ? Optional.empty() : Optional.of(ultimaCartaId);
     }
 
-    public boolean temDisponiveis() { return !disponiveis.isEmpty(); }
+    public boolean temDisponiveis() { return sacadas < baralho.tamanho(); }
 }
@@ -1,19 +1,115 @@
 package banco_imobiliario_models;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+/**
+ * Casas e tabelas pré-calculadas de um tabuleiro. Imutável: várias partidas (e threads) usam a
+ * mesma instância, cada uma com o seu {@link EstadoTabuleiro}.
+ */
 final class Tabuleiro {
-    private final List<Casa> casas;
+    static final int SOMA_MAXIMA_DADOS = 12;
+    private static final int COLUNAS = SOMA_MAXIMA_DADOS + 1;
+
+    private final Casa[] casas;
+    private final TipoCasa[] tipos;
+    private final int[][] indicesPorTipo;
+    private final int indicePartida;
+    private final int[] destinos;
+    private final boolean[] passaInicio;
 
     Tabuleiro(List<Casa> casas) {
-        if (casas == null || casas.isEmpty()) throw new IllegalArgumentException("Tabuleiro vazio");
-        this.casas = new ArrayList<>(casas);
+        this(casas == null ? new Casa[0] : casas.toArray(new Casa[0]), null);
+    }
+
+    /** Com {@code tipos} nulo cada casa é classificada por {@link TipoCasa#classificar(Casa)}. */
+    Tabuleiro(Casa[] casas, TipoCasa[] tipos) {
+        if (casas.length == 0) throw new IllegalArgumentException("Tabuleiro vazio");
+        this.casas = casas;
+        if (tipos == null) {
+            tipos = new TipoCasa[casas.length];
+            for (int i = 0; i < casas.length; i++) {
+                tipos[i] = TipoCasa.classificar(casas[i]);
+            }
+        }
+        this.tipos = tipos;
+
+        int[] contagem = new int[TipoCasa.values().length];
+        for (TipoCasa t : tipos) {
+            contagem[t.ordinal()]++;
+        }
+        this.indicesPorTipo = new int[contagem.length][];
+        for (int k = 0; k < contagem.length; k++) {
+            indicesPorTipo[k] = new int[contagem[k]];
+        }
+        Arrays.fill(contagem, 0);
+        for (int i = 0; i < tipos.length; i++) {
+            int k = tipos[i].ordinal();
+            indicesPorTipo[k][contagem[k]++] = i;
+        }
+        int partida = primeiroIndice(TipoCasa.PONTO_PARTIDA);
+        this.indicePartida = partida < 0 ? 0 : partida;
+
+        final int n = this.casas.length;
+        final int start = indicePontoDePartida();
+        this.destinos = new int[n * COLUNAS];
+        this.passaInicio = new boolean[n * COLUNAS];
+        for (int pos = 0; pos < n; pos++) {
+            for (int soma = 0; soma < COLUNAS; soma++) {
+                int dest = (pos + soma) % n;
+                boolean passou = false;
+                if (soma > 0) {
+                    if (pos <= dest) {
+                        passou = (start > pos && start <= dest);
+                    } else {
+                        passou = (start > pos) || (start <= dest);
+                    }
+                }
+                destinos[pos * COLUNAS + soma] = dest;
+                passaInicio[pos * COLUNAS + soma] = passou;
+            }
+        }
+    }
+
+    int tamanho() { return casas.length; }
+
+    Casa getCasa(int idx) { return casas[idx]; }
+
+    TipoCasa getTipoCasa(int idx) { return tipos[idx]; }
+
+    int indicePontoDePartida() { return indicePartida; }
+
+    int primeiroIndice(TipoCasa tipo) {
+        int[] idx = indicesPorTipo[tipo.ordinal()];
+        return idx.length == 0 ? -1 : idx[0];
     }
 
-    int tamanho() { return casas.size(); }
+    int quantidade(TipoCasa tipo) {
+        return indicesPorTipo[tipo.ordinal()].length;
+    }
 
-    Casa getCasa(int idx) { return casas.get(idx); }
+    int indice(TipoCasa tipo, int i) {
+        return indicesPorTipo[tipo.ordinal()][i];
+    }
 
-    int indicePontoDePartida() { return 0; } 
+    int destino(int posicao, int soma) {
+        return destinos[posicao * COLUNAS + soma];
+    }
+
+    boolean passaPeloInicio(int posicao, int soma) {
+        return passaInicio[posicao * COLUNAS + soma];
+    }
+
+    /**
+     * Se andar {@code passos} casas para a frente a partir de {@code posicao} passa pelo ponto de
+     * partida ou para nele. Para deslocamentos fora da tabela (cartas): saindo do próprio ponto de
+     * partida, só a volta completa conta.
+     */
+    boolean passaPeloInicioAndando(int posicao, int passos) {
+        if (passos <= 0) {
+            return false;
+        }
+        int ateInicio = Math.floorMod(indicePartida - posicao, casas.length);
+        return passos >= (ateInicio == 0 ? casas.length : ateInicio);
+    }
 }
@@ -1,85 +1,101 @@
 package banco_imobiliario_models;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 final class TabuleiroOficialFactory {
     private TabuleiroOficialFactory() {}
 
-    static Tabuleiro criar() {
-        List<Casa> casas = new ArrayList<>(40);
-
-        
-        final int[] ALUGUEIS = {0, 25, 75, 225, 400, 600};
-        final int PRECO_TERRENO = 200;
-        final int PRECO_CASA = 100;
-        final int PRECO_HOTEL = 400;
+    /**
+     * Tabuleiro oficial no mesmo formato dos arquivos de tabuleiro. Casa e hotel custam metade e
+     * o valor do terreno, e o aluguel é derivado do preço do terreno (tabela de aluguéis vazia).
+     */
+    static DefinicaoTabuleiro criar() {
+        List<Object> casas = new ArrayList<>(40);
 
         final int PRECO_COMPANHIA = 200;
         final int ALUGUEL_COMPANHIA = 200;
 
-        
-        casas.add(new Casa(0,  "Ponto de Partida", "PONTO_PARTIDA"));
-        casas.add(criarPropriedade("Leblon", 1, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(new Casa(2,  "Sorte/Revés", "CARTA"));
-        casas.add(criarPropriedade("Av. Presidente Vargas", 3, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(criarPropriedade("Av. Nossa Sra. de Copacabana", 4, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(criarCompanhia("Companhia de Trem", 5, PRECO_COMPANHIA, ALUGUEL_COMPANHIA));
-        casas.add(criarPropriedade("Av. Brig. Faria Lima", 6, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(criarCompanhia("Companhia de Ônibus", 7, PRECO_COMPANHIA, ALUGUEL_COMPANHIA));
-        casas.add(criarPropriedade("Av. Rebouças", 8, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(criarPropriedade("Av. 9 de Julho", 9, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-
-        
-        casas.add(new Casa(10, "Prisão", "PRISAO"));
-
-        
-        casas.add(criarPropriedade("Av. Europa", 11, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(new Casa(12, "Sorte/Revés", "CARTA"));
-        casas.add(criarPropriedade("Rua Augusta", 13, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(criarPropriedade("Av. Pacaembu", 14, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(criarCompanhia("Companhia de Táxi", 15, PRECO_COMPANHIA, ALUGUEL_COMPANHIA));
-        casas.add(new Casa(16, "Sorte/Revés", "CARTA"));
-        casas.add(criarPropriedade("Interlagos", 17, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(new Casa(18, "Lucros e Dividendos", "LUCRO", 200));
-        casas.add(criarPropriedade("Morumbi", 19, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-
-        
-        casas.add(new Casa(20, "Parada Livre", "PARADA_LIVRE"));
-
-        
-        casas.add(criarPropriedade("Flamengo", 21, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(new Casa(22, "Sorte/Revés", "CARTA"));
-        casas.add(criarPropriedade("Botafogo", 23, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(new Casa(24, "Imposto de Renda", "IMPOSTO", 200)); 
-        casas.add(criarCompanhia("Companhia Marítima", 25, PRECO_COMPANHIA, ALUGUEL_COMPANHIA));    
-        casas.add(criarPropriedade("Av. Brasil", 26, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(new Casa(27, "Sorte/Revés", "CARTA"));
-        casas.add(criarPropriedade("Av. Paulista", 28, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(criarPropriedade("Jardim Europa", 29, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-
-        
-        casas.add(new Casa(30, "Vá para a Prisão", "VA_PARA_PRISAO"));
-
-        
-        casas.add(criarPropriedade("Copacabana", 31, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(criarCompanhia("Companhia Aérea", 32, PRECO_COMPANHIA, ALUGUEL_COMPANHIA));
-        casas.add(criarPropriedade("Av. Vieira Souto", 33, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(criarPropriedade("Av. Atlântica", 34, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(criarCompanhia("Companhia de Serviços", 35, PRECO_COMPANHIA, ALUGUEL_COMPANHIA));
-        casas.add(criarPropriedade("Ipanema", 36, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(new Casa(37, "Sorte/Revés", "CARTA"));
-        casas.add(criarPropriedade("Jardim Paulista", 38, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-        casas.add(criarPropriedade("Brooklin", 39, PRECO_TERRENO, PRECO_CASA, PRECO_HOTEL, ALUGUEIS));
-
-        return new Tabuleiro(casas);
+        casas.add(casa("PONTO_PARTIDA", "Ponto de Partida"));
+        casas.add(propriedade("Leblon", 100));
+        casas.add(casa("SORTE_REVES", "Sorte/Revés"));
+        casas.add(propriedade("Av. Presidente Vargas", 60));
+        casas.add(propriedade("Av. Nossa Sra. de Copacabana", 60));
+        casas.add(companhia("Companhia de Trem", PRECO_COMPANHIA, ALUGUEL_COMPANHIA));
+        casas.add(propriedade("Av. Brig. Faria Lima", 240));
+        casas.add(companhia("Companhia de Ônibus", PRECO_COMPANHIA, ALUGUEL_COMPANHIA));
+        casas.add(propriedade("Av. Rebouças", 220));
+        casas.add(propriedade("Av. 9 de Julho", 220));
+
+        casas.add(casa("PRISAO", "Prisão"));
+
+        casas.add(propriedade("Av. Europa", 200));
+        casas.add(casa("SORTE_REVES", "Sorte/Revés"));
+        casas.add(propriedade("Rua Augusta", 180));
+        casas.add(propriedade("Av. Pacaembu", 180));
+        casas.add(companhia("Companhia de Táxi", PRECO_COMPANHIA, ALUGUEL_COMPANHIA));
+        casas.add(casa("SORTE_REVES", "Sorte/Revés"));
+        casas.add(propriedade("Interlagos", 350));
+        casas.add(efeito("LUCRO", "Lucros e Dividendos", 200));
+        casas.add(propriedade("Morumbi", 400));
+
+        casas.add(casa("PARADA_LIVRE", "Parada Livre"));
+
+        casas.add(propriedade("Flamengo", 120));
+        casas.add(casa("SORTE_REVES", "Sorte/Revés"));
+        casas.add(propriedade("Botafogo", 100));
+        casas.add(efeito("IMPOSTO", "Imposto de Renda", 200));
+        casas.add(companhia("Companhia Marítima", PRECO_COMPANHIA, ALUGUEL_COMPANHIA));
+        casas.add(propriedade("Av. Brasil", 160));
+        casas.add(casa("SORTE_REVES", "Sorte/Revés"));
+        casas.add(propriedade("Av. Paulista", 140));
+        casas.add(propriedade("Jardim Europa", 140));
+
+        casas.add(casa("VA_PARA_PRISAO", "Vá para a Prisão"));
+
+        casas.add(propriedade("Copacabana", 260));
+        casas.add(companhia("Companhia Aérea", PRECO_COMPANHIA, ALUGUEL_COMPANHIA));
+        casas.add(propriedade("Av. Vieira Souto", 320));
+        casas.add(propriedade("Av. Atlântica", 300));
+        casas.add(companhia("Companhia de Serviços", PRECO_COMPANHIA, ALUGUEL_COMPANHIA));
+        casas.add(propriedade("Ipanema", 300));
+        casas.add(casa("SORTE_REVES", "Sorte/Revés"));
+        casas.add(propriedade("Jardim Paulista", 280));
+        casas.add(propriedade("Brooklin", 260));
+
+        Map<String, Object> doc = new LinkedHashMap<>();
+        doc.put(DefinicaoTabuleiro.CAMPO_NOME_TABULEIRO, "Oficial BR");
+        doc.put(DefinicaoTabuleiro.CAMPO_CASAS, casas);
+        return DefinicaoTabuleiro.compilar(doc);
+    }
+
+    private static Map<String, Object> casa(String tipo, String nome) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put(DefinicaoTabuleiro.CAMPO_TIPO, tipo);
+        m.put(DefinicaoTabuleiro.CAMPO_NOME, nome);
+        return m;
+    }
+
+    private static Map<String, Object> propriedade(String nome, int precoTerreno) {
+        Map<String, Object> m = casa("PROPRIEDADE", nome);
+        m.put(DefinicaoTabuleiro.CAMPO_PRECO, precoTerreno);
+        m.put(DefinicaoTabuleiro.CAMPO_PRECO_CASA, (precoTerreno * 50) / 100);
+        m.put(DefinicaoTabuleiro.CAMPO_PRECO_HOTEL, precoTerreno);
+        return m;
     }
 
-    private static Propriedade criarPropriedade(String nome, int posicao, int precoTerreno, int precoCasa, int precoHotel, int[] alugueis) {
-        return new Propriedade(posicao, nome, precoTerreno, precoCasa, precoHotel, alugueis);
+    private static Map<String, Object> companhia(String nome, int preco, int aluguel) {
+        Map<String, Object> m = casa("COMPANHIA", nome);
+        m.put(DefinicaoTabuleiro.CAMPO_PRECO, preco);
+        m.put(DefinicaoTabuleiro.CAMPO_ALUGUEL, aluguel);
+        return m;
     }
 
-    private static Companhia criarCompanhia(String nome, int posicao, int preco, int aluguel) {
-        return new Companhia(posicao, nome, preco, aluguel);
+    private static Map<String, Object> efeito(String tipo, String nome, int valor) {
+        Map<String, Object> m = casa(tipo, nome);
+        m.put(DefinicaoTabuleiro.CAMPO_VALOR, valor);
+        return m;
     }
 }
@@ -0,0 +1,61 @@
+package banco_imobiliario_models;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+enum TipoCasa {
+    PONTO_PARTIDA,
+    PROPRIEDADE,
+    COMPANHIA,
+    SORTE_REVES,
+    PRISAO,
+    VA_PARA_PRISAO,
+    LUCRO,
+    IMPOSTO,
+    PARADA_LIVRE,
+    GENERICA;
+
+    static TipoCasa classificar(Casa c) {
+        if (c == null) {
+            return GENERICA;
+        }
+        String tipo = c.getTipo() == null ? "" : c.getTipo();
+        if ("VA_PARA_PRISAO".equalsIgnoreCase(tipo)) {
+            return VA_PARA_PRISAO;
+        }
+        if (isSorteReves(tipo, c.getNome() == null ? "" : c.getNome())) {
+            return SORTE_REVES;
+        }
+        if (c instanceof Propriedade) {
+            return PROPRIEDADE;
+        }
+        if (c instanceof Companhia) {
+            return COMPANHIA;
+        }
+        for (TipoCasa t : values()) {
+            if (t.name().equalsIgnoreCase(tipo)) {
+                return t;
+            }
+        }
+        return GENERICA;
+    }
+
+    private static boolean isSorteReves(String tipo, String nome) {
+        String T = normalizar(tipo);
+        String N = normalizar(nome);
+
+        if (T.contains("CHANCE") || N.contains("CHANCE")) return true;
+        if ((T.contains("SORTE") && (T.contains("REVES") || T.contains("REVEZ"))) ||
+            (N.contains("SORTE") && (N.contains("REVES") || N.contains("REVEZ")))) return true;
+        if (tipo.contains("?") || nome.contains("?")) return true;
+
+        return T.equals("SORTE_REVES") || T.equals("INTERROGACAO") || T.equals("SORTE_REVEZ");
+    }
+
+    private static String normalizar(String valor) {
+        String n = Normalizer.normalize(valor, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "");
+        n = n.replace('/', '_').replace('-', '_').replace(' ', '_');
+        return n.toUpperCase(Locale.ROOT);
+    }
+}
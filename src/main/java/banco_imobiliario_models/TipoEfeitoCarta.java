@@ -0,0 +1,115 @@
+package banco_imobiliario_models;
+
+/**
+ * Tipos de efeito aceitos nos arquivos de baralho. Cada tipo declara os campos inteiros que a
+ * carta precisa (com o mínimo de cada um) e compila esses valores num {@link EfeitoCarta}; um
+ * tipo novo entra aqui, usando as operações de carta do {@link GameModel}.
+ */
+enum TipoEfeitoCarta {
+    RECEBER_DO_BANCO(Campo.VALOR) {
+        @Override
+        EfeitoCarta compilar(int[] p) {
+            final int valor = p[0];
+            return (partida, jogador) -> partida.cartaReceberDoBanco(jogador, valor);
+        }
+    },
+    PAGAR_AO_BANCO(Campo.VALOR) {
+        @Override
+        EfeitoCarta compilar(int[] p) {
+            final int valor = p[0];
+            return (partida, jogador) -> partida.cartaPagarAoBanco(jogador, valor);
+        }
+    },
+    RECEBER_DE_CADA_JOGADOR(Campo.VALOR) {
+        @Override
+        EfeitoCarta compilar(int[] p) {
+            final int valor = p[0];
+            return (partida, jogador) -> partida.cartaReceberDeCadaJogador(jogador, valor);
+        }
+    },
+    /** A carta fica com o jogador até ele usá-la para sair da prisão. */
+    SAIDA_LIVRE_DA_PRISAO {
+        @Override
+        EfeitoCarta compilar(int[] p) {
+            return GameModel::cartaSaidaLivreDaPrisao;
+        }
+
+        @Override
+        boolean ficaComJogador() { return true; }
+    },
+    IR_PARA_PRISAO {
+        @Override
+        EfeitoCarta compilar(int[] p) {
+            return GameModel::cartaIrParaPrisao;
+        }
+    },
+    /** Anda {@code casas} casas (negativo volta); só ganha honorários andando para a frente. */
+    AVANCAR(Campo.CASAS) {
+        @Override
+        EfeitoCarta compilar(int[] p) {
+            final int casas = p[0];
+            return (partida, jogador) -> {
+                final int pos = partida.cartaPosicao(jogador);
+                final int total = partida.cartaTamanhoTabuleiro();
+                partida.cartaMoverPara(jogador, Math.floorMod(pos + casas, total), Math.max(casas, 0));
+            };
+        }
+    },
+    /** Vai para a casa {@code casa} andando para a frente; passar pelo início paga honorários. */
+    IR_PARA_CASA(Campo.CASA) {
+        @Override
+        EfeitoCarta compilar(int[] p) {
+            final int casa = p[0];
+            return (partida, jogador) -> {
+                final int pos = partida.cartaPosicao(jogador);
+                final int total = partida.cartaTamanhoTabuleiro();
+                final int destino = casa % total;
+                partida.cartaMoverPara(jogador, destino, Math.floorMod(destino - pos, total));
+            };
+        }
+    },
+    /** Paga ao banco {@code porCasa} por casa e {@code porHotel} por hotel das suas propriedades. */
+    PAGAR_POR_CONSTRUCAO(Campo.POR_CASA, Campo.POR_HOTEL) {
+        @Override
+        EfeitoCarta compilar(int[] p) {
+            final int porCasa = p[0];
+            final int porHotel = p[1];
+            return (partida, jogador) -> partida.cartaPagarAoBanco(jogador,
+                    partida.cartaValorPorConstrucoes(jogador, porCasa, porHotel));
+        }
+    };
+
+    /** Campo inteiro de uma carta e o intervalo aceito. */
+    enum Campo {
+        VALOR("valor", 0, Integer.MAX_VALUE),
+        CASAS("casas", -Short.MAX_VALUE, Short.MAX_VALUE),
+        CASA("casa", 0, Short.MAX_VALUE),
+        POR_CASA("porCasa", 0, Integer.MAX_VALUE),
+        POR_HOTEL("porHotel", 0, Integer.MAX_VALUE);
+
+        final String nome;
+        final int minimo;
+        final int maximo;
+
+        Campo(String nome, int minimo, int maximo) {
+            this.nome = nome;
+            this.minimo = minimo;
+            this.maximo = maximo;
+        }
+    }
+
+    private final Campo[] campos;
+
+    TipoEfeitoCarta(Campo... campos) {
+        this.campos = campos;
+    }
+
+    int quantidadeCampos() { return campos.length; }
+
+    Campo campo(int i) { return campos[i]; }
+
+    /** Valores na ordem dos campos do tipo, já validados. */
+    abstract EfeitoCarta compilar(int[] valores);
+
+    boolean ficaComJogador() { return false; }
+}
@@ -16,6 +16,14 @@ final class Turno {
         this.duplasConsecutivas = 0;
     }
 
+    Turno(Turno outro) {
+        this.ordem.addAll(outro.ordem);
+        this.idxVez = outro.idxVez;
+        this.duplasConsecutivas = outro.duplasConsecutivas;
+        this.ultimoD1 = outro.ultimoD1;
+        this.ultimoD2 = outro.ultimoD2;
+    }
+
     void definirOrdem(List<Integer> novaOrdem) {
         ordem.clear();
         ordem.addAll(novaOrdem);
@@ -54,6 +62,10 @@ final class Turno {
         idxVez = (idxVez + 1) % ordem.size();
     }
 
+    int jogadorNaOrdem(int i) {
+        return ordem.get(i);
+    }
+
     List<Integer> snapshotOrdem() {
         return new ArrayList<>(ordem);
     }
@@ -61,7 +61,7 @@ public final class JanelaInicialFrame extends JFrame {
         btnCancelar.addActionListener(new java.awt.event.ActionListener() {
             @Override
             public void actionPerformed(java.awt.event.ActionEvent e) {
-                System.exit(0);
+                controller.encerrarAplicacao();
             }
         });
 
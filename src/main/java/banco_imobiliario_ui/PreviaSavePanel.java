@@ -0,0 +1,140 @@
+package banco_imobiliario_ui;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import javax.swing.BorderFactory;
+import javax.swing.JComponent;
+import javax.swing.JFileChooser;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingConstants;
+
+import banco_imobiliario_controller.MetadadosSave;
+
+/**
+ * Pré-visualização do salvamento selecionado no JFileChooser. Lê só o cabeçalho de metadados
+ * do arquivo; arquivos sem cabeçalho (.json, .txt antigos ou editados à mão) mostram apenas o aviso.
+ */
+public final class PreviaSavePanel extends JPanel implements PropertyChangeListener {
+    private static final long serialVersionUID = 1L;
+
+    /** Tamanho assumido quando o cabeçalho não registrou o tabuleiro (saves antigos do oficial). */
+    private static final int CASAS_SEM_TAMANHO = 40;
+
+    private final JLabel lblResumo = new JLabel();
+    private final Miniatura miniatura = new Miniatura();
+    private MetadadosSave atual;
+
+    public PreviaSavePanel(JFileChooser chooser) {
+        super(new BorderLayout(0, 6));
+        setBorder(BorderFactory.createEmptyBorder(4, 8, 4, 4));
+        setPreferredSize(new Dimension(200, 260));
+        lblResumo.setVerticalAlignment(SwingConstants.TOP);
+        add(miniatura, BorderLayout.NORTH);
+        add(lblResumo, BorderLayout.CENTER);
+        chooser.addPropertyChangeListener(JFileChooser.SELECTED_FILE_CHANGED_PROPERTY, this);
+        mostrar(null);
+    }
+
+    @Override
+    public void propertyChange(PropertyChangeEvent evt) {
+        File arquivo = (File) evt.getNewValue();
+        MetadadosSave meta = null;
+        if (arquivo != null && arquivo.isFile()) {
+            try {
+                meta = MetadadosSave.ler(arquivo);
+            } catch (IOException ex) {
+                meta = null;
+            }
+        }
+        mostrar(meta);
+    }
+
+    private void mostrar(MetadadosSave meta) {
+        this.atual = meta;
+        if (meta == null) {
+            lblResumo.setText("<html><i>Sem pré-visualização.</i></html>");
+            miniatura.repaint();
+            return;
+        }
+        StringBuilder sb = new StringBuilder("<html>");
+        sb.append(new SimpleDateFormat("dd/MM/yyyy HH:mm").format(new Date(meta.getSalvoEm()))).append("<br>");
+        for (int i = 0; i < meta.getNumJogadores(); i++) {
+            Color c = meta.getCor(i);
+            sb.append(String.format("<font color='#%02X%02X%02X'>&#9632;</font> ", c.getRed(), c.getGreen(), c.getBlue()));
+            String nome = escapar(meta.getNome(i));
+            sb.append(i == meta.getJogadorDaVez() ? "<b>" + nome + "</b>" : nome);
+            sb.append(meta.isAtivo(i) ? ": $" + meta.getSaldo(i) : " (falido)").append("<br>");
+        }
+        sb.append("Banco: $").append(meta.getBancoSaldo()).append("</html>");
+        lblResumo.setText(sb.toString());
+        miniatura.repaint();
+    }
+
+    private static String escapar(String s) {
+        return s.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    /** Contorno do tabuleiro com as casas pintadas na cor do dono. */
+    private final class Miniatura extends JComponent {
+        private static final long serialVersionUID = 1L;
+
+        Miniatura() {
+            setPreferredSize(new Dimension(110, 110));
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            MetadadosSave meta = atual;
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            int casas = meta == null || meta.getCasasTabuleiro() == 0 ? CASAS_SEM_TAMANHO : meta.getCasasTabuleiro();
+            // Casas em volta de um quadrado com "porLado" casas em cada aresta, cantos compartilhados.
+            int aresta = Math.max(1, (casas + 3) / 4);
+            int porLado = aresta + 1;
+            int lado = Math.min(getWidth(), getHeight());
+            int cel = lado / porLado;
+            int x0 = (getWidth() - cel * porLado) / 2;
+            for (int pos = 0; pos < casas; pos++) {
+                int col;
+                int lin;
+                if (pos <= aresta) {
+                    col = aresta - pos;
+                    lin = aresta;
+                } else if (pos <= 2 * aresta) {
+                    col = 0;
+                    lin = 2 * aresta - pos;
+                } else if (pos <= 3 * aresta) {
+                    col = pos - 2 * aresta;
+                    lin = 0;
+                } else {
+                    col = aresta;
+                    lin = pos - 3 * aresta;
+                }
+                int x = x0 + col * cel;
+                int y = lin * cel;
+                int dono = (meta == null || pos >= meta.getCasasMiniatura()) ? -1 : meta.getDonoCasa(pos);
+                g2.setColor(dono >= 0 && dono < meta.getNumJogadores() ? meta.getCor(dono) : new Color(0xEEEEEE));
+                g2.fillRect(x, y, cel, cel);
+                if (dono >= 0 && (meta.hasHotelCasa(pos) || meta.getConstrucoesCasa(pos) > 0)) {
+                    g2.setColor(meta.hasHotelCasa(pos) ? Color.RED.darker() : Color.GREEN.darker());
+                    g2.fillRect(x + cel / 3, y + cel / 3, Math.max(2, cel / 3), Math.max(2, cel / 3));
+                }
+                g2.setColor(Color.GRAY);
+                g2.drawRect(x, y, cel, cel);
+            }
+            g2.dispose();
+        }
+    }
+}
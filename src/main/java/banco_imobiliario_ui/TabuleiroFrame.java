@@ -220,6 +220,7 @@ public final class TabuleiroFrame extends javax.swing.JFrame
         btnJogar.setEnabled(false);
 
         banco_imobiliario_models.GameModel model = controller.getModel();
+        model.iniciarLoteDeNotificacoes();
         try {
 
             if (rbManual.isSelected()) {
@@ -235,6 +236,8 @@ public final class TabuleiroFrame extends javax.swing.JFrame
         } catch (RuntimeException ex) {
             controller.exibirErro(ex.getMessage());
 
+        } finally {
+            model.concluirLoteDeNotificacoes();
         }
     }
 
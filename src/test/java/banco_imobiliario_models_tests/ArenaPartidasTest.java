@@ -0,0 +1,185 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import banco_imobiliario_models.AlgoritmoAleatorio;
+import banco_imobiliario_models.ArenaPartidas;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Arena fora do heap para partidas estacionadas:
+ * - Estacionar e retomar reproduz o mesmo estado (jogadores, posses, baralho, cartas, gerador);
+ * - A partida retomada continua exatamente como a original continuaria;
+ * - Um mesmo GameModel pode retomar várias partidas diferentes;
+ * - Em arquivo, as partidas sobrevivem ao fechar e reabrir a arena;
+ * - Registros liberados são reaproveitados; arena cheia e tabuleiro de outro tamanho são recusados.
+ */
+public class ArenaPartidasTest {
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private static String descrever(GameModel.SaveState s) {
+        StringBuilder sb = new StringBuilder();
+        for (GameModel.PlayerState p : s.getJogadores()) {
+            sb.append(p.getId()).append(':').append(p.getSaldo()).append('@').append(p.getPosicao())
+              .append(p.isAtivo()).append(p.isNaPrisao()).append(p.hasCartaSaidaLivre()).append(' ');
+        }
+        for (GameModel.PropertyState p : s.getPropriedades()) {
+            sb.append(p.getPosicao()).append('=').append(p.getDonoId()).append('/')
+              .append(p.getNumCasas()).append(p.hasHotel()).append(' ');
+        }
+        Map<Integer, TreeSet<Integer>> cartas = new TreeMap<>();
+        s.getCartasSRPorJogador().forEach((k, v) -> {
+            if (!v.isEmpty()) {
+                cartas.put(k, new TreeSet<>(v));
+            }
+        });
+        sb.append(s.getOrdemTurno()).append(s.getTurnoIndex()).append(' ').append(s.getTurnoDuplasConsecutivas())
+          .append(' ').append(s.getTurnoUltimoD1()).append(s.getTurnoUltimoD2())
+          .append(' ').append(s.getUltimoD1()).append(s.getUltimoD2())
+          .append(' ').append(s.isJaLancouNesteTurno()).append(s.isDeveIrParaPrisaoPorTerceiraDupla())
+          .append(s.isJaConstruiuNestaQueda()).append(s.isAcabouDeComprarNestaQueda()).append(s.isSalvamentoDisponivel())
+          .append(' ').append(s.getPosicaoDaQuedaAtual()).append(' ').append(s.getBancoSaldo())
+          .append(' ').append(s.getTamanhoBaralhoSR()).append('/').append(s.getPonteiroBaralhoSR())
+          .append(s.getOrdemBaralhoSR()).append(cartas)
+          .append(' ').append(s.getUltimaCartaNumero()).append('/').append(s.getCartaBufferNumero())
+          .append(' ').append(s.getAlgoritmoRng()).append(Arrays.toString(s.getEstadoRng()));
+        return sb.toString();
+    }
+
+    /** Mesma política do SimulationEngine: compra, senão hotel, senão casa. */
+    private static void jogar(GameModel m, int vezes) {
+        for (int t = 0; t < vezes && !m.isPartidaEncerrada(); t++) {
+            final int vez = m.getJogadorDaVez();
+            do {
+                m.lancarDados();
+                m.deslocarPiaoEAplicarObrigatorios();
+                if (m.isPartidaEncerrada() || !m.isJogadorAtivo(vez)) {
+                    break;
+                }
+                if (m.canComprarPropriedadeNaCasaAtual()) {
+                    m.comprarPropriedade();
+                } else if (m.canConstruirHotelNaCasaAtual()) {
+                    m.construirHotel();
+                } else if (m.canConstruirCasaNaCasaAtual()) {
+                    m.construirCasa();
+                }
+            } while (m.podeLancarDadosNesteTurno() && m.getJogadorDaVez() == vez);
+            if (!m.isPartidaEncerrada()) {
+                m.encerrarVez();
+            }
+        }
+    }
+
+    private static GameModel partida(long seed, AlgoritmoAleatorio algoritmo, int vezes) {
+        GameModel m = new GameModel();
+        m.novaPartida(4, seed, algoritmo);
+        m.carregarTabuleiroOficialBR();
+        jogar(m, vezes);
+        return m;
+    }
+
+    @Test
+    public void retomarReproduzOEstadoEAContinuacao() {
+        ArenaPartidas arena = ArenaPartidas.emMemoria(16, 40);
+        GameModel reutilizado = new GameModel();
+        for (AlgoritmoAleatorio a : AlgoritmoAleatorio.values()) {
+            GameModel original = partida(a.ordinal() + 10L, a, 60);
+            int registro = arena.estacionar(original);
+
+            arena.retomar(registro, reutilizado);
+            assertEquals(descrever(original.exportarEstado()), descrever(reutilizado.exportarEstado()));
+
+            jogar(original, 80);
+            jogar(reutilizado, 80);
+            assertEquals(descrever(original.exportarEstado()), descrever(reutilizado.exportarEstado()));
+            arena.liberar(registro);
+        }
+        assertEquals(0, arena.getOcupados());
+    }
+
+    @Test
+    public void arquivoSobreviveAoReabrir() throws IOException {
+        File arquivo = new File(pasta.getRoot(), "partidas.arena");
+        String[] esperado = new String[5];
+        int[] registros = new int[5];
+        try (ArenaPartidas arena = ArenaPartidas.emArquivo(arquivo, 100, 40)) {
+            for (int i = 0; i < 5; i++) {
+                GameModel m = partida(100L + i, AlgoritmoAleatorio.XOROSHIRO128PP, 20 + 10 * i);
+                registros[i] = arena.estacionar(m);
+                esperado[i] = descrever(m.exportarEstado());
+            }
+            arena.liberar(registros[1]);
+        }
+
+        try (ArenaPartidas arena = ArenaPartidas.emArquivo(arquivo, 1, 40)) {
+            assertEquals(100, arena.getCapacidade());
+            assertEquals(4, arena.getOcupados());
+            assertFalse(arena.isOcupado(registros[1]));
+            GameModel m = new GameModel();
+            for (int i = 0; i < 5; i++) {
+                if (i == 1) {
+                    continue;
+                }
+                arena.retomar(registros[i], m);
+                assertEquals(esperado[i], descrever(m.exportarEstado()));
+            }
+        }
+
+        try {
+            ArenaPartidas.emArquivo(arquivo, 100, 28);
+            fail("arena reaberta com outro tamanho de tabuleiro");
+        } catch (IOException esperadoErro) {
+            assertTrue(esperadoErro.getMessage().contains("40 casas"));
+        }
+    }
+
+    @Test
+    public void registrosLiberadosSaoReaproveitados() {
+        ArenaPartidas arena = ArenaPartidas.emMemoria(2, 40);
+        GameModel m = partida(7L, AlgoritmoAleatorio.SPLITMIX64, 5);
+        int a = arena.estacionar(m);
+        int b = arena.estacionar(m);
+        try {
+            arena.estacionar(m);
+            fail("arena cheia aceitou partida");
+        } catch (IllegalStateException esperado) {
+            // ok
+        }
+        arena.liberar(a);
+        assertEquals(a, arena.estacionar(m));
+        assertTrue(arena.isOcupado(b));
+        arena.liberar(a);
+
+        GameModel mini = new GameModel();
+        mini.novaPartida(2, 1L);
+        mini.carregarTabuleiroMinimoParaTeste(12);
+        try {
+            arena.estacionar(mini);
+            fail("partida de outro tabuleiro aceita");
+        } catch (IllegalArgumentException esperado) {
+            assertEquals(1, arena.getOcupados());
+        }
+        try {
+            arena.retomar(b, mini);
+            fail("registro retomado em tabuleiro de outro tamanho");
+        } catch (IllegalArgumentException esperado) {
+            // ok
+        }
+    }
+}
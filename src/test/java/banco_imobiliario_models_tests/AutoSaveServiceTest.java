@@ -0,0 +1,169 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import banco_imobiliario_controller.AutoSaveService;
+import banco_imobiliario_controller.GamePersistenceService;
+import banco_imobiliario_controller.PlayerProfile;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Salvamento automático:
+ * - Grava em segundo plano e o último arquivo carrega o último retrato;
+ * - Usa no máximo N slots e não deixa temporários para trás;
+ * - Mede a latência das gravações;
+ * - Ao abrir de novo, continua pelo slot mais antigo em vez de voltar ao primeiro;
+ * - Avisa a primeira falha de cada sequência;
+ * - Agendar durante ou depois do close descarta o retrato sem lançar exceção.
+ */
+public class AutoSaveServiceTest {
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private GameModel game;
+    private List<PlayerProfile> perfis;
+
+    @Before
+    public void setUp() {
+        game = new GameModel();
+        game.novaPartida(3, 11L);
+        game.carregarTabuleiroOficialBR();
+        perfis = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            perfis.add(new PlayerProfile(i, "J" + i, Color.GREEN, i));
+        }
+    }
+
+    private void jogarUmaVez() {
+        game.lancarDados();
+        game.deslocarPiaoEAplicarObrigatorios();
+        if (!game.isPartidaEncerrada()) {
+            game.encerrarVez();
+        }
+    }
+
+    @Test
+    public void ultimoArquivoTemOUltimoRetrato() throws Exception {
+        File dir = pasta.newFolder("autosave");
+        try (AutoSaveService autosave = new AutoSaveService(dir, 3)) {
+            for (int i = 0; i < 10; i++) {
+                jogarUmaVez();
+                autosave.agendar(game.exportarEstado(), perfis);
+            }
+            assertTrue(autosave.aguardarGravacao(5, TimeUnit.SECONDS));
+
+            assertEquals(0, autosave.getFalhas());
+            assertEquals(10, autosave.getGravacoes() + autosave.getSubstituidos());
+            assertTrue(autosave.getLatenciaMaximaNanos() > 0);
+
+            GameModel carregado = new GameModel();
+            carregado.importarEstado(new GamePersistenceService().carregar(autosave.getUltimoArquivo()).getState());
+            for (int i = 0; i < 3; i++) {
+                assertEquals(game.getSaldoJogador(i), carregado.getSaldoJogador(i));
+                assertEquals(game.getPosicaoJogador(i), carregado.getPosicaoJogador(i));
+            }
+        }
+    }
+
+    @Test
+    public void rotacionaSlotsSemDeixarTemporarios() throws Exception {
+        File dir = pasta.newFolder("autosave");
+        try (AutoSaveService autosave = new AutoSaveService(dir, 2)) {
+            for (int i = 0; i < 5; i++) {
+                jogarUmaVez();
+                autosave.agendar(game.exportarEstado(), perfis);
+                assertTrue(autosave.aguardarGravacao(5, TimeUnit.SECONDS));
+            }
+            assertNotNull(autosave.getUltimoArquivo());
+        }
+        String[] arquivos = dir.list();
+        assertEquals(2, arquivos.length);
+        for (String nome : arquivos) {
+            assertTrue(nome, nome.endsWith(GamePersistenceService.EXTENSAO_BINARIA));
+        }
+    }
+
+    @Test
+    public void continuaPeloSlotMaisAntigo() throws Exception {
+        File dir = pasta.newFolder("autosave");
+        long agora = System.currentTimeMillis();
+        for (int i = 0; i < 3; i++) {
+            File slot = new File(dir, "autosave-" + i + GamePersistenceService.EXTENSAO_BINARIA);
+            Files.write(slot.toPath(), new byte[] { 1 });
+            assertTrue(slot.setLastModified(agora - (i == 1 ? 60_000 : 10_000 - i)));
+        }
+        try (AutoSaveService autosave = new AutoSaveService(dir, 3)) {
+            autosave.agendar(game.exportarEstado(), perfis);
+            assertTrue(autosave.aguardarGravacao(5, TimeUnit.SECONDS));
+            assertEquals(new File(dir, "autosave-1" + GamePersistenceService.EXTENSAO_BINARIA),
+                    autosave.getUltimoArquivo());
+        }
+
+        File vazia = pasta.newFolder("vazia");
+        Files.write(new File(vazia, "autosave-0" + GamePersistenceService.EXTENSAO_BINARIA).toPath(), new byte[] { 1 });
+        try (AutoSaveService autosave = new AutoSaveService(vazia, 3)) {
+            autosave.agendar(game.exportarEstado(), perfis);
+            assertTrue(autosave.aguardarGravacao(5, TimeUnit.SECONDS));
+            assertEquals(new File(vazia, "autosave-1" + GamePersistenceService.EXTENSAO_BINARIA),
+                    autosave.getUltimoArquivo());
+        }
+    }
+
+    @Test
+    public void avisaAPrimeiraFalhaDeCadaSequencia() throws Exception {
+        File naoEhPasta = pasta.newFile("arquivo");
+        List<Throwable> avisos = new CopyOnWriteArrayList<>();
+        try (AutoSaveService autosave = new AutoSaveService(naoEhPasta, 2)) {
+            autosave.setAoFalhar(avisos::add);
+            for (int i = 0; i < 3; i++) {
+                autosave.agendar(game.exportarEstado(), perfis);
+                assertTrue(autosave.aguardarGravacao(5, TimeUnit.SECONDS));
+            }
+            assertEquals(3, autosave.getFalhas());
+            assertEquals(1, avisos.size());
+            assertNotNull(avisos.get(0));
+        }
+    }
+
+    @Test
+    public void agendarJuntoComCloseNaoLanca() throws Exception {
+        File dir = pasta.newFolder("autosave");
+        final GameModel.SaveState estado = game.exportarEstado();
+        for (int rodada = 0; rodada < 20; rodada++) {
+            final AutoSaveService autosave = new AutoSaveService(dir, 2);
+            final AtomicReference<Throwable> erro = new AtomicReference<>();
+            Thread edt = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 200; i++) {
+                        autosave.agendar(estado, perfis);
+                    }
+                } catch (Throwable t) {
+                    erro.set(t);
+                }
+            });
+            edt.start();
+            autosave.close();
+            edt.join();
+            assertNull(erro.get());
+            autosave.agendar(estado, perfis);
+        }
+    }
+}
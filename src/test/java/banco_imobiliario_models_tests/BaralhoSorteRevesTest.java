@@ -0,0 +1,106 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import banco_imobiliario_models.GameModel;
+import banco_imobiliario_models.SorteRevesManager;
+
+/**
+ * Baralho de Sorte/Revés:
+ * - Cada número devolve sempre a mesma carta (sem criar uma por saque);
+ * - Carta guardada (saída livre) fica com o jogador; as outras voltam ao baralho na hora;
+ * - O mapa de cartas do estado salvo mantém entrada vazia para quem ainda não sacou e a perde
+ *   quando o jogador fica sem cartas; importar o estado volta a listar todos os jogadores;
+ * - SorteRevesManager saca cada carta uma única vez.
+ */
+public class BaralhoSorteRevesTest {
+
+    private static final int CASA_SORTE_REVES = 12;
+
+    private GameModel game;
+
+    @Before
+    public void setUp() {
+        game = new GameModel();
+        game.novaPartida(3, 5L);
+        game.carregarTabuleiroOficialBR();
+    }
+
+    private void sacarNaVez(int numero) {
+        int vez = game.getJogadorDaVez();
+        game.debugForcarPosicaoJogador(vez, CASA_SORTE_REVES - 3);
+        game.debugForcarProximaCartaSorteReves(numero);
+        game.lancarDadosForcado(1, 2);
+        game.deslocarPiaoEAplicarObrigatorios();
+        game.encerrarVez();
+    }
+
+    @Test
+    public void cartasSaoCompartilhadas() {
+        assertSame(game.getCartaSorteRevesPorNumero(5).get(), game.getCartaSorteRevesPorNumero(5).get());
+        assertFalse(game.getCartaSorteRevesPorNumero(0).isPresent());
+        assertFalse(game.getCartaSorteRevesPorNumero(99).isPresent());
+
+        sacarNaVez(5);
+        assertSame(game.getCartaSorteRevesPorNumero(5).get(), game.getUltimaCartaSorteReves().get());
+    }
+
+    @Test
+    public void cartasGuardadasEMapaDoEstado() {
+        assertEquals(3, game.exportarEstado().getCartasSRPorJogador().size());
+
+        int primeiro = game.getJogadorDaVez();
+        sacarNaVez(9);
+        int segundo = game.getJogadorDaVez();
+        sacarNaVez(16);
+
+        assertEquals(Collections.singleton(9), game.getCartasSorteRevesDoJogador(primeiro));
+        assertTrue(game.getCartasSorteRevesDoJogador(segundo).isEmpty());
+
+        GameModel.SaveState estado = game.exportarEstado();
+        assertEquals(Collections.singleton(9), estado.getCartasSRPorJogador().get(primeiro));
+        assertFalse(estado.getCartasSRPorJogador().containsKey(segundo));
+        assertEquals(2, estado.getCartasSRPorJogador().size());
+
+        GameModel copia = new GameModel();
+        copia.carregarTabuleiroOficialBR();
+        copia.importarEstado(estado);
+        GameModel.SaveState reexportado = copia.exportarEstado();
+        assertEquals(Collections.singleton(9), copia.getCartasSorteRevesDoJogador(primeiro));
+        assertEquals(estado.getOrdemBaralhoSR(), reexportado.getOrdemBaralhoSR());
+        assertEquals(estado.getPonteiroBaralhoSR(), reexportado.getPonteiroBaralhoSR());
+        assertEquals(3, reexportado.getCartasSRPorJogador().size());
+    }
+
+    @Test
+    public void managerSacaCadaCartaUmaVez() {
+        SorteRevesManager manager = new SorteRevesManager();
+        manager.resetarSequenciaPadrao(30);
+        Random rng = new Random(11L);
+        for (int i = 0; i < 30; i++) {
+            assertTrue(manager.sortearParaJogador(i % 4, rng).isPresent());
+        }
+        assertFalse(manager.temDisponiveis());
+        assertFalse(manager.sortearParaJogador(0, rng).isPresent());
+
+        Set<Integer> todas = new HashSet<>();
+        for (int j = 0; j < 4; j++) {
+            for (int c : manager.getCartasDoJogador(j)) {
+                assertTrue(todas.add(c));
+            }
+        }
+        assertEquals(30, todas.size());
+        assertTrue(manager.getUltimaCartaId().isPresent());
+    }
+}
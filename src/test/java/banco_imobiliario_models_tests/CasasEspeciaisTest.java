@@ -0,0 +1,95 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import banco_imobiliario_models.DefinicaoTabuleiro;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Índices das casas especiais guardados no tabuleiro:
+ * - A prisão usada por "vá para a prisão" e por enviarParaPrisao é a do tabuleiro carregado,
+ *   e muda junto quando o tabuleiro é trocado;
+ * - Sem prisão, mandar para a prisão é recusado;
+ * - Os honorários são pagos ao passar pelo ponto de partida onde quer que ele esteja; sem ponto
+ *   de partida, vale a casa 0.
+ */
+public class CasasEspeciaisTest {
+
+    private GameModel game;
+
+    @Before
+    public void setUp() {
+        game = new GameModel();
+        game.novaPartida(2, 3L);
+    }
+
+    private static DefinicaoTabuleiro tabuleiro(String... tipos) throws IOException {
+        StringBuilder json = new StringBuilder("{\"casas\": [");
+        for (int i = 0; i < tipos.length; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"tipo\": \"").append(tipos[i]).append("\", \"nome\": \"Casa ").append(i).append("\"}");
+        }
+        return DefinicaoTabuleiro.carregar(json.append("]}").toString().getBytes(StandardCharsets.UTF_8), "json");
+    }
+
+    /** Desloca o jogador da vez de {@code origem} com um lance de 1 + 2; devolve o ganho de saldo. */
+    private int andarTresDe(int origem) {
+        int vez = game.getJogadorDaVez();
+        game.debugForcarPosicaoJogador(vez, origem);
+        int saldo = game.getSaldoJogador(vez);
+        game.lancarDadosForcado(1, 2);
+        game.deslocarPiao();
+        int ganho = game.getSaldoJogador(vez) - saldo;
+        game.encerrarVez();
+        return ganho;
+    }
+
+    @Test
+    public void prisaoDoTabuleiroCarregado() {
+        game.carregarTabuleiroBasicoComPrisao(12, 7, 3);
+        int vez = game.getJogadorDaVez();
+        game.debugForcarPosicaoJogador(vez, 0);
+        game.lancarDadosForcado(1, 2);
+        game.deslocarPiao();
+        assertEquals(7, game.getPosicaoJogador(vez));
+        assertTrue(game.estaNaPrisao(vez));
+
+        game.carregarTabuleiroBasicoComPrisao(12, 2, 9);
+        game.enviarParaPrisao(1 - vez);
+        assertEquals(2, game.getPosicaoJogador(1 - vez));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void semPrisaoNaoHaParaOndeMandar() {
+        game.carregarTabuleiroMinimoParaTeste(10);
+        game.enviarParaPrisao(0);
+    }
+
+    @Test
+    public void honorariosNoPontoDePartidaForaDaCasaZero() throws IOException {
+        game.carregarTabuleiro(tabuleiro("PARADA_LIVRE", "PARADA_LIVRE", "PARADA_LIVRE", "PONTO_PARTIDA",
+                "PARADA_LIVRE", "PARADA_LIVRE", "PARADA_LIVRE", "PARADA_LIVRE"));
+        assertEquals(200, andarTresDe(1));
+        assertEquals(200, andarTresDe(0));
+        assertEquals(0, andarTresDe(3));
+        assertEquals(0, andarTresDe(6));
+        assertEquals(0, andarTresDe(7));
+    }
+
+    @Test
+    public void semPontoDePartidaValeACasaZero() throws IOException {
+        game.carregarTabuleiro(tabuleiro("PARADA_LIVRE", "PARADA_LIVRE", "PRISAO", "PARADA_LIVRE", "PARADA_LIVRE",
+                "PARADA_LIVRE"));
+        assertEquals(200, andarTresDe(4));
+        assertEquals(0, andarTresDe(1));
+        assertFalse(game.estaNaPrisao(game.getJogadorDaVez()));
+    }
+}
@@ -0,0 +1,259 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import banco_imobiliario_models.DefinicaoBaralho;
+import banco_imobiliario_models.DefinicaoTabuleiro;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Baralhos de Sorte/Revés definidos em arquivo:
+ * - O mesmo baralho em JSON e YAML compila para a mesma definição; o oficial passa pelo mesmo caminho;
+ * - Os efeitos novos (andar, ir para uma casa, pagar por construção) valem na partida, e a casa
+ *   de destino cobra aluguel e pode ser comprada;
+ * - Andar e ir para uma casa pagam honorários pelo ponto de partida do tabuleiro, onde quer que
+ *   ele esteja;
+ * - A carta de saída livre da prisão é a do baralho carregado, seja qual for o número dela;
+ * - Erros de conteúdo são apontados na validação.
+ */
+public class DefinicaoBaralhoTest {
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private static final int CASA_SORTE_REVES = 12;
+
+    private static final String JSON = "{\"nome\": \"Teste\", \"cartas\": ["
+            + "{\"tipo\": \"AVANCAR\", \"casas\": 5, \"titulo\": \"Avance 5 casas\"},"
+            + "{\"tipo\": \"AVANCAR\", \"casas\": -3},"
+            + "{\"tipo\": \"IR_PARA_CASA\", \"casa\": 6},"
+            + "{\"tipo\": \"PAGAR_POR_CONSTRUCAO\", \"porCasa\": 25, \"porHotel\": 100},"
+            + "{\"tipo\": \"SAIDA_LIVRE_DA_PRISAO\"},"
+            + "{\"tipo\": \"RECEBER_DO_BANCO\", \"valor\": 10, \"descricao\": \"Troco.\"}"
+            + "]}";
+
+    private static final String YAML = "nome: Teste\n"
+            + "cartas:\n"
+            + "  - {tipo: AVANCAR, casas: 5, titulo: Avance 5 casas}\n"
+            + "  - {tipo: AVANCAR, casas: -3}\n"
+            + "  - {tipo: IR_PARA_CASA, casa: 6}\n"
+            + "  - tipo: PAGAR_POR_CONSTRUCAO\n"
+            + "    porCasa: 25\n"
+            + "    porHotel: 100\n"
+            + "  - {tipo: SAIDA_LIVRE_DA_PRISAO}\n"
+            + "  - {tipo: RECEBER_DO_BANCO, valor: 10, descricao: Troco.}\n";
+
+    private GameModel game;
+
+    private File escrever(String nome, String conteudo) throws IOException {
+        File f = pasta.newFile(nome);
+        Files.write(f.toPath(), conteudo.getBytes(StandardCharsets.UTF_8));
+        return f;
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        game = new GameModel();
+        game.carregarTabuleiroOficialBR();
+        game.carregarBaralhoSorteReves(DefinicaoBaralho.carregar(escrever("teste.json", JSON)));
+        game.novaPartida(3, 9L);
+    }
+
+    /** Cai na casa de Sorte/Revés com a carta {@code numero} no topo; devolve o id de quem sacou. */
+    private int sacar(int numero) {
+        return sacarEm(CASA_SORTE_REVES, numero);
+    }
+
+    private int sacarEm(int casaSorteReves, int numero) {
+        int vez = game.getJogadorDaVez();
+        game.debugForcarPosicaoJogador(vez, Math.floorMod(casaSorteReves - 3, game.getQuantidadeCasasTabuleiro()));
+        game.debugForcarProximaCartaSorteReves(numero);
+        game.lancarDadosForcado(1, 2);
+        game.deslocarPiaoEAplicarObrigatorios();
+        return vez;
+    }
+
+    @Test
+    public void jsonEYamlCompilamParaAMesmaDefinicao() throws IOException {
+        DefinicaoBaralho json = DefinicaoBaralho.carregar(escrever("b.json", JSON));
+        DefinicaoBaralho yaml = DefinicaoBaralho.carregar(escrever("b.yaml", YAML));
+        assertSame(json, yaml);
+        assertSame(json, game.getDefinicaoBaralho());
+        assertEquals(6, json.total());
+        assertEquals("Avance 5 casas", json.getTitulo(1));
+        assertEquals("Sorte/Revés #02", json.getTitulo(2));
+        assertEquals("Troco.", json.getDescricao(6));
+        assertEquals("IR_PARA_CASA", json.getTipoEfeito(3));
+        assertSame(game.getCartaSorteRevesPorNumero(1).get(), game.getCartaSorteRevesPorNumero(1).get());
+
+        DefinicaoBaralho oficial = DefinicaoBaralho.oficial();
+        assertEquals(30, oficial.total());
+        assertEquals("SAIDA_LIVRE_DA_PRISAO", oficial.getTipoEfeito(9));
+        assertEquals("Receba R$ 25", oficial.getTitulo(1));
+        assertSame(oficial, new GameModel().getDefinicaoBaralho());
+    }
+
+    @Test
+    public void avancarLevaACompraNaCasaDeDestino() {
+        int id = sacar(1);
+        assertEquals(CASA_SORTE_REVES + 5, game.getPosicaoJogador(id));
+        assertTrue(game.canComprarPropriedadeNaCasaAtual());
+        assertTrue(game.getCartasSorteRevesDoJogador(id).isEmpty());
+    }
+
+    @Test
+    public void voltarCobraOAluguelDaCasaDeDestino() {
+        int dono = (game.getJogadorDaVez() + 1) % 3;
+        game.debugForcarDonoECasasDaPropriedade(CASA_SORTE_REVES - 3, dono, 0, false);
+        int saldoDono = game.getSaldoJogador(dono);
+        int vez = game.getJogadorDaVez();
+        int saldo = game.getSaldoJogador(vez);
+
+        sacar(2);
+        assertEquals(CASA_SORTE_REVES - 3, game.getPosicaoJogador(vez));
+        int aluguel = saldo - game.getSaldoJogador(vez);
+        assertTrue(aluguel > 0);
+        assertEquals(saldoDono + aluguel, game.getSaldoJogador(dono));
+    }
+
+    @Test
+    public void irParaCasaPassandoPeloInicioPagaHonorarios() {
+        int vez = game.getJogadorDaVez();
+        int saldo = game.getSaldoJogador(vez);
+        sacar(3);
+        assertEquals(6, game.getPosicaoJogador(vez));
+        assertEquals(saldo + 200, game.getSaldoJogador(vez));
+    }
+
+    @Test
+    public void honorariosDasCartasSeguemOPontoDePartida() throws IOException {
+        // 10 casas: Sorte/Revés em 1 e 8, ponto de partida em 5.
+        StringBuilder json = new StringBuilder("{\"casas\": [");
+        for (int i = 0; i < 10; i++) {
+            String tipo = i == 5 ? "PONTO_PARTIDA" : (i == 1 || i == 8) ? "SORTE_REVES" : "PARADA_LIVRE";
+            json.append(i == 0 ? "" : ",").append("{\"tipo\": \"").append(tipo).append("\", \"nome\": \"Casa ")
+                    .append(i).append("\"}");
+        }
+        game.carregarTabuleiro(DefinicaoTabuleiro.carregar(
+                json.append("]}").toString().getBytes(StandardCharsets.UTF_8), "json"));
+
+        assertEquals(200, ganhoAoSacar(1, 1));
+        assertEquals(0, ganhoAoSacar(8, 1));
+        assertEquals(200, ganhoAoSacar(1, 3));
+        assertEquals(200, ganhoAoSacar(8, 3));
+        assertEquals(0, ganhoAoSacar(8, 2));
+    }
+
+    /** Saque da carta {@code numero} em {@code casa}; devolve o ganho de saldo e passa a vez. */
+    private int ganhoAoSacar(int casa, int numero) {
+        int vez = game.getJogadorDaVez();
+        int saldo = game.getSaldoJogador(vez);
+        sacarEm(casa, numero);
+        int ganho = game.getSaldoJogador(vez) - saldo;
+        game.encerrarVez();
+        return ganho;
+    }
+
+    @Test
+    public void pagarPorConstrucaoESaidaLivre() {
+        int vez = game.getJogadorDaVez();
+        game.debugForcarDonoECasasDaPropriedade(1, vez, 3, false);
+        game.debugForcarDonoECasasDaPropriedade(3, vez, 2, true);
+        int saldo = game.getSaldoJogador(vez);
+        sacar(4);
+        assertEquals(saldo - (5 * 25 + 100), game.getSaldoJogador(vez));
+        game.encerrarVez();
+
+        int outro = sacar(5);
+        assertEquals(Collections.singleton(5), game.getCartasSorteRevesDoJogador(outro));
+        assertTrue(game.exportarEstado().getJogadores().get(outro).hasCartaSaidaLivre());
+    }
+
+    @Test
+    public void saidaLivreUsaACartaDoBaralho() {
+        int id = sacar(5);
+        game.encerrarVez();
+
+        GameModel importado = new GameModel();
+        importado.carregarTabuleiroOficialBR();
+        importado.carregarBaralhoSorteReves(game.getDefinicaoBaralho());
+        importado.importarEstado(game.exportarEstado());
+        assertEquals(Collections.singleton(5), importado.getCartasSorteRevesDoJogador(id));
+
+        game.enviarParaPrisao(id);
+        assertFalse(game.estaNaPrisao(id));
+        assertTrue(game.getCartasSorteRevesDoJogador(id).isEmpty());
+        assertFalse(game.exportarEstado().getJogadores().get(id).hasCartaSaidaLivre());
+
+        // Estado que só marca a carta (como num save em texto) recebe a carta 5 ao ser importado.
+        int outro = (id + 1) % 3;
+        game.debugDarCartaSaidaLivreAoJogador(outro, true);
+        importado.importarEstado(game.exportarEstado());
+        assertEquals(Collections.singleton(5), importado.getCartasSorteRevesDoJogador(outro));
+    }
+
+    @Test
+    public void baralhoSemSaidaLivreAindaLiberaQuemTemAMarca() throws IOException {
+        game.carregarBaralhoSorteReves(DefinicaoBaralho.carregar(
+                "{\"cartas\": [{\"tipo\": \"RECEBER_DO_BANCO\", \"valor\": 5}]}".getBytes(StandardCharsets.UTF_8),
+                "json"));
+        game.debugDarCartaSaidaLivreAoJogador(0, true);
+        game.enviarParaPrisao(0);
+        assertFalse(game.estaNaPrisao(0));
+        assertTrue(game.getCartasSorteRevesDoJogador(0).isEmpty());
+
+        GameModel importado = new GameModel();
+        importado.carregarTabuleiroOficialBR();
+        importado.carregarBaralhoSorteReves(game.getDefinicaoBaralho());
+        game.debugDarCartaSaidaLivreAoJogador(1, true);
+        importado.importarEstado(game.exportarEstado());
+        assertTrue(importado.getCartasSorteRevesDoJogador(1).isEmpty());
+        assertTrue(importado.exportarEstado().getJogadores().get(1).hasCartaSaidaLivre());
+    }
+
+    @Test
+    public void conteudoInvalidoEApontado() {
+        assertErro("{\"cartas\": [{\"tipo\": \"VOAR\"}]}", "tipo desconhecido");
+        assertErro("{\"cartas\": [{\"tipo\": \"AVANCAR\"}]}", "campo ausente: casas");
+        assertErro("{\"cartas\": [{\"tipo\": \"IR_PARA_PRISAO\", \"valor\": 3}]}", "não se aplica");
+        assertErro("{\"cartas\": [{\"tipo\": \"PAGAR_AO_BANCO\", \"valor\": -1}]}", "fora do intervalo");
+        assertErro("{\"cartas\": []}", "sem a lista de cartas");
+        StringBuilder muitas = new StringBuilder("{\"cartas\": [");
+        for (int i = 0; i < 65; i++) {
+            muitas.append(i == 0 ? "" : ",").append("{\"tipo\": \"IR_PARA_PRISAO\"}");
+        }
+        assertErro(muitas.append("]}").toString(), "mais de 64 cartas");
+        try {
+            DefinicaoBaralho.carregar(new byte[0], "xlsx");
+            fail("formato aceito");
+        } catch (IOException esperado) {
+            assertFalse(esperado.getMessage().isEmpty());
+        }
+    }
+
+    private static void assertErro(String json, String trecho) {
+        try {
+            DefinicaoBaralho.carregar(json.getBytes(StandardCharsets.UTF_8), "json");
+            fail("baralho inválido aceito: " + json);
+        } catch (IllegalArgumentException esperado) {
+            assertTrue(esperado.getMessage(), esperado.getMessage().contains(trecho));
+        } catch (IOException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import banco_imobiliario_models.AlgoritmoAleatorio;
+import banco_imobiliario_models.DefinicaoTabuleiro;
+import banco_imobiliario_models.GameModel;
+import banco_imobiliario_models.SimulationEngine;
+import banco_imobiliario_models.Transacao;
+
+/**
+ * Tabuleiros definidos em arquivo:
+ * - O mesmo tabuleiro em JSON, YAML e XLSX compila para a mesma definição (mesmo hash, mesma instância);
+ * - Preços e tabela de aluguéis da definição são os usados na partida;
+ * - Partidas no mesmo tabuleiro não compartilham donos nem construções (nem após fork/importar);
+ * - Erros de conteúdo são apontados na validação, antes de qualquer partida;
+ * - O simulador roda partidas completas num tabuleiro customizado.
+ */
+public class DefinicaoTabuleiroTest {
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private static final String JSON = "{\"nome\": \"Mini\", \"casas\": ["
+            + "{\"tipo\": \"PONTO_PARTIDA\", \"nome\": \"Início\"},"
+            + "{\"tipo\": \"PROPRIEDADE\", \"nome\": \"Rua A\", \"preco\": 300, \"precoCasa\": 120, \"precoHotel\": 500,"
+            + " \"alugueis\": [10, 40, 90, 160, 250, 400]},"
+            + "{\"tipo\": \"SORTE_REVES\", \"nome\": \"Sorte\"},"
+            + "{\"tipo\": \"COMPANHIA\", \"nome\": \"Cia\", \"preco\": 150, \"aluguel\": 70},"
+            + "{\"tipo\": \"PRISAO\", \"nome\": \"Prisão\"},"
+            + "{\"tipo\": \"PROPRIEDADE\", \"nome\": \"Rua B\", \"preco\": 200},"
+            + "{\"tipo\": \"IMPOSTO\", \"nome\": \"Taxa\", \"valor\": 80},"
+            + "{\"tipo\": \"VA_PARA_PRISAO\", \"nome\": \"Vá para a prisão\"}"
+            + "]}";
+
+    private static final String YAML = "nome: Mini\n"
+            + "casas:\n"
+            + "  - {tipo: PONTO_PARTIDA, nome: Início}\n"
+            + "  - tipo: PROPRIEDADE\n"
+            + "    nome: Rua A\n"
+            + "    preco: 300\n"
+            + "    precoCasa: 120\n"
+            + "    precoHotel: 500\n"
+            + "    alugueis: [10, 40, 90, 160, 250, 400]\n"
+            + "  - {tipo: SORTE_REVES, nome: Sorte}\n"
+            + "  - {tipo: COMPANHIA, nome: Cia, preco: 150, aluguel: 70}\n"
+            + "  - {tipo: PRISAO, nome: Prisão}\n"
+            + "  - {tipo: PROPRIEDADE, nome: Rua B, preco: 200}\n"
+            + "  - {tipo: IMPOSTO, nome: Taxa, valor: 80}\n"
+            + "  - {tipo: VA_PARA_PRISAO, nome: Vá para a prisão}\n";
+
+    private File escrever(String nome, String conteudo) throws IOException {
+        File f = pasta.newFile(nome);
+        Files.write(f.toPath(), conteudo.getBytes(StandardCharsets.UTF_8));
+        return f;
+    }
+
+    private File planilha() throws IOException {
+        File f = pasta.newFile("mini.xlsx");
+        try (XSSFWorkbook wb = new XSSFWorkbook(); OutputStream out = new FileOutputStream(f)) {
+            Sheet aba = wb.createSheet("Mini");
+            Object[][] linhas = {
+                { "tipo", "nome", "preco", "precoCasa", "precoHotel", "alugueis", "aluguel", "valor" },
+                { "PONTO_PARTIDA", "Início" },
+                { "PROPRIEDADE", "Rua A", 300, 120, 500, "10; 40; 90; 160; 250; 400" },
+                { "SORTE_REVES", "Sorte" },
+                { "COMPANHIA", "Cia", 150, null, null, null, 70 },
+                { "PRISAO", "Prisão" },
+                { "PROPRIEDADE", "Rua B", 200 },
+                { "IMPOSTO", "Taxa", null, null, null, null, null, 80 },
+                { "VA_PARA_PRISAO", "Vá para a prisão" },
+            };
+            for (int r = 0; r < linhas.length; r++) {
+                Row row = aba.createRow(r);
+                for (int c = 0; c < linhas[r].length; c++) {
+                    Object v = linhas[r][c];
+                    if (v instanceof Integer) {
+                        row.createCell(c).setCellValue((Integer) v);
+                    } else if (v != null) {
+                        row.createCell(c).setCellValue((String) v);
+                    }
+                }
+            }
+            wb.write(out);
+        }
+        return f;
+    }
+
+    @Test
+    public void mesmoTabuleiroEmTresFormatos() throws IOException {
+        DefinicaoTabuleiro json = DefinicaoTabuleiro.carregar(escrever("mini.json", JSON));
+        DefinicaoTabuleiro yaml = DefinicaoTabuleiro.carregar(escrever("mini.yaml", YAML));
+        DefinicaoTabuleiro xlsx = DefinicaoTabuleiro.carregar(planilha());
+
+        assertEquals(8, json.tamanho());
+        assertEquals("Mini", json.getNome());
+        assertEquals("COMPANHIA", json.getTipoCasa(3));
+        assertEquals(json.getHash(), yaml.getHash());
+        assertEquals(json.getHash(), xlsx.getHash());
+        assertSame(json, yaml);
+        assertSame(json, xlsx);
+        assertNotEquals(json.getHash(), DefinicaoTabuleiro.oficial().getHash());
+    }
+
+    @Test
+    public void partidaUsaPrecosEAlugueisDaDefinicao() throws IOException {
+        DefinicaoTabuleiro def = DefinicaoTabuleiro.carregar(escrever("mini.json", JSON));
+        GameModel game = new GameModel();
+        game.novaPartida(2, 7L);
+        game.carregarTabuleiro(def);
+        assertEquals(8, game.getQuantidadeCasasTabuleiro());
+
+        int saldo = game.getSaldoJogador(game.getJogadorDaVez());
+        game.debugForcarPosicaoJogador(game.getJogadorDaVez(), 5);
+        assertTrue(game.comprarPropriedade());
+        assertEquals(saldo - 200, game.getSaldoJogador(game.getJogadorDaVez()));
+
+        int outro = 1 - game.getJogadorDaVez();
+        game.debugForcarDonoECasasDaPropriedade(1, outro, 2, false);
+        game.debugForcarPosicaoJogador(game.getJogadorDaVez(), 1);
+        Transacao t = game.aplicarEfeitosObrigatoriosPosMovimento();
+        assertTrue(t.isEfetuada());
+        assertEquals(90, t.getValor());
+    }
+
+    @Test
+    public void partidasNoMesmoTabuleiroTemPossesIndependentes() throws IOException {
+        DefinicaoTabuleiro def = DefinicaoTabuleiro.carregar(escrever("mini.json", JSON));
+        GameModel a = new GameModel();
+        a.novaPartida(2, 1L);
+        a.carregarTabuleiro(def);
+        GameModel b = new GameModel();
+        b.novaPartida(2, 2L);
+        b.carregarTabuleiro(def);
+
+        final int vez = a.getJogadorDaVez();
+        final int dono = 1 - vez;
+        a.debugForcarDonoECasasDaPropriedade(1, dono, 3, true);
+        GameModel copia = a.fork();
+        b.importarEstado(a.exportarEstado());
+        a.debugForcarPosicaoJogador(vez, 1);
+        assertEquals(400, a.aplicarEfeitosObrigatoriosPosMovimento().getValor());
+
+        GameModel c = new GameModel();
+        c.novaPartida(2, 3L);
+        c.carregarTabuleiro(def);
+        c.debugForcarPosicaoJogador(c.getJogadorDaVez(), 1);
+        assertTrue(c.canComprarPropriedadeNaCasaAtual());
+
+        b.debugForcarPosicaoJogador(vez, 1);
+        copia.debugForcarPosicaoJogador(vez, 1);
+        assertEquals(400, b.aplicarEfeitosObrigatoriosPosMovimento().getValor());
+        assertEquals(400, copia.aplicarEfeitosObrigatoriosPosMovimento().getValor());
+        assertEquals(1, b.getQuantidadeAtivosDoJogador(dono));
+        assertEquals(0, c.getQuantidadeAtivosDoJogador(dono));
+    }
+
+    @Test
+    public void validacaoApontaACasaComProblema() throws IOException {
+        assertInvalido("sem-preco.json", JSON.replace("\"preco\": 150, ", ""),
+                "Casa 3 (Cia): campo ausente: preco");
+        assertInvalido("campo-errado.json", JSON.replace("\"valor\": 80", "\"aluguel\": 80"),
+                "Casa 6 (Taxa): campo não se aplica a IMPOSTO: aluguel");
+        assertInvalido("sem-prisao.json", JSON.replace("\"tipo\": \"PRISAO\"", "\"tipo\": \"PARADA_LIVRE\""),
+                "Tabuleiro com \"vá para a prisão\" mas sem prisão.");
+        assertInvalido("tipo.yaml", YAML.replace("SORTE_REVES", "SURPRESA"),
+                "Casa 2: tipo desconhecido: SURPRESA");
+    }
+
+    private void assertInvalido(String nome, String conteudo, String mensagem) throws IOException {
+        try {
+            DefinicaoTabuleiro.carregar(escrever(nome, conteudo));
+            fail("tabuleiro inválido foi aceito: " + nome);
+        } catch (IllegalArgumentException esperado) {
+            assertEquals(mensagem, esperado.getMessage());
+        }
+    }
+
+    @Test
+    public void simuladorRodaNoTabuleiroCustomizado() throws IOException {
+        DefinicaoTabuleiro def = DefinicaoTabuleiro.carregar(escrever("mini.yaml", YAML));
+        SimulationEngine engine = new SimulationEngine(3, 300, 2, AlgoritmoAleatorio.SPLITMIX64, def);
+        SimulationEngine.Relatorio r = engine.executar(200, 11L);
+        assertEquals(200, r.getPartidas());
+        assertEquals(0, r.getErros());
+    }
+}
@@ -0,0 +1,228 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import banco_imobiliario_models.ArenaPartidas;
+import banco_imobiliario_models.DefinicaoBaralho;
+import banco_imobiliario_models.DiarioPartida;
+import banco_imobiliario_models.GameModel;
+import banco_imobiliario_models.ReprodutorDiario;
+
+/**
+ * Diário de partida:
+ * - Gravar, serializar e reproduzir leva ao mesmo estado final;
+ * - A reprodução pode continuar de onde o original parou;
+ * - Um diário adulterado é recusado na reprodução;
+ * - Comandos recusados ficam no diário com a exceção, e a reprodução tem que ser recusada igual;
+ * - O baralho de Sorte/Revés carregado vai no cabeçalho e a reprodução usa o mesmo;
+ * - Importar um estado ou retomar uma partida estacionada encerra o diário da partida substituída.
+ */
+public class DiarioPartidaTest {
+
+    private GameModel game;
+    private DiarioPartida diario;
+
+    @Before
+    public void setUp() {
+        game = new GameModel();
+        game.novaPartida(4, 77L);
+        game.carregarTabuleiroOficialBR();
+        diario = game.iniciarDiario();
+        jogar(game, 150);
+    }
+
+    private static void jogar(GameModel m, int vezes) {
+        for (int t = 0; t < vezes && !m.isPartidaEncerrada(); t++) {
+            final int idVez = m.getJogadorDaVez();
+            do {
+                m.lancarDados();
+                m.deslocarPiaoEAplicarObrigatorios();
+                if (m.isPartidaEncerrada() || !m.isJogadorAtivo(idVez)) {
+                    break;
+                }
+                if (m.canComprarPropriedadeNaCasaAtual()) {
+                    m.comprarPropriedade();
+                } else if (m.canConstruirCasaNaCasaAtual()) {
+                    m.construirCasa();
+                }
+            } while (m.podeLancarDadosNesteTurno() && m.getJogadorDaVez() == idVez);
+            if (!m.isPartidaEncerrada()) {
+                m.encerrarVez();
+            }
+        }
+    }
+
+    private static List<Integer> retrato(GameModel m) {
+        List<Integer> r = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            r.add(m.getSaldoJogador(i));
+            r.add(m.getPosicaoJogador(i));
+            r.add(m.getQuantidadeAtivosDoJogador(i));
+        }
+        r.add(m.getJogadorDaVez());
+        return r;
+    }
+
+    @Test
+    public void reproducaoChegaAoMesmoEstado() throws Exception {
+        assertTrue(diario.getQuantidadeComandos() > 0);
+
+        DiarioPartida lido = DiarioPartida.ler(diario.toByteArray());
+        assertEquals(diario.getQuantidadeComandos(), lido.getQuantidadeComandos());
+
+        GameModel reproduzida = ReprodutorDiario.reproduzir(lido);
+        assertEquals(retrato(game), retrato(reproduzida));
+    }
+
+    @Test
+    public void reproducaoContinuaDeOndeParou() {
+        GameModel reproduzida = ReprodutorDiario.reproduzir(diario);
+        jogar(game, 50);
+        jogar(reproduzida, 50);
+        assertEquals(retrato(game), retrato(reproduzida));
+    }
+
+    @Test
+    public void diarioAdulteradoEhRecusado() throws Exception {
+        byte[] bytes = diario.toByteArray();
+        // troca um bit no meio dos registros
+        int alvo = bytes.length - diario.getTamanhoRegistros() / 2;
+        bytes[alvo] ^= 0x01;
+        try {
+            ReprodutorDiario.reproduzir(DiarioPartida.ler(bytes));
+            fail("diário adulterado foi aceito");
+        } catch (IllegalStateException | IllegalArgumentException esperado) {
+            // ok
+        }
+    }
+
+    private static GameModel partidaComRecusas() {
+        GameModel m = new GameModel();
+        m.novaPartida(2, 8L);
+        m.carregarTabuleiroOficialBR();
+        m.iniciarDiario();
+        m.lancarDadosForcado(1, 2);
+        try {
+            m.lancarDados();
+            fail("segundo lance aceito");
+        } catch (IllegalStateException esperado) {
+            // ok
+        }
+        m.deslocarPiaoEAplicarObrigatorios();
+        m.encerrarVez();
+        try {
+            m.lancarDadosForcado(7, 1);
+            fail("dado inválido aceito");
+        } catch (IllegalArgumentException esperado) {
+            // ok
+        }
+        m.lancarDadosForcado(3, 4);
+        m.deslocarPiaoEAplicarObrigatorios();
+        return m;
+    }
+
+    @Test
+    public void comandoRecusadoEhReproduzidoComAMesmaExcecao() {
+        GameModel original = partidaComRecusas();
+        GameModel reproduzida = ReprodutorDiario.reproduzir(DiarioPartida.ler(original.getDiario().toByteArray()));
+        assertEquals(original.getPosicaoJogador(0), reproduzida.getPosicaoJogador(0));
+        assertEquals(original.getPosicaoJogador(1), reproduzida.getPosicaoJogador(1));
+        assertEquals(original.getDiario().getQuantidadeComandos(), reproduzida.getDiario().getQuantidadeComandos());
+    }
+
+    @Test
+    public void recusaComOutraExcecaoEhDivergencia() {
+        byte[] bytes = partidaComRecusas().getDiario().toByteArray();
+        byte[] nome = IllegalArgumentException.class.getName().getBytes(StandardCharsets.UTF_8);
+        int alvo = indiceDe(bytes, nome);
+        assertTrue(alvo >= 0);
+        bytes[alvo + nome.length - 1] ^= 0x20;
+        try {
+            ReprodutorDiario.reproduzir(DiarioPartida.ler(bytes));
+            fail("recusa com outra exceção foi aceita");
+        } catch (IllegalStateException esperado) {
+            assertTrue(esperado.getMessage(), esperado.getMessage().contains("LANCAR_DADOS_FORCADO"));
+            assertNotNull(esperado.getCause());
+        }
+    }
+
+    @Test
+    public void reproducaoUsaOBaralhoDoDiario() throws Exception {
+        DefinicaoBaralho baralho = DefinicaoBaralho.carregar(("{\"nome\": \"Casa\", \"cartas\": ["
+                + "{\"tipo\": \"AVANCAR\", \"casas\": 7},"
+                + "{\"tipo\": \"IR_PARA_CASA\", \"casa\": 39, \"titulo\": \"Vá para Ipanema\"},"
+                + "{\"tipo\": \"PAGAR_AO_BANCO\", \"valor\": 75},"
+                + "{\"tipo\": \"AVANCAR\", \"casas\": -2},"
+                + "{\"tipo\": \"SAIDA_LIVRE_DA_PRISAO\"}"
+                + "]}").getBytes(StandardCharsets.UTF_8), "json");
+        GameModel m = new GameModel();
+        m.carregarTabuleiroOficialBR();
+        m.carregarBaralhoSorteReves(baralho);
+        m.novaPartida(4, 31L);
+        DiarioPartida d = m.iniciarDiario();
+        jogar(m, 150);
+        try {
+            m.carregarBaralhoSorteReves(DefinicaoBaralho.oficial());
+            fail("baralho trocado com o diário em andamento");
+        } catch (IllegalStateException esperado) {
+            // ok
+        }
+
+        DiarioPartida lido = DiarioPartida.ler(d.toByteArray());
+        assertSame(baralho, lido.getDefinicaoBaralho());
+        GameModel reproduzida = ReprodutorDiario.reproduzir(lido);
+        assertSame(baralho, reproduzida.getDefinicaoBaralho());
+        assertEquals(retrato(m), retrato(reproduzida));
+
+        assertSame(DefinicaoBaralho.oficial(), DiarioPartida.ler(diario.toByteArray()).getDefinicaoBaralho());
+    }
+
+    @Test
+    public void substituirAPartidaEncerraODiario() {
+        int comandos = diario.getQuantidadeComandos();
+        game.importarEstado(game.exportarEstado());
+        assertNull(game.getDiario());
+        jogar(game, 3);
+        assertEquals(comandos, diario.getQuantidadeComandos());
+
+        GameModel outra = new GameModel();
+        outra.novaPartida(4, 5L);
+        outra.carregarTabuleiroOficialBR();
+        try (ArenaPartidas arena = ArenaPartidas.emMemoria(1, outra.getQuantidadeCasasTabuleiro())) {
+            int registro = arena.estacionar(outra);
+            GameModel destino = new GameModel();
+            destino.novaPartida(4, 9L);
+            destino.carregarTabuleiroOficialBR();
+            DiarioPartida doDestino = destino.iniciarDiario();
+            arena.retomar(registro, destino);
+            assertNull(destino.getDiario());
+            jogar(destino, 3);
+            assertEquals(0, doDestino.getQuantidadeComandos());
+        }
+    }
+
+    private static int indiceDe(byte[] bytes, byte[] trecho) {
+        for (int i = 0; i + trecho.length <= bytes.length; i++) {
+            int k = 0;
+            while (k < trecho.length && bytes[i + k] == trecho[k]) {
+                k++;
+            }
+            if (k == trecho.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,129 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import banco_imobiliario_models.GameEvent;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Eventos tipados:
+ * - Cada mudança relevante gera um evento com os valores envolvidos;
+ * - Os eventos chegam na ordem em que as mudanças acontecem;
+ * - Lucro, imposto e honorários geram pagamento com o banco de um lado e o motivo.
+ */
+public class EventosTest {
+
+    private GameModel game;
+    private final List<GameEvent> eventos = new ArrayList<>();
+    private final GameModel.EventListener ouvinte = eventos::add;
+
+    @Before
+    public void setUp() {
+        game = new GameModel();
+        game.novaPartida(2, 42L);
+        game.carregarTabuleiroOficialBR();
+        game.addEventListener(ouvinte);
+    }
+
+    @Test
+    public void compraEAluguelGeramEventosTipados() {
+        final int comprador = game.getJogadorDaVez();
+        game.lancarDadosForcado(1, 2);
+        game.deslocarPiaoEAplicarObrigatorios();
+        assertTrue(game.comprarPropriedade());
+
+        assertEquals(3, eventos.size());
+        GameEvent.DadosLancados dados = (GameEvent.DadosLancados) eventos.get(0);
+        assertEquals(comprador, dados.getJogadorId());
+        assertEquals(3, dados.getSoma());
+        assertFalse(dados.isDupla());
+
+        GameEvent.PiaoMovido mov = (GameEvent.PiaoMovido) eventos.get(1);
+        assertEquals(0, mov.getOrigem());
+        assertEquals(3, mov.getDestino());
+
+        GameEvent.PropriedadeComprada compra = (GameEvent.PropriedadeComprada) eventos.get(2);
+        assertEquals(comprador, compra.getJogadorId());
+        assertEquals(3, compra.getPosicao());
+
+        game.encerrarVez();
+        eventos.clear();
+        final int pagador = game.getJogadorDaVez();
+        game.lancarDadosForcado(1, 2);
+        game.deslocarPiaoEAplicarObrigatorios();
+
+        GameEvent ultimo = eventos.get(eventos.size() - 1);
+        assertEquals(GameEvent.Tipo.ALUGUEL_PAGO, ultimo.getTipo());
+        GameEvent.AluguelPago aluguel = (GameEvent.AluguelPago) ultimo;
+        assertEquals(pagador, aluguel.getPagadorId());
+        assertEquals(comprador, aluguel.getRecebedorId());
+        assertTrue(aluguel.getValor() > 0);
+    }
+
+    @Test
+    public void lucroImpostoEHonorariosGeramPagamentos() {
+        final int jogador = game.getJogadorDaVez();
+        rodada(5, 4);
+        rodada(5, 4);
+        rodada(4, 2);
+        rodada(6, 5);
+        rodada(6, 5);
+
+        List<GameEvent.PagamentoRealizado> pagamentos = new ArrayList<>();
+        for (GameEvent e : eventos) {
+            if (e.getTipo() == GameEvent.Tipo.PAGAMENTO_REALIZADO) {
+                GameEvent.PagamentoRealizado p = (GameEvent.PagamentoRealizado) e;
+                if (p.getPagadorId() == jogador || p.getRecebedorId() == jogador) {
+                    pagamentos.add(p);
+                }
+            }
+        }
+        assertEquals(3, pagamentos.size());
+        assertPagamento(pagamentos.get(0), GameEvent.PagamentoRealizado.Motivo.LUCRO,
+                GameEvent.PagamentoRealizado.BANCO, jogador);
+        assertPagamento(pagamentos.get(1), GameEvent.PagamentoRealizado.Motivo.IMPOSTO,
+                jogador, GameEvent.PagamentoRealizado.BANCO);
+        assertPagamento(pagamentos.get(2), GameEvent.PagamentoRealizado.Motivo.HONORARIOS,
+                GameEvent.PagamentoRealizado.BANCO, jogador);
+    }
+
+    /** Os dois jogadores tiram os mesmos dados e andam juntos, sem comprar nada. */
+    private void rodada(int d1, int d2) {
+        for (int i = 0; i < 2; i++) {
+            game.lancarDadosForcado(d1, d2);
+            game.deslocarPiaoEAplicarObrigatorios();
+            game.encerrarVez();
+        }
+    }
+
+    private static void assertPagamento(GameEvent.PagamentoRealizado p, GameEvent.PagamentoRealizado.Motivo motivo,
+                                        int pagador, int recebedor) {
+        assertEquals(motivo, p.getMotivo());
+        assertEquals(pagador, p.getPagadorId());
+        assertEquals(recebedor, p.getRecebedorId());
+        assertEquals(200, p.getValor());
+    }
+
+    @Test
+    public void encerramentoPublicaResultado() {
+        game.encerrarPartida(GameModel.FimPartidaMotivo.BOTAO_ENCERRAR);
+
+        GameEvent.PartidaEncerrada fim = (GameEvent.PartidaEncerrada) eventos.get(eventos.size() - 1);
+        assertEquals(GameModel.FimPartidaMotivo.BOTAO_ENCERRAR, fim.getResultado().getMotivo());
+    }
+
+    @Test
+    public void ouvinteRemovidoNaoRecebeEventos() {
+        game.removeEventListener(ouvinte);
+        game.lancarDadosForcado(1, 2);
+        assertTrue(eventos.isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Fork da partida:
+ * - A cópia continua exatamente como o original continuaria (dados e baralho incluídos);
+ * - Jogar na cópia não altera o original.
+ */
+public class ForkTest {
+
+    private GameModel game;
+
+    @Before
+    public void setUp() {
+        game = new GameModel();
+        game.novaPartida(4, 2024L);
+        game.carregarTabuleiroOficialBR();
+        jogar(game, 40);
+    }
+
+    private static void jogar(GameModel m, int vezes) {
+        for (int t = 0; t < vezes && !m.isPartidaEncerrada(); t++) {
+            final int idVez = m.getJogadorDaVez();
+            do {
+                m.lancarDados();
+                m.deslocarPiaoEAplicarObrigatorios();
+                if (m.isPartidaEncerrada() || !m.isJogadorAtivo(idVez)) {
+                    break;
+                }
+                if (m.canComprarPropriedadeNaCasaAtual()) {
+                    m.comprarPropriedade();
+                } else if (m.canConstruirCasaNaCasaAtual()) {
+                    m.construirCasa();
+                }
+            } while (m.podeLancarDadosNesteTurno() && m.getJogadorDaVez() == idVez);
+            if (!m.isPartidaEncerrada()) {
+                m.encerrarVez();
+            }
+        }
+    }
+
+    private static List<Integer> retrato(GameModel m) {
+        List<Integer> r = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            r.add(m.getSaldoJogador(i));
+            r.add(m.getPosicaoJogador(i));
+            r.add(m.getQuantidadeAtivosDoJogador(i));
+        }
+        r.add(m.getJogadorDaVez());
+        return r;
+    }
+
+    @Test
+    public void forkSegueOMesmoFuturo() {
+        GameModel copia = game.fork();
+        assertEquals(retrato(game), retrato(copia));
+
+        jogar(game, 200);
+        jogar(copia, 200);
+        assertEquals(retrato(game), retrato(copia));
+    }
+
+    @Test
+    public void forkNaoAlteraOOriginal() {
+        List<Integer> antes = retrato(game);
+        GameModel copia = game.fork();
+        jogar(copia, 50);
+
+        assertNotEquals(antes, retrato(copia));
+        assertEquals(antes, retrato(game));
+    }
+}
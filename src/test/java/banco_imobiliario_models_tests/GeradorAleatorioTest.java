@@ -0,0 +1,136 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import banco_imobiliario_models.AlgoritmoAleatorio;
+import banco_imobiliario_models.FonteAleatoria;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Geradores aleatórios:
+ * - O LCG padrão reproduz exatamente java.util.Random;
+ * - Todo algoritmo exporta/importa estado e a partida carregada continua com os mesmos dados;
+ * - dividir() gera fluxos diferentes e reproduzíveis;
+ * - Com Philox, os dados de qualquer turno são calculáveis sem jogar os anteriores.
+ */
+public class GeradorAleatorioTest {
+
+    @Test
+    public void lcgReproduzJavaUtilRandom() {
+        FonteAleatoria f = AlgoritmoAleatorio.LCG_JAVA_UTIL.criar(123L);
+        Random r = new Random(123L);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(r.nextInt(6), f.proximoInt(6));
+            assertEquals(r.nextInt(30), f.proximoInt(30));
+            assertEquals(r.nextInt(64), f.proximoInt(64));
+        }
+        assertEquals(r.nextLong(), f.proximoLong());
+    }
+
+    @Test
+    public void estadoExportadoContinuaMesmaSequencia() {
+        for (AlgoritmoAleatorio a : AlgoritmoAleatorio.values()) {
+            FonteAleatoria f = a.criar(99L);
+            for (int i = 0; i < 17; i++) {
+                f.proximoLong();
+            }
+            FonteAleatoria g = a.restaurar(f.exportarEstado());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(a.name(), f.proximoInt(6), g.proximoInt(6));
+            }
+            assertArrayEquals(f.exportarEstado(), g.exportarEstado());
+        }
+    }
+
+    @Test
+    public void dividirGeraFluxosIndependentesEReproduziveis() {
+        for (AlgoritmoAleatorio a : AlgoritmoAleatorio.values()) {
+            FonteAleatoria pai = a.criar(7L);
+            FonteAleatoria filha = pai.dividir();
+            FonteAleatoria pai2 = a.criar(7L);
+            FonteAleatoria filha2 = pai2.dividir();
+
+            long x = filha.proximoLong();
+            assertEquals(x, filha2.proximoLong());
+            assertNotEquals(a.name(), x, pai.proximoLong());
+        }
+    }
+
+    @Test
+    public void partidaSalvaContinuaComOsMesmosDados() {
+        for (AlgoritmoAleatorio a : AlgoritmoAleatorio.values()) {
+            GameModel original = new GameModel();
+            original.novaPartida(3, 5L, a);
+            original.carregarTabuleiroOficialBR();
+            original.lancarDados();
+            original.deslocarPiaoEAplicarObrigatorios();
+            original.encerrarVez();
+
+            GameModel.SaveState estado = original.exportarEstado();
+            assertEquals(a, estado.getAlgoritmoRng());
+
+            GameModel carregado = new GameModel();
+            carregado.carregarTabuleiroOficialBR();
+            carregado.importarEstado(estado);
+            for (int i = 0; i < 20; i++) {
+                GameModel.ResultadoDados esperado = original.lancarDados();
+                GameModel.ResultadoDados obtido = carregado.lancarDados();
+                assertEquals(esperado.getD1(), obtido.getD1());
+                assertEquals(esperado.getD2(), obtido.getD2());
+                assertTrue(obtido.getD1() >= 1 && obtido.getD1() <= 6);
+                original.deslocarPiaoEAplicarObrigatorios();
+                carregado.deslocarPiaoEAplicarObrigatorios();
+                original.encerrarVez();
+                carregado.encerrarVez();
+            }
+        }
+    }
+
+    @Test
+    public void philoxCalculaDadosDeQualquerTurno() {
+        final long seed = 31337L;
+        GameModel game = new GameModel();
+        game.novaPartida(4, seed, AlgoritmoAleatorio.PHILOX4X32);
+        game.carregarTabuleiroOficialBR();
+
+        for (long turno = 0; turno < 300 && !game.isPartidaEncerrada(); turno++) {
+            final int idVez = game.getJogadorDaVez();
+            int lance = 0;
+            do {
+                GameModel.ResultadoDados obtido = game.lancarDados();
+                GameModel.ResultadoDados esperado = GameModel.dadosDoTurno(seed, turno, lance++);
+                assertEquals(esperado.getD1(), obtido.getD1());
+                assertEquals(esperado.getD2(), obtido.getD2());
+                game.deslocarPiaoEAplicarObrigatorios();
+            } while (!game.isPartidaEncerrada() && game.isJogadorAtivo(idVez)
+                    && game.podeLancarDadosNesteTurno() && game.getJogadorDaVez() == idVez);
+            if (game.isPartidaEncerrada()) {
+                break;
+            }
+            game.encerrarVez();
+        }
+    }
+
+    @Test
+    public void philoxEmbaralhaSemDeslocarOsDados() {
+        GameModel a = new GameModel();
+        a.novaPartida(2, 8L, AlgoritmoAleatorio.PHILOX4X32);
+        a.carregarTabuleiroOficialBR();
+        GameModel b = new GameModel();
+        b.novaPartida(2, 8L, AlgoritmoAleatorio.PHILOX4X32);
+        b.carregarTabuleiroOficialBR();
+        b.configurarBaralhoSorteRevesPadrao(10);
+
+        GameModel.ResultadoDados da = a.lancarDados();
+        GameModel.ResultadoDados db = b.lancarDados();
+        assertEquals(da.getD1(), db.getD1());
+        assertEquals(da.getD2(), db.getD2());
+    }
+}
@@ -0,0 +1,122 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import banco_imobiliario_controller.GamePersistenceService;
+import banco_imobiliario_controller.IndiceSaves;
+import banco_imobiliario_controller.PlayerProfile;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Índice de salvamentos:
+ * - Indexa .txt, .bim e arquivos .json com vários documentos;
+ * - Só reanalisa arquivos novos ou alterados, inclusive entre instâncias;
+ * - Carrega um documento do meio de um arquivo .json pelo deslocamento.
+ */
+public class IndiceSavesTest {
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private final GamePersistenceService persistence = new GamePersistenceService();
+    private File dir;
+    private List<PlayerProfile> perfis;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = pasta.newFolder("saves");
+        perfis = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            perfis.add(new PlayerProfile(i, "J" + i, Color.ORANGE, i));
+        }
+        for (int i = 0; i < 4; i++) {
+            persistence.salvar(new File(dir, "p" + i + (i % 2 == 0 ? ".txt" : ".bim")), partida(10L + i), perfis);
+        }
+        List<File> lote = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            File f = pasta.newFile("lote" + i + ".bim");
+            persistence.salvar(f, partida(50L + i), perfis);
+            lote.add(f);
+        }
+        persistence.converterParaJson(lote, new File(dir, "arquivo.json"));
+    }
+
+    private static GameModel.SaveState partida(long seed) {
+        GameModel game = new GameModel();
+        game.novaPartida(3, seed);
+        game.carregarTabuleiroOficialBR();
+        for (int t = 0; t < 25 && !game.isPartidaEncerrada(); t++) {
+            game.lancarDados();
+            game.deslocarPiaoEAplicarObrigatorios();
+            if (game.canComprarPropriedadeNaCasaAtual()) {
+                game.comprarPropriedade();
+            }
+            if (!game.isPartidaEncerrada()) {
+                game.encerrarVez();
+            }
+        }
+        return game.exportarEstado();
+    }
+
+    @Test
+    public void indexaTodosOsFormatos() throws IOException {
+        IndiceSaves indice = new IndiceSaves(dir, 3);
+        IndiceSaves.Resultado r = indice.atualizar();
+        assertTrue(r.getFalhas().toString(), r.getFalhas().isEmpty());
+        assertEquals(5, r.getAnalisados());
+        assertEquals(7, indice.listar().size());
+        for (IndiceSaves.Entrada e : indice.listar()) {
+            assertEquals(3, e.getJogadores().size());
+            assertEquals(3, e.getSaldos().size());
+        }
+        assertEquals(3, indice.consultar(e -> e.getArquivo().equals("arquivo.json")).size());
+    }
+
+    @Test
+    public void atualizacaoIncremental() throws IOException {
+        new IndiceSaves(dir, 2).atualizar();
+
+        IndiceSaves outra = new IndiceSaves(dir, 2);
+        assertEquals(0, outra.atualizar().getAnalisados());
+        assertEquals(7, outra.listar().size());
+
+        File alterado = new File(dir, "p0.txt");
+        persistence.salvar(alterado, partida(99L), perfis);
+        alterado.setLastModified(alterado.lastModified() + 2000);
+        assertTrue(new File(dir, "p1.bim").delete());
+
+        IndiceSaves.Resultado r = outra.atualizar();
+        assertEquals(1, r.getAnalisados());
+        assertEquals(1, r.getRemovidos());
+        assertEquals(6, outra.listar().size());
+    }
+
+    @Test
+    public void carregaDocumentoPeloDeslocamento() throws IOException {
+        IndiceSaves indice = new IndiceSaves(dir, 2);
+        indice.atualizar();
+        List<IndiceSaves.Entrada> docs = indice.consultar(e -> e.getArquivo().equals("arquivo.json"));
+        IndiceSaves.Entrada terceiro = docs.get(2);
+        assertTrue(terceiro.getDeslocamento() > 0);
+
+        GamePersistenceService.LoadedGame jogo = indice.carregar(terceiro);
+        GameModel.SaveState esperado = partida(52L);
+        assertEquals(esperado.getBancoSaldo(), jogo.getState().getBancoSaldo());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(esperado.getJogadores().get(i).getSaldo(), jogo.getState().getJogadores().get(i).getSaldo());
+            assertEquals((int) terceiro.getSaldos().get(i), jogo.getState().getJogadores().get(i).getSaldo());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Notificações agrupadas:
+ * - Uma ação de alto nível gera exatamente uma chamada aos observadores;
+ * - Lotes explícitos acumulam várias ações e notificam ao concluir (ou ao descarregar).
+ */
+public class NotificacaoTest {
+
+    private GameModel game;
+    private final AtomicInteger chamadas = new AtomicInteger();
+
+    @Before
+    public void setUp() {
+        game = new GameModel();
+        game.novaPartida(2, 42L);
+        game.carregarTabuleiroComImpostoELucro(10, 3, 100, 7, 50);
+        game.addObserver(source -> chamadas.incrementAndGet());
+    }
+
+    @Test
+    public void umaNotificacaoPorAcaoDeAltoNivel() {
+        game.lancarDadosForcado(1, 2);
+        assertEquals(1, chamadas.get());
+
+        chamadas.set(0);
+        game.deslocarPiaoEAplicarObrigatorios();
+        assertEquals(3, game.getPosicaoJogador(0));
+        assertEquals(3900, game.getSaldoJogador(0));
+        assertEquals(1, chamadas.get());
+    }
+
+    @Test
+    public void loteExplicitoNotificaAoConcluir() {
+        game.iniciarLoteDeNotificacoes();
+        game.lancarDadosForcado(1, 2);
+        game.deslocarPiaoEAplicarObrigatorios();
+        assertEquals(0, chamadas.get());
+
+        game.descarregarNotificacoes();
+        assertEquals(1, chamadas.get());
+
+        game.encerrarVez();
+        game.concluirLoteDeNotificacoes();
+        assertEquals(2, chamadas.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void concluirSemLoteAbertoFalha() {
+        game.concluirLoteDeNotificacoes();
+    }
+}
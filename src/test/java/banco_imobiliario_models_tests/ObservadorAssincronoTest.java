@@ -0,0 +1,115 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import banco_imobiliario_models.GameModel;
+import banco_imobiliario_models.ObservadorAssincrono;
+
+/**
+ * Observadores assíncronos:
+ * - Um observador lento não segura a thread do jogo;
+ * - Cada política trata a fila cheia do seu jeito e os contadores refletem isso.
+ */
+public class ObservadorAssincronoTest {
+
+    private GameModel game;
+    private final CountDownLatch liberar = new CountDownLatch(1);
+    private final AtomicInteger chamadas = new AtomicInteger();
+
+    private final GameModel.Observer lento = source -> {
+        try {
+            liberar.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        chamadas.incrementAndGet();
+    };
+
+    @Before
+    public void setUp() {
+        game = new GameModel();
+        game.novaPartida(2, 42L);
+        game.carregarTabuleiroComImpostoELucro(10, 3, 100, 7, 50);
+    }
+
+    @After
+    public void tearDown() {
+        liberar.countDown();
+    }
+
+    private void gerarNotificacoes(int n) {
+        for (int i = 0; i < n; i++) {
+            game.lancarDadosForcado(1, 2);
+            game.encerrarVez();
+        }
+    }
+
+    @Test
+    public void coalescerMantemUmaPendente() throws Exception {
+        ObservadorAssincrono obs = game.addObserverAssincrono(lento, 8, ObservadorAssincrono.Politica.COALESCER);
+        gerarNotificacoes(10);
+        assertTrue(obs.getProfundidadeFila() <= 1);
+
+        liberar.countDown();
+        assertTrue(obs.aguardarEntrega(5, TimeUnit.SECONDS));
+        assertEquals(20, obs.getEntregues() + obs.getDescartados());
+        assertTrue(obs.getEntregues() <= 2);
+        assertEquals(obs.getEntregues(), chamadas.get());
+    }
+
+    @Test
+    public void descartarMaisAntigoRespeitaCapacidade() throws Exception {
+        ObservadorAssincrono obs = game.addObserverAssincrono(lento, 3, ObservadorAssincrono.Politica.DESCARTAR_MAIS_ANTIGO);
+        gerarNotificacoes(10);
+        assertTrue(obs.getProfundidadeMaxima() <= 3);
+
+        liberar.countDown();
+        assertTrue(obs.aguardarEntrega(5, TimeUnit.SECONDS));
+        assertEquals(20, obs.getEntregues() + obs.getDescartados());
+        assertTrue(obs.getDescartados() >= 16);
+    }
+
+    @Test
+    public void bloquearEntregaTodas() throws Exception {
+        liberar.countDown();
+        ObservadorAssincrono obs = game.addObserverAssincrono(lento, 2, ObservadorAssincrono.Politica.BLOQUEAR);
+        gerarNotificacoes(10);
+
+        assertTrue(obs.aguardarEntrega(5, TimeUnit.SECONDS));
+        assertEquals(20, obs.getEntregues());
+        assertEquals(0, obs.getDescartados());
+        assertTrue(obs.getLatenciaMaximaNanos() > 0);
+    }
+
+    @Test
+    public void falhasSaoContadas() throws Exception {
+        ObservadorAssincrono obs = game.addObserverAssincrono(source -> {
+            throw new IllegalStateException("falha");
+        }, 4, ObservadorAssincrono.Politica.BLOQUEAR);
+        game.lancarDadosForcado(1, 2);
+
+        assertTrue(obs.aguardarEntrega(5, TimeUnit.SECONDS));
+        assertEquals(1, obs.getFalhas());
+        assertTrue(obs.getUltimaFalha() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void removeObserverDesligaOAssincrono() throws Exception {
+        liberar.countDown();
+        ObservadorAssincrono obs = game.addObserverAssincrono(lento, 4, ObservadorAssincrono.Politica.BLOQUEAR);
+        game.removeObserver(lento);
+        game.lancarDadosForcado(1, 2);
+
+        assertTrue(obs.aguardarEntrega(5, TimeUnit.SECONDS));
+        assertEquals(0, obs.getEntregues());
+    }
+}
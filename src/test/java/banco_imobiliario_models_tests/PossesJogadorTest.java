@@ -0,0 +1,116 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Índice de posses por jogador:
+ * - Compra, venda e troca de dono atualizam a contagem e a lista do jogador (em ordem de casa);
+ * - Falência devolve tudo ao banco e zera o índice do falido sem mexer no dos outros;
+ * - Fork e importar estado reconstroem o mesmo índice.
+ */
+public class PossesJogadorTest {
+
+    private static final int LEBLON = 1;
+    private static final int FARIA_LIMA = 6;
+    private static final int NOVE_DE_JULHO = 9;
+
+    private GameModel game;
+
+    @Before
+    public void setUp() {
+        game = new GameModel();
+        game.novaPartida(3, 5L);
+        game.carregarTabuleiroOficialBR();
+    }
+
+    private void comprar(int jogador, int posicao) {
+        game.debugForcarPosicaoJogador(jogador, posicao);
+        assertTrue(game.comprarPropriedade());
+    }
+
+    @Test
+    public void compraEVendaMantemOIndiceOrdenado() {
+        int vez = game.getJogadorDaVez();
+        assertEquals(0, game.getQuantidadeAtivosDoJogador(vez));
+        assertFalse(game.jogadorPossuiAlgumaCartaOuPropriedade(vez));
+
+        comprar(vez, NOVE_DE_JULHO);
+        comprar(vez, LEBLON);
+        comprar(vez, FARIA_LIMA);
+        assertEquals(3, game.getQuantidadeAtivosDoJogador(vez));
+        assertEquals(Arrays.asList("Leblon", "Av. Brig. Faria Lima", "Av. 9 de Julho"),
+                game.getNomesPropriedadesDoJogador(vez));
+
+        assertTrue(game.venderPropriedadeAoBanco(FARIA_LIMA));
+        assertFalse(game.venderPropriedadeAoBanco(FARIA_LIMA));
+        assertEquals(Arrays.asList("Leblon", "Av. 9 de Julho"), game.getNomesPropriedadesDoJogador(vez));
+        assertEquals(2, game.getBancoDeCartasDoJogador(vez).size());
+
+        assertTrue(game.venderPropriedadeAoBanco(LEBLON));
+        assertTrue(game.venderPropriedadeAoBanco(NOVE_DE_JULHO));
+        assertEquals(0, game.getQuantidadeAtivosDoJogador(vez));
+        assertFalse(game.jogadorPossuiAlgumaCartaOuPropriedade(vez));
+    }
+
+    @Test
+    public void trocaDeDonoMoveAPosseEntreJogadores() {
+        game.debugForcarDonoECasasDaPropriedade(LEBLON, 0, 0, false);
+        game.debugForcarDonoECasasDaPropriedade(FARIA_LIMA, 0, 0, false);
+        game.debugForcarDonoECasasDaPropriedade(FARIA_LIMA, 1, 0, false);
+
+        assertEquals(Collections.singletonList("Leblon"), game.getNomesPropriedadesDoJogador(0));
+        assertEquals(Collections.singletonList("Av. Brig. Faria Lima"), game.getNomesPropriedadesDoJogador(1));
+        assertEquals(0, game.getQuantidadeAtivosDoJogador(2));
+    }
+
+    @Test
+    public void falenciaLimpaSoOIndiceDoFalido() {
+        game.debugForcarDonoECasasDaPropriedade(LEBLON, 0, 0, false);
+        game.debugForcarDonoECasasDaPropriedade(NOVE_DE_JULHO, 1, 4, false);
+        game.debugForcarDonoECasasDaPropriedade(FARIA_LIMA, 2, 0, false);
+
+        // Aluguel de 4 casas numa propriedade de 220 leva o pagador sem caixa à falência.
+        game.debugForcarPosicaoJogador(0, NOVE_DE_JULHO);
+        for (int i = 0; i < 100 && game.isJogadorAtivo(0); i++) {
+            game.pagarAluguelSeDevido();
+            game.declararFalenciaSeNecessario();
+        }
+
+        assertFalse(game.isJogadorAtivo(0));
+        assertEquals(0, game.getQuantidadeAtivosDoJogador(0));
+        assertEquals(Collections.singletonList("Av. 9 de Julho"), game.getNomesPropriedadesDoJogador(1));
+        assertEquals(Collections.singletonList("Av. Brig. Faria Lima"), game.getNomesPropriedadesDoJogador(2));
+
+        // A casa liberada volta a ser comprável.
+        int vez = game.getJogadorDaVez();
+        game.debugForcarPosicaoJogador(vez, LEBLON);
+        assertTrue(game.canComprarPropriedadeNaCasaAtual());
+    }
+
+    @Test
+    public void forkEImportarReconstroemOIndice() {
+        game.debugForcarDonoECasasDaPropriedade(NOVE_DE_JULHO, 2, 0, false);
+        game.debugForcarDonoECasasDaPropriedade(LEBLON, 2, 1, false);
+
+        GameModel copia = game.fork();
+        copia.debugForcarDonoECasasDaPropriedade(FARIA_LIMA, 2, 0, false);
+        assertEquals(2, game.getQuantidadeAtivosDoJogador(2));
+        assertEquals(3, copia.getQuantidadeAtivosDoJogador(2));
+
+        GameModel importado = new GameModel();
+        importado.carregarTabuleiroOficialBR();
+        importado.importarEstado(game.exportarEstado());
+        assertEquals(game.getNomesPropriedadesDoJogador(2), importado.getNomesPropriedadesDoJogador(2));
+        assertEquals(0, importado.getQuantidadeAtivosDoJogador(0));
+    }
+}
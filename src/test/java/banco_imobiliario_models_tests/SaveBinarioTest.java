@@ -0,0 +1,173 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import banco_imobiliario_controller.GamePersistenceService;
+import banco_imobiliario_controller.MetadadosSave;
+import banco_imobiliario_controller.PlayerProfile;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Salvamento binário (.bim):
+ * - Salvar e carregar devolve o mesmo estado do formato texto;
+ * - O formato é escolhido pelo conteúdo, não pela extensão;
+ * - Arquivos .txt continuam sendo lidos;
+ * - Bytes corrompidos são detectados pelo CRC;
+ * - O cabeçalho de metadados é lido sem carregar a partida, no .bim e no .txt;
+ * - O número de casas do tabuleiro é gravado em todos os formatos e conferido ao importar.
+ */
+public class SaveBinarioTest {
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private final GamePersistenceService persistence = new GamePersistenceService();
+    private GameModel game;
+    private List<PlayerProfile> perfis;
+
+    @Before
+    public void setUp() {
+        game = new GameModel();
+        game.novaPartida(3, 99L);
+        game.carregarTabuleiroOficialBR();
+        for (int t = 0; t < 60 && !game.isPartidaEncerrada(); t++) {
+            game.lancarDados();
+            game.deslocarPiaoEAplicarObrigatorios();
+            if (game.canComprarPropriedadeNaCasaAtual()) {
+                game.comprarPropriedade();
+            }
+            if (!game.isPartidaEncerrada()) {
+                game.encerrarVez();
+            }
+        }
+        perfis = new ArrayList<>();
+        perfis.add(new PlayerProfile(0, "Ana", Color.RED, 0));
+        perfis.add(new PlayerProfile(1, "Bruno", new Color(0x12, 0x34, 0x56), 2));
+        perfis.add(new PlayerProfile(2, "Cecilia", Color.BLUE, -1));
+    }
+
+    private static List<Object> retrato(GamePersistenceService.LoadedGame g) {
+        GameModel m = new GameModel();
+        m.importarEstado(g.getState());
+        List<Object> r = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            r.add(m.getSaldoJogador(i));
+            r.add(m.getPosicaoJogador(i));
+            r.add(m.getQuantidadeAtivosDoJogador(i));
+            PlayerProfile p = g.getPerfis().get(i);
+            r.add(p.getNome() + p.getCorHex() + p.getPawnIndex());
+        }
+        r.add(m.getJogadorDaVez());
+        r.add(m.getSaldoBanco());
+        r.add(g.getState().getOrdemBaralhoSR());
+        r.add(g.getState().getAlgoritmoRng());
+        r.add(java.util.Arrays.toString(g.getState().getEstadoRng()));
+        return r;
+    }
+
+    @Test
+    public void binarioETextoCarregamOMesmoEstado() throws IOException {
+        File txt = pasta.newFile("partida.txt");
+        File bim = pasta.newFile("partida.bim");
+        GameModel.SaveState estado = game.exportarEstado();
+        persistence.salvar(txt, estado, perfis);
+        persistence.salvar(bim, estado, perfis);
+
+        assertEquals(retrato(persistence.carregar(txt)), retrato(persistence.carregar(bim)));
+        assertTrue(bim.length() * 2 < txt.length());
+    }
+
+    @Test
+    public void formatoEhDetectadoPeloConteudo() throws IOException {
+        File bim = pasta.newFile("partida.bim");
+        persistence.salvar(bim, game.exportarEstado(), perfis);
+        File renomeado = pasta.newFile("renomeado.txt");
+        Files.write(renomeado.toPath(), Files.readAllBytes(bim.toPath()));
+
+        assertEquals(retrato(persistence.carregar(bim)), retrato(persistence.carregar(renomeado)));
+    }
+
+    @Test
+    public void crcDetectaCorrupcao() throws IOException {
+        File bim = pasta.newFile("partida.bim");
+        persistence.salvar(bim, game.exportarEstado(), perfis);
+        byte[] bytes = Files.readAllBytes(bim.toPath());
+        bytes[bytes.length / 2] ^= 0x40;
+        Files.write(bim.toPath(), bytes);
+        try {
+            persistence.carregar(bim);
+            fail("arquivo corrompido foi aceito");
+        } catch (IOException esperado) {
+            assertTrue(esperado.getMessage().contains("CRC"));
+        }
+    }
+
+    @Test
+    public void metadadosSemCarregarAPartida() throws IOException {
+        File bim = pasta.newFile("partida.bim");
+        File txt = pasta.newFile("partida.txt");
+        File json = pasta.newFile("partida.json");
+        GameModel.SaveState estado = game.exportarEstado();
+        persistence.salvar(bim, estado, perfis);
+        persistence.salvar(txt, estado, perfis);
+        persistence.salvar(json, estado, perfis);
+
+        assertNull(MetadadosSave.ler(json));
+        conferirMetadados(estado, MetadadosSave.ler(bim));
+        conferirMetadados(estado, MetadadosSave.ler(txt));
+        assertEquals(retrato(persistence.carregar(bim)), retrato(persistence.carregar(txt)));
+    }
+
+    private void conferirMetadados(GameModel.SaveState estado, MetadadosSave meta) {
+        assertNotNull(meta);
+        assertEquals(3, meta.getNumJogadores());
+        assertEquals("Bruno", meta.getNome(1));
+        assertEquals(new Color(0x12, 0x34, 0x56), meta.getCor(1));
+        assertEquals(game.getJogadorDaVez(), meta.getJogadorDaVez());
+        assertEquals(game.getSaldoBanco(), meta.getBancoSaldo());
+        assertEquals(game.getQuantidadeCasasTabuleiro(), meta.getCasasTabuleiro());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(game.getSaldoJogador(i), meta.getSaldo(i));
+        }
+        for (GameModel.PropertyState prop : estado.getPropriedades()) {
+            assertEquals(prop.getDonoId(), meta.getDonoCasa(prop.getPosicao()));
+        }
+        assertTrue(System.currentTimeMillis() - meta.getSalvoEm() < 60_000L);
+    }
+
+    @Test
+    public void casasDoTabuleiroSaoGravadasEConferidas() throws IOException {
+        GameModel.SaveState estado = game.exportarEstado();
+        for (String extensao : new String[] { ".txt", ".bim", ".json" }) {
+            File arquivo = pasta.newFile("casas" + extensao);
+            persistence.salvar(arquivo, estado, perfis);
+            assertEquals(extensao, 40, persistence.carregar(arquivo).getState().getNumCasasTabuleiro());
+        }
+
+        GameModel menor = new GameModel();
+        menor.novaPartida(3, 1L);
+        menor.carregarTabuleiroMinimoParaTeste(12);
+        try {
+            menor.importarEstado(estado);
+            fail("estado de 40 casas importado num tabuleiro de 12");
+        } catch (IllegalArgumentException esperado) {
+            assertEquals(12, menor.getQuantidadeCasasTabuleiro());
+        }
+    }
+}
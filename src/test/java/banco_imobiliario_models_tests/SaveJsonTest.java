@@ -0,0 +1,113 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import banco_imobiliario_controller.GamePersistenceService;
+import banco_imobiliario_controller.PlayerProfile;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Salvamento JSON:
+ * - Salvar em .json e carregar devolve o mesmo estado do formato texto;
+ * - A conversão em lote gera um documento por linha e volta para .txt sem perdas.
+ */
+public class SaveJsonTest {
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private final GamePersistenceService persistence = new GamePersistenceService();
+    private List<PlayerProfile> perfis;
+
+    @Before
+    public void setUp() {
+        perfis = new ArrayList<>();
+        perfis.add(new PlayerProfile(0, "Ana", Color.RED, 0));
+        perfis.add(new PlayerProfile(1, "Bruno \"B\"", Color.BLUE, 1));
+        perfis.add(new PlayerProfile(2, "Caio", Color.GREEN, -1));
+    }
+
+    private static GameModel.SaveState partida(long seed, int vezes) {
+        GameModel game = new GameModel();
+        game.novaPartida(3, seed);
+        game.carregarTabuleiroOficialBR();
+        for (int t = 0; t < vezes && !game.isPartidaEncerrada(); t++) {
+            game.lancarDados();
+            game.deslocarPiaoEAplicarObrigatorios();
+            if (game.canComprarPropriedadeNaCasaAtual()) {
+                game.comprarPropriedade();
+            }
+            if (!game.isPartidaEncerrada()) {
+                game.encerrarVez();
+            }
+        }
+        return game.exportarEstado();
+    }
+
+    private static List<Object> retrato(GamePersistenceService.LoadedGame g) {
+        GameModel m = new GameModel();
+        m.importarEstado(g.getState());
+        List<Object> r = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            r.add(m.getSaldoJogador(i));
+            r.add(m.getPosicaoJogador(i));
+            r.add(m.getQuantidadeAtivosDoJogador(i));
+            r.add(g.getPerfis().get(i).getNome() + g.getPerfis().get(i).getCorHex());
+        }
+        r.add(m.getJogadorDaVez());
+        r.add(m.getSaldoBanco());
+        r.add(g.getState().getOrdemBaralhoSR());
+        r.add(g.getState().getCartasSRPorJogador());
+        r.add(Arrays.toString(g.getState().getEstadoRng()));
+        return r;
+    }
+
+    @Test
+    public void jsonCarregaOMesmoEstadoDoTexto() throws IOException {
+        GameModel.SaveState estado = partida(5L, 80);
+        File txt = pasta.newFile("p.txt");
+        File json = pasta.newFile("p.json");
+        persistence.salvar(txt, estado, perfis);
+        persistence.salvar(json, estado, perfis);
+
+        assertEquals(retrato(persistence.carregar(txt)), retrato(persistence.carregar(json)));
+    }
+
+    @Test
+    public void conversaoEmLoteIdaEVolta() throws IOException {
+        List<File> originais = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            File f = pasta.newFile("partida" + i + ".txt");
+            persistence.salvar(f, partida(100L + i, 30 + 10 * i), perfis);
+            originais.add(f);
+        }
+
+        File lote = new File(pasta.getRoot(), "lote.json");
+        assertEquals(4, persistence.converterParaJson(originais, lote));
+        List<String> linhas = Files.readAllLines(lote.toPath(), StandardCharsets.UTF_8);
+        assertEquals(4, linhas.size());
+        assertTrue(linhas.get(0).startsWith("{"));
+
+        File volta = pasta.newFolder("volta");
+        assertEquals(4, persistence.converterDeJson(lote, volta, ".txt"));
+        for (File original : originais) {
+            File convertido = new File(volta, original.getName());
+            assertEquals(retrato(persistence.carregar(original)), retrato(persistence.carregar(convertido)));
+        }
+    }
+}
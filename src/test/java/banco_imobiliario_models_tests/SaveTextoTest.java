@@ -0,0 +1,126 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import banco_imobiliario_controller.GamePersistenceService;
+import banco_imobiliario_controller.PlayerProfile;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Leitura do formato texto:
+ * - O arquivo gravado pelo salvar e uma versão editada à mão (espaços, ':' e comentários) carregam igual;
+ * - Campo ausente e número inválido continuam gerando IOException com a mesma mensagem.
+ */
+public class SaveTextoTest {
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private final GamePersistenceService persistence = new GamePersistenceService();
+    private File txt;
+
+    @Before
+    public void setUp() throws IOException {
+        GameModel game = new GameModel();
+        game.novaPartida(4, 31L);
+        game.carregarTabuleiroOficialBR();
+        for (int t = 0; t < 120 && !game.isPartidaEncerrada(); t++) {
+            game.lancarDados();
+            game.deslocarPiaoEAplicarObrigatorios();
+            if (game.canComprarPropriedadeNaCasaAtual()) {
+                game.comprarPropriedade();
+            } else if (game.canConstruirCasaNaCasaAtual()) {
+                game.construirCasa();
+            }
+            if (!game.isPartidaEncerrada()) {
+                game.encerrarVez();
+            }
+        }
+        List<PlayerProfile> perfis = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            perfis.add(new PlayerProfile(i, "Jogador " + i, new Color(0x10 * i, 0x20, 0x30), i));
+        }
+        txt = pasta.newFile("partida.txt");
+        persistence.salvar(txt, game.exportarEstado(), perfis);
+    }
+
+    private static List<Object> retrato(GamePersistenceService.LoadedGame g) {
+        GameModel.SaveState s = g.getState();
+        List<Object> r = new ArrayList<>();
+        for (PlayerProfile p : g.getPerfis()) {
+            r.add(p.getId() + p.getNome() + p.getCorHex() + p.getPawnIndex());
+        }
+        for (GameModel.PlayerState ps : s.getJogadores()) {
+            r.add(Arrays.asList(ps.getId(), ps.getSaldo(), ps.getPosicao(), ps.isAtivo(), ps.isNaPrisao(),
+                    ps.hasCartaSaidaLivre()));
+        }
+        for (GameModel.PropertyState p : s.getPropriedades()) {
+            r.add(Arrays.asList(p.getPosicao(), p.getDonoId(), p.getNumCasas(), p.hasHotel()));
+        }
+        r.add(Arrays.asList(s.getOrdemTurno(), s.getTurnoIndex(), s.getTurnoDuplasConsecutivas(),
+                s.getTurnoUltimoD1(), s.getTurnoUltimoD2(), s.getUltimoD1(), s.getUltimoD2()));
+        r.add(Arrays.asList(s.isJaLancouNesteTurno(), s.isDeveIrParaPrisaoPorTerceiraDupla(),
+                s.isSalvamentoDisponivel(), s.getPosicaoDaQuedaAtual(), s.isJaConstruiuNestaQueda(),
+                s.isAcabouDeComprarNestaQueda(), s.getBancoSaldo()));
+        r.add(Arrays.asList(s.getTamanhoBaralhoSR(), s.getPonteiroBaralhoSR(), s.getUltimaCartaNumero(),
+                s.getCartaBufferNumero(), s.getOrdemBaralhoSR(), s.getCartasSRPorJogador()));
+        r.add(s.getAlgoritmoRng());
+        r.add(Arrays.toString(s.getEstadoRng()));
+        return r;
+    }
+
+    private void reescrever(java.util.function.UnaryOperator<String> linha) throws IOException {
+        List<String> linhas = new ArrayList<>();
+        for (String l : Files.readAllLines(txt.toPath(), StandardCharsets.US_ASCII)) {
+            String nova = linha.apply(l);
+            if (nova != null) {
+                linhas.add(nova);
+            }
+        }
+        Files.write(txt.toPath(), linhas, StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    public void arquivoEditadoAMaoCarregaIgual() throws IOException {
+        List<Object> esperado = retrato(persistence.carregar(txt));
+        reescrever(l -> l.startsWith("#") ? "! comentario\n" + l : l.replaceFirst("=", " : "));
+        assertEquals(esperado, retrato(persistence.carregar(txt)));
+    }
+
+    @Test
+    public void campoAusente() throws IOException {
+        reescrever(l -> l.startsWith("model.banco.saldo=") ? null : l);
+        try {
+            persistence.carregar(txt);
+            fail("arquivo sem saldo do banco foi aceito");
+        } catch (IOException esperado) {
+            assertEquals("Campo ausente no arquivo: model.banco.saldo", esperado.getMessage());
+        }
+    }
+
+    @Test
+    public void numeroInvalido() throws IOException {
+        reescrever(l -> l.startsWith("model.turno.index=") ? "model.turno.index=x1" : l);
+        try {
+            persistence.carregar(txt);
+            fail("número inválido foi aceito");
+        } catch (IOException esperado) {
+            assertEquals("Não foi possível converter número inteiro: x1", esperado.getMessage());
+        }
+    }
+}
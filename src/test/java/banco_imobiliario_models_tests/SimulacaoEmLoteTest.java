@@ -0,0 +1,112 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import banco_imobiliario_models.AlgoritmoAleatorio;
+import banco_imobiliario_models.DefinicaoTabuleiro;
+import banco_imobiliario_models.GameModel;
+import banco_imobiliario_models.SimulacaoEmLote;
+import banco_imobiliario_models.SimulationEngine;
+
+/**
+ * Simulação em lote com estado em arrays paralelos:
+ * - Cada partida termina igual à do SimulationEngine (GameModel) com a mesma seed:
+ *   motivo, turnos, falências e ranking completo, para 2 a 6 jogadores e todos os geradores;
+ * - O relatório do lote bate com o do SimulationEngine, qualquer que seja o tamanho do lote;
+ * - Também vale para tabuleiros carregados de arquivo, inclusive com falências e fim por último jogador.
+ */
+public class SimulacaoEmLoteTest {
+
+    private static String descrever(SimulationEngine.ResultadoSimulacao r) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(r.getMotivo()).append(" turnos=").append(r.getTurnos())
+          .append(" falencias=").append(r.getFalencias()).append(" vencedor=").append(r.getVencedorId());
+        List<GameModel.ResumoCapital> ranking = r.getRanking();
+        for (GameModel.ResumoCapital c : ranking) {
+            sb.append(" [").append(c.getJogadorId()).append(' ').append(c.getSaldoDisponivel())
+              .append(' ').append(c.getPatrimonio()).append(' ').append(c.isAtivo()).append(']');
+        }
+        return sb.toString();
+    }
+
+    private static void assertMesmasPartidas(SimulationEngine engine, SimulacaoEmLote lote, int partidas, long seedBase) {
+        for (int i = 0; i < partidas; i++) {
+            long seed = seedBase * 1_000 + i;
+            assertEquals("seed " + seed,
+                    descrever(engine.simularPartida(seed)),
+                    descrever(lote.simularPartida(seed)));
+        }
+    }
+
+    @Test
+    public void mesmasPartidasQueOGameModel() {
+        for (int jogadores = 2; jogadores <= 6; jogadores++) {
+            for (AlgoritmoAleatorio a : AlgoritmoAleatorio.values()) {
+                SimulationEngine engine = new SimulationEngine(jogadores, 400, 1, a);
+                SimulacaoEmLote lote = new SimulacaoEmLote(jogadores, 400, a, DefinicaoTabuleiro.oficial(), 1);
+                assertMesmasPartidas(engine, lote, 40, jogadores);
+            }
+        }
+    }
+
+    @Test
+    public void relatorioIgualAoDoSimulationEngine() {
+        Map<Long, String> esperado = new TreeMap<>();
+        SimulationEngine.Relatorio a = new SimulationEngine(4, 300, 1)
+                .executar(500, 2024L, r -> esperado.put(r.getSeed(), descrever(r)));
+
+        for (int tamanhoLote : new int[] { 1, 7, 64, 1024 }) {
+            Map<Long, String> obtido = new TreeMap<>();
+            SimulationEngine.Relatorio b = new SimulacaoEmLote(4, 300, AlgoritmoAleatorio.LCG_JAVA_UTIL,
+                    DefinicaoTabuleiro.oficial(), tamanhoLote)
+                    .executar(500, 2024L, r -> obtido.put(r.getSeed(), descrever(r)));
+
+            assertEquals(esperado, obtido);
+            assertEquals(a.getPartidas(), b.getPartidas());
+            assertEquals(a.getErros(), b.getErros());
+            assertEquals(a.getSomaTurnos(), b.getSomaTurnos());
+            assertEquals(a.getTotalFalencias(), b.getTotalFalencias());
+            for (int j = 0; j < 4; j++) {
+                assertEquals(a.getVitorias(j), b.getVitorias(j));
+            }
+        }
+    }
+
+    @Test
+    public void mesmasFalenciasNumTabuleiroCustomizado() throws Exception {
+        String yaml = "nome: Caro\n"
+                + "casas:\n"
+                + "  - {tipo: PONTO_PARTIDA, nome: Início}\n"
+                + "  - {tipo: PROPRIEDADE, nome: Rua A, preco: 300, precoCasa: 120, precoHotel: 500,"
+                + " alugueis: [300, 600, 900, 1200, 1500, 2500]}\n"
+                + "  - {tipo: SORTE_REVES, nome: Sorte}\n"
+                + "  - {tipo: COMPANHIA, nome: Cia, preco: 150, aluguel: 400}\n"
+                + "  - {tipo: PRISAO, nome: Prisão}\n"
+                + "  - {tipo: PROPRIEDADE, nome: Rua B, preco: 200}\n"
+                + "  - {tipo: IMPOSTO, nome: Taxa, valor: 700}\n"
+                + "  - {tipo: SORTE_REVES, nome: Revés}\n"
+                + "  - {tipo: LUCRO, nome: Bônus, valor: 100}\n"
+                + "  - {tipo: PROPRIEDADE, nome: Rua D, preco: 400, alugueis: [200, 800, 1600, 2400, 3200, 4000]}\n"
+                + "  - {tipo: VA_PARA_PRISAO, nome: Vá para a prisão}\n"
+                + "  - {tipo: COMPANHIA, nome: Cia 2, preco: 250, aluguel: 300}\n";
+        DefinicaoTabuleiro def = DefinicaoTabuleiro.carregar(yaml.getBytes("UTF-8"), "yaml");
+        for (int jogadores = 2; jogadores <= 6; jogadores++) {
+            for (AlgoritmoAleatorio a : AlgoritmoAleatorio.values()) {
+                SimulationEngine engine = new SimulationEngine(jogadores, 300, 1, a, def);
+                SimulacaoEmLote lote = new SimulacaoEmLote(jogadores, 300, a, def, 1);
+                assertMesmasPartidas(engine, lote, 40, 100 + jogadores);
+            }
+        }
+
+        SimulationEngine.Relatorio r = new SimulacaoEmLote(3, 300, AlgoritmoAleatorio.SPLITMIX64, def, 16)
+                .executar(200, 5L);
+        assertTrue(r.getPartidasPorMotivo(GameModel.FimPartidaMotivo.ULTIMO_JOGADOR_RESTANTE) > 0);
+    }
+}
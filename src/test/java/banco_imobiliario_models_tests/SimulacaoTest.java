@@ -0,0 +1,57 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+
+import banco_imobiliario_models.GameModel;
+import banco_imobiliario_models.SimulationEngine;
+
+/**
+ * Simulação em lote (sem UI):
+ * - Toda partida termina (por falência ou limite de turnos) com ranking completo;
+ * - Mesma seed base gera os mesmos resultados independentemente do número de threads.
+ */
+public class SimulacaoTest {
+
+    @Test
+    public void todasAsPartidasTerminamComRankingCompleto() {
+        SimulationEngine engine = new SimulationEngine(4, 300, 1);
+        SimulationEngine.Relatorio rel = engine.executar(50, 7L);
+
+        assertEquals(50, rel.getPartidas());
+        assertEquals(0, rel.getErros());
+        assertTrue(rel.getMaxTurnos() <= 300);
+
+        long vitorias = 0;
+        for (int i = 0; i < 4; i++) {
+            vitorias += rel.getVitorias(i);
+        }
+        assertEquals(50, vitorias);
+
+        SimulationEngine.ResultadoSimulacao r = engine.simularPartida(99L);
+        List<GameModel.ResumoCapital> ranking = r.getRanking();
+        assertEquals(4, ranking.size());
+        assertEquals(r.getVencedorId(), ranking.get(0).getJogadorId());
+    }
+
+    @Test
+    public void resultadosNaoDependemDoParalelismo() {
+        Map<Long, Integer> seq = new ConcurrentHashMap<>();
+        Map<Long, Integer> par = new ConcurrentHashMap<>();
+
+        SimulationEngine.Relatorio a = new SimulationEngine(3, 200, 1)
+                .executar(200, 12345L, r -> seq.put(r.getSeed(), r.getVencedorId() * 10_000 + r.getTurnos()));
+        SimulationEngine.Relatorio b = new SimulationEngine(3, 200, 4)
+                .executar(200, 12345L, r -> par.put(r.getSeed(), r.getVencedorId() * 10_000 + r.getTurnos()));
+
+        assertEquals(seq, par);
+        assertEquals(a.getSomaTurnos(), b.getSomaTurnos());
+        assertEquals(a.getTotalFalencias(), b.getTotalFalencias());
+    }
+}
@@ -0,0 +1,85 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import banco_imobiliario_models.GameEvent;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Tabela pré-calculada de (posição, soma dos dados):
+ * - O destino é (posição + soma) módulo o tamanho, para toda posição e toda soma de 2 a 12;
+ * - Tabuleiros menores que a soma dão mais de uma volta sem erro;
+ * - Passar ou cair no início marca o movimento e paga os honorários uma única vez; como no cálculo
+ *   direto, a volta completa que termina na própria casa não conta como passagem.
+ */
+public class TabelaMovimentoTest {
+
+    private GameModel game;
+    private final List<GameEvent.PiaoMovido> movimentos = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        game = new GameModel();
+        game.addEventListener(e -> {
+            if (e instanceof GameEvent.PiaoMovido) {
+                movimentos.add((GameEvent.PiaoMovido) e);
+            }
+        });
+    }
+
+    private void conferirTabela(int casas) {
+        for (int pos = 0; pos < casas; pos++) {
+            for (int soma = 2; soma <= 12; soma++) {
+                game.novaPartida(2, 1L);
+                game.carregarTabuleiroMinimoParaTeste(casas);
+                int vez = game.getJogadorDaVez();
+                game.debugForcarPosicaoJogador(vez, pos);
+                int saldo = game.getSaldoJogador(vez);
+                movimentos.clear();
+
+                game.lancarDadosForcado(soma / 2, soma - soma / 2);
+                game.deslocarPiao();
+
+                String caso = casas + " casas, posição " + pos + ", soma " + soma;
+                int destino = (pos + soma) % casas;
+                boolean passou = destino < pos;
+                assertEquals(caso, destino, game.getPosicaoJogador(vez));
+                assertEquals(caso, 1, movimentos.size());
+                GameEvent.PiaoMovido mov = movimentos.get(0);
+                assertNotNull(caso, mov);
+                assertEquals(caso, pos, mov.getOrigem());
+                assertEquals(caso, destino, mov.getDestino());
+                assertEquals(caso, passou, mov.isPassouPeloInicio());
+                assertEquals(caso, saldo + (passou ? 200 : 0), game.getSaldoJogador(vez));
+            }
+        }
+    }
+
+    @Test
+    public void tabuleiroDeQuarentaCasas() {
+        conferirTabela(40);
+    }
+
+    @Test
+    public void tabuleiroMenorQueASomaDaMaisDeUmaVolta() {
+        conferirTabela(5);
+    }
+
+    @Test
+    public void tabuleiroDeUmaCasa() {
+        conferirTabela(1);
+    }
+
+    @Test
+    public void trocarDeTabuleiroTrocaATabela() {
+        conferirTabela(13);
+        conferirTabela(7);
+    }
+}
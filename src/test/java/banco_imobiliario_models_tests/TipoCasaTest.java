@@ -0,0 +1,137 @@
+package banco_imobiliario_models_tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import banco_imobiliario_models.DefinicaoTabuleiro;
+import banco_imobiliario_models.GameEvent;
+import banco_imobiliario_models.GameModel;
+
+/**
+ * Tipo de cada casa compilado numa tabela:
+ * - O tabuleiro oficial classifica partida, propriedades, companhias, Sorte/Revés, prisão,
+ *   "vá para a prisão", lucro, imposto e parada livre;
+ * - Cair em cada tipo aplica só o efeito daquele tipo;
+ * - Tabuleiros montados com casas genéricas não têm efeito nenhum.
+ */
+public class TipoCasaTest {
+
+    private GameModel game;
+    private final List<GameEvent> eventos = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        game = new GameModel();
+        game.novaPartida(3, 5L);
+        game.carregarTabuleiroOficialBR();
+        game.addEventListener(eventos::add);
+    }
+
+    /** Leva o jogador da vez até {@code destino} com um lance de 1 + 2; devolve o id dele. */
+    private int cairEm(int destino) {
+        int vez = game.getJogadorDaVez();
+        game.debugForcarPosicaoJogador(vez, destino - 3);
+        eventos.clear();
+        game.lancarDadosForcado(1, 2);
+        game.deslocarPiaoEAplicarObrigatorios();
+        return vez;
+    }
+
+    private boolean sacouCarta() {
+        for (GameEvent e : eventos) {
+            if (e instanceof GameEvent.CartaSacada) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void tabuleiroOficialEClassificado() {
+        DefinicaoTabuleiro oficial = DefinicaoTabuleiro.oficial();
+        assertEquals("PONTO_PARTIDA", oficial.getTipoCasa(0));
+        assertEquals("PROPRIEDADE", oficial.getTipoCasa(1));
+        assertEquals("SORTE_REVES", oficial.getTipoCasa(2));
+        assertEquals("COMPANHIA", oficial.getTipoCasa(5));
+        assertEquals("PRISAO", oficial.getTipoCasa(10));
+        assertEquals("LUCRO", oficial.getTipoCasa(18));
+        assertEquals("PARADA_LIVRE", oficial.getTipoCasa(20));
+        assertEquals("IMPOSTO", oficial.getTipoCasa(24));
+        assertEquals("VA_PARA_PRISAO", oficial.getTipoCasa(30));
+    }
+
+    @Test
+    public void impostoELucroMexemSoNoSaldo() {
+        int vez = game.getJogadorDaVez();
+        int saldo = game.getSaldoJogador(vez);
+        int banco = game.getSaldoBanco();
+        cairEm(24);
+        assertEquals(saldo - 200, game.getSaldoJogador(vez));
+        assertEquals(banco + 200, game.getSaldoBanco());
+        assertFalse(sacouCarta());
+        game.encerrarVez();
+
+        vez = game.getJogadorDaVez();
+        saldo = game.getSaldoJogador(vez);
+        cairEm(18);
+        assertEquals(saldo + 200, game.getSaldoJogador(vez));
+        assertFalse(game.canComprarPropriedadeNaCasaAtual());
+    }
+
+    @Test
+    public void sorteRevesSacaCarta() {
+        cairEm(12);
+        assertTrue(sacouCarta());
+        assertTrue(game.getUltimaCartaSorteReves().isPresent());
+    }
+
+    @Test
+    public void prisaoSoPrendeNaCasaDeIrParaAPrisao() {
+        int visitante = cairEm(10);
+        assertEquals(10, game.getPosicaoJogador(visitante));
+        assertFalse(game.estaNaPrisao(visitante));
+        game.encerrarVez();
+
+        int preso = cairEm(30);
+        assertEquals(10, game.getPosicaoJogador(preso));
+        assertTrue(game.estaNaPrisao(preso));
+    }
+
+    @Test
+    public void paradaLivrePropriedadeECompanhia() {
+        int vez = game.getJogadorDaVez();
+        int saldo = game.getSaldoJogador(vez);
+        cairEm(20);
+        assertEquals(saldo, game.getSaldoJogador(vez));
+        assertFalse(game.canComprarPropriedadeNaCasaAtual());
+        assertFalse(sacouCarta());
+        game.encerrarVez();
+
+        cairEm(17);
+        assertTrue(game.canComprarPropriedadeNaCasaAtual());
+        game.encerrarVez();
+
+        cairEm(15);
+        assertTrue(game.canComprarPropriedadeNaCasaAtual());
+    }
+
+    @Test
+    public void casasGenericasNaoTemEfeito() {
+        game.carregarTabuleiroMinimoParaTeste(12);
+        int vez = game.getJogadorDaVez();
+        int saldo = game.getSaldoJogador(vez);
+        cairEm(6);
+        assertEquals(6, game.getPosicaoJogador(vez));
+        assertEquals(saldo, game.getSaldoJogador(vez));
+        assertFalse(game.canComprarPropriedadeNaCasaAtual());
+        assertFalse(game.estaNaPrisao(vez));
+        assertFalse(sacouCarta());
+    }
+}